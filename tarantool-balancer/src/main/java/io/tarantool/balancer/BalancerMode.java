@@ -14,7 +14,16 @@ public enum BalancerMode {
   DISTRIBUTING_ROUND_ROBIN(TarantoolDistributingRoundRobinBalancer.class),
 
   /** Represents a TarantoolRoundRobinBalancer class. */
-  ROUND_ROBIN(TarantoolRoundRobinBalancer.class);
+  ROUND_ROBIN(TarantoolRoundRobinBalancer.class),
+
+  /** Represents a TarantoolLeastOutstandingRequestsBalancer class. */
+  LEAST_OUTSTANDING_REQUESTS(TarantoolLeastOutstandingRequestsBalancer.class),
+
+  /** Represents a TarantoolPeakEwmaBalancer class. */
+  PEAK_EWMA(TarantoolPeakEwmaBalancer.class),
+
+  /** Represents a TarantoolWeightedRoundRobinBalancer class. */
+  WEIGHTED_ROUND_ROBIN(TarantoolWeightedRoundRobinBalancer.class);
 
   private final Class<? extends TarantoolBalancer> balancerClass;
   public static final BalancerMode DEFAULT_BALANCER_MODE =
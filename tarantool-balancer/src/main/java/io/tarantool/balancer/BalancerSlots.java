@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.balancer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.tarantool.pool.IProtoClientPool;
+
+/**
+ * Immutable flat array of (tag, index) slots of a pool in the order a round-robin balancer visits
+ * them. A balancer maps a ticket taken from an atomic counter onto a slot, so picking a connection
+ * needs neither a lock nor a walk over the groups. The slots remember the topology version of the
+ * pool they were built from, see {@link IProtoClientPool#getTopologyVersion()}, so a balancer
+ * rebuilds them once groups are added, removed or resized.
+ */
+final class BalancerSlots {
+
+  /** Upper bound of the slots of {@link #interleaved}, see there. */
+  static final int MAX_INTERLEAVED_SLOTS = 1 << 16;
+
+  private final long version;
+  private final String[] tags;
+  private final int[] indices;
+
+  private BalancerSlots(long version, List<String> tags, List<Integer> indices) {
+    this.version = version;
+    this.tags = tags.toArray(new String[0]);
+    this.indices = new int[indices.size()];
+    for (int i = 0; i < this.indices.length; i++) {
+      this.indices[i] = indices.get(i);
+    }
+  }
+
+  /**
+   * Builds slots visiting groups one after another: all connections of the first group, then all
+   * connections of the second one, and so on.
+   *
+   * @param pool pool with groups
+   * @return slots of the pool
+   */
+  static BalancerSlots sequential(IProtoClientPool pool) {
+    long version = pool.getTopologyVersion();
+    List<String> slotTags = new ArrayList<>();
+    List<Integer> slotIndices = new ArrayList<>();
+    for (String tag : pool.getTags()) {
+      int size = pool.getGroupSize(tag);
+      for (int index = 0; index < size; index++) {
+        slotTags.add(tag);
+        slotIndices.add(index);
+      }
+    }
+    return new BalancerSlots(version, slotTags, slotIndices);
+  }
+
+  /**
+   * Builds slots alternating groups: the next connection of every group in turn, so each group
+   * gets the same share of requests whatever its size. The slots span the least common multiple of
+   * the group sizes, so every connection of a group appears in them equally often. When that would
+   * take more than {@link #MAX_INTERLEAVED_SLOTS} slots, they span the largest group only, and
+   * connections of a group whose size does not divide the largest one get slightly uneven shares.
+   *
+   * @param pool pool with groups
+   * @return slots of the pool
+   */
+  static BalancerSlots interleaved(IProtoClientPool pool) {
+    long version = pool.getTopologyVersion();
+    List<String> tags = pool.getTags();
+    int[] sizes = new int[tags.size()];
+    int groups = 0;
+    long rounds = 1;
+    int largest = 0;
+    for (int i = 0; i < sizes.length; i++) {
+      sizes[i] = pool.getGroupSize(tags.get(i));
+      if (sizes[i] > 0) {
+        groups++;
+        largest = Math.max(largest, sizes[i]);
+        if (rounds <= MAX_INTERLEAVED_SLOTS) {
+          rounds = rounds / gcd(rounds, sizes[i]) * sizes[i];
+        }
+      }
+    }
+    if (groups == 0) {
+      rounds = 0;
+    } else if (rounds * groups > MAX_INTERLEAVED_SLOTS) {
+      rounds = largest;
+    }
+    List<String> slotTags = new ArrayList<>();
+    List<Integer> slotIndices = new ArrayList<>();
+    for (int round = 0; round < rounds; round++) {
+      for (int i = 0; i < sizes.length; i++) {
+        if (sizes[i] > 0) {
+          slotTags.add(tags.get(i));
+          slotIndices.add(round % sizes[i]);
+        }
+      }
+    }
+    return new BalancerSlots(version, slotTags, slotIndices);
+  }
+
+  private static long gcd(long a, long b) {
+    while (b != 0) {
+      long rest = a % b;
+      a = b;
+      b = rest;
+    }
+    return a;
+  }
+
+  /**
+   * Checks whether the topology of the pool has changed since the slots were built.
+   *
+   * @param pool pool the slots were built from
+   * @return {@code true} if the slots should be rebuilt
+   */
+  boolean isStale(IProtoClientPool pool) {
+    return pool.getTopologyVersion() != version;
+  }
+
+  /**
+   * Returns the number of slots.
+   *
+   * @return number of slots, {@code 0} if the pool has no groups
+   */
+  int size() {
+    return tags.length;
+  }
+
+  /**
+   * Maps a ticket onto a slot.
+   *
+   * @param ticket value of the ticket counter, any {@code long}
+   * @return slot number, {@link #size()} must not be {@code 0}
+   */
+  int slotOf(long ticket) {
+    return (int) Math.floorMod(ticket, (long) tags.length);
+  }
+
+  String getTag(int slot) {
+    return tags[slot];
+  }
+
+  int getIndex(int slot) {
+    return indices[slot];
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    BalancerSlots that = (BalancerSlots) o;
+    return Arrays.equals(tags, that.tags) && Arrays.equals(indices, that.indices);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Arrays.hashCode(tags) + Arrays.hashCode(indices);
+  }
+}
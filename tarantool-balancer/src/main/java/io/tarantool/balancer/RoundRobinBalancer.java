@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.balancer;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.tarantool.balancer.exceptions.NoAvailableClientsException;
+import io.tarantool.core.IProtoClient;
+import io.tarantool.pool.IProtoClientPool;
+
+/**
+ * Base of round-robin balancers visiting the (tag, index) slots of the pool in a fixed order.
+ *
+ * <p>{@link #getNext()} takes a ticket from an atomic counter and maps it onto the slots, so
+ * request threads never block each other. A locked connection costs the call a new ticket rather
+ * than a step to the next slot, so its share of requests is spread over all other connections
+ * instead of going to its successor. When other calls have taken tickets in between, the call
+ * walks one more round of slots from its first ticket, so a request fails with {@link
+ * NoAvailableClientsException} only when no connection could be taken. The slots are rebuilt when
+ * the topology of the pool changes.
+ */
+abstract class RoundRobinBalancer implements TarantoolBalancer {
+
+  private final Logger log = LoggerFactory.getLogger(getClass());
+  private final IProtoClientPool pool;
+  private final Function<IProtoClientPool, BalancerSlots> layout;
+  private final AtomicLong ticket = new AtomicLong();
+  private volatile BalancerSlots slots;
+
+  /**
+   * Creates a balancer.
+   *
+   * @param pool pool with groups
+   * @param layout builds the slots of the pool in the order they are visited
+   */
+  RoundRobinBalancer(IProtoClientPool pool, Function<IProtoClientPool, BalancerSlots> layout) {
+    this.pool = pool;
+    this.layout = layout;
+    this.slots = layout.apply(pool);
+  }
+
+  @Override
+  public CompletableFuture<IProtoClient> getNext() {
+    BalancerSlots current = currentSlots();
+    int size = current.size();
+    long first = ticket.getAndIncrement();
+    boolean contended = false;
+    for (int attempt = 0; attempt < 2 * size && pool.hasAvailableClients(); attempt++) {
+      long next;
+      if (attempt == 0) {
+        next = first;
+      } else if (attempt < size) {
+        next = ticket.getAndIncrement();
+        contended |= next != first + attempt;
+      } else if (contended) {
+        next = first + attempt;
+      } else {
+        // the tickets of this call have covered every slot once
+        break;
+      }
+      int slot = current.slotOf(next);
+      String tag = current.getTag(slot);
+      int connectionIndex = current.getIndex(slot);
+
+      CompletableFuture<IProtoClient> clientFuture;
+      try {
+        clientFuture = pool.get(tag, connectionIndex);
+      } catch (NoSuchElementException | IndexOutOfBoundsException e) {
+        if (!refreshSlots(current)) {
+          throw e;
+        }
+        return getNext();
+      }
+      if (clientFuture == null) {
+        continue;
+      }
+      return clientFuture
+          .handle(
+              (connect, exc) -> {
+                if (exc != null) {
+                  log.warn("taking {}:{} failed", tag, connectionIndex, exc);
+                  return getNext();
+                }
+                return CompletableFuture.completedFuture(connect);
+              })
+          .thenCompose(x -> x);
+    }
+    CompletableFuture<IProtoClient> future = new CompletableFuture<>();
+    future.completeExceptionally(new NoAvailableClientsException());
+    return future;
+  }
+
+  /** Returns the slots, rebuilding them first if the topology of the pool has changed. */
+  private BalancerSlots currentSlots() {
+    BalancerSlots current = slots;
+    if (current.isStale(pool)) {
+      current = layout.apply(pool);
+      slots = current;
+    }
+    return current;
+  }
+
+  /**
+   * Rebuilds the slots after the groups of the pool have changed.
+   *
+   * @param stale slots that pointed to a missing group or connection
+   * @return {@code false} if the slots have not changed, i.e. the pool itself is inconsistent
+   */
+  private boolean refreshSlots(BalancerSlots stale) {
+    BalancerSlots fresh = layout.apply(pool);
+    if (fresh.equals(stale)) {
+      return false;
+    }
+    slots = fresh;
+    return true;
+  }
+
+  @Override
+  public IProtoClientPool getPool() {
+    return pool;
+  }
+
+  @Override
+  public void close() throws Exception {
+    pool.close();
+  }
+}
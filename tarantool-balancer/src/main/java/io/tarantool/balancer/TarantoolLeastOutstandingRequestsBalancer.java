@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.balancer;
+
+import io.tarantool.pool.IProtoClientPool;
+
+/**
+ * Balancer sending a request to the connection with fewer outstanding requests, so a node slowed
+ * down by e.g. compaction or a long Lua call gets less load than idle ones.
+ *
+ * <p>{@link #getNext()} samples two random connections of the pool and takes the one with fewer
+ * requests in flight, see {@link IProtoClientPool#getInFlightRequests}. The choice costs two
+ * counter reads whatever the pool size, and unlike always taking the least loaded connection, it
+ * does not send a burst of requests to the same connection before its counter grows. Locked
+ * connections report {@link Integer#MAX_VALUE} and lose the comparison.
+ *
+ * <p>When the chosen connection is locked, the call samples again, at most as many times as there
+ * are connections, and then walks all connections from a random one, so it fails with {@link
+ * io.tarantool.balancer.exceptions.NoAvailableClientsException} only when every connection is
+ * locked.
+ */
+public class TarantoolLeastOutstandingRequestsBalancer extends TwoRandomChoicesBalancer {
+
+  public TarantoolLeastOutstandingRequestsBalancer(IProtoClientPool pool) {
+    super(pool);
+  }
+
+  @Override
+  protected double cost(String tag, int index) {
+    return pool.getInFlightRequests(tag, index);
+  }
+}
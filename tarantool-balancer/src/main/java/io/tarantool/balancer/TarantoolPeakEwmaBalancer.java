@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.balancer;
+
+import java.util.concurrent.TimeUnit;
+
+import io.tarantool.pool.IProtoClientPool;
+
+/**
+ * Balancer sending a request to the connection expected to answer sooner, so a degraded node, e.g.
+ * one of the routers of a vshard cluster, stops receiving requests before it affects tail latency.
+ *
+ * <p>{@link #getNext()} samples two random connections of the pool and takes the one with the
+ * lower cost: the peak EWMA of its response times (see {@link IProtoClientPool#getLatencyNanos})
+ * multiplied by the number of its requests in flight plus one. A connection without responses yet
+ * costs nothing while it is idle and a large penalty once it has requests in flight, so new
+ * connections are probed one request at a time. A locked choice is handled as in {@link
+ * TarantoolLeastOutstandingRequestsBalancer}.
+ */
+public class TarantoolPeakEwmaBalancer extends TwoRandomChoicesBalancer {
+
+  private static final double UNKNOWN_LATENCY_PENALTY = TimeUnit.SECONDS.toNanos(10);
+
+  public TarantoolPeakEwmaBalancer(IProtoClientPool pool) {
+    super(pool);
+  }
+
+  @Override
+  protected double cost(String tag, int index) {
+    double latency = pool.getLatencyNanos(tag, index);
+    int inFlight = pool.getInFlightRequests(tag, index);
+    if (latency == 0 && inFlight > 0) {
+      return UNKNOWN_LATENCY_PENALTY + inFlight;
+    }
+    return latency * (inFlight + 1.0);
+  }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.balancer;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.tarantool.balancer.exceptions.NoAvailableClientsException;
+import io.tarantool.core.IProtoClient;
+import io.tarantool.pool.IProtoClientPool;
+
+/**
+ * Round-robin balancer giving each group a share of requests proportional to its weight, see
+ * {@link io.tarantool.pool.InstanceConnectionGroup.Builder#withWeight(int)}, whatever the number
+ * of connections in the group.
+ *
+ * <p>Groups follow each other in the order of the smooth weighted round-robin of nginx: for weights
+ * {@code a = 4, b = 1} the order is {@code a a b a a}, so requests to a heavy group are spread
+ * over the period instead of coming in a burst. The order of one period is computed once, {@link
+ * #getNext()} maps a ticket taken from an atomic counter onto it and takes the next connection of
+ * the group from a per-group atomic counter, so request threads never block each other. A locked
+ * connection is skipped in favour of the next connection of the same group, so the group keeps its
+ * share; only when all connections of the group are locked does the call move on to the next
+ * group of the period. Every call takes one ticket and walks at most one period from it, and the
+ * request fails with {@link NoAvailableClientsException} only when no connection could be taken.
+ * The schedule is rebuilt when the topology of the pool changes.
+ */
+public class TarantoolWeightedRoundRobinBalancer implements TarantoolBalancer {
+
+  private static final Logger log =
+      LoggerFactory.getLogger(TarantoolWeightedRoundRobinBalancer.class);
+  private final IProtoClientPool pool;
+  private final AtomicLong ticket = new AtomicLong();
+  private volatile Schedule schedule;
+
+  public TarantoolWeightedRoundRobinBalancer(IProtoClientPool pool) {
+    this.pool = pool;
+    this.schedule = new Schedule(pool);
+  }
+
+  @Override
+  public CompletableFuture<IProtoClient> getNext() {
+    Schedule current = currentSchedule();
+    long start = ticket.getAndIncrement();
+    boolean[] exhausted = null;
+    int remaining = current.activeGroups();
+    for (int step = 0; step < current.period() && remaining > 0; step++) {
+      int group = current.groupOf(start + step);
+      if (exhausted != null && exhausted[group]) {
+        continue;
+      }
+      String tag = current.getTag(group);
+      for (int attempt = 0; attempt < current.getSize(group); attempt++) {
+        if (!pool.hasAvailableClients()) {
+          return noAvailableClients();
+        }
+        int connectionIndex = current.nextIndex(group);
+        CompletableFuture<IProtoClient> clientFuture;
+        try {
+          clientFuture = pool.get(tag, connectionIndex);
+        } catch (NoSuchElementException | IndexOutOfBoundsException e) {
+          if (!refreshSchedule(current)) {
+            throw e;
+          }
+          return getNext();
+        }
+        if (clientFuture != null) {
+          return take(clientFuture, tag, connectionIndex);
+        }
+      }
+      if (exhausted == null) {
+        exhausted = new boolean[current.groupCount()];
+      }
+      exhausted[group] = true;
+      remaining--;
+    }
+    return noAvailableClients();
+  }
+
+  private CompletableFuture<IProtoClient> take(
+      CompletableFuture<IProtoClient> clientFuture, String tag, int connectionIndex) {
+    return clientFuture
+        .handle(
+            (connect, exc) -> {
+              if (exc != null) {
+                log.warn("taking {}:{} failed", tag, connectionIndex, exc);
+                return getNext();
+              }
+              return CompletableFuture.completedFuture(connect);
+            })
+        .thenCompose(x -> x);
+  }
+
+  private static CompletableFuture<IProtoClient> noAvailableClients() {
+    CompletableFuture<IProtoClient> future = new CompletableFuture<>();
+    future.completeExceptionally(new NoAvailableClientsException());
+    return future;
+  }
+
+  /** Returns the schedule, rebuilding it first if the topology of the pool has changed. */
+  private Schedule currentSchedule() {
+    Schedule current = schedule;
+    if (current.isStale(pool)) {
+      current = new Schedule(pool);
+      schedule = current;
+    }
+    return current;
+  }
+
+  /**
+   * Rebuilds the schedule after the groups of the pool have changed.
+   *
+   * @param stale schedule that pointed to a missing group or connection
+   * @return {@code false} if the schedule has not changed, i.e. the pool itself is inconsistent
+   */
+  private boolean refreshSchedule(Schedule stale) {
+    Schedule fresh = new Schedule(pool);
+    if (fresh.sameGroups(stale)) {
+      return false;
+    }
+    schedule = fresh;
+    return true;
+  }
+
+  @Override
+  public IProtoClientPool getPool() {
+    return pool;
+  }
+
+  @Override
+  public void close() throws Exception {
+    pool.close();
+  }
+
+  /** Groups of the pool with their sizes and one period of the weighted order. */
+  private static final class Schedule {
+
+    private final String[] tags;
+    private final int[] sizes;
+    private final int[] weights;
+    private final int[] order;
+    private final AtomicLongArray cursors;
+    private final long version;
+    private final int active;
+
+    Schedule(IProtoClientPool pool) {
+      version = pool.getTopologyVersion();
+      List<String> groupTags = pool.getTags();
+      int count = groupTags.size();
+      tags = groupTags.toArray(new String[0]);
+      sizes = new int[count];
+      weights = new int[count];
+      int total = 0;
+      int divisor = 0;
+      int nonEmpty = 0;
+      for (int i = 0; i < count; i++) {
+        sizes[i] = pool.getGroupSize(tags[i]);
+        if (sizes[i] > 0) {
+          weights[i] = pool.getGroupWeight(tags[i]);
+          divisor = gcd(divisor, weights[i]);
+          nonEmpty++;
+        }
+      }
+      active = nonEmpty;
+      for (int i = 0; i < count; i++) {
+        weights[i] = divisor == 0 ? 0 : weights[i] / divisor;
+        total += weights[i];
+      }
+      order = smoothOrder(weights, total);
+      cursors = new AtomicLongArray(count);
+    }
+
+    /**
+     * Computes one period of the smooth weighted round-robin: on every step each group gains its
+     * weight, the group with the largest current weight is taken and loses the total weight.
+     */
+    private static int[] smoothOrder(int[] weights, int total) {
+      int[] result = new int[total];
+      long[] current = new long[weights.length];
+      for (int step = 0; step < total; step++) {
+        int best = -1;
+        for (int i = 0; i < weights.length; i++) {
+          if (weights[i] == 0) {
+            continue;
+          }
+          current[i] += weights[i];
+          if (best < 0 || current[i] > current[best]) {
+            best = i;
+          }
+        }
+        current[best] -= total;
+        result[step] = best;
+      }
+      return result;
+    }
+
+    private static int gcd(int a, int b) {
+      while (b != 0) {
+        int rest = a % b;
+        a = b;
+        b = rest;
+      }
+      return a;
+    }
+
+    int period() {
+      return order.length;
+    }
+
+    int groupCount() {
+      return tags.length;
+    }
+
+    int activeGroups() {
+      return active;
+    }
+
+    boolean isStale(IProtoClientPool pool) {
+      return pool.getTopologyVersion() != version;
+    }
+
+    int groupOf(long ticket) {
+      return order[(int) Math.floorMod(ticket, (long) order.length)];
+    }
+
+    String getTag(int group) {
+      return tags[group];
+    }
+
+    int getSize(int group) {
+      return sizes[group];
+    }
+
+    int nextIndex(int group) {
+      return (int) Math.floorMod(cursors.getAndIncrement(group), (long) sizes[group]);
+    }
+
+    boolean sameGroups(Schedule other) {
+      return Arrays.equals(tags, other.tags)
+          && Arrays.equals(sizes, other.sizes)
+          && Arrays.equals(weights, other.weights);
+    }
+  }
+}
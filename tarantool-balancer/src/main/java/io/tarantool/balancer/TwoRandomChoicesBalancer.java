@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.balancer;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.tarantool.balancer.exceptions.NoAvailableClientsException;
+import io.tarantool.core.IProtoClient;
+import io.tarantool.pool.IProtoClientPool;
+
+/**
+ * Base of balancers sampling two random connections of the pool and taking the one with the lower
+ * {@link #cost(String, int)}.
+ *
+ * <p>When both sampled connections are locked, {@link #getNext()} samples again, at most as many
+ * times as there are connections, and then walks all connections from a random one, so a request
+ * fails with {@link NoAvailableClientsException} only when no connection could be taken. The slots
+ * are rebuilt when the topology of the pool changes.
+ */
+abstract class TwoRandomChoicesBalancer implements TarantoolBalancer {
+
+  private final Logger log = LoggerFactory.getLogger(getClass());
+  protected final IProtoClientPool pool;
+  private volatile BalancerSlots slots;
+
+  TwoRandomChoicesBalancer(IProtoClientPool pool) {
+    this.pool = pool;
+    this.slots = BalancerSlots.sequential(pool);
+  }
+
+  /**
+   * Returns the cost of sending a request to a connection, the lower the better.
+   *
+   * @param tag tag of the connection group
+   * @param index index of the connection within the group
+   * @return cost of the connection, locked connections must not cost less than the others
+   */
+  protected abstract double cost(String tag, int index);
+
+  @Override
+  public CompletableFuture<IProtoClient> getNext() {
+    BalancerSlots current = currentSlots();
+    int size = current.size();
+    long offset = ThreadLocalRandom.current().nextLong();
+    for (int attempt = 0; attempt < 2 * size && pool.hasAvailableClients(); attempt++) {
+      CompletableFuture<IProtoClient> clientFuture;
+      String tag;
+      int connectionIndex;
+      try {
+        int slot = attempt < size ? choose(current) : current.slotOf(offset + attempt);
+        tag = current.getTag(slot);
+        connectionIndex = current.getIndex(slot);
+        clientFuture = pool.get(tag, connectionIndex);
+      } catch (NoSuchElementException | IndexOutOfBoundsException e) {
+        if (!refreshSlots(current)) {
+          throw e;
+        }
+        return getNext();
+      }
+      if (clientFuture == null) {
+        continue;
+      }
+      return clientFuture
+          .handle(
+              (connect, exc) -> {
+                if (exc != null) {
+                  log.warn("taking {}:{} failed", tag, connectionIndex, exc);
+                  return getNext();
+                }
+                return CompletableFuture.completedFuture(connect);
+              })
+          .thenCompose(x -> x);
+    }
+    CompletableFuture<IProtoClient> future = new CompletableFuture<>();
+    future.completeExceptionally(new NoAvailableClientsException());
+    return future;
+  }
+
+  /** Returns the cheaper one of two distinct random slots. */
+  private int choose(BalancerSlots current) {
+    int size = current.size();
+    if (size == 1) {
+      return 0;
+    }
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int first = random.nextInt(size);
+    int second = random.nextInt(size - 1);
+    if (second >= first) {
+      second++;
+    }
+    double firstCost = cost(current.getTag(first), current.getIndex(first));
+    double secondCost = cost(current.getTag(second), current.getIndex(second));
+    return secondCost < firstCost ? second : first;
+  }
+
+  /** Returns the slots, rebuilding them first if the topology of the pool has changed. */
+  private BalancerSlots currentSlots() {
+    BalancerSlots current = slots;
+    if (current.isStale(pool)) {
+      current = BalancerSlots.sequential(pool);
+      slots = current;
+    }
+    return current;
+  }
+
+  /**
+   * Rebuilds the slots after the groups of the pool have changed.
+   *
+   * @param stale slots that pointed to a missing group or connection
+   * @return {@code false} if the slots have not changed, i.e. the pool itself is inconsistent
+   */
+  private boolean refreshSlots(BalancerSlots stale) {
+    BalancerSlots fresh = BalancerSlots.sequential(pool);
+    if (fresh.equals(stale)) {
+      return false;
+    }
+    slots = fresh;
+    return true;
+  }
+
+  @Override
+  public IProtoClientPool getPool() {
+    return pool;
+  }
+
+  @Override
+  public void close() throws Exception {
+    pool.close();
+  }
+}
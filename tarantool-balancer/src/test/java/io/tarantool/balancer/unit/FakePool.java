@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.balancer.unit;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import io.tarantool.core.IProtoClient;
+import io.tarantool.core.connection.ConnectionFactory;
+import io.tarantool.pool.IProtoClientPool;
+import io.tarantool.pool.InstanceConnectionGroup;
+
+/** Pool stub recording the connections taken by a balancer. */
+class FakePool implements IProtoClientPool {
+
+  final Map<String, Integer> groups = new LinkedHashMap<>();
+  final Set<String> locked = new HashSet<>();
+  final Map<String, Integer> inFlight = new HashMap<>();
+  final Map<String, Double> latency = new HashMap<>();
+  final Map<String, Integer> weights = new HashMap<>();
+  final List<String> visits = new ArrayList<>();
+  long version;
+
+  FakePool withGroup(String tag, int size) {
+    groups.put(tag, size);
+    version++;
+    return this;
+  }
+
+  @Override
+  public void setGroups(List<InstanceConnectionGroup> groups) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public List<String> getTags() {
+    return new ArrayList<>(groups.keySet());
+  }
+
+  @Override
+  public int getGroupSize(String tag) {
+    Integer size = groups.get(tag);
+    if (size == null) {
+      throw new NoSuchElementException(tag);
+    }
+    return size;
+  }
+
+  @Override
+  public int getGroupWeight(String tag) {
+    getGroupSize(tag);
+    return weights.getOrDefault(tag, 1);
+  }
+
+  @Override
+  public long getTopologyVersion() {
+    return version;
+  }
+
+  @Override
+  public CompletableFuture<IProtoClient> get(String tag, int index) {
+    if (index >= getGroupSize(tag)) {
+      throw new IndexOutOfBoundsException(tag + ":" + index);
+    }
+    String key = tag + ":" + index;
+    visits.add(key);
+    return locked.contains(key) ? null : CompletableFuture.completedFuture(null);
+  }
+
+  @Override
+  public int getInFlightRequests(String tag, int index) {
+    if (index >= getGroupSize(tag)) {
+      throw new IndexOutOfBoundsException(tag + ":" + index);
+    }
+    String key = tag + ":" + index;
+    return locked.contains(key) ? Integer.MAX_VALUE : inFlight.getOrDefault(key, 0);
+  }
+
+  @Override
+  public double getLatencyNanos(String tag, int index) {
+    if (index >= getGroupSize(tag)) {
+      throw new IndexOutOfBoundsException(tag + ":" + index);
+    }
+    String key = tag + ":" + index;
+    return locked.contains(key) ? Double.POSITIVE_INFINITY : latency.getOrDefault(key, 0.0);
+  }
+
+  @Override
+  public boolean hasAvailableClients() {
+    return true;
+  }
+
+  @Override
+  public int availableConnections() {
+    return groups.values().stream().mapToInt(Integer::intValue).sum() - locked.size();
+  }
+
+  @Override
+  public void close() {}
+
+  @Override
+  public void forEach(Consumer<IProtoClient> action) {}
+
+  @Override
+  public void setConnectTimeout(long timeout) {}
+
+  @Override
+  public long getConnectTimeout() {
+    return 0;
+  }
+
+  @Override
+  public void setReconnectAfter(long reconnectAfter) {}
+
+  @Override
+  public long getReconnectAfter() {
+    return 0;
+  }
+
+  @Override
+  public ConnectionFactory getFactory() {
+    return null;
+  }
+}
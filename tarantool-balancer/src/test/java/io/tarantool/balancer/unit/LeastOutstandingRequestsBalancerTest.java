@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.balancer.unit;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+import io.tarantool.balancer.TarantoolBalancer;
+import io.tarantool.balancer.TarantoolLeastOutstandingRequestsBalancer;
+import io.tarantool.balancer.exceptions.NoAvailableClientsException;
+
+public class LeastOutstandingRequestsBalancerTest {
+
+  private static final int REQUESTS = 200;
+
+  @Test
+  public void testLessLoadedOfTwoIsTaken() {
+    FakePool pool = new FakePool().withGroup("a", 1).withGroup("b", 1);
+    pool.inFlight.put("a:0", 5);
+    TarantoolBalancer balancer = new TarantoolLeastOutstandingRequestsBalancer(pool);
+    for (int i = 0; i < REQUESTS; i++) {
+      balancer.getNext().join();
+    }
+    assertEquals(Collections.nCopies(REQUESTS, "b:0"), pool.visits);
+  }
+
+  @Test
+  public void testMostLoadedIsNeverTaken() {
+    FakePool pool = new FakePool().withGroup("a", 2).withGroup("b", 2);
+    pool.inFlight.put("a:0", 1);
+    pool.inFlight.put("a:1", 2);
+    pool.inFlight.put("b:0", 3);
+    pool.inFlight.put("b:1", 4);
+    TarantoolBalancer balancer = new TarantoolLeastOutstandingRequestsBalancer(pool);
+    for (int i = 0; i < REQUESTS; i++) {
+      balancer.getNext().join();
+    }
+    assertEquals(REQUESTS, pool.visits.size());
+    assertFalse(pool.visits.contains("b:1"));
+  }
+
+  @Test
+  public void testLockedLosesToLoaded() {
+    FakePool pool = new FakePool().withGroup("a", 2);
+    pool.inFlight.put("a:0", 100);
+    pool.locked.add("a:1");
+    TarantoolBalancer balancer = new TarantoolLeastOutstandingRequestsBalancer(pool);
+    for (int i = 0; i < REQUESTS; i++) {
+      balancer.getNext().join();
+    }
+    assertEquals(Collections.nCopies(REQUESTS, "a:0"), pool.visits);
+  }
+
+  @Test
+  public void testAllLockedFailsAfterBoundedAttempts() {
+    FakePool pool = new FakePool().withGroup("a", 2).withGroup("b", 1);
+    pool.locked.addAll(Arrays.asList("a:0", "a:1", "b:0"));
+    TarantoolBalancer balancer = new TarantoolLeastOutstandingRequestsBalancer(pool);
+    CompletionException exc = assertThrows(CompletionException.class, balancer.getNext()::join);
+    assertInstanceOf(NoAvailableClientsException.class, exc.getCause());
+    assertEquals(6, pool.visits.size());
+  }
+
+  @Test
+  public void testSingleUnlockedConnectionIsAlwaysFound() {
+    FakePool pool = new FakePool().withGroup("a", 10);
+    for (int i = 0; i < 10; i++) {
+      if (i != 7) {
+        pool.locked.add("a:" + i);
+      }
+    }
+    TarantoolBalancer balancer = new TarantoolLeastOutstandingRequestsBalancer(pool);
+    for (int i = 0; i < REQUESTS; i++) {
+      balancer.getNext().join();
+    }
+    assertEquals(REQUESTS, pool.visits.stream().filter("a:7"::equals).count());
+  }
+}
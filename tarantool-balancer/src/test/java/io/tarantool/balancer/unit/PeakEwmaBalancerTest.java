@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.balancer.unit;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+import io.tarantool.balancer.TarantoolBalancer;
+import io.tarantool.balancer.TarantoolPeakEwmaBalancer;
+import io.tarantool.balancer.exceptions.NoAvailableClientsException;
+
+public class PeakEwmaBalancerTest {
+
+  private static final int REQUESTS = 200;
+
+  @Test
+  public void testFasterNodeIsTaken() {
+    FakePool pool = new FakePool().withGroup("a", 1).withGroup("b", 1);
+    pool.latency.put("a:0", 50_000_000.0);
+    pool.latency.put("b:0", 1_000_000.0);
+    TarantoolBalancer balancer = new TarantoolPeakEwmaBalancer(pool);
+    for (int i = 0; i < REQUESTS; i++) {
+      balancer.getNext().join();
+    }
+    assertEquals(Collections.nCopies(REQUESTS, "b:0"), pool.visits);
+  }
+
+  @Test
+  public void testQueuedRequestsAddToCost() {
+    FakePool pool = new FakePool().withGroup("a", 1).withGroup("b", 1);
+    pool.latency.put("a:0", 1_000_000.0);
+    pool.latency.put("b:0", 2_000_000.0);
+    pool.inFlight.put("a:0", 2);
+    TarantoolBalancer balancer = new TarantoolPeakEwmaBalancer(pool);
+    for (int i = 0; i < REQUESTS; i++) {
+      balancer.getNext().join();
+    }
+    assertEquals(Collections.nCopies(REQUESTS, "b:0"), pool.visits);
+  }
+
+  @Test
+  public void testBusyNodeWithoutSamplesIsAvoided() {
+    FakePool pool = new FakePool().withGroup("a", 3);
+    pool.latency.put("a:0", 5_000_000.0);
+    pool.latency.put("a:1", 5_000_000.0);
+    pool.inFlight.put("a:2", 1);
+    TarantoolBalancer balancer = new TarantoolPeakEwmaBalancer(pool);
+    for (int i = 0; i < REQUESTS; i++) {
+      balancer.getNext().join();
+    }
+    assertEquals(REQUESTS, pool.visits.size());
+    assertFalse(pool.visits.contains("a:2"));
+  }
+
+  @Test
+  public void testAllLockedFailsAfterBoundedAttempts() {
+    FakePool pool = new FakePool().withGroup("a", 2);
+    pool.locked.addAll(Arrays.asList("a:0", "a:1"));
+    TarantoolBalancer balancer = new TarantoolPeakEwmaBalancer(pool);
+    CompletionException exc = assertThrows(CompletionException.class, balancer.getNext()::join);
+    assertInstanceOf(NoAvailableClientsException.class, exc.getCause());
+    assertEquals(4, pool.visits.size());
+  }
+
+  @Test
+  public void testSingleUnlockedConnectionIsAlwaysFound() {
+    FakePool pool = new FakePool().withGroup("a", 5).withGroup("b", 5);
+    pool.locked.addAll(
+        Arrays.asList("a:0", "a:1", "a:2", "a:3", "a:4", "b:0", "b:1", "b:3", "b:4"));
+    TarantoolBalancer balancer = new TarantoolPeakEwmaBalancer(pool);
+    for (int i = 0; i < REQUESTS; i++) {
+      balancer.getNext().join();
+    }
+    assertEquals(REQUESTS, pool.visits.stream().filter("b:2"::equals).count());
+  }
+}
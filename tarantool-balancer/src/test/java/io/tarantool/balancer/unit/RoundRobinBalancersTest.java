@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.balancer.unit;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+import io.tarantool.balancer.TarantoolBalancer;
+import io.tarantool.balancer.TarantoolDistributingRoundRobinBalancer;
+import io.tarantool.balancer.TarantoolRoundRobinBalancer;
+import io.tarantool.balancer.exceptions.NoAvailableClientsException;
+
+public class RoundRobinBalancersTest {
+
+  @Test
+  public void testRoundRobinWalksGroupsOneAfterAnother() {
+    FakePool pool = new FakePool().withGroup("a", 2).withGroup("b", 1);
+    TarantoolBalancer balancer = new TarantoolRoundRobinBalancer(pool);
+    for (int i = 0; i < 6; i++) {
+      balancer.getNext().join();
+    }
+    assertEquals(Arrays.asList("a:0", "a:1", "b:0", "a:0", "a:1", "b:0"), pool.visits);
+  }
+
+  @Test
+  public void testDistributingAlternatesGroups() {
+    FakePool pool = new FakePool().withGroup("a", 2).withGroup("b", 1);
+    TarantoolBalancer balancer = new TarantoolDistributingRoundRobinBalancer(pool);
+    for (int i = 0; i < 6; i++) {
+      balancer.getNext().join();
+    }
+    assertEquals(Arrays.asList("a:0", "b:0", "a:1", "b:0", "a:0", "b:0"), pool.visits);
+  }
+
+  @Test
+  public void testLockedConnectionsAreSkipped() {
+    FakePool pool = new FakePool().withGroup("a", 3);
+    pool.locked.add("a:1");
+    TarantoolBalancer balancer = new TarantoolRoundRobinBalancer(pool);
+    for (int i = 0; i < 4; i++) {
+      balancer.getNext().join();
+    }
+    assertEquals(Arrays.asList("a:0", "a:1", "a:2", "a:0", "a:1", "a:2"), pool.visits);
+  }
+
+  @Test
+  public void testShareOfLockedConnectionIsSpreadEvenly() {
+    FakePool pool = new FakePool().withGroup("a", 4);
+    pool.locked.add("a:1");
+    TarantoolBalancer balancer = new TarantoolRoundRobinBalancer(pool);
+    for (int i = 0; i < 300; i++) {
+      balancer.getNext().join();
+    }
+    Map<String, Long> counts =
+        pool.visits.stream()
+            .filter(v -> !pool.locked.contains(v))
+            .collect(Collectors.groupingBy(v -> v, Collectors.counting()));
+    assertEquals(100L, counts.get("a:0"));
+    assertEquals(100L, counts.get("a:2"));
+    assertEquals(100L, counts.get("a:3"));
+  }
+
+  @Test
+  public void testEveryCallWalksFullRound() {
+    FakePool pool = new FakePool().withGroup("a", 3).withGroup("b", 2);
+    pool.locked.addAll(Arrays.asList("a:0", "a:1", "a:2", "b:0"));
+    TarantoolBalancer balancer = new TarantoolDistributingRoundRobinBalancer(pool);
+    for (int i = 0; i < 20; i++) {
+      balancer.getNext().join();
+    }
+    assertEquals(20, pool.visits.stream().filter("b:1"::equals).count());
+  }
+
+  @Test
+  public void testDistributingSpreadsConnectionsOfGroupEvenly() {
+    FakePool pool = new FakePool().withGroup("a", 3).withGroup("b", 2);
+    TarantoolBalancer balancer = new TarantoolDistributingRoundRobinBalancer(pool);
+    for (int i = 0; i < 12; i++) {
+      balancer.getNext().join();
+    }
+    Map<String, Long> counts =
+        pool.visits.stream().collect(Collectors.groupingBy(v -> v, Collectors.counting()));
+    assertEquals(2L, counts.get("a:0"));
+    assertEquals(2L, counts.get("a:1"));
+    assertEquals(2L, counts.get("a:2"));
+    assertEquals(3L, counts.get("b:0"));
+    assertEquals(3L, counts.get("b:1"));
+  }
+
+  @Test
+  public void testAllLockedFailsAfterOneRound() {
+    FakePool pool = new FakePool().withGroup("a", 2).withGroup("b", 2);
+    pool.locked.addAll(Arrays.asList("a:0", "a:1", "b:0", "b:1"));
+    TarantoolBalancer balancer = new TarantoolDistributingRoundRobinBalancer(pool);
+    CompletionException exc = assertThrows(CompletionException.class, balancer.getNext()::join);
+    assertInstanceOf(NoAvailableClientsException.class, exc.getCause());
+    assertEquals(4, pool.visits.size());
+  }
+
+  @Test
+  public void testSlotsFollowShrunkGroup() {
+    FakePool pool = new FakePool().withGroup("a", 3);
+    TarantoolBalancer balancer = new TarantoolRoundRobinBalancer(pool);
+    balancer.getNext().join();
+    balancer.getNext().join();
+    pool.withGroup("a", 1);
+    balancer.getNext().join();
+    balancer.getNext().join();
+    assertEquals(Arrays.asList("a:0", "a:1", "a:0", "a:0"), pool.visits);
+  }
+
+  @Test
+  public void testSlotsFollowGrownAndAddedGroups() {
+    FakePool pool = new FakePool().withGroup("a", 1);
+    TarantoolBalancer balancer = new TarantoolRoundRobinBalancer(pool);
+    balancer.getNext().join();
+    pool.withGroup("a", 2).withGroup("b", 1);
+    balancer.getNext().join();
+    balancer.getNext().join();
+    balancer.getNext().join();
+    assertEquals(Arrays.asList("a:0", "a:1", "b:0", "a:0"), pool.visits);
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.balancer.unit;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+import io.tarantool.balancer.TarantoolBalancer;
+import io.tarantool.balancer.TarantoolWeightedRoundRobinBalancer;
+import io.tarantool.balancer.exceptions.NoAvailableClientsException;
+
+public class WeightedRoundRobinBalancerTest {
+
+  @Test
+  public void testGroupsFollowSmoothOrder() {
+    FakePool pool = new FakePool().withGroup("a", 1).withGroup("b", 2);
+    pool.weights.put("a", 4);
+    TarantoolBalancer balancer = new TarantoolWeightedRoundRobinBalancer(pool);
+    for (int i = 0; i < 10; i++) {
+      balancer.getNext().join();
+    }
+    assertEquals(
+        Arrays.asList("a:0", "a:0", "b:0", "a:0", "a:0", "a:0", "a:0", "b:1", "a:0", "a:0"),
+        pool.visits);
+  }
+
+  @Test
+  public void testShareFollowsWeightNotSize() {
+    FakePool pool = new FakePool().withGroup("a", 1).withGroup("b", 4);
+    pool.weights.put("a", 6);
+    pool.weights.put("b", 2);
+    TarantoolBalancer balancer = new TarantoolWeightedRoundRobinBalancer(pool);
+    for (int i = 0; i < 400; i++) {
+      balancer.getNext().join();
+    }
+    assertEquals(300, Collections.frequency(pool.visits, "a:0"));
+    for (int i = 0; i < 4; i++) {
+      assertEquals(25, Collections.frequency(pool.visits, "b:" + i));
+    }
+  }
+
+  @Test
+  public void testLockedConnectionsAreSkipped() {
+    FakePool pool = new FakePool().withGroup("a", 2).withGroup("b", 1);
+    pool.weights.put("a", 2);
+    pool.locked.add("a:0");
+    TarantoolBalancer balancer = new TarantoolWeightedRoundRobinBalancer(pool);
+    for (int i = 0; i < 3; i++) {
+      balancer.getNext().join();
+    }
+    assertEquals(Arrays.asList("a:0", "a:1", "b:0", "a:0", "a:1"), pool.visits);
+  }
+
+  @Test
+  public void testLockedConnectionKeepsShareOfGroup() {
+    FakePool pool = new FakePool().withGroup("a", 2).withGroup("b", 1);
+    pool.weights.put("a", 4);
+    pool.locked.add("a:0");
+    TarantoolBalancer balancer = new TarantoolWeightedRoundRobinBalancer(pool);
+    for (int i = 0; i < 500; i++) {
+      balancer.getNext().join();
+    }
+    assertEquals(400, Collections.frequency(pool.visits, "a:1"));
+    assertEquals(100, Collections.frequency(pool.visits, "b:0"));
+  }
+
+  @Test
+  public void testAllLockedFailsAfterBoundedAttempts() {
+    FakePool pool = new FakePool().withGroup("a", 2).withGroup("b", 1);
+    pool.weights.put("a", 3);
+    pool.locked.addAll(Arrays.asList("a:0", "a:1", "b:0"));
+    TarantoolBalancer balancer = new TarantoolWeightedRoundRobinBalancer(pool);
+    CompletionException exc = assertThrows(CompletionException.class, balancer.getNext()::join);
+    assertInstanceOf(NoAvailableClientsException.class, exc.getCause());
+    assertEquals(3, pool.visits.size());
+  }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.client;
+
+/**
+ * Enumeration of netty transports the client can use for its connections.
+ *
+ * <p>Native transports require the matching netty artifact with the native library for the
+ * platform, e.g. {@code io.netty:netty-transport-native-epoll:linux-x86_64} or {@code
+ * io.netty:netty-transport-native-io_uring:linux-x86_64}. If the requested native transport is not
+ * available, the client falls back to {@link #NIO}. Transport-specific channel options, e.g.
+ * {@code EpollChannelOption.SO_BUSY_POLL}, can be passed with the {@code withChannelOption} method
+ * of the client builders.
+ */
+public enum TransportType {
+  /** Java NIO transport, available everywhere. */
+  NIO,
+
+  /** Linux edge-triggered epoll transport. {@code TCP_QUICKACK} is enabled on its sockets. */
+  EPOLL,
+
+  /** Linux io_uring transport. {@code TCP_QUICKACK} is enabled on its sockets. */
+  IO_URING,
+
+  /** The first available of {@link #EPOLL}, {@link #IO_URING} and {@link #NIO}. */
+  AUTO;
+
+  public static final TransportType DEFAULT_TRANSPORT_TYPE = TransportType.NIO;
+}
@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import org.reactivestreams.Publisher;
 
 import io.tarantool.balancer.TarantoolBalancer;
 import io.tarantool.client.BaseOptions;
@@ -969,6 +970,49 @@ public interface TarantoolBoxSpace extends TarantoolSpace {
   <T> CompletableFuture<SelectResponse<T>> select(
       List<?> key, SelectOptions options, TypeReference<T> entity);
 
+  /**
+   * Streams tuples matching the key page by page with backpressure.
+   *
+   * <p>Each page is a select of {@link SelectOptions#getLimit() limit} tuples. Every page after the
+   * first one continues from the position of the last tuple of the previous page (see {@link
+   * SelectOptions.Builder#after(Object)}), and it is requested only after the previous page has
+   * been emitted and the subscriber still has demand. So no more than one page is held in memory,
+   * which allows to read a whole space in bounded memory. The publisher is cold: every subscription
+   * starts a new select. The index, iterator, offset (applied to the first page only) and timeouts
+   * are taken from the options.
+   *
+   * <blockquote>
+   *
+   * <pre>{@code
+   * Publisher<Tuple<List<?>>> tuples =
+   *     space.selectPublisher(
+   *         Collections.emptyList(),
+   *         SelectOptions.builder().withIterator(BoxIterator.ALL).withLimit(1_000).build());
+   *
+   * // e.g. with Project Reactor
+   * Flux.from(tuples).buffer(100).concatMap(this::export).blockLast();
+   * }</pre>
+   *
+   * </blockquote>
+   *
+   * @param key index key.
+   * @param options {@link SelectOptions} object, its limit is the page size.
+   * @return {@link Publisher} of tuples.
+   */
+  Publisher<Tuple<List<?>>> selectPublisher(List<?> key, SelectOptions options);
+
+  /**
+   * Streams tuples matching the key page by page with backpressure, mapping them into the given
+   * class. See {@link #selectPublisher(List, SelectOptions)}.
+   *
+   * @param key index key.
+   * @param options {@link SelectOptions} object, its limit is the page size.
+   * @param entity class of the tuples.
+   * @param <T> type of the tuples.
+   * @return {@link Publisher} of tuples.
+   */
+  <T> Publisher<Tuple<T>> selectPublisher(List<?> key, SelectOptions options, Class<T> entity);
+
   /**
    * The method deletes a tuple object like the function <a
    * href="https://www.tarantool.io/en/doc/latest/reference/reference_lua/box_space/delete/">delete</a>
@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import org.reactivestreams.Publisher;
 
 import io.tarantool.client.BaseOptions;
 import io.tarantool.client.Options;
@@ -1772,6 +1773,50 @@ public interface TarantoolCrudSpace extends TarantoolSpace {
   <T> CompletableFuture<TarantoolResponse<T>> select(
       List<Condition> conditions, SelectOptions options, TypeReference<T> entity);
 
+  /**
+   * Streams tuples matching the conditions page by page with backpressure.
+   *
+   * <p>Each page is a {@code crud.select} of {@code first} tuples ({@link
+   * SelectOptions#DEFAULT_LIMIT} if the option is not set). Every page after the first one
+   * continues after the last tuple of the previous page (the {@code after} option), and it is
+   * requested only after the previous page has been emitted and the subscriber still has demand.
+   * So no more than one page is held in memory, which allows to read a whole space in bounded
+   * memory. The publisher is cold: every subscription starts a new select.
+   *
+   * <blockquote>
+   *
+   * <pre>{@code
+   * Publisher<Tuple<List<?>>> tuples =
+   *     space.selectPublisher(
+   *         Collections.emptyList(), SelectOptions.builder().withFirst(1_000).build());
+   *
+   * // e.g. with Project Reactor
+   * Flux.from(tuples).buffer(100).concatMap(this::export).blockLast();
+   * }</pre>
+   *
+   * </blockquote>
+   *
+   * @param conditions list of {@link Condition} objects.
+   * @param options {@link SelectOptions} object, its {@code first} option is the page size.
+   * @return {@link Publisher} of tuples.
+   */
+  Publisher<Tuple<List<?>>> selectPublisher(List<Condition> conditions, SelectOptions options);
+
+  /**
+   * Streams tuples matching the conditions page by page with backpressure, mapping them into the
+   * given class. The last tuple of a page is passed as {@code after} of the next page as it was
+   * returned by crud, so the class may be serialized in any form. See {@link
+   * #selectPublisher(List, SelectOptions)}.
+   *
+   * @param conditions list of {@link Condition} objects.
+   * @param options {@link SelectOptions} object, its {@code first} option is the page size.
+   * @param entity class of the tuples.
+   * @param <T> type of the tuples.
+   * @return {@link Publisher} of tuples.
+   */
+  <T> Publisher<Tuple<T>> selectPublisher(
+      List<Condition> conditions, SelectOptions options, Class<T> entity);
+
   /**
    * Example of usage:
    *
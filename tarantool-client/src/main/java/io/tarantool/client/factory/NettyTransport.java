@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.client.factory;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ThreadFactory;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.IoEventLoopGroup;
+import io.netty.channel.IoHandler;
+import io.netty.channel.IoHandlerFactory;
+import io.netty.channel.MultiThreadIoEventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollIoHandler;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioIoHandler;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.channel.uring.IoUring;
+import io.netty.channel.uring.IoUringChannelOption;
+import io.netty.channel.uring.IoUringIoHandler;
+import io.netty.channel.uring.IoUringSocketChannel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.tarantool.client.TransportType;
+
+/**
+ * Netty transport resolved from a {@link TransportType}: the I/O handler of the event loops, the
+ * channel class and the channel options enabled by default for the transport.
+ *
+ * <p>Classes of the native transports are referenced only from the nested support classes, so the
+ * client works without the native netty artifacts on the classpath.
+ */
+final class NettyTransport {
+
+  private static final Logger log = LoggerFactory.getLogger(NettyTransport.class);
+
+  private static final NettyTransport NIO =
+      new NettyTransport(
+          TransportType.NIO,
+          NioIoHandler.class,
+          NioIoHandler.newFactory(),
+          NioSocketChannel.class,
+          Collections.emptyMap());
+
+  private final TransportType type;
+  private final Class<? extends IoHandler> ioHandlerClass;
+  private final IoHandlerFactory ioHandlerFactory;
+  private final Class<? extends SocketChannel> channelClass;
+  private final Map<ChannelOption<?>, Object> defaultOptions;
+
+  private NettyTransport(
+      TransportType type,
+      Class<? extends IoHandler> ioHandlerClass,
+      IoHandlerFactory ioHandlerFactory,
+      Class<? extends SocketChannel> channelClass,
+      Map<ChannelOption<?>, Object> defaultOptions) {
+    this.type = type;
+    this.ioHandlerClass = ioHandlerClass;
+    this.ioHandlerFactory = ioHandlerFactory;
+    this.channelClass = channelClass;
+    this.defaultOptions = defaultOptions;
+  }
+
+  /**
+   * Resolves the transport. A native transport that is not available on this platform is replaced
+   * with NIO.
+   *
+   * @param requested requested transport, {@code null} means {@link
+   *     TransportType#DEFAULT_TRANSPORT_TYPE}
+   * @return resolved transport
+   */
+  static NettyTransport of(TransportType requested) {
+    TransportType type = requested == null ? TransportType.DEFAULT_TRANSPORT_TYPE : requested;
+    switch (type) {
+      case EPOLL:
+        if (EpollSupport.isAvailable()) {
+          return EpollSupport.transport();
+        }
+        break;
+      case IO_URING:
+        if (IoUringSupport.isAvailable()) {
+          return IoUringSupport.transport();
+        }
+        break;
+      case AUTO:
+        if (EpollSupport.isAvailable()) {
+          return EpollSupport.transport();
+        }
+        if (IoUringSupport.isAvailable()) {
+          return IoUringSupport.transport();
+        }
+        return NIO;
+      default:
+        return NIO;
+    }
+    log.warn("{} transport is not available, falling back to NIO", type);
+    return NIO;
+  }
+
+  /**
+   * Returns the type of the resolved transport.
+   *
+   * @return transport type, never {@link TransportType#AUTO}
+   */
+  TransportType getType() {
+    return type;
+  }
+
+  /**
+   * Checks that an event loop group passed by the user serves channels of the transport.
+   *
+   * @param group event loop group
+   * @throws IllegalArgumentException if the group is created for another transport
+   */
+  void checkEventLoopGroup(EventLoopGroup group) {
+    if (group instanceof IoEventLoopGroup && !((IoEventLoopGroup) group).isIoType(ioHandlerClass)) {
+      throw new IllegalArgumentException(
+          String.format(
+              "EventLoopGroup is not created for the %s transport, pass the transport of the group"
+                  + " with withTransport or use withRuntime without changing the transport after it"
+                  + " (TarantoolRuntime.shared() uses NIO)",
+              type));
+    }
+  }
+
+  /**
+   * Creates an event loop group of the transport.
+   *
+   * @param nThreads number of threads, {@code 0} means the netty default
+   * @return new event loop group
+   */
+  MultiThreadIoEventLoopGroup newEventLoopGroup(int nThreads) {
+    return new MultiThreadIoEventLoopGroup(nThreads, ioHandlerFactory);
+  }
+
+  /**
+   * Creates an event loop group of the transport with threads of the given factory.
+   *
+   * @param nThreads number of threads, {@code 0} means the netty default
+   * @param threadFactory factory of the event loop threads
+   * @return new event loop group
+   */
+  MultiThreadIoEventLoopGroup newEventLoopGroup(int nThreads, ThreadFactory threadFactory) {
+    return new MultiThreadIoEventLoopGroup(nThreads, threadFactory, ioHandlerFactory);
+  }
+
+  /**
+   * Creates a bootstrap of the transport. The default options of the transport are applied first,
+   * so the passed options can override them.
+   *
+   * @param group event loop group created by {@link #newEventLoopGroup(int)}
+   * @param options channel options
+   * @return new bootstrap
+   */
+  @SuppressWarnings("unchecked")
+  Bootstrap newBootstrap(EventLoopGroup group, Map<ChannelOption<?>, Object> options) {
+    Bootstrap bootstrap = new Bootstrap().group(group).channel(channelClass);
+    defaultOptions.forEach((key, value) -> bootstrap.option((ChannelOption<Object>) key, value));
+    options.forEach((key, value) -> bootstrap.option((ChannelOption<Object>) key, value));
+    return bootstrap;
+  }
+
+  private static final class EpollSupport {
+
+    private static boolean isAvailable() {
+      try {
+        return Epoll.isAvailable();
+      } catch (LinkageError e) {
+        return false;
+      }
+    }
+
+    private static NettyTransport transport() {
+      return new NettyTransport(
+          TransportType.EPOLL,
+          EpollIoHandler.class,
+          EpollIoHandler.newFactory(),
+          EpollSocketChannel.class,
+          Collections.singletonMap(EpollChannelOption.TCP_QUICKACK, true));
+    }
+  }
+
+  private static final class IoUringSupport {
+
+    private static boolean isAvailable() {
+      try {
+        return IoUring.isAvailable();
+      } catch (LinkageError e) {
+        return false;
+      }
+    }
+
+    private static NettyTransport transport() {
+      return new NettyTransport(
+          TransportType.IO_URING,
+          IoUringIoHandler.class,
+          IoUringIoHandler.newFactory(),
+          IoUringSocketChannel.class,
+          Collections.singletonMap(IoUringChannelOption.TCP_QUICKACK, true));
+    }
+  }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.client.factory;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Cold {@link Publisher} reading a select result page by page.
+ *
+ * <p>A page is requested only when the subscriber has demand and the previous page has been
+ * emitted, so at most one page is held in memory per subscription regardless of the size of the
+ * result. A slow subscriber therefore does not need the connection to be paused: the next request
+ * is simply not sent, and other requests multiplexed on the same connection are not affected.
+ *
+ * @param <T> type of the emitted items
+ */
+final class PagingPublisher<T> implements Publisher<T> {
+
+  /**
+   * Source of pages.
+   *
+   * @param <T> type of the items
+   */
+  @FunctionalInterface
+  interface PageSource<T> {
+
+    /**
+     * Requests a page.
+     *
+     * @param after cursor returned with the previous page, {@code null} for the first page
+     * @return future with the page
+     */
+    CompletableFuture<Page<T>> fetch(Object after);
+  }
+
+  /**
+   * Page of items with a cursor of the next page.
+   *
+   * @param <T> type of the items
+   */
+  static final class Page<T> {
+
+    private final List<T> items;
+    private final Object next;
+
+    /**
+     * Creates a page.
+     *
+     * @param items items of the page
+     * @param next cursor of the next page, {@code null} if the page is the last one
+     */
+    Page(List<T> items, Object next) {
+      this.items = items;
+      this.next = next;
+    }
+  }
+
+  private final PageSource<T> source;
+
+  PagingPublisher(PageSource<T> source) {
+    this.source = source;
+  }
+
+  @Override
+  public void subscribe(Subscriber<? super T> subscriber) {
+    Objects.requireNonNull(subscriber, "subscriber must not be null");
+    PagingSubscription<T> subscription = new PagingSubscription<>(source, subscriber);
+    subscriber.onSubscribe(subscription);
+    subscription.drain();
+  }
+
+  private static final class PagingSubscription<T> implements Subscription {
+
+    private final PageSource<T> source;
+    private final Subscriber<? super T> subscriber;
+    private final ArrayDeque<T> buffer = new ArrayDeque<>();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+
+    private Object cursor;
+    private boolean started;
+    private boolean lastPage;
+    private boolean fetching;
+    private volatile Page<T> received;
+    private volatile Throwable failure;
+    private volatile boolean cancelled;
+    private boolean terminated;
+
+    private PagingSubscription(PageSource<T> source, Subscriber<? super T> subscriber) {
+      this.source = source;
+      this.subscriber = subscriber;
+    }
+
+    @Override
+    public void request(long n) {
+      if (n <= 0) {
+        failure = new IllegalArgumentException("Requested amount must be positive, got " + n);
+      } else {
+        long current;
+        long next;
+        do {
+          current = requested.get();
+          if (current == Long.MAX_VALUE) {
+            break;
+          }
+          next = current + n < 0 ? Long.MAX_VALUE : current + n;
+        } while (!requested.compareAndSet(current, next));
+      }
+      drain();
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+      drain();
+    }
+
+    /**
+     * Serializes all signals to the subscriber. Whoever increments {@code wip} from zero runs the
+     * loop, other threads only mark that the state has changed.
+     */
+    private void drain() {
+      if (wip.getAndIncrement() != 0) {
+        return;
+      }
+      int missed = 1;
+      do {
+        if (!terminated) {
+          emit();
+        }
+        missed = wip.addAndGet(-missed);
+      } while (missed != 0);
+    }
+
+    private void emit() {
+      if (cancelled) {
+        terminated = true;
+        buffer.clear();
+        return;
+      }
+      Page<T> page = received;
+      if (page != null) {
+        received = null;
+        fetching = false;
+        buffer.addAll(page.items);
+        cursor = page.next;
+        lastPage = page.next == null || page.items.isEmpty();
+      }
+      long emitted = 0;
+      long demand = requested.get();
+      while (emitted < demand && !buffer.isEmpty() && !cancelled) {
+        subscriber.onNext(buffer.poll());
+        emitted++;
+      }
+      if (emitted > 0 && demand != Long.MAX_VALUE) {
+        requested.addAndGet(-emitted);
+      }
+      if (cancelled) {
+        terminated = true;
+        buffer.clear();
+        return;
+      }
+      Throwable error = failure;
+      if (error != null) {
+        terminated = true;
+        buffer.clear();
+        subscriber.onError(error);
+        return;
+      }
+      if (!buffer.isEmpty() || fetching) {
+        return;
+      }
+      if (started && lastPage) {
+        terminated = true;
+        subscriber.onComplete();
+        return;
+      }
+      if (requested.get() > 0) {
+        fetch();
+      }
+    }
+
+    private void fetch() {
+      started = true;
+      fetching = true;
+      CompletableFuture<Page<T>> future;
+      try {
+        future = source.fetch(cursor);
+      } catch (Throwable e) {
+        failure = e;
+        wip.incrementAndGet();
+        return;
+      }
+      future.whenComplete(
+          (page, error) -> {
+            if (error != null) {
+              failure = error instanceof CompletionException ? error.getCause() : error;
+            } else {
+              received = page;
+            }
+            drain();
+          });
+    }
+  }
+}
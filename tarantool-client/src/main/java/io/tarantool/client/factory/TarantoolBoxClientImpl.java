@@ -9,19 +9,23 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
 import io.netty.handler.ssl.SslContext;
 import io.netty.util.Timer;
 
 import io.tarantool.balancer.TarantoolBalancer;
 import io.tarantool.client.TarantoolVersion;
+import io.tarantool.client.TransportType;
 import io.tarantool.client.box.TarantoolBoxClient;
 import io.tarantool.client.box.TarantoolBoxSpace;
 import io.tarantool.client.box.options.OptionsWithIndex;
 import io.tarantool.core.ManagedResource;
 import io.tarantool.core.WatcherOptions;
+import io.tarantool.core.connection.codecs.FrameCodecOptions;
 import io.tarantool.core.exceptions.ClientException;
 import io.tarantool.core.protocol.Handlers;
 import io.tarantool.core.protocol.IProtoResponse;
@@ -75,6 +79,9 @@ final class TarantoolBoxClientImpl extends TarantoolClientImpl implements Tarant
    *     connections to one node.
    * @param channelOptions netty network channel settings.
    * @param nThreads number of threads provided by netty to serve connections.
+   * @param transportType netty transport of the connections.
+   * @param eventLoopGroupResource event loop group serving connections. Ownership is encoded in
+   *     the managed resource, {@code null} means a group owned by the client.
    * @param timerResource timer that serves timeouts of requests sent to Tarantool. Ownership is
    *     encoded in the managed resource.
    * @param fetchSchema if {@code true}, then use {@link
@@ -94,6 +101,9 @@ final class TarantoolBoxClientImpl extends TarantoolClientImpl implements Tarant
    *     schema version.
    * @param sslContext SslContext with settings for establishing SSL/TLS connection between
    *     Tarantool.
+   * @param codecOptions settings of IProto frame codecs, {@code null} means defaults.
+   * @param completionExecutor executor completing response futures, {@code null} means the
+   *     event loop.
    * @throws NoSuchMethodException if a matching method is not found.
    * @throws IllegalArgumentException if the number of actual and formal parameters differ; if an
    *     unwrapping conversion for primitive arguments fails; or if, after possible unwrapping, a
@@ -109,6 +119,8 @@ final class TarantoolBoxClientImpl extends TarantoolClientImpl implements Tarant
       List<InstanceConnectionGroup> groups,
       Map<ChannelOption<?>, Object> channelOptions,
       int nThreads,
+      TransportType transportType,
+      ManagedResource<EventLoopGroup> eventLoopGroupResource,
       ManagedResource<Timer> timerResource,
       boolean fetchSchema,
       boolean ignoreOldSchemaVersion,
@@ -122,6 +134,8 @@ final class TarantoolBoxClientImpl extends TarantoolClientImpl implements Tarant
       TripleConsumer<String, Integer, IProtoResponse> ignoredPacketsHandler,
       Handlers handlers,
       SslContext sslContext,
+      FrameCodecOptions codecOptions,
+      Executor completionExecutor,
       PoolEventListener poolEventListener)
       throws InvocationTargetException,
           NoSuchMethodException,
@@ -131,6 +145,8 @@ final class TarantoolBoxClientImpl extends TarantoolClientImpl implements Tarant
         groups,
         channelOptions,
         nThreads,
+        transportType,
+        eventLoopGroupResource,
         timerResource,
         gracefulShutdown,
         balancerClass,
@@ -142,6 +158,8 @@ final class TarantoolBoxClientImpl extends TarantoolClientImpl implements Tarant
         ignoredPacketsHandler,
         handlers,
         sslContext,
+        codecOptions,
+        completionExecutor,
         !fetchSchema,
         poolEventListener);
     if (fetchSchema) {
@@ -11,6 +11,8 @@ import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import io.netty.util.ReferenceCountUtil;
+import org.reactivestreams.Publisher;
 
 import static io.tarantool.core.IProtoFeature.SPACE_AND_INDEX_NAMES;
 import io.tarantool.balancer.TarantoolBalancer;
@@ -248,6 +250,22 @@ final class TarantoolBoxSpaceImpl extends AbstractTarantoolSpace implements Tara
     return TarantoolJacksonMapping.convertSelectResultFuture(iprotoSelect(key, options), entity);
   }
 
+  @Override
+  public Publisher<Tuple<List<?>>> selectPublisher(List<?> key, SelectOptions options) {
+    int limit = pageLimit(options);
+    return new PagingPublisher<>(
+        after -> select(key, pageOptions(options, after)).thenApply(r -> toPage(r, limit)));
+  }
+
+  @Override
+  public <T> Publisher<Tuple<T>> selectPublisher(
+      List<?> key, SelectOptions options, Class<T> entity) {
+    int limit = pageLimit(options);
+    return new PagingPublisher<>(
+        after ->
+            select(key, pageOptions(options, after), entity).thenApply(r -> toPage(r, limit)));
+  }
+
   @Override
   public <T> CompletableFuture<SelectResponse<T>> select(List<?> key, TypeReference<T> entity) {
     return select(key, defaultSelectOptions, entity);
@@ -398,13 +416,13 @@ final class TarantoolBoxSpaceImpl extends AbstractTarantoolSpace implements Tara
   @Override
   public CompletableFuture<Void> upsert(
       Object tuple, List<List<?>> operations, UpdateOptions options) {
-    return iprotoUpsert(tuple, operations, options).thenAccept((r) -> {});
+    return iprotoUpsert(tuple, operations, options).thenAccept(ReferenceCountUtil::release);
   }
 
   @Override
   public CompletableFuture<Void> upsert(
       Object tuple, Operations operations, UpdateOptions options) {
-    return iprotoUpsert(tuple, operations, options).thenAccept((r) -> {});
+    return iprotoUpsert(tuple, operations, options).thenAccept(ReferenceCountUtil::release);
   }
 
   @Override
@@ -841,4 +859,73 @@ final class TarantoolBoxSpaceImpl extends AbstractTarantoolSpace implements Tara
   public IProtoClientPool getPool() {
     return balancer.getPool();
   }
+
+  /**
+   * Returns the page size of a paged select.
+   *
+   * @param options {@link SelectOptions} object.
+   * @return page size.
+   */
+  private static int pageLimit(SelectOptions options) {
+    if (options == null) {
+      throw new IllegalArgumentException("options can't be null");
+    }
+    if (options.getLimit() <= 0) {
+      throw new IllegalArgumentException("limit should be greater than 0 to select by pages");
+    }
+    return options.getLimit();
+  }
+
+  /**
+   * Creates options of a page of a paged select.
+   *
+   * @param options options of the whole select.
+   * @param after position of the last tuple of the previous page, {@code null} for the first page.
+   * @return {@link SelectOptions} object.
+   */
+  private static SelectOptions pageOptions(SelectOptions options, Object after) {
+    SelectOptions.Builder builder =
+        SelectOptions.builder()
+            .withTimeout(options.getTimeout())
+            .withLimit(options.getLimit())
+            .withIterator(options.getIterator())
+            .fetchPosition();
+    if (options.getStreamId() != null) {
+      builder.withStreamId(options.getStreamId());
+    }
+    if (options.getIndexName() != null) {
+      builder.withIndex(options.getIndexName());
+    } else {
+      builder.withIndex(options.getIndexId());
+    }
+    if (after != null) {
+      builder.after(after);
+    } else {
+      builder.withOffset(options.getOffset()).after(options.getAfter());
+    }
+    return builder.build();
+  }
+
+  /**
+   * Converts a select response into a page. A page shorter than the limit is the last one. The
+   * next page continues from the returned position or, if the server has not returned it, from the
+   * last tuple.
+   *
+   * @param response select response.
+   * @param limit page size.
+   * @param <T> type of the tuples.
+   * @return page of tuples.
+   */
+  private static <T> PagingPublisher.Page<Tuple<T>> toPage(
+      SelectResponse<List<Tuple<T>>> response, int limit) {
+    List<Tuple<T>> tuples = response.get();
+    Object next = null;
+    if (tuples.size() >= limit) {
+      next = response.getPosition();
+      if (next == null) {
+        next = tuples.get(tuples.size() - 1).get();
+      }
+    }
+    return new PagingPublisher.Page<>(tuples, next);
+  }
 }
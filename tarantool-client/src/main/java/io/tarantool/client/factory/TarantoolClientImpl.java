@@ -10,6 +10,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 
@@ -17,9 +18,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.ChannelOption;
-import io.netty.channel.MultiThreadIoEventLoopGroup;
-import io.netty.channel.nio.NioIoHandler;
-import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.channel.EventLoopGroup;
 import io.netty.handler.ssl.SslContext;
 import io.netty.util.Timer;
 import org.msgpack.value.ValueFactory;
@@ -28,9 +27,11 @@ import static io.tarantool.core.protocol.requests.IProtoConstant.IPROTO_OK;
 import io.tarantool.balancer.TarantoolBalancer;
 import io.tarantool.client.Options;
 import io.tarantool.client.TarantoolClient;
+import io.tarantool.client.TransportType;
 import io.tarantool.core.IProtoClient;
 import io.tarantool.core.ManagedResource;
 import io.tarantool.core.WatcherOptions;
+import io.tarantool.core.connection.codecs.FrameCodecOptions;
 import io.tarantool.core.connection.ConnectionFactory;
 import io.tarantool.core.exceptions.ServerException;
 import io.tarantool.core.protocol.Handlers;
@@ -57,8 +58,8 @@ abstract class TarantoolClientImpl implements TarantoolClient {
   /** An object that regulates the load by balancing requests. */
   protected final TarantoolBalancer balancer;
 
-  /** Event loop groups for requests in Netty. */
-  private final MultiThreadIoEventLoopGroup nioEventLoopGroup;
+  /** Event loop groups for requests in Netty. Ownership is encoded in the managed resource. */
+  private final ManagedResource<EventLoopGroup> eventLoopGroup;
 
   /**
    * Micrometer registry that hold set of collections of metrics.
@@ -82,6 +83,10 @@ abstract class TarantoolClientImpl implements TarantoolClient {
    *     connections to one node. See: {@link InstanceConnectionGroup}
    * @param channelOptions netty network channel settings
    * @param nThreads number of threads provided by netty to serve connections
+   * @param transportType netty transport of the connections, {@code null} means NIO. A native
+   *     transport that is not available falls back to NIO.
+   * @param eventLoopGroupResource event loop group serving connections, it must match the
+   *     transport. {@code null} means a group of {@code nThreads} threads owned by the client.
    * @param timerResource timer that serves timeouts of requests sent to Tarantool. Ownership is
    *     encoded in the managed resource.
    * @param gracefulShutdown if {@code true}, then <a
@@ -98,6 +103,9 @@ abstract class TarantoolClientImpl implements TarantoolClient {
    * @param handlers handlers for request/response lifecycle events.
    * @param sslContext SslContext with settings for establishing SSL/TLS connection between
    *     Tarantool.
+   * @param codecOptions settings of IProto frame codecs, {@code null} means defaults.
+   * @param completionExecutor executor completing response futures, {@code null} means the
+   *     event loop.
    * @param useTupleExtension Use TUPLE_EXT feature if true.
    * @param poolEventListener listener that will receive pool lifecycle events.
    * @throws NoSuchMethodException if a matching method is not found.
@@ -111,11 +119,12 @@ abstract class TarantoolClientImpl implements TarantoolClient {
    * @throws IllegalAccessException if this {@code Constructor} object is enforcing Java language
    *     access control and the underlying constructor is inaccessible.
    */
-  @SuppressWarnings("unchecked")
   protected TarantoolClientImpl(
       List<InstanceConnectionGroup> groups,
       Map<ChannelOption<?>, Object> channelOptions,
       int nThreads,
+      TransportType transportType,
+      ManagedResource<EventLoopGroup> eventLoopGroupResource,
       ManagedResource<Timer> timerResource,
       boolean gracefulShutdown,
       Class<? extends TarantoolBalancer> balancerClass,
@@ -127,6 +136,8 @@ abstract class TarantoolClientImpl implements TarantoolClient {
       TripleConsumer<String, Integer, IProtoResponse> ignoredPacketsHandler,
       Handlers handlers,
       SslContext sslContext,
+      FrameCodecOptions codecOptions,
+      Executor completionExecutor,
       boolean useTupleExtension,
       PoolEventListener poolEventListener)
       throws NoSuchMethodException,
@@ -134,10 +145,16 @@ abstract class TarantoolClientImpl implements TarantoolClient {
           InstantiationException,
           IllegalAccessException {
     this.metricsRegistry = metricsRegistry;
-    nioEventLoopGroup = new MultiThreadIoEventLoopGroup(nThreads, NioIoHandler.newFactory());
-    Bootstrap bootstrap = new Bootstrap().group(nioEventLoopGroup).channel(NioSocketChannel.class);
-    channelOptions.forEach((key, value) -> bootstrap.option((ChannelOption<Object>) key, value));
-    ConnectionFactory factory = new ConnectionFactory(bootstrap, sslContext, timerResource.get());
+    NettyTransport transport = NettyTransport.of(transportType);
+    eventLoopGroup =
+        eventLoopGroupResource != null
+            ? eventLoopGroupResource
+            : ManagedResource.<EventLoopGroup>owned(
+                transport.newEventLoopGroup(nThreads),
+                group -> group.shutdownGracefully().syncUninterruptibly());
+    Bootstrap bootstrap = transport.newBootstrap(eventLoopGroup.get(), channelOptions);
+    ConnectionFactory factory =
+        new ConnectionFactory(bootstrap, sslContext, timerResource.get(), codecOptions);
     pool =
         new IProtoClientPoolImpl(
             factory,
@@ -149,7 +166,8 @@ abstract class TarantoolClientImpl implements TarantoolClient {
             ignoredPacketsHandler,
             handlers,
             useTupleExtension,
-            poolEventListener);
+            poolEventListener,
+            completionExecutor);
     pool.setGroups(groups);
     pool.setConnectTimeout(connectTimeout);
     pool.setReconnectAfter(reconnectAfter);
@@ -180,7 +198,8 @@ abstract class TarantoolClientImpl implements TarantoolClient {
    * @return {@link Boolean}. If true - Tarantool is available, otherwise - isn't available.
    */
   private CompletableFuture<Boolean> convertPingResult(CompletableFuture<IProtoResponse> future) {
-    return future.thenApply((resp) -> resp.getRequestType() == IPROTO_OK);
+    return future.thenApply(
+        TarantoolJacksonMapping.releaseAfter((resp) -> resp.getRequestType() == IPROTO_OK));
   }
 
   @Override
@@ -478,7 +497,7 @@ abstract class TarantoolClientImpl implements TarantoolClient {
   public void close() throws Exception {
     if (this.isClosed.compareAndSet(false, true)) {
       balancer.close();
-      nioEventLoopGroup.shutdownGracefully().get();
+      eventLoopGroup.close();
     }
   }
 
@@ -5,13 +5,16 @@
 
 package io.tarantool.client.factory;
 
+import javax.net.ssl.SSLException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
 import io.netty.channel.MultiThreadIoEventLoopGroup;
 import io.netty.handler.ssl.SslContext;
 import io.netty.util.HashedWheelTimer;
@@ -24,15 +27,19 @@ import static io.tarantool.client.TarantoolClient.DEFAULT_GRACEFUL_SHUTDOWN;
 import static io.tarantool.client.TarantoolClient.DEFAULT_NETTY_CHANNEL_OPTIONS;
 import static io.tarantool.client.TarantoolClient.DEFAULT_RECONNECT_AFTER;
 import static io.tarantool.client.TarantoolClient.DEFAULT_TAG;
+import static io.tarantool.client.TransportType.DEFAULT_TRANSPORT_TYPE;
 import static io.tarantool.client.crud.TarantoolCrudClient.DEFAULT_CRUD_PASSWORD;
 import static io.tarantool.client.crud.TarantoolCrudClient.DEFAULT_CRUD_USERNAME;
 import static io.tarantool.pool.InstanceConnectionGroup.DEFAULT_CONNECTION_NUMBER;
 import static io.tarantool.pool.InstanceConnectionGroup.DEFAULT_HOST;
 import static io.tarantool.pool.InstanceConnectionGroup.DEFAULT_PORT;
 import io.tarantool.balancer.TarantoolBalancer;
+import io.tarantool.client.TransportType;
 import io.tarantool.client.crud.TarantoolCrudClient;
 import io.tarantool.core.ManagedResource;
 import io.tarantool.core.WatcherOptions;
+import io.tarantool.core.connection.TlsOptions;
+import io.tarantool.core.connection.codecs.FrameCodecOptions;
 import io.tarantool.core.protocol.Handlers;
 import io.tarantool.core.protocol.IProtoResponse;
 import io.tarantool.pool.HeartbeatOpts;
@@ -76,6 +83,25 @@ public class TarantoolCrudClientBuilder {
    */
   private int nThreads = DEFAULT_CONNECTION_THREADS_NUMBER;
 
+  /**
+   * Netty transport of the connections. Native transports need the native netty artifact for the
+   * platform and fall back to NIO when it is not available.
+   *
+   * <p><i><b>Default</b></i>: {@link TransportType#NIO}.
+   *
+   * @see TransportType
+   */
+  private TransportType transportType = DEFAULT_TRANSPORT_TYPE;
+
+  /**
+   * Event loop group that serves connections. It can be shared by several clients, in which case
+   * it is not closed by the client.
+   *
+   * <p><i><b>Default</b></i>: {@code null} (the client creates its own group of {@link #nThreads}
+   * threads).
+   */
+  private ManagedResource<EventLoopGroup> eventLoopGroupResource;
+
   /** Timer that serves timeouts of requests sent to Tarantool. */
   private ManagedResource<Timer> timerResource;
 
@@ -146,6 +172,23 @@ public class TarantoolCrudClientBuilder {
   /** SslContext with settings for establishing SSL/TLS connection between Tarantool */
   private SslContext sslContext;
 
+  /**
+   * Settings of IProto frame codecs, e.g. zero-copy decoding of responses.
+   *
+   * <p><i><b>Default</b></i>: {@code null} ({@link FrameCodecOptions#defaults()}).
+   */
+  private FrameCodecOptions codecOptions;
+
+  /**
+   * Executor on which futures returned by the client are completed, so that response mapping and
+   * dependent stages run there instead of on the netty event loop. It can be a dedicated thread
+   * pool, a virtual-thread executor (Java 21+) or a direct executor. The client does not shut the
+   * executor down.
+   *
+   * <p><i><b>Default</b></i>: {@code null} (futures are completed on the event loop).
+   */
+  private Executor completionExecutor;
+
   /** Optional listener for pool lifecycle events. */
   private PoolEventListener poolEventListener;
 
@@ -209,6 +252,24 @@ public class TarantoolCrudClientBuilder {
     return nThreads;
   }
 
+  /**
+   * Getter for {@link #transportType}.
+   *
+   * @return {@link TransportType}.
+   */
+  public TransportType getTransportType() {
+    return transportType;
+  }
+
+  /**
+   * Getter for {@link #eventLoopGroupResource}.
+   *
+   * @return {@link EventLoopGroup}.
+   */
+  public EventLoopGroup getEventLoopGroup() {
+    return eventLoopGroupResource != null ? eventLoopGroupResource.get() : null;
+  }
+
   /**
    * Getter for {@link #timerResource}.
    *
@@ -299,6 +360,24 @@ public class TarantoolCrudClientBuilder {
     return sslContext;
   }
 
+  /**
+   * Getter for {@link #codecOptions}.
+   *
+   * @return {@link FrameCodecOptions}.
+   */
+  public FrameCodecOptions getCodecOptions() {
+    return codecOptions;
+  }
+
+  /**
+   * Getter for {@link #completionExecutor}.
+   *
+   * @return {@link Executor}.
+   */
+  public Executor getCompletionExecutor() {
+    return completionExecutor;
+  }
+
   /**
    * Sets the {@link #groups} parameter when constructing an instance of a builder class. The
    * following example creates a {@link TarantoolCrudClientImpl} object with a specified {@link
@@ -498,6 +577,34 @@ public class TarantoolCrudClientBuilder {
     return this;
   }
 
+  /**
+   * Sets the {@link #transportType} parameter when constructing an instance of a builder class.
+   * {@link TransportType#AUTO} picks epoll or io_uring when the native library is available and NIO
+   * otherwise. The following example creates a {@link TarantoolCrudClientImpl} object with a
+   * specified {@link #transportType} parameter:
+   *
+   * <blockquote>
+   *
+   * <pre>{@code
+   * TarantoolCrudClient crudClient = TarantoolFactory.crud()
+   *                                                  .withTransport(TransportType.AUTO)
+   *                                                  .build();
+   *
+   * }</pre>
+   *
+   * </blockquote>
+   *
+   * @param transportType see {@link #transportType} field.
+   * @return {@link TarantoolCrudClientBuilder} object.
+   */
+  public TarantoolCrudClientBuilder withTransport(TransportType transportType) {
+    if (transportType == null) {
+      throw new IllegalArgumentException("TransportType can't be null");
+    }
+    this.transportType = transportType;
+    return this;
+  }
+
   /**
    * Sets the {@link #timerResource} parameter when constructing an instance of a builder class. The
    * following example creates a {@link TarantoolCrudClientImpl} object with a specified timer
@@ -525,6 +632,70 @@ public class TarantoolCrudClientBuilder {
     return this;
   }
 
+  /**
+   * Sets the {@link #eventLoopGroupResource} parameter when constructing an instance of a builder
+   * class. The group is not closed by the client, so it can be shared by several clients. It must
+   * be created for the transport set by {@link #withTransport(TransportType)}, otherwise {@link
+   * #build()} throws {@link IllegalArgumentException}. The following example creates a {@link
+   * TarantoolCrudClientImpl} object with a specified event loop group parameter:
+   *
+   * <blockquote>
+   *
+   * <pre>{@code
+   * EventLoopGroup group = new MultiThreadIoEventLoopGroup(4, NioIoHandler.newFactory());
+   * TarantoolCrudClient crudClient = TarantoolFactory.crud()
+   *                                                  .withEventLoopGroup(group)
+   *                                                  .build();
+   *
+   * }</pre>
+   *
+   * </blockquote>
+   *
+   * @param eventLoopGroup see {@link #eventLoopGroupResource} field.
+   * @return {@link TarantoolCrudClientBuilder} object.
+   */
+  public TarantoolCrudClientBuilder withEventLoopGroup(EventLoopGroup eventLoopGroup) {
+    if (eventLoopGroup == null) {
+      throw new IllegalArgumentException("EventLoopGroup can't be null");
+    }
+    this.eventLoopGroupResource = ManagedResource.external(eventLoopGroup);
+    return this;
+  }
+
+  /**
+   * Makes the client use the event loop group, the timer and the transport of the runtime. The
+   * runtime is not closed by the client. The transport of the runtime replaces the one set by
+   * {@link #withTransport(TransportType)}; a transport set after this method must match the
+   * runtime, otherwise {@link #build()} throws {@link IllegalArgumentException}. {@link
+   * TarantoolRuntime#shared()} always uses NIO, so clients sharing epoll or io_uring event loops
+   * need a runtime created by {@link TarantoolRuntime#create(int, TransportType)}. The following
+   * example creates a {@link TarantoolCrudClientImpl} object with the process-wide shared runtime:
+   *
+   * <blockquote>
+   *
+   * <pre>{@code
+   * TarantoolCrudClient crudClient = TarantoolFactory.crud()
+   *                                                  .withRuntime(TarantoolRuntime.shared())
+   *                                                  .build();
+   *
+   * }</pre>
+   *
+   * </blockquote>
+   *
+   * @param runtime runtime shared by clients.
+   * @return {@link TarantoolCrudClientBuilder} object.
+   * @see TarantoolRuntime
+   */
+  public TarantoolCrudClientBuilder withRuntime(TarantoolRuntime runtime) {
+    if (runtime == null) {
+      throw new IllegalArgumentException("TarantoolRuntime can't be null");
+    }
+    this.eventLoopGroupResource = ManagedResource.external(runtime.getEventLoopGroup());
+    this.timerResource = ManagedResource.external(runtime.getTimer());
+    this.transportType = runtime.getTransportType();
+    return this;
+  }
+
   /**
    * Sets the {@link #gracefulShutdown} parameter when constructing an instance of a builder class
    * to {@code false}. The following example creates a {@link TarantoolCrudClientImpl} object with
@@ -754,6 +925,79 @@ public class TarantoolCrudClientBuilder {
     return this;
   }
 
+  /**
+   * Builds the {@link #sslContext} from client TLS settings: TLS sessions are resumed on reconnects
+   * and the OpenSSL provider is used when netty-tcnative is on the classpath. All connections of
+   * the client share the context and its session cache.
+   *
+   * <blockquote>
+   *
+   * <pre>{@code
+   * TarantoolCrudClient client = TarantoolFactory.crud()
+   *     .withTlsOptions(TlsOptions.builder().withTrustCertCollection(new File("ca.crt")).build())
+   *     .build();
+   * }</pre>
+   *
+   * </blockquote>
+   *
+   * @param tlsOptions client TLS settings
+   * @return {@link TarantoolCrudClientBuilder} object.
+   * @throws IllegalArgumentException if certificates or keys cannot be loaded
+   */
+  public TarantoolCrudClientBuilder withTlsOptions(TlsOptions tlsOptions) {
+    try {
+      this.sslContext = tlsOptions.createSslContext();
+    } catch (SSLException e) {
+      throw new IllegalArgumentException("Cannot create SSL context: " + e.getMessage(), e);
+    }
+    return this;
+  }
+
+  /**
+   * Sets the {@link #codecOptions} parameter when constructing an instance of a builder class. The
+   * following example enables zero-copy decoding of responses:
+   *
+   * <blockquote>
+   *
+   * <pre>{@code
+   * TarantoolCrudClient client = TarantoolFactory.crud()
+   *     .withFrameCodecOptions(FrameCodecOptions.builder().withZeroCopyDecoding(true).build())
+   *     .build();
+   * }</pre>
+   *
+   * </blockquote>
+   *
+   * @param codecOptions see {@link #codecOptions} field.
+   * @return {@link TarantoolCrudClientBuilder} object.
+   */
+  public TarantoolCrudClientBuilder withFrameCodecOptions(FrameCodecOptions codecOptions) {
+    this.codecOptions = codecOptions;
+    return this;
+  }
+
+  /**
+   * Sets the {@link #completionExecutor} parameter when constructing an instance of a builder
+   * class. The following example moves response mapping to a dedicated pool:
+   *
+   * <blockquote>
+   *
+   * <pre>{@code
+   * ExecutorService mappers = Executors.newFixedThreadPool(4);
+   * TarantoolCrudClient client = TarantoolFactory.crud()
+   *     .withCompletionExecutor(mappers)
+   *     .build();
+   * }</pre>
+   *
+   * </blockquote>
+   *
+   * @param completionExecutor see {@link #completionExecutor} field.
+   * @return {@link TarantoolCrudClientBuilder} object.
+   */
+  public TarantoolCrudClientBuilder withCompletionExecutor(Executor completionExecutor) {
+    this.completionExecutor = completionExecutor;
+    return this;
+  }
+
   /**
    * Registers listener for Tarantool connection pool events.
    *
@@ -774,6 +1018,7 @@ public class TarantoolCrudClientBuilder {
    * Builds specific {@link TarantoolCrudClient} class instance with parameters.
    *
    * @return {@link TarantoolCrudClient} object.
+   * @throws IllegalArgumentException if the event loop group does not match the transport
    * @throws Exception exception
    */
   public TarantoolCrudClient build() throws Exception {
@@ -790,6 +1035,11 @@ public class TarantoolCrudClientBuilder {
                   .build());
     }
 
+    if (eventLoopGroupResource != null) {
+      // a transport set after withRuntime or withEventLoopGroup must match the group
+      NettyTransport.of(transportType).checkEventLoopGroup(eventLoopGroupResource.get());
+    }
+
     ManagedResource<Timer> actualTimerResource =
         timerResource == null
             ? ManagedResource.owned(new HashedWheelTimer(), Timer::stop)
@@ -799,6 +1049,8 @@ public class TarantoolCrudClientBuilder {
         groups,
         options,
         nThreads,
+        transportType,
+        eventLoopGroupResource,
         actualTimerResource,
         gracefulShutdown,
         balancerClass,
@@ -810,6 +1062,8 @@ public class TarantoolCrudClientBuilder {
         ignoredPacketsHandler,
         handlers,
         sslContext,
+        codecOptions,
+        completionExecutor,
         useTupleExtension,
         poolEventListener);
   }
@@ -8,18 +8,22 @@ package io.tarantool.client.factory;
 import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
 import io.netty.handler.ssl.SslContext;
 import io.netty.util.Timer;
 
 import io.tarantool.balancer.TarantoolBalancer;
+import io.tarantool.client.TransportType;
 import io.tarantool.client.crud.TarantoolCrudClient;
 import io.tarantool.client.crud.TarantoolCrudSpace;
 import io.tarantool.client.crud.options.CrudOptions;
 import io.tarantool.core.ManagedResource;
 import io.tarantool.core.WatcherOptions;
+import io.tarantool.core.connection.codecs.FrameCodecOptions;
 import io.tarantool.core.protocol.Handlers;
 import io.tarantool.core.protocol.IProtoResponse;
 import io.tarantool.pool.HeartbeatOpts;
@@ -62,6 +66,8 @@ final class TarantoolCrudClientImpl extends TarantoolClientImpl implements Taran
    * @param groups see groups in{@link TarantoolCrudClientBuilder}.
    * @param channelOptions see channelOptions in{@link TarantoolCrudClientBuilder}.
    * @param nThreads see nThreads in{@link TarantoolCrudClientBuilder}.
+   * @param transportType see transportType in{@link TarantoolCrudClientBuilder}.
+   * @param eventLoopGroupResource see eventLoopGroupResource in{@link TarantoolCrudClientBuilder}.
    * @param timerResource see timerService in{@link TarantoolCrudClientBuilder}.
    * @param gracefulShutdown see gracefulShutdown in{@link TarantoolCrudClientBuilder}.
    * @param balancerClass see balancerClass in{@link TarantoolCrudClientBuilder}.
@@ -73,6 +79,8 @@ final class TarantoolCrudClientImpl extends TarantoolClientImpl implements Taran
    * @param ignoredPacketsHandler see ignoredPacketsHandler in{@link TarantoolCrudClientBuilder}.
    * @param handlers see handlers in{@link TarantoolCrudClientBuilder}.
    * @param sslContext see sslContext in{@link TarantoolCrudClientBuilder}.
+   * @param codecOptions see codecOptions in{@link TarantoolCrudClientBuilder}.
+   * @param completionExecutor see completionExecutor in{@link TarantoolCrudClientBuilder}.
    * @param useTupleExtension see useTupleExtension in{@link TarantoolCrudClientBuilder}.
    * @throws NoSuchMethodException if a matching method is not found.
    * @throws IllegalArgumentException if the number of actual and formal parameters differ; if an
@@ -89,6 +97,8 @@ final class TarantoolCrudClientImpl extends TarantoolClientImpl implements Taran
       List<InstanceConnectionGroup> groups,
       Map<ChannelOption<?>, Object> channelOptions,
       int nThreads,
+      TransportType transportType,
+      ManagedResource<EventLoopGroup> eventLoopGroupResource,
       ManagedResource<Timer> timerResource,
       boolean gracefulShutdown,
       Class<? extends TarantoolBalancer> balancerClass,
@@ -100,6 +110,8 @@ final class TarantoolCrudClientImpl extends TarantoolClientImpl implements Taran
       TripleConsumer<String, Integer, IProtoResponse> ignoredPacketsHandler,
       Handlers handlers,
       SslContext sslContext,
+      FrameCodecOptions codecOptions,
+      Executor completionExecutor,
       boolean useTupleExtension,
       PoolEventListener poolEventListener)
       throws InvocationTargetException,
@@ -110,6 +122,8 @@ final class TarantoolCrudClientImpl extends TarantoolClientImpl implements Taran
         groups,
         channelOptions,
         nThreads,
+        transportType,
+        eventLoopGroupResource,
         timerResource,
         gracefulShutdown,
         balancerClass,
@@ -121,6 +135,8 @@ final class TarantoolCrudClientImpl extends TarantoolClientImpl implements Taran
         ignoredPacketsHandler,
         handlers,
         sslContext,
+        codecOptions,
+        completionExecutor,
         useTupleExtension,
         poolEventListener);
   }
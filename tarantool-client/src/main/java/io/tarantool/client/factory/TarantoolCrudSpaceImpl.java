@@ -6,11 +6,13 @@
 package io.tarantool.client.factory;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import org.reactivestreams.Publisher;
 
 import static io.tarantool.mapping.TarantoolJacksonMappingWithTargetTypeReference.convertCrudSelectResultFuture;
 import io.tarantool.balancer.TarantoolBalancer;
@@ -130,6 +132,12 @@ final class TarantoolCrudSpaceImpl extends IProtoCallClusterSpace implements Tar
   /** Template for crud max function. */
   public static final String CRUD_MAX = "crud.max";
 
+  /** Name of the crud select option limiting the number of returned tuples. */
+  private static final String CRUD_SELECT_FIRST = "first";
+
+  /** Name of the crud select option with the tuple after which tuples are selected. */
+  private static final String CRUD_SELECT_AFTER = "after";
+
   /** Template type reference for scalar return values. */
   public static final TypeReference<CrudScalarResponse<Integer>> CRUD_CALL_INT_RESULT =
       new TypeReference<CrudScalarResponse<Integer>>() {};
@@ -491,6 +499,32 @@ final class TarantoolCrudSpaceImpl extends IProtoCallClusterSpace implements Tar
     return crudCallSelectResult(options, entity, toSelectArgs(conditions, options));
   }
 
+  @Override
+  public Publisher<Tuple<List<?>>> selectPublisher(
+      List<Condition> conditions, SelectOptions options) {
+    int first = pageSize(options);
+    return new PagingPublisher<>(
+        after -> select(conditions, pageOptions(options, after)).thenApply(t -> toPage(t, first)));
+  }
+
+  @Override
+  public <T> Publisher<Tuple<T>> selectPublisher(
+      List<Condition> conditions, SelectOptions options, Class<T> entity) {
+    int first = pageSize(options);
+    return new PagingPublisher<>(
+        after -> {
+          SelectOptions pageOptions = pageOptions(options, after);
+          return iprotoCall(pageOptions, CRUD_SELECT, toSelectArgs(conditions, pageOptions))
+              .thenApply(
+                  TarantoolJacksonMapping.releaseAfter(
+                      resp ->
+                          toPage(
+                              resp,
+                              TarantoolJacksonMapping.readCrudSelectTuples(resp, entity),
+                              first)));
+        });
+  }
+
   @Override
   public <T> CompletableFuture<Tuple<T>> get(
       Options options, TypeReference<T> entity, Object... arguments) {
@@ -1142,4 +1176,68 @@ final class TarantoolCrudSpaceImpl extends IProtoCallClusterSpace implements Tar
     return TarantoolJacksonMapping.convertCrudBatchResultFuture(
         iprotoCall(options, functionName, args));
   }
+
+  /**
+   * Returns the page size of a paged select.
+   *
+   * @param options {@link SelectOptions} object.
+   * @return value of the {@code first} option or {@link SelectOptions#DEFAULT_LIMIT}.
+   */
+  private static int pageSize(SelectOptions options) {
+    if (options == null) {
+      throw new IllegalArgumentException("options can't be null");
+    }
+    Object first = options.getOptions().get(CRUD_SELECT_FIRST);
+    int size = first instanceof Number ? ((Number) first).intValue() : SelectOptions.DEFAULT_LIMIT;
+    if (size <= 0) {
+      throw new IllegalArgumentException("first should be greater than 0 to select by pages");
+    }
+    return size;
+  }
+
+  /**
+   * Creates options of a page of a paged select.
+   *
+   * @param options options of the whole select.
+   * @param after last tuple of the previous page, {@code null} for the first page.
+   * @return {@link SelectOptions} object.
+   */
+  private static SelectOptions pageOptions(SelectOptions options, Object after) {
+    if (after == null) {
+      return options;
+    }
+    Map<String, Object> pageOptions = new HashMap<>(options.getOptions());
+    pageOptions.put(CRUD_SELECT_AFTER, after);
+    return new SelectOptions(options.getTimeout(), options.getStreamId(), pageOptions);
+  }
+
+  /**
+   * Converts mapped tuples into a page. The last tuple is read from the response as is, so the
+   * cursor of the next page does not depend on how the tuples are mapped.
+   *
+   * @param response response of the select.
+   * @param tuples selected tuples mapped from the response.
+   * @param first page size.
+   * @param <T> type of the tuples.
+   * @return page of tuples.
+   */
+  private static <T> PagingPublisher.Page<Tuple<T>> toPage(
+      IProtoResponse response, List<Tuple<T>> tuples, int first) {
+    Object next =
+        tuples.size() < first ? null : TarantoolJacksonMapping.readCrudSelectLastRow(response);
+    return new PagingPublisher.Page<>(tuples, next);
+  }
+
+  /**
+   * Converts selected tuples into a page. A page shorter than the page size is the last one.
+   *
+   * @param tuples selected tuples.
+   * @param first page size.
+   * @param <T> type of the tuples.
+   * @return page of tuples.
+   */
+  private static <T> PagingPublisher.Page<Tuple<T>> toPage(List<Tuple<T>> tuples, int first) {
+    Object next = tuples.size() < first ? null : tuples.get(tuples.size() - 1).get();
+    return new PagingPublisher.Page<>(tuples, next);
+  }
 }
@@ -8,17 +8,21 @@ package io.tarantool.client.factory;
 import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
 import io.netty.handler.ssl.SslContext;
 import io.netty.util.Timer;
 
 import io.tarantool.balancer.TarantoolBalancer;
+import io.tarantool.client.TransportType;
 import io.tarantool.client.tdg.TarantoolDataGridClient;
 import io.tarantool.client.tdg.TarantoolDataGridSpace;
 import io.tarantool.core.ManagedResource;
 import io.tarantool.core.WatcherOptions;
+import io.tarantool.core.connection.codecs.FrameCodecOptions;
 import io.tarantool.core.protocol.Handlers;
 import io.tarantool.core.protocol.IProtoResponse;
 import io.tarantool.pool.HeartbeatOpts;
@@ -62,6 +66,8 @@ public class TarantoolDataGridClientImpl extends TarantoolClientImpl
       List<InstanceConnectionGroup> groups,
       Map<ChannelOption<?>, Object> channelOptions,
       int nThreads,
+      TransportType transportType,
+      ManagedResource<EventLoopGroup> eventLoopGroupResource,
       ManagedResource<Timer> timerResource,
       boolean gracefulShutdown,
       Class<? extends TarantoolBalancer> balancerClass,
@@ -73,6 +79,8 @@ public class TarantoolDataGridClientImpl extends TarantoolClientImpl
       TripleConsumer<String, Integer, IProtoResponse> ignoredPacketsHandler,
       Handlers handlers,
       SslContext sslContext,
+      FrameCodecOptions codecOptions,
+      Executor completionExecutor,
       boolean useTupleExtension,
       boolean useTdg1Context,
       Map<String, Object> credentials,
@@ -85,6 +93,8 @@ public class TarantoolDataGridClientImpl extends TarantoolClientImpl
         groups,
         channelOptions,
         nThreads,
+        transportType,
+        eventLoopGroupResource,
         timerResource,
         gracefulShutdown,
         balancerClass,
@@ -96,6 +106,8 @@ public class TarantoolDataGridClientImpl extends TarantoolClientImpl
         ignoredPacketsHandler,
         handlers,
         sslContext,
+        codecOptions,
+        completionExecutor,
         useTupleExtension,
         poolEventListener);
     this.useTdg1Context = useTdg1Context;
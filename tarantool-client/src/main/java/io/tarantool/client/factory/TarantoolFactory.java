@@ -9,6 +9,7 @@ import io.micrometer.core.instrument.Clock;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.LongTaskTimer;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.jmx.JmxConfig;
 import io.micrometer.jmx.JmxMeterRegistry;
 
@@ -87,6 +88,9 @@ public class TarantoolFactory {
           Counter.builder("response.ignored")
               .description("Number of ignored IProto packets")
               .register(metricsRegistry);
+      Timer.builder("response.callback")
+          .description("Time spent on the event loop completing responses, including callbacks")
+          .register(metricsRegistry);
       metricsRegistered = true;
     }
   }
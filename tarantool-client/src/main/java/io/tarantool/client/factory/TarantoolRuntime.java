@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.client.factory;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timer;
+import io.netty.util.concurrent.DefaultThreadFactory;
+
+import io.tarantool.client.TransportType;
+
+/**
+ * Event loop group and timer that can be shared by several clients.
+ *
+ * <p>By default every client creates its own event loop group and timer. A service that talks to
+ * several clusters, or builds a box and a crud client for the same cluster, can pass one runtime
+ * to all its clients instead, so the number of I/O and timer threads does not grow with the number
+ * of clients. Clients do not close the runtime: it is closed by its creator after all clients using
+ * it are closed.
+ *
+ * <blockquote>
+ *
+ * <pre>{@code
+ * TarantoolBoxClient boxClient = TarantoolFactory.box()
+ *                                                .withRuntime(TarantoolRuntime.shared())
+ *                                                .build();
+ * TarantoolCrudClient crudClient = TarantoolFactory.crud()
+ *                                                  .withRuntime(TarantoolRuntime.shared())
+ *                                                  .build();
+ * }</pre>
+ *
+ * </blockquote>
+ */
+public final class TarantoolRuntime implements AutoCloseable {
+
+  private static final class SharedHolder {
+
+    private static final TarantoolRuntime SHARED =
+        new TarantoolRuntime(
+            Runtime.getRuntime().availableProcessors(), TransportType.DEFAULT_TRANSPORT_TYPE, true);
+  }
+
+  private final EventLoopGroup eventLoopGroup;
+  private final Timer timer;
+  private final TransportType transportType;
+  private final boolean shared;
+
+  private TarantoolRuntime(int nThreads, TransportType transportType, boolean shared) {
+    NettyTransport transport = NettyTransport.of(transportType);
+    this.eventLoopGroup =
+        transport.newEventLoopGroup(nThreads, new DefaultThreadFactory("tarantool-io", true));
+    this.timer = new HashedWheelTimer(new DefaultThreadFactory("tarantool-timer", true));
+    this.transportType = transport.getType();
+    this.shared = shared;
+  }
+
+  /**
+   * Returns the process-wide runtime. It is created on first use with one event loop thread per
+   * available processor and always uses {@link TransportType#DEFAULT_TRANSPORT_TYPE} (NIO): a
+   * client given this runtime uses NIO whatever transport its builder had. Use {@link #create(int,
+   * TransportType)} to share epoll or io_uring event loops. Its threads are daemon threads, and
+   * {@link #close()} does nothing for it.
+   *
+   * @return shared runtime
+   */
+  public static TarantoolRuntime shared() {
+    return SharedHolder.SHARED;
+  }
+
+  /**
+   * Creates a runtime owned by the caller.
+   *
+   * @param nThreads number of event loop threads, {@code 0} means the netty default
+   * @param transportType netty transport of the event loops, see {@link TransportType}
+   * @return new runtime
+   */
+  public static TarantoolRuntime create(int nThreads, TransportType transportType) {
+    if (nThreads < 0) {
+      throw new IllegalArgumentException("nThreads must not be negative");
+    }
+    return new TarantoolRuntime(nThreads, transportType, false);
+  }
+
+  /**
+   * Returns the event loop group serving connections of the clients.
+   *
+   * @return event loop group
+   */
+  public EventLoopGroup getEventLoopGroup() {
+    return eventLoopGroup;
+  }
+
+  /**
+   * Returns the timer serving timeouts of requests of the clients.
+   *
+   * @return timer
+   */
+  public Timer getTimer() {
+    return timer;
+  }
+
+  /**
+   * Returns the transport the event loop group has been created for. A native transport that is
+   * not available is reported as {@link TransportType#NIO}.
+   *
+   * @return resolved transport type
+   */
+  public TransportType getTransportType() {
+    return transportType;
+  }
+
+  /** Stops the event loop group and the timer. Does nothing for the {@link #shared()} runtime. */
+  @Override
+  public void close() {
+    if (shared) {
+      return;
+    }
+    timer.stop();
+    eventLoopGroup.shutdownGracefully().syncUninterruptibly();
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.client.benchmark;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+
+import io.tarantool.client.TransportType;
+import io.tarantool.client.box.TarantoolBoxClient;
+import io.tarantool.client.factory.TarantoolFactory;
+import io.tarantool.pool.InstanceConnectionGroup;
+
+/**
+ * Compares throughput and latency of pings sent over the netty transports. Every transport is
+ * measured with the same number of connections and requests in flight; a native transport that is
+ * not available on the host is measured as NIO, so compare the numbers on Linux with the native
+ * netty artifacts on the classpath.
+ *
+ * <p>Requires a running Tarantool instance at {@code TARANTOOL_HOST:TARANTOOL_PORT}.
+ *
+ * <p>Usage: {@code TransportBenchmark [connections] [in-flight] [requests]}.
+ */
+public class TransportBenchmark {
+
+  private static final int ROUNDS = 5;
+
+  private static final String host;
+  private static final int port;
+
+  static {
+    Map<String, String> env = System.getenv();
+    host = env.getOrDefault("TARANTOOL_HOST", "localhost");
+    port = Integer.parseInt(env.getOrDefault("TARANTOOL_PORT", "3301"));
+  }
+
+  private static TarantoolBoxClient createClient(TransportType transport, int connections)
+      throws Exception {
+    return TarantoolFactory.box()
+        .withTransport(transport)
+        .withGroups(
+            Collections.singletonList(
+                InstanceConnectionGroup.builder()
+                    .withHost(host)
+                    .withPort(port)
+                    .withSize(connections)
+                    .withTag("default")
+                    .build()))
+        .build();
+  }
+
+  private static void run(TarantoolBoxClient client, int inFlight, int requests, long[] latencies)
+      throws InterruptedException {
+    Semaphore window = new Semaphore(inFlight);
+    CountDownLatch done = new CountDownLatch(requests);
+    for (int i = 0; i < requests; i++) {
+      window.acquire();
+      int index = i;
+      long start = System.nanoTime();
+      client
+          .ping()
+          .whenComplete(
+              (r, e) -> {
+                latencies[index] = System.nanoTime() - start;
+                window.release();
+                done.countDown();
+              });
+    }
+    done.await();
+  }
+
+  public static void main(String[] args) throws Exception {
+    int connections = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+    int inFlight = args.length > 1 ? Integer.parseInt(args[1]) : 256;
+    int requests = args.length > 2 ? Integer.parseInt(args[2]) : 1_000_000;
+
+    System.out.printf("connections = %d, in-flight = %d%n", connections, inFlight);
+    long[] latencies = new long[requests];
+    for (TransportType transport :
+        new TransportType[] {TransportType.NIO, TransportType.EPOLL, TransportType.IO_URING}) {
+      try (TarantoolBoxClient client = createClient(transport, connections)) {
+        // warm up connections and JIT
+        run(client, inFlight, Math.min(requests, 100_000), latencies);
+        for (int round = 1; round <= ROUNDS; round++) {
+          long begin = System.nanoTime();
+          run(client, inFlight, requests, latencies);
+          double seconds = (System.nanoTime() - begin) / 1e9;
+          Arrays.sort(latencies);
+          System.out.printf(
+              "%s round %d: %.0f rps, p50 %d us, p99 %d us, p99.9 %d us%n",
+              transport,
+              round,
+              requests / seconds,
+              latencies[requests / 2] / 1_000,
+              latencies[(int) (requests * 0.99)] / 1_000,
+              latencies[(int) (requests * 0.999)] / 1_000);
+        }
+      }
+    }
+  }
+}
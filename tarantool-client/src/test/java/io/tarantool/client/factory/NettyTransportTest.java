@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.client.factory;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.MultiThreadIoEventLoopGroup;
+import io.netty.channel.local.LocalIoHandler;
+import org.junit.jupiter.api.Test;
+
+import io.tarantool.client.TransportType;
+
+class NettyTransportTest {
+
+  @Test
+  void defaultTransportIsNio() {
+    assertEquals(TransportType.NIO, NettyTransport.of(null).getType());
+    assertEquals(TransportType.NIO, NettyTransport.of(TransportType.NIO).getType());
+  }
+
+  @Test
+  void nativeTransportResolvesToItselfOrNio() {
+    for (TransportType type : new TransportType[] {TransportType.EPOLL, TransportType.IO_URING}) {
+      TransportType resolved = NettyTransport.of(type).getType();
+      assertTrue(resolved == type || resolved == TransportType.NIO, resolved.name());
+    }
+    assertNotEquals(TransportType.AUTO, NettyTransport.of(TransportType.AUTO).getType());
+  }
+
+  @Test
+  void passedOptionsAreApplied() throws Exception {
+    NettyTransport transport = NettyTransport.of(TransportType.AUTO);
+    MultiThreadIoEventLoopGroup group = transport.newEventLoopGroup(1);
+    try {
+      Map<ChannelOption<?>, Object> options =
+          Collections.<ChannelOption<?>, Object>singletonMap(ChannelOption.SO_RCVBUF, 1);
+      Bootstrap bootstrap = transport.newBootstrap(group, options);
+      assertEquals(1, bootstrap.config().options().get(ChannelOption.SO_RCVBUF));
+    } finally {
+      group.shutdownGracefully().get();
+    }
+  }
+
+  @Test
+  void groupOfAnotherTransportIsRejected() throws Exception {
+    NettyTransport transport = NettyTransport.of(TransportType.AUTO);
+    MultiThreadIoEventLoopGroup own = transport.newEventLoopGroup(1);
+    MultiThreadIoEventLoopGroup local =
+        new MultiThreadIoEventLoopGroup(1, LocalIoHandler.newFactory());
+    try {
+      assertDoesNotThrow(() -> transport.checkEventLoopGroup(own));
+      assertThrows(IllegalArgumentException.class, () -> transport.checkEventLoopGroup(local));
+    } finally {
+      own.shutdownGracefully().get();
+      local.shutdownGracefully().get();
+    }
+  }
+}
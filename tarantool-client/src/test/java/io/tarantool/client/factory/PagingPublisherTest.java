@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.client.factory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+class PagingPublisherTest {
+
+  private static final int PAGE_SIZE = 100;
+
+  private static PagingPublisher<Integer> publisher(int total, AtomicInteger fetches) {
+    return new PagingPublisher<>(
+        after -> {
+          fetches.incrementAndGet();
+          int from = after == null ? 0 : (Integer) after + 1;
+          List<Integer> items = new ArrayList<>();
+          for (int i = from; i < Math.min(total, from + PAGE_SIZE); i++) {
+            items.add(i);
+          }
+          Object next = items.size() < PAGE_SIZE ? null : items.get(items.size() - 1);
+          return CompletableFuture.completedFuture(new PagingPublisher.Page<>(items, next));
+        });
+  }
+
+  @Test
+  void emitsAllPagesInOrder() {
+    AtomicInteger fetches = new AtomicInteger();
+    RecordingSubscriber subscriber = new RecordingSubscriber(7);
+
+    publisher(1005, fetches).subscribe(subscriber);
+
+    assertEquals(1005, subscriber.items.size());
+    for (int i = 0; i < subscriber.items.size(); i++) {
+      assertEquals(i, subscriber.items.get(i));
+    }
+    assertEquals(11, fetches.get());
+    assertTrue(subscriber.completed);
+  }
+
+  @Test
+  void fetchesOnlyPagesCoveredByDemand() {
+    AtomicInteger fetches = new AtomicInteger();
+    RecordingSubscriber subscriber = new RecordingSubscriber(0);
+
+    publisher(1000, fetches).subscribe(subscriber);
+    assertEquals(0, fetches.get());
+
+    subscriber.subscription.request(150);
+    assertEquals(150, subscriber.items.size());
+    assertEquals(2, fetches.get());
+    assertFalse(subscriber.completed);
+  }
+
+  @Test
+  void stopsEmittingOnCancel() {
+    AtomicInteger fetches = new AtomicInteger();
+    RecordingSubscriber subscriber =
+        new RecordingSubscriber(Long.MAX_VALUE) {
+          @Override
+          public void onNext(Integer item) {
+            super.onNext(item);
+            if (items.size() == 10) {
+              subscription.cancel();
+            }
+          }
+        };
+
+    publisher(1000, fetches).subscribe(subscriber);
+
+    assertEquals(10, subscriber.items.size());
+    assertEquals(1, fetches.get());
+    assertFalse(subscriber.completed);
+  }
+
+  @Test
+  void completesEmptyResult() {
+    RecordingSubscriber subscriber = new RecordingSubscriber(1);
+
+    publisher(0, new AtomicInteger()).subscribe(subscriber);
+
+    assertTrue(subscriber.items.isEmpty());
+    assertTrue(subscriber.completed);
+  }
+
+  @Test
+  void signalsUnwrappedFetchError() {
+    RecordingSubscriber subscriber = new RecordingSubscriber(1);
+    CompletableFuture<PagingPublisher.Page<Integer>> failed = new CompletableFuture<>();
+    CompletableFuture<PagingPublisher.Page<Integer>> mapped = failed.thenApply(page -> page);
+    failed.completeExceptionally(new IllegalStateException("failed"));
+
+    new PagingPublisher<Integer>(after -> mapped).subscribe(subscriber);
+
+    assertInstanceOf(IllegalStateException.class, subscriber.error);
+    assertFalse(subscriber.completed);
+  }
+
+  @Test
+  void signalsErrorOnNonPositiveRequest() {
+    RecordingSubscriber subscriber = new RecordingSubscriber(0);
+
+    publisher(10, new AtomicInteger()).subscribe(subscriber);
+    subscriber.subscription.request(0);
+
+    assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+  }
+
+  private static class RecordingSubscriber implements Subscriber<Integer> {
+
+    private final long batch;
+    final List<Integer> items = new ArrayList<>();
+    Subscription subscription;
+    Throwable error;
+    boolean completed;
+
+    RecordingSubscriber(long batch) {
+      this.batch = batch;
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+      this.subscription = subscription;
+      if (batch > 0) {
+        subscription.request(batch);
+      }
+    }
+
+    @Override
+    public void onNext(Integer item) {
+      items.add(item);
+      if (batch != Long.MAX_VALUE && batch > 0 && items.size() % batch == 0) {
+        subscription.request(batch);
+      }
+    }
+
+    @Override
+    public void onError(Throwable error) {
+      this.error = error;
+    }
+
+    @Override
+    public void onComplete() {
+      completed = true;
+    }
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.client.factory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import io.netty.channel.MultiThreadIoEventLoopGroup;
+import io.netty.channel.local.LocalIoHandler;
+import org.junit.jupiter.api.Test;
+
+import io.tarantool.client.TransportType;
+
+class TarantoolRuntimeTest {
+
+  @Test
+  void sharedRuntimeIsNotClosed() {
+    TarantoolRuntime runtime = TarantoolRuntime.shared();
+    assertSame(runtime, TarantoolRuntime.shared());
+
+    runtime.close();
+
+    assertFalse(runtime.getEventLoopGroup().isShuttingDown());
+  }
+
+  @Test
+  void createdRuntimeIsClosedByOwner() {
+    TarantoolRuntime runtime = TarantoolRuntime.create(1, TransportType.NIO);
+    assertEquals(TransportType.NIO, runtime.getTransportType());
+
+    runtime.close();
+
+    assertTrue(runtime.getEventLoopGroup().isShuttingDown());
+  }
+
+  @Test
+  void builderTakesResourcesOfRuntime() {
+    TarantoolRuntime runtime = TarantoolRuntime.shared();
+    TarantoolBoxClientBuilder builder = TarantoolFactory.box().withRuntime(runtime);
+
+    assertSame(runtime.getEventLoopGroup(), builder.getEventLoopGroup());
+    assertSame(runtime.getTimer(), builder.getTimerService());
+    assertEquals(runtime.getTransportType(), builder.getTransportType());
+  }
+
+  @Test
+  void runtimeTransportReplacesBuilderTransport() {
+    TarantoolRuntime runtime = TarantoolRuntime.shared();
+
+    assertEquals(TransportType.DEFAULT_TRANSPORT_TYPE, runtime.getTransportType());
+    assertEquals(
+        runtime.getTransportType(),
+        TarantoolFactory.box()
+            .withTransport(TransportType.EPOLL)
+            .withRuntime(runtime)
+            .getTransportType());
+    assertEquals(
+        runtime.getTransportType(),
+        TarantoolFactory.crud()
+            .withTransport(TransportType.AUTO)
+            .withRuntime(runtime)
+            .getTransportType());
+  }
+
+  @Test
+  void groupNotMatchingTransportIsRejectedOnBuild() throws Exception {
+    MultiThreadIoEventLoopGroup group =
+        new MultiThreadIoEventLoopGroup(1, LocalIoHandler.newFactory());
+    try {
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> TarantoolFactory.box().withEventLoopGroup(group).build());
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> TarantoolFactory.crud().withEventLoopGroup(group).build());
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> TarantoolFactory.tdg().withEventLoopGroup(group).build());
+    } finally {
+      group.shutdownGracefully().get();
+    }
+  }
+
+  @Test
+  void negativeThreadCountIsRejected() {
+    assertThrows(
+        IllegalArgumentException.class, () -> TarantoolRuntime.create(-1, TransportType.NIO));
+  }
+}
@@ -15,6 +15,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
@@ -43,6 +44,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.msgpack.value.ValueFactory;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 import org.slf4j.LoggerFactory;
 import org.testcontainers.containers.cluster.ClusterContainer;
 import org.testcontainers.containers.cluster.cartridge.CartridgeClusterContainer;
@@ -399,6 +402,47 @@ public class TarantoolCrudClientTest extends BaseTest {
     assertEquals(Collections.singletonList(expected), unpackT(selectResult));
   }
 
+  @Test
+  public void testSelectPublisherClassEntity() {
+    TarantoolCrudSpace person = client.space("person");
+    List<Person> expected = new ArrayList<>();
+    for (int i = 0; i < 7; i++) {
+      expected.add(new Person(i, i % 2 == 0, String.valueOf(i)));
+      person.insert(expected.get(i)).join();
+    }
+
+    // the mapped entity drops bucket_id, so it can not be the cursor of the next page
+    List<Person> persons = new ArrayList<>();
+    CompletableFuture<Void> done = new CompletableFuture<>();
+    person
+        .selectPublisher(
+            Collections.emptyList(), SelectOptions.builder().withFirst(2).build(), Person.class)
+        .subscribe(
+            new Subscriber<Tuple<Person>>() {
+              @Override
+              public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+              }
+
+              @Override
+              public void onNext(Tuple<Person> tuple) {
+                persons.add(tuple.get());
+              }
+
+              @Override
+              public void onError(Throwable throwable) {
+                done.completeExceptionally(throwable);
+              }
+
+              @Override
+              public void onComplete() {
+                done.complete(null);
+              }
+            });
+    done.join();
+    assertEquals(expected, persons);
+  }
+
   @Test
   public void testSelectAndInsertTypeReference() {
     TarantoolCrudSpace person = client.space("person");
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.core;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executor completing the futures returned by a client on a user executor. A task rejected by the
+ * user executor, e.g. because it is saturated or shut down, runs inline on the completing thread:
+ * {@link java.util.concurrent.CompletableFuture#whenCompleteAsync} would otherwise drop the
+ * completion stage and the future returned to the caller would never complete.
+ */
+final class CompletionExecutor implements Executor {
+
+  private static final Logger log = LoggerFactory.getLogger(CompletionExecutor.class);
+
+  private final Executor delegate;
+
+  CompletionExecutor(Executor delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public void execute(Runnable task) {
+    try {
+      delegate.execute(task);
+    } catch (RejectedExecutionException e) {
+      log.debug("Completion executor rejected a task, completing inline", e);
+      task.run();
+    }
+  }
+}
@@ -15,14 +15,30 @@ import java.util.function.Consumer;
 import org.msgpack.value.ArrayValue;
 
 import static io.tarantool.core.protocol.requests.IProtoAuth.AuthType;
+import static io.tarantool.core.protocol.requests.IProtoAuth.PasswordHash;
 import io.tarantool.core.connection.ConnectionCloseEvent;
 import io.tarantool.core.protocol.BoxIterator;
 import io.tarantool.core.protocol.Handlers;
+import io.tarantool.core.protocol.IProtoBatchResult;
+import io.tarantool.core.protocol.IProtoRequest;
 import io.tarantool.core.protocol.IProtoRequestOpts;
 import io.tarantool.core.protocol.IProtoResponse;
 import io.tarantool.core.protocol.TransactionIsolationLevel;
+import io.tarantool.core.protocol.requests.IProtoRequestTemplate;
 import io.tarantool.core.protocol.requests.SelectAfterMode;
 
+/**
+ * Low-level IProto client working with a single connection.
+ *
+ * <p>Futures of requests complete with raw {@link IProtoResponse responses}. When zero-copy
+ * decoding is enabled (see {@link
+ * io.tarantool.core.connection.codecs.FrameCodecOptions.Builder#withZeroCopyDecoding(boolean)}), a
+ * response holds a retained slice of the inbound network buffer and the code consuming the future
+ * owns that reference: it must call {@link io.netty.util.ReferenceCountUtil#release(Object)} on the
+ * response once it has read it, including when reading fails. A response that is never released
+ * leaks a pooled buffer. Without zero-copy decoding releasing does nothing, so consumers that
+ * always release work in both modes.
+ */
 public interface IProtoClient {
 
   CompletableFuture<Void> connect(InetSocketAddress address, long timeoutMs);
@@ -39,6 +55,18 @@ public interface IProtoClient {
   CompletableFuture<IProtoResponse> authorize(
       String user, String password, IProtoRequestOpts opts, AuthType authType);
 
+  /**
+   * Authorizes with CHAP-SHA1 using a password hash computed once, see {@link PasswordHash#of}.
+   *
+   * @param user user name
+   * @param passwordHash hash of the user password
+   * @return future with the authentication response
+   */
+  CompletableFuture<IProtoResponse> authorize(String user, PasswordHash passwordHash);
+
+  CompletableFuture<IProtoResponse> authorize(
+      String user, PasswordHash passwordHash, IProtoRequestOpts opts);
+
   CompletableFuture<IProtoResponse> select(
       int spaceId, int indexId, ArrayValue key, int limit, int offset, BoxIterator iterator);
 
@@ -167,6 +195,33 @@ public interface IProtoClient {
   CompletableFuture<IProtoResponse> call(
       String function, byte[] args, byte[] formats, IProtoRequestOpts opts);
 
+  CompletableFuture<IProtoResponse> request(IProtoRequestTemplate template, ArrayValue payload);
+
+  CompletableFuture<IProtoResponse> request(IProtoRequestTemplate template, byte[] payload);
+
+  CompletableFuture<IProtoResponse> request(
+      IProtoRequestTemplate template, ArrayValue payload, IProtoRequestOpts opts);
+
+  CompletableFuture<IProtoResponse> request(
+      IProtoRequestTemplate template, byte[] payload, IProtoRequestOpts opts);
+
+  /**
+   * Sends the requests as one batch: they get a contiguous range of sync ids, are encoded into one
+   * buffer and flushed once. The requests share the timeout and the push handler of the options.
+   *
+   * <p>The returned future is completed when every request has a response or an error, it is not
+   * completed exceptionally because of failed requests: see {@link IProtoBatchResult#getFailure()}.
+   *
+   * @param requests requests to send, e.g. {@link
+   *     io.tarantool.core.protocol.requests.IProtoInsert}; sync ids of the requests are overwritten
+   * @param opts options of the requests
+   * @return future with the results in the order of the requests
+   */
+  CompletableFuture<IProtoBatchResult> batch(
+      List<? extends IProtoRequest> requests, IProtoRequestOpts opts);
+
+  CompletableFuture<IProtoBatchResult> batch(List<? extends IProtoRequest> requests);
+
   CompletableFuture<IProtoResponse> eval(String expression, ArrayValue args);
 
   CompletableFuture<IProtoResponse> eval(String expression, byte[] args);
@@ -244,6 +299,16 @@ public interface IProtoClient {
 
   IProtoClient withHandlers(Handlers handlers);
 
+  /**
+   * Sets the estimate fed with response times of requests: responses, server errors and timeouts
+   * count, cancelled requests and requests failed by the client or the connection do not. Batches
+   * are not measured.
+   *
+   * @param estimate estimate to feed, {@code null} stops measuring
+   * @return this client
+   */
+  IProtoClient withLatencyEstimate(PeakEwma estimate);
+
   boolean isConnected();
 
   Integer getClientProtocolVersion();
@@ -267,4 +332,13 @@ public interface IProtoClient {
   void setIdleTimeout(int idleTimeout);
 
   boolean isPaused();
+
+  /**
+   * Returns the number of requests created by this client and not completed yet, including
+   * requests waiting for the in-flight limit. Requests of a batch are counted one by one, watchers
+   * are not counted.
+   *
+   * @return number of outstanding requests
+   */
+  int getInFlightRequests();
 }
@@ -14,17 +14,25 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.LongTaskTimer;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.netty.handler.flush.FlushConsolidationHandler;
+import io.netty.util.ReferenceCountUtil;
 import io.netty.util.Timer;
 import org.msgpack.value.ArrayValue;
 import org.msgpack.value.Value;
@@ -39,22 +47,32 @@ import static io.tarantool.core.protocol.requests.IProtoConstant.IPROTO_EVENT_DA
 import static io.tarantool.core.protocol.requests.IProtoConstant.IPROTO_EVENT_KEY;
 import static io.tarantool.core.protocol.requests.IProtoConstant.IPROTO_FEATURES;
 import static io.tarantool.core.protocol.requests.IProtoConstant.IPROTO_VERSION;
+import io.tarantool.core.connection.AuthExecutor;
 import io.tarantool.core.connection.Connection;
 import io.tarantool.core.connection.ConnectionCloseEvent;
 import io.tarantool.core.connection.ConnectionFactory;
 import io.tarantool.core.connection.Greeting;
+import io.tarantool.core.connection.exceptions.FrameTooLongException;
+import io.tarantool.core.connection.exceptions.RequestEncodeException;
+import io.tarantool.core.exceptions.BoxError;
 import io.tarantool.core.exceptions.ClientException;
+import io.tarantool.core.exceptions.InFlightLimitException;
 import io.tarantool.core.exceptions.ShutdownException;
 import io.tarantool.core.protocol.BoxIterator;
 import io.tarantool.core.protocol.Handlers;
+import io.tarantool.core.protocol.IProtoBatchResult;
 import io.tarantool.core.protocol.IProtoRequest;
 import io.tarantool.core.protocol.IProtoRequestOpts;
 import io.tarantool.core.protocol.IProtoResponse;
 import io.tarantool.core.protocol.TransactionIsolationLevel;
+import io.tarantool.core.protocol.fsm.BatchStateMachine;
+import io.tarantool.core.protocol.fsm.DeadlineQueue;
 import io.tarantool.core.protocol.fsm.IProtoStateMachine;
 import io.tarantool.core.protocol.fsm.RequestStateMachine;
+import io.tarantool.core.protocol.fsm.SyncIdRegistry;
 import io.tarantool.core.protocol.fsm.WatcherStateMachine;
 import io.tarantool.core.protocol.requests.IProtoAuth;
+import io.tarantool.core.protocol.requests.IProtoAuth.PasswordHash;
 import io.tarantool.core.protocol.requests.IProtoBegin;
 import io.tarantool.core.protocol.requests.IProtoCall;
 import io.tarantool.core.protocol.requests.IProtoCommit;
@@ -66,8 +84,10 @@ import io.tarantool.core.protocol.requests.IProtoInsert;
 import io.tarantool.core.protocol.requests.IProtoPing;
 import io.tarantool.core.protocol.requests.IProtoPrepare;
 import io.tarantool.core.protocol.requests.IProtoReplace;
+import io.tarantool.core.protocol.requests.IProtoRequestTemplate;
 import io.tarantool.core.protocol.requests.IProtoRollback;
 import io.tarantool.core.protocol.requests.IProtoSelect;
+import io.tarantool.core.protocol.requests.IProtoTemplateRequest;
 import io.tarantool.core.protocol.requests.IProtoUnwatch;
 import io.tarantool.core.protocol.requests.IProtoUpdate;
 import io.tarantool.core.protocol.requests.IProtoUpsert;
@@ -91,13 +111,16 @@ public class IProtoClientImpl implements IProtoClient {
   private static final String SHUTDOWN_EVENT_KEY = "box.shutdown";
   private static final int DEFAULT_IDLE_TIMEOUT = 1_000;
   private static final Logger log = LoggerFactory.getLogger(IProtoClientImpl.class);
+  private static final AtomicLong CLIENT_ID_SEQUENCE = new AtomicLong();
   private final AtomicLong streamIdSequence;
   private final AtomicLong syncIdSequence;
+  private final AtomicInteger inFlightRequests = new AtomicInteger();
   protected final Connection connection;
   private final List<String> toUnwatch;
-  protected final Map<Long, IProtoStateMachine> fsmRegistry;
+  protected final SyncIdRegistry<IProtoStateMachine> fsmRegistry;
   private final Map<String, Watcher> watchers;
   protected final Timer timerService;
+  private final DeadlineQueue deadlines;
   private final WatcherOptions watcherOpts;
   private CompletableFuture<Integer> serverProtocolVersion;
   private CompletableFuture<EnumSet<IProtoFeature>> serverFeatures;
@@ -108,8 +131,19 @@ public class IProtoClientImpl implements IProtoClient {
   private Counter responseSuccessCounter;
   private Counter responseErrorCounter;
   private Counter ignoredResponsesCounter;
+  private io.micrometer.core.instrument.Timer callbackTimer;
+  private final MeterRegistry metricsRegistry;
+  // gauges of the connection are registered on connect and removed on close, so clients replaced
+  // in a pool do not leave meters behind
+  private final String clientId = String.valueOf(CLIENT_ID_SEQUENCE.incrementAndGet());
+  private volatile Gauge inFlightGauge;
+  private volatile Gauge outboundBytesGauge;
+  private final Executor completionExecutor;
+  private final InFlightLimiter inFlightLimiter;
+  private final boolean waitOnInFlightLimit;
   private Consumer<IProtoResponse> ignoredPacketsHandler;
   private Handlers handlers;
+  private volatile PeakEwma latencyEstimate;
 
   public IProtoClientImpl(ConnectionFactory factory, Timer timerService) {
     this(factory, timerService, DEFAULT_WATCHER_OPTS, null, null, false);
@@ -122,24 +156,72 @@ public class IProtoClientImpl implements IProtoClient {
       MeterRegistry metricsRegistry,
       FlushConsolidationHandler flushConsolidationHandler,
       boolean useTupleExtension) {
+    this(
+        factory,
+        timerService,
+        watcherOpts,
+        metricsRegistry,
+        flushConsolidationHandler,
+        useTupleExtension,
+        null);
+  }
+
+  /**
+   * Creates a client.
+   *
+   * @param factory connection factory
+   * @param timerService timer serving request timeouts
+   * @param watcherOpts options of watchers, {@code null} means defaults
+   * @param metricsRegistry registry with client metrics, {@code null} disables metrics
+   * @param flushConsolidationHandler flush consolidation handler, may be {@code null}
+   * @param useTupleExtension use TUPLE_EXT feature if true
+   * @param completionExecutor executor completing the futures returned by requests. {@code null}
+   *     completes them on the I/O thread that received the response, so dependent stages run on
+   *     the event loop. Futures whose completion is rejected by the executor are completed on the
+   *     I/O thread too.
+   */
+  public IProtoClientImpl(
+      ConnectionFactory factory,
+      Timer timerService,
+      WatcherOptions watcherOpts,
+      MeterRegistry metricsRegistry,
+      FlushConsolidationHandler flushConsolidationHandler,
+      boolean useTupleExtension,
+      Executor completionExecutor) {
+    this.completionExecutor =
+        completionExecutor == null ? null : new CompletionExecutor(completionExecutor);
     if (metricsRegistry != null) {
       requestTimer = metricsRegistry.get("request.timer").longTaskTimer();
       requestCounter = metricsRegistry.get("request.counter").counter();
       responseSuccessCounter = metricsRegistry.get("response.success").counter();
       responseErrorCounter = metricsRegistry.get("response.errors").counter();
       ignoredResponsesCounter = metricsRegistry.get("response.ignored").counter();
+      // looked up softly: registries prepared for older versions do not have this timer
+      callbackTimer = metricsRegistry.find("response.callback").timer();
     }
     this.connection =
         factory
             .create(flushConsolidationHandler, this::handleIdleTimeout)
             .listen(this::handleMessage)
+            .onFrameTooLong(this::handleFrameTooLong)
+            .onEncodeFailure(this::handleEncodeFailure)
             .onClose(ConnectionCloseEvent.CLOSE_BY_REMOTE, this::handleClose)
             .onClose(ConnectionCloseEvent.CLOSE_BY_CLIENT, this::handleClose);
-    this.fsmRegistry = new ConcurrentHashMap<>();
+    this.fsmRegistry = new SyncIdRegistry<>(IProtoStateMachine::getSyncId);
+    int maxInFlight = factory.getCodecOptions().getMaxInFlightRequests();
+    this.waitOnInFlightLimit = factory.getCodecOptions().isWaitOnInFlightLimit();
+    if (maxInFlight > 0) {
+      this.inFlightLimiter = new InFlightLimiter(connection, maxInFlight);
+      connection.onWritable(inFlightLimiter::drain);
+    } else {
+      this.inFlightLimiter = null;
+    }
+    this.metricsRegistry = metricsRegistry;
     this.watchers = new ConcurrentHashMap<>();
     this.syncIdSequence = new AtomicLong(0);
     this.streamIdSequence = new AtomicLong(0);
     this.timerService = timerService;
+    this.deadlines = new DeadlineQueue(timerService);
     this.toUnwatch = new ArrayList<>();
     if (watcherOpts == null) {
       this.watcherOpts = DEFAULT_WATCHER_OPTS;
@@ -176,6 +258,40 @@ public class IProtoClientImpl implements IProtoClient {
         new ClientException(CALL_CONNECT_BEFORE_GETTING_SERVER_DETAILS));
   }
 
+  /**
+   * Registers gauges of the connection. Clients of one registry are told apart by the {@code
+   * client} tag.
+   */
+  private void registerConnectionMetrics() {
+    if (metricsRegistry == null) {
+      return;
+    }
+    // registering an existing gauge returns it, so reconnects do not duplicate meters
+    inFlightGauge =
+        Gauge.builder("request.inflight", inFlightRequests, AtomicInteger::get)
+            .description("Number of requests sent or waiting to be sent and not yet answered")
+            .tag("client", clientId)
+            .register(metricsRegistry);
+    outboundBytesGauge =
+        Gauge.builder("request.outbound.bytes", connection, Connection::getPendingWriteBytes)
+            .description("Number of bytes written to the connection but not yet sent")
+            .tag("client", clientId)
+            .register(metricsRegistry);
+  }
+
+  private void removeConnectionMetrics() {
+    Gauge inFlight = inFlightGauge;
+    if (inFlight != null) {
+      metricsRegistry.remove(inFlight);
+      inFlightGauge = null;
+    }
+    Gauge outboundBytes = outboundBytesGauge;
+    if (outboundBytes != null) {
+      metricsRegistry.remove(outboundBytes);
+      outboundBytesGauge = null;
+    }
+  }
+
   @Override
   public CompletableFuture<Void> connect(InetSocketAddress address, long timeoutMs) {
     return connect(address, timeoutMs, true);
@@ -192,6 +308,7 @@ public class IProtoClientImpl implements IProtoClient {
 
     serverProtocolVersion = new CompletableFuture<>();
     serverFeatures = new CompletableFuture<>();
+    registerConnectionMetrics();
     return connection
         .connect(address, timeoutMs)
         .thenRun(
@@ -223,11 +340,45 @@ public class IProtoClientImpl implements IProtoClient {
       String user, String password, IProtoRequestOpts opts, IProtoAuth.AuthType authType) {
     Optional<Greeting> greeting = connection.getGreeting();
     if (!greeting.isPresent()) {
-      CompletableFuture<IProtoResponse> promise = new CompletableFuture<>();
-      promise.completeExceptionally(new ClientException("No greeting, connect firstly!"));
-      return promise;
+      return noGreeting();
     }
-    return runRequest(new IProtoAuth(user, password, greeting.get().getSalt(), authType), opts);
+    byte[] salt = greeting.get().getSalt();
+    if (authType == IProtoAuth.AuthType.PAP_SHA256) {
+      return runRequest(new IProtoAuth(user, password, salt, authType), opts);
+    }
+    return runAuth(() -> new IProtoAuth(user, PasswordHash.of(password), salt), opts);
+  }
+
+  @Override
+  public CompletableFuture<IProtoResponse> authorize(String user, PasswordHash passwordHash) {
+    return authorize(user, passwordHash, DEFAULT_REQUEST_OPTS);
+  }
+
+  @Override
+  public CompletableFuture<IProtoResponse> authorize(
+      String user, PasswordHash passwordHash, IProtoRequestOpts opts) {
+    Optional<Greeting> greeting = connection.getGreeting();
+    if (!greeting.isPresent()) {
+      return noGreeting();
+    }
+    byte[] salt = greeting.get().getSalt();
+    return runAuth(() -> new IProtoAuth(user, passwordHash, salt), opts);
+  }
+
+  private static CompletableFuture<IProtoResponse> noGreeting() {
+    CompletableFuture<IProtoResponse> promise = new CompletableFuture<>();
+    promise.completeExceptionally(new ClientException("No greeting, connect firstly!"));
+    return promise;
+  }
+
+  /**
+   * Computes the CHAP-SHA1 scramble on the {@link AuthExecutor}, so connections re-established at
+   * once do not load the event loop with hashing.
+   */
+  private CompletableFuture<IProtoResponse> runAuth(
+      Supplier<IProtoAuth> request, IProtoRequestOpts opts) {
+    return CompletableFuture.supplyAsync(request, AuthExecutor.shared())
+        .thenCompose(auth -> runRequest(auth, opts));
   }
 
   @Override
@@ -508,6 +659,40 @@ public class IProtoClientImpl implements IProtoClient {
     return runRequest(new IProtoCall(function, args, formats, opts.getStreamId()), opts);
   }
 
+  @Override
+  public CompletableFuture<IProtoResponse> request(
+      IProtoRequestTemplate template, ArrayValue payload) {
+    return request(template, payload, DEFAULT_REQUEST_OPTS);
+  }
+
+  @Override
+  public CompletableFuture<IProtoResponse> request(IProtoRequestTemplate template, byte[] payload) {
+    return request(template, payload, DEFAULT_REQUEST_OPTS);
+  }
+
+  @Override
+  public CompletableFuture<IProtoResponse> request(
+      IProtoRequestTemplate template, ArrayValue payload, IProtoRequestOpts opts) {
+    return runRequest(new IProtoTemplateRequest(template, payload, opts.getStreamId()), opts);
+  }
+
+  @Override
+  public CompletableFuture<IProtoResponse> request(
+      IProtoRequestTemplate template, byte[] payload, IProtoRequestOpts opts) {
+    return runRequest(new IProtoTemplateRequest(template, payload, opts.getStreamId()), opts);
+  }
+
+  @Override
+  public CompletableFuture<IProtoBatchResult> batch(
+      List<? extends IProtoRequest> requests, IProtoRequestOpts opts) {
+    return runBatch(requests, opts);
+  }
+
+  @Override
+  public CompletableFuture<IProtoBatchResult> batch(List<? extends IProtoRequest> requests) {
+    return batch(requests, DEFAULT_REQUEST_OPTS);
+  }
+
   @Override
   public CompletableFuture<IProtoResponse> eval(String expression, ArrayValue args) {
     return eval(expression, args, DEFAULT_REQUEST_OPTS);
@@ -700,6 +885,7 @@ public class IProtoClientImpl implements IProtoClient {
   @Override
   public void close() throws Exception {
     log.info("close connection {}", connection);
+    removeConnectionMetrics();
     connection.close();
   }
 
@@ -725,6 +911,12 @@ public class IProtoClientImpl implements IProtoClient {
     return this;
   }
 
+  @Override
+  public IProtoClient withLatencyEstimate(PeakEwma estimate) {
+    this.latencyEstimate = estimate;
+    return this;
+  }
+
   @Override
   public boolean isConnected() {
     return connection.isConnected();
@@ -799,6 +991,11 @@ public class IProtoClientImpl implements IProtoClient {
     return connection.isPaused();
   }
 
+  @Override
+  public int getInFlightRequests() {
+    return inFlightRequests.get();
+  }
+
   private synchronized void updateWatchers() {
     for (Map.Entry<String, Watcher> watcherEntry : watchers.entrySet()) {
       Watcher watcher = watchers.get(watcherEntry.getKey());
@@ -858,7 +1055,7 @@ public class IProtoClientImpl implements IProtoClient {
     if (fsm == null) {
       processIgnoredResponse(message);
       log.error("Client cannot handle this message: {}", message);
-    } else if (fsm.process(message)) {
+    } else if (process(fsm, message)) {
       fsmRegistry.remove(syncId);
       if (fsm.hasNextAction() && fsm.next() != null) {
         fsm.next().runOnce();
@@ -866,6 +1063,18 @@ public class IProtoClientImpl implements IProtoClient {
     }
   }
 
+  private boolean process(IProtoStateMachine fsm, IProtoResponse message) {
+    if (callbackTimer == null) {
+      return fsm.process(message);
+    }
+    long start = System.nanoTime();
+    try {
+      return fsm.process(message);
+    } finally {
+      callbackTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
   private void shutdownEventCallback(IProtoResponse response) {
     Value v = response.getBodyValue(IPROTO_EVENT_DATA);
     if (!v.equals(ImmutableBooleanValueImpl.TRUE)) {
@@ -879,6 +1088,24 @@ public class IProtoClientImpl implements IProtoClient {
     }
   }
 
+  private void handleFrameTooLong(FrameTooLongException exc) {
+    IProtoStateMachine fsm = exc.getSyncId() < 0 ? null : fsmRegistry.get(exc.getSyncId());
+    if (fsm == null) {
+      log.error("Skipped a frame not matching any request", exc);
+      return;
+    }
+    fsm.kill(exc);
+  }
+
+  private void handleEncodeFailure(RequestEncodeException exc) {
+    IProtoStateMachine fsm = fsmRegistry.get(exc.getSyncId());
+    if (fsm == null) {
+      log.error("Request not matching any state machine cannot be serialized", exc);
+      return;
+    }
+    fsm.kill(exc);
+  }
+
   private void handleClose(Connection conn, Throwable exc) {
     failAllRequests(exc);
     watchers.forEach(
@@ -902,33 +1129,216 @@ public class IProtoClientImpl implements IProtoClient {
     long syncId = allocateSyncIds(1);
     RequestStateMachine stateContext =
         new RequestStateMachine(
-            connection, syncId, request, resultPromise, opts, fsmRegistry, timerService, handlers);
+            connection, syncId, request, resultPromise, opts, fsmRegistry, deadlines, handlers);
 
-    // when completed stop timeout timer and metrics
+    // when completed stop timeout timer and metrics, then hand the result over to the caller
     LongTaskTimer.Sample finalCurrentRequest = currentRequest;
-    CompletableFuture<IProtoResponse> promiseWithStoppers =
-        resultPromise.whenComplete(
-            (IProtoResponse resp, Throwable ex) -> {
-              if (responseErrorCounter != null) {
-                if (finalCurrentRequest != null) {
-                  finalCurrentRequest.stop();
-                }
+    RequestFuture returned = new RequestFuture(stateContext, opts);
+    BiConsumer<IProtoResponse, Throwable> completer =
+        (IProtoResponse resp, Throwable ex) -> {
+          inFlightRequests.decrementAndGet();
+          if (responseErrorCounter != null) {
+            if (finalCurrentRequest != null) {
+              finalCurrentRequest.stop();
+            }
+            if (ex != null) {
+              responseErrorCounter.increment();
+            } else {
+              responseSuccessCounter.increment();
+            }
+          }
+          returned.completeWith(resp, ex);
+        };
+    inFlightRequests.incrementAndGet();
+    PeakEwma estimate = latencyEstimate;
+    if (estimate != null) {
+      // measured on the event loop, before the result is handed over to the completion executor
+      long startNanos = System.nanoTime();
+      resultPromise.whenComplete(
+          (resp, ex) -> {
+            if (ex == null || ex instanceof BoxError || ex instanceof TimeoutException) {
+              estimate.observe(System.nanoTime() - startNanos);
+            }
+          });
+    }
+    if (completionExecutor != null) {
+      // dependent stages of the returned future run on the executor instead of the event loop
+      resultPromise.whenCompleteAsync(completer, completionExecutor);
+    } else {
+      resultPromise.whenComplete(completer);
+    }
+
+    if (inFlightLimiter == null) {
+      stateContext.runOnce();
+    } else if (inFlightLimiter.tryAcquire(1)) {
+      admit(resultPromise, 1, stateContext::runOnce);
+    } else if (waitOnInFlightLimit) {
+      // the timeout runs while the request waits, so the queue is bounded by request timeouts
+      stateContext.scheduleDeadline();
+      inFlightLimiter.enqueue(
+          1,
+          () -> admitQueued(resultPromise, 1, stateContext::runOnce, stateContext::kill),
+          stateContext::kill);
+    } else {
+      stateContext.kill(inFlightLimitExceeded());
+    }
+    log.debug("Request \"{}\" created", request);
+
+    return returned;
+  }
+
+  /**
+   * Frees the slot and the deadline of a request whose future has been cancelled by the caller and
+   * rolls back its stream if the request options ask for it.
+   */
+  private void cancelRequest(RequestStateMachine stateContext, IProtoRequestOpts opts) {
+    stateContext.kill(new CancellationException("Request has been cancelled"));
+    Long streamId = opts.getStreamId();
+    if (!opts.isRollbackOnCancel() || streamId == null) {
+      return;
+    }
+    try {
+      rollback(streamId, IProtoRequestOpts.empty().withRequestTimeout(opts.getRequestTimeout()))
+          .whenComplete(
+              (resp, ex) -> {
                 if (ex != null) {
-                  responseErrorCounter.increment();
-                } else {
-                  responseSuccessCounter.increment();
+                  log.warn("Could not roll back stream {} of a cancelled request", streamId, ex);
                 }
+              });
+    } catch (IllegalStateException e) {
+      log.warn("Could not roll back stream {} of a cancelled request", streamId, e);
+    }
+  }
+
+  private CompletableFuture<IProtoBatchResult> runBatch(
+      List<? extends IProtoRequest> requests, IProtoRequestOpts opts) {
+    int count = requests.size();
+    if (requestCounter != null) {
+      requestCounter.increment(count);
+    }
+
+    // the whole range is reserved at once, so sync ids of the batch are contiguous
+    CompletableFuture<IProtoBatchResult> resultPromise = new CompletableFuture<>();
+    long firstSyncId = count == 0 ? 0 : allocateSyncIds(count) - count + 1;
+    BatchStateMachine batch =
+        new BatchStateMachine(
+            connection,
+            firstSyncId,
+            requests,
+            resultPromise,
+            opts,
+            fsmRegistry,
+            deadlines,
+            handlers);
+
+    inFlightRequests.addAndGet(count);
+    CompletableFuture<IProtoBatchResult> promiseWithStoppers =
+        resultPromise.whenComplete(
+            (IProtoBatchResult result, Throwable ex) -> {
+              inFlightRequests.addAndGet(-count);
+              if (responseErrorCounter != null && result != null) {
+                responseErrorCounter.increment(result.getFailedCount());
+                responseSuccessCounter.increment(result.size() - result.getFailedCount());
               }
             });
 
-    stateContext.runOnce();
-    log.debug("Request \"{}\" created", request);
+    if (inFlightLimiter == null || count == 0) {
+      batch.runOnce();
+    } else if (count > inFlightLimiter.getMaxInFlight()) {
+      resultPromise.completeExceptionally(
+          new InFlightLimitException(
+              String.format(
+                  "Batch of %d requests exceeds the in-flight limit of %d",
+                  count, inFlightLimiter.getMaxInFlight())));
+    } else if (inFlightLimiter.tryAcquire(count)) {
+      admit(resultPromise, count, batch::runOnce);
+    } else if (waitOnInFlightLimit) {
+      batch.scheduleDeadline();
+      // a failed write has already failed all requests of the batch
+      inFlightLimiter.enqueue(
+          count, () -> admitQueued(resultPromise, count, batch::runOnce, ex -> {}), batch::kill);
+    } else {
+      resultPromise.completeExceptionally(inFlightLimitExceeded());
+    }
+    log.debug("Batch of {} requests created", count);
 
+    if (completionExecutor != null) {
+      return promiseWithStoppers.whenCompleteAsync((result, ex) -> {}, completionExecutor);
+    }
     return promiseWithStoppers;
   }
 
+  /**
+   * Sends requests that have taken permits of the in-flight limiter; the permits are returned when
+   * the requests complete. Requests completed while waiting for permits, by timeout, cancel or
+   * close of the connection, are not sent.
+   */
+  private void admit(CompletableFuture<?> resultPromise, int permits, Runnable send) {
+    if (resultPromise.isDone()) {
+      inFlightLimiter.giveBack(permits);
+      return;
+    }
+    resultPromise.whenComplete((result, ex) -> inFlightLimiter.release(permits));
+    send.run();
+  }
+
+  /**
+   * Same as {@link #admit}, but for requests started by the limiter: a failed write cannot be
+   * thrown to the caller, so it fails the requests instead.
+   */
+  private void admitQueued(
+      CompletableFuture<?> resultPromise, int permits, Runnable send, Consumer<Throwable> fail) {
+    try {
+      admit(resultPromise, permits, send);
+    } catch (RuntimeException e) {
+      fail.accept(e);
+    }
+  }
+
+  private InFlightLimitException inFlightLimitExceeded() {
+    return new InFlightLimitException(
+        String.format(
+            "Connection has reached the limit of %d requests in flight or its outbound buffer"
+                + " is full",
+            inFlightLimiter.getMaxInFlight()));
+  }
+
+  /** Future returned by {@link #runRequest}: cancelling it releases the request at once. */
+  private final class RequestFuture extends CompletableFuture<IProtoResponse> {
+
+    private final RequestStateMachine stateContext;
+    private final IProtoRequestOpts opts;
+
+    private RequestFuture(RequestStateMachine stateContext, IProtoRequestOpts opts) {
+      this.stateContext = stateContext;
+      this.opts = opts;
+    }
+
+    private void completeWith(IProtoResponse resp, Throwable ex) {
+      if (ex != null) {
+        completeExceptionally(ex);
+      } else if (!complete(resp)) {
+        // cancelled while the response was on its way, nobody will release it
+        ReferenceCountUtil.release(resp);
+      }
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      boolean cancelled = super.cancel(mayInterruptIfRunning);
+      if (cancelled) {
+        cancelRequest(stateContext, opts);
+      }
+      return cancelled;
+    }
+  }
+
   private void failAllRequests(Throwable ex) {
-    fsmRegistry.values().forEach(a -> a.kill(ex));
+    if (inFlightLimiter != null) {
+      // waiting requests are not registered yet and would otherwise wait for their timeouts
+      inFlightLimiter.failWaiters(ex);
+    }
+    fsmRegistry.forEach(a -> a.kill(ex));
     fsmRegistry.clear();
   }
 
@@ -952,19 +1362,25 @@ public class IProtoClientImpl implements IProtoClient {
               if (ex != null) {
                 this.serverProtocolVersion.completeExceptionally(ex);
                 this.serverFeatures.completeExceptionally(ex);
+                return;
               }
-              this.serverProtocolVersion.complete(
-                  response.getBodyIntegerValue(IPROTO_VERSION).asInt());
-              ArrayValue rawFeatures = response.getBodyArrayValue(IPROTO_FEATURES);
-              EnumSet<IProtoFeature> serverFeatures = EnumSet.noneOf(IProtoFeature.class);
-              // Since there are a small number of features, the complexity is linear
-              for (Value rawFeature : rawFeatures) {
-                int featureNumber = rawFeature.asIntegerValue().asInt();
-                if (featureNumber < FEATURES_SET_ENUM.size()) {
-                  serverFeatures.add(IProtoFeature.valueOf(featureNumber));
+              try {
+                this.serverProtocolVersion.complete(
+                    response.getBodyIntegerValue(IPROTO_VERSION).asInt());
+                ArrayValue rawFeatures = response.getBodyArrayValue(IPROTO_FEATURES);
+                EnumSet<IProtoFeature> serverFeatures = EnumSet.noneOf(IProtoFeature.class);
+                // Since there are a small number of features, the complexity is linear
+                for (Value rawFeature : rawFeatures) {
+                  int featureNumber = rawFeature.asIntegerValue().asInt();
+                  if (featureNumber < FEATURES_SET_ENUM.size()) {
+                    serverFeatures.add(IProtoFeature.valueOf(featureNumber));
+                  }
                 }
+                this.serverFeatures.complete(serverFeatures);
+              } finally {
+                // zero-copy responses hold a slice of the inbound buffer
+                ReferenceCountUtil.release(response);
               }
-              this.serverFeatures.complete(serverFeatures);
             });
   }
 
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.core;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import io.tarantool.core.connection.Connection;
+
+/**
+ * Bounds the number of requests a client has in flight on its connection. A request takes one
+ * permit, a batch takes one permit per request; permits are returned when the requests complete.
+ * No permits are given while the outbound buffer of the connection is above its high water mark.
+ *
+ * <p>Requests that could not take permits may wait in a FIFO queue; they are started, in order,
+ * when permits are returned or the connection becomes writable again, see {@link #drain()}, and
+ * failed when the connection is closed, see {@link #failWaiters(Throwable)}.
+ */
+final class InFlightLimiter {
+
+  private final Connection connection;
+  private final int maxInFlight;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+  private final ReentrantLock drainLock = new ReentrantLock();
+
+  InFlightLimiter(Connection connection, int maxInFlight) {
+    this.connection = connection;
+    this.maxInFlight = maxInFlight;
+  }
+
+  /**
+   * Returns the maximum number of requests in flight.
+   *
+   * @return limit of the connection
+   */
+  int getMaxInFlight() {
+    return maxInFlight;
+  }
+
+  /**
+   * Returns the number of permits taken by requests in flight.
+   *
+   * @return requests in flight
+   */
+  int inFlight() {
+    return inFlight.get();
+  }
+
+  /**
+   * Takes permits if there is room and no request is waiting for it, so waiting requests are not
+   * overtaken.
+   *
+   * @param permits number of requests to send
+   * @return {@code true} if the permits are taken and the requests may be sent
+   */
+  boolean tryAcquire(int permits) {
+    return waiters.isEmpty() && acquire(permits);
+  }
+
+  /**
+   * Queues requests until permits are available. The start action is called without any lock held,
+   * either by this method or by the thread returning permits.
+   *
+   * @param permits number of requests to send
+   * @param start action sending the requests after the permits are taken
+   * @param fail action failing the requests if they are never started
+   */
+  void enqueue(int permits, Runnable start, Consumer<Throwable> fail) {
+    waiters.add(new Waiter(permits, start, fail));
+    drain();
+  }
+
+  /**
+   * Returns permits of completed requests and starts waiting requests that fit now.
+   *
+   * @param permits number of completed requests
+   */
+  void release(int permits) {
+    inFlight.addAndGet(-permits);
+    drain();
+  }
+
+  /**
+   * Returns permits of requests that were never sent, without starting waiting requests. Used by
+   * start actions, which run inside {@link #drain()} already.
+   *
+   * @param permits number of requests
+   */
+  void giveBack(int permits) {
+    inFlight.addAndGet(-permits);
+  }
+
+  /** Starts waiting requests, in order, while they fit into the limit. */
+  void drain() {
+    while (!waiters.isEmpty()) {
+      Waiter next;
+      drainLock.lock();
+      try {
+        next = waiters.peek();
+        if (next == null || !acquire(next.permits)) {
+          return;
+        }
+        waiters.poll();
+      } finally {
+        drainLock.unlock();
+      }
+      next.start.run();
+    }
+  }
+
+  /**
+   * Fails all waiting requests, e.g. when the connection is closed and they will never be sent. The
+   * fail actions are called without any lock held.
+   *
+   * @param ex cause of the failure
+   */
+  void failWaiters(Throwable ex) {
+    while (true) {
+      Waiter next;
+      drainLock.lock();
+      try {
+        next = waiters.poll();
+      } finally {
+        drainLock.unlock();
+      }
+      if (next == null) {
+        return;
+      }
+      next.fail.accept(ex);
+    }
+  }
+
+  private boolean acquire(int permits) {
+    if (!connection.isWritable()) {
+      return false;
+    }
+    while (true) {
+      int current = inFlight.get();
+      if (current + permits > maxInFlight) {
+        return false;
+      }
+      if (inFlight.compareAndSet(current, current + permits)) {
+        return true;
+      }
+    }
+  }
+
+  private static final class Waiter {
+
+    private final int permits;
+    private final Runnable start;
+    private final Consumer<Throwable> fail;
+
+    private Waiter(int permits, Runnable start, Consumer<Throwable> fail) {
+      this.permits = permits;
+      this.start = start;
+      this.fail = fail;
+    }
+  }
+}
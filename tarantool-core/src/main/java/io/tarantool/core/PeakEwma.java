@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Peak exponentially weighted moving average of response times of a connection.
+ *
+ * <p>A response slower than the current estimate replaces it at once, faster responses pull it
+ * down with a weight depending on the time since the previous sample: {@code exp(-elapsed /
+ * decay)}. So a node that starts to lag is noticed after one slow response, and it takes about
+ * {@code decay} of fast responses to trust it again. The estimate also decays towards zero while
+ * there are no samples, so a node that was slow once gets probed again after a while.
+ *
+ * <p>The estimate is read and updated by request threads and I/O threads at once, so it is kept in
+ * an immutable sample replaced by compare-and-set: readers never block and never write.
+ */
+public final class PeakEwma {
+
+  /** Default decay time, in nanoseconds. */
+  public static final long DEFAULT_DECAY_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+  private final double decayNanos;
+  private final LongSupplier clock;
+  private final AtomicReference<Sample> last;
+
+  public PeakEwma() {
+    this(DEFAULT_DECAY_NANOS);
+  }
+
+  /**
+   * Creates an estimate.
+   *
+   * @param decayNanos decay time in nanoseconds, must be greater than zero
+   */
+  public PeakEwma(long decayNanos) {
+    this(decayNanos, System::nanoTime);
+  }
+
+  PeakEwma(long decayNanos, LongSupplier clock) {
+    if (decayNanos <= 0) {
+      throw new IllegalArgumentException("decayNanos must be greater than zero");
+    }
+    this.decayNanos = decayNanos;
+    this.clock = clock;
+    this.last = new AtomicReference<>(new Sample(0, clock.getAsLong()));
+  }
+
+  /**
+   * Adds a response time to the estimate.
+   *
+   * @param rttNanos response time in nanoseconds
+   */
+  public void observe(long rttNanos) {
+    double sample = Math.max(0, rttNanos);
+    Sample current;
+    Sample next;
+    do {
+      current = last.get();
+      long now = clock.getAsLong();
+      double estimate;
+      if (sample > current.estimate) {
+        estimate = sample;
+      } else {
+        double weight = weight(current, now);
+        estimate = current.estimate * weight + sample * (1 - weight);
+      }
+      next = new Sample(estimate, now);
+    } while (!last.compareAndSet(current, next));
+  }
+
+  /**
+   * Returns the estimate decayed up to now. The decay is multiplicative, so reading does not need
+   * to store the decayed value.
+   *
+   * @return estimated response time in nanoseconds, {@code 0} if there were no samples
+   */
+  public double getNanos() {
+    Sample current = last.get();
+    return current.estimate * weight(current, clock.getAsLong());
+  }
+
+  private double weight(Sample sample, long now) {
+    return Math.exp(-Math.max(0, now - sample.stamp) / decayNanos);
+  }
+
+  /** Estimate with the time it was computed at, replaced as a whole by compare-and-set. */
+  private static final class Sample {
+
+    private final double estimate;
+    private final long stamp;
+
+    private Sample(double estimate, long stamp) {
+      this.estimate = estimate;
+      this.stamp = stamp;
+    }
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.core.connection;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.util.concurrent.DefaultThreadFactory;
+
+/**
+ * Shared executor for the CPU work of connection setup: the CHAP-SHA1 scramble of authentication
+ * requests and the delegated tasks of TLS handshakes.
+ *
+ * <p>When many connections are re-established at once, e.g. a pool reconnecting after a network
+ * failure, this work would otherwise run on the few event loop threads and delay responses of
+ * healthy connections. The executor has at most half of the available processors (between 1 and
+ * 4) of daemon threads, which stop after a minute without work.
+ */
+public final class AuthExecutor {
+
+  private static final long KEEP_ALIVE_SECONDS = 60;
+
+  private AuthExecutor() {}
+
+  /**
+   * Returns the shared executor, the threads are started on first use.
+   *
+   * @return bounded executor for authentication and handshake work
+   */
+  public static Executor shared() {
+    return Holder.INSTANCE;
+  }
+
+  private static final class Holder {
+
+    private static final Executor INSTANCE = create();
+
+    private static Executor create() {
+      int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+      ThreadPoolExecutor executor =
+          new ThreadPoolExecutor(
+              threads,
+              threads,
+              KEEP_ALIVE_SECONDS,
+              TimeUnit.SECONDS,
+              new LinkedBlockingQueue<>(),
+              new DefaultThreadFactory("tarantool-auth", true));
+      executor.allowCoreThreadTimeOut(true);
+      return executor;
+    }
+  }
+}
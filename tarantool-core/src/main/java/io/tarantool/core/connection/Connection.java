@@ -6,12 +6,16 @@
 package io.tarantool.core.connection;
 
 import java.net.InetSocketAddress;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
+import io.tarantool.core.connection.exceptions.FrameTooLongException;
+import io.tarantool.core.connection.exceptions.RequestEncodeException;
 import io.tarantool.core.protocol.IProtoMessage;
+import io.tarantool.core.protocol.IProtoRequest;
 import io.tarantool.core.protocol.IProtoResponse;
 
 public interface Connection extends AutoCloseable {
@@ -21,6 +25,45 @@ public interface Connection extends AutoCloseable {
 
   CompletableFuture<Void> send(IProtoMessage message) throws IllegalStateException;
 
+  /**
+   * Sends the message without tracking the completion of the write. Unlike {@link
+   * #send(IProtoMessage)} no future is allocated for the message, so the caller must have its own
+   * way to notice a lost message, e.g. a request timeout and the close listeners of the connection.
+   *
+   * @param message message to send
+   * @throws IllegalStateException if the connection is not established
+   */
+  default void write(IProtoMessage message) throws IllegalStateException {
+    send(message);
+  }
+
+  /**
+   * Sends the requests like {@link #write(IProtoMessage)}, but as one batch: the frames of all
+   * requests are encoded into one buffer and flushed once.
+   *
+   * @param requests requests to send, in order
+   * @throws IllegalStateException if the connection is not established
+   */
+  default void writeAll(List<? extends IProtoRequest> requests) throws IllegalStateException {
+    for (IProtoRequest request : requests) {
+      write(request);
+    }
+  }
+
+  /**
+   * Sends the requests like {@link #writeAll(List)}. A request that cannot be serialized is left
+   * out of the batch and passed to the listener, so its caller can be failed at once.
+   *
+   * @param requests requests to send, in order
+   * @param onEncodeFailure listener of requests that cannot be serialized, called on the I/O thread
+   * @throws IllegalStateException if the connection is not established
+   */
+  default void writeAll(
+      List<? extends IProtoRequest> requests, BiConsumer<IProtoRequest, Exception> onEncodeFailure)
+      throws IllegalStateException {
+    writeAll(requests);
+  }
+
   Connection listen(Consumer<IProtoResponse> listener);
 
   Connection onClose(ConnectionCloseEvent event, BiConsumer<Connection, Throwable> handler);
@@ -38,4 +81,58 @@ public interface Connection extends AutoCloseable {
   void setIdleTimeout(int idleTimeout);
 
   boolean isPaused();
+
+  /**
+   * Checks whether the outbound buffer of the connection is below its high water mark, i.e.
+   * whether new messages are written without queueing up in memory.
+   *
+   * @return {@code false} while the outbound buffer is above its high water mark
+   */
+  default boolean isWritable() {
+    return true;
+  }
+
+  /**
+   * Returns the number of bytes written to the connection but not yet sent to the socket.
+   *
+   * @return pending outbound bytes
+   */
+  default long getPendingWriteBytes() {
+    return 0;
+  }
+
+  /**
+   * Sets the listener called each time the connection becomes writable again, see {@link
+   * #isWritable()}. The listener is called on the I/O thread of the connection and must not block.
+   *
+   * @param listener writability listener
+   * @return this connection
+   */
+  default Connection onWritable(Runnable listener) {
+    return this;
+  }
+
+  /**
+   * Sets the listener called when an inbound frame is skipped because it exceeds {@link
+   * io.tarantool.core.connection.codecs.FrameCodecOptions#getMaxFrameSize()}. The listener is
+   * called on the I/O thread of the connection and must not block.
+   *
+   * @param listener listener of skipped frames
+   * @return this connection
+   */
+  default Connection onFrameTooLong(Consumer<FrameTooLongException> listener) {
+    return this;
+  }
+
+  /**
+   * Sets the listener called when a request sent by {@link #write(IProtoMessage)} cannot be
+   * serialized, so the request can be failed by its sync id at once. The listener is called on the
+   * I/O thread of the connection and must not block.
+   *
+   * @param listener listener of requests that cannot be serialized
+   * @return this connection
+   */
+  default Connection onEncodeFailure(Consumer<RequestEncodeException> listener) {
+    return this;
+  }
 }
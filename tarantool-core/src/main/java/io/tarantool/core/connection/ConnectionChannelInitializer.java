@@ -5,6 +5,7 @@
 
 package io.tarantool.core.connection;
 
+import java.net.InetSocketAddress;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
@@ -17,6 +18,7 @@ import io.netty.handler.flush.FlushConsolidationHandler;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.timeout.IdleStateHandler;
 
+import io.tarantool.core.connection.codecs.FrameCodecOptions;
 import io.tarantool.core.connection.codecs.IProtoFrameDecoder;
 import io.tarantool.core.connection.codecs.IProtoFrameEncoder;
 import io.tarantool.core.connection.handlers.GreetingHandler;
@@ -32,6 +34,9 @@ class ConnectionChannelInitializer extends ChannelInitializer<SocketChannel> {
   private final ChannelFutureListener closeHandler;
   private final FlushConsolidationHandler flushConsolidationHandler;
   private final int idleTimeout;
+  private final FrameCodecOptions codecOptions;
+  private final Runnable writabilityHandler;
+  private final InetSocketAddress remoteAddress;
 
   private ConnectionChannelInitializer(
       CompletableFuture<Greeting> promise,
@@ -39,13 +44,19 @@ class ConnectionChannelInitializer extends ChannelInitializer<SocketChannel> {
       SslContext sslContext,
       ChannelFutureListener closeHandler,
       FlushConsolidationHandler flushConsolidationHandler,
-      int idleTimeout) {
+      int idleTimeout,
+      FrameCodecOptions codecOptions,
+      Runnable writabilityHandler,
+      InetSocketAddress remoteAddress) {
     this.promise = promise;
     this.messageHandler = messageHandler;
     this.sslContext = sslContext;
     this.closeHandler = closeHandler;
     this.flushConsolidationHandler = flushConsolidationHandler;
     this.idleTimeout = idleTimeout;
+    this.codecOptions = codecOptions;
+    this.writabilityHandler = writabilityHandler;
+    this.remoteAddress = remoteAddress;
   }
 
   @Override
@@ -58,7 +69,20 @@ class ConnectionChannelInitializer extends ChannelInitializer<SocketChannel> {
     }
 
     if (this.sslContext != null) {
-      pipeline.addLast(this.sslContext.newHandler(socketChannel.alloc()));
+      // the peer address keys the session cache of the context, so reconnects resume the session;
+      // it also enables endpoint identification configured in the context, so it is passed only to
+      // contexts built by TlsOptions, which set it explicitly. Handshake computations are delegated
+      // off the event loop
+      boolean withPeer =
+          remoteAddress != null && sslContext instanceof TlsOptions.ResumableSslContext;
+      pipeline.addLast(
+          withPeer
+              ? sslContext.newHandler(
+                  socketChannel.alloc(),
+                  remoteAddress.getHostString(),
+                  remoteAddress.getPort(),
+                  AuthExecutor.shared())
+              : sslContext.newHandler(socketChannel.alloc(), AuthExecutor.shared()));
     }
 
     if (this.idleTimeout > 0) {
@@ -68,11 +92,14 @@ class ConnectionChannelInitializer extends ChannelInitializer<SocketChannel> {
     }
 
     pipeline.addLast("GreetingHandler", new GreetingHandler(promise));
-    pipeline.addLast("MessagePackFrameDecoder", new IProtoFrameDecoder());
+    pipeline.addLast(
+        "MessagePackFrameDecoder",
+        new IProtoFrameDecoder(codecOptions.isZeroCopyDecoding(), codecOptions.getMaxFrameSize()));
     pipeline.addLast("MessagePackFrameEncoder", new IProtoFrameEncoder());
     pipeline.addLast("OutgoingIProtoMessageHandler", new OutgoingIProtoMessageHandler());
     pipeline.addLast(
-        "IncomingIProtoMessageHandler", new IncomingIProtoMessageHandler(messageHandler));
+        "IncomingIProtoMessageHandler",
+        new IncomingIProtoMessageHandler(messageHandler, writabilityHandler));
   }
 
   public static class Builder {
@@ -83,6 +110,9 @@ class ConnectionChannelInitializer extends ChannelInitializer<SocketChannel> {
     private ChannelFutureListener closeHandler;
     private FlushConsolidationHandler flushConsolidationHandler = null;
     private int idleTimeout = -1;
+    private FrameCodecOptions codecOptions = FrameCodecOptions.defaults();
+    private Runnable writabilityHandler;
+    private InetSocketAddress remoteAddress;
 
     public Builder() {}
 
@@ -117,6 +147,21 @@ class ConnectionChannelInitializer extends ChannelInitializer<SocketChannel> {
       return this;
     }
 
+    public Builder withCodecOptions(FrameCodecOptions codecOptions) {
+      this.codecOptions = codecOptions;
+      return this;
+    }
+
+    public Builder withWritabilityHandler(Runnable writabilityHandler) {
+      this.writabilityHandler = writabilityHandler;
+      return this;
+    }
+
+    public Builder withRemoteAddress(InetSocketAddress remoteAddress) {
+      this.remoteAddress = remoteAddress;
+      return this;
+    }
+
     ConnectionChannelInitializer build() {
       return new ConnectionChannelInitializer(
           this.promise,
@@ -124,7 +169,10 @@ class ConnectionChannelInitializer extends ChannelInitializer<SocketChannel> {
           this.sslContext,
           this.closeHandler,
           this.flushConsolidationHandler,
-          this.idleTimeout);
+          this.idleTimeout,
+          this.codecOptions,
+          this.writabilityHandler,
+          this.remoteAddress);
     }
   }
 }
@@ -12,11 +12,14 @@ import io.netty.handler.flush.FlushConsolidationHandler;
 import io.netty.handler.ssl.SslContext;
 import io.netty.util.Timer;
 
+import io.tarantool.core.connection.codecs.FrameCodecOptions;
+
 public class ConnectionFactory {
 
   private final Bootstrap bootstrap;
   private final Timer timerService;
   private SslContext sslContext;
+  private FrameCodecOptions codecOptions = FrameCodecOptions.defaults();
 
   public ConnectionFactory(Bootstrap bootstrap, Timer timerService) {
     this.bootstrap = bootstrap;
@@ -29,8 +32,20 @@ public class ConnectionFactory {
     this.timerService = timerService;
   }
 
+  public ConnectionFactory(
+      Bootstrap bootstrap,
+      SslContext sslContext,
+      Timer timerService,
+      FrameCodecOptions codecOptions) {
+    this(bootstrap, sslContext, timerService);
+    if (codecOptions != null) {
+      this.codecOptions = codecOptions;
+    }
+  }
+
   public Connection create() {
-    return new ConnectionImpl(this.bootstrap.clone(), sslContext, timerService, null);
+    return new ConnectionImpl(
+        this.bootstrap.clone(), sslContext, timerService, null, (c, err) -> {}, codecOptions);
   }
 
   public Connection create(
@@ -41,13 +56,18 @@ public class ConnectionFactory {
         sslContext,
         timerService,
         flushConsolidationHandler,
-        idleTimeoutHandler);
+        idleTimeoutHandler,
+        codecOptions);
   }
 
   public Timer getTimerService() {
     return this.timerService;
   }
 
+  public FrameCodecOptions getCodecOptions() {
+    return codecOptions;
+  }
+
   public Bootstrap getBootstrap() {
     return bootstrap;
   }
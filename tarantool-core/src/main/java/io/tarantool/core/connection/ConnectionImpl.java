@@ -22,6 +22,8 @@ import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelOutboundBuffer;
+import io.netty.channel.ChannelPromise;
 import io.netty.handler.flush.FlushConsolidationHandler;
 import io.netty.handler.ssl.SslContext;
 import io.netty.util.Timeout;
@@ -29,10 +31,15 @@ import io.netty.util.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.tarantool.core.connection.codecs.FrameCodecOptions;
 import io.tarantool.core.connection.exceptions.ConnectionClosedException;
 import io.tarantool.core.connection.exceptions.ConnectionException;
+import io.tarantool.core.connection.exceptions.FrameTooLongException;
+import io.tarantool.core.connection.exceptions.RequestEncodeException;
 import io.tarantool.core.connection.exceptions.IdleTimeoutException;
 import io.tarantool.core.protocol.IProtoMessage;
+import io.tarantool.core.protocol.IProtoRequest;
+import io.tarantool.core.protocol.IProtoRequestBatch;
 import io.tarantool.core.protocol.IProtoResponse;
 
 /** The type Connection. */
@@ -111,11 +118,16 @@ public class ConnectionImpl implements Connection {
   private final Map<ConnectionCloseEvent, List<BiConsumer<Connection, Throwable>>> closeListeners;
   private final FlushConsolidationHandler flushConsolidationHandler;
   private final BiConsumer<Connection, Throwable> idleTimeoutConsumer;
+  private final FrameCodecOptions codecOptions;
 
   private Channel channel;
+  private WriteBatcher writeBatcher;
   private Greeting greeting;
   private final SslContext sslContext;
   private Consumer<IProtoResponse> consumer;
+  private volatile Runnable writableListener;
+  private volatile Consumer<FrameTooLongException> frameTooLongListener;
+  private volatile Consumer<RequestEncodeException> encodeFailureListener;
   private CompletableFuture<Greeting> connectPromise;
   private Timeout timeoutHandler;
   private int idleTimeout;
@@ -161,6 +173,32 @@ public class ConnectionImpl implements Connection {
       Timer timerService,
       FlushConsolidationHandler flushConsolidationHandler,
       BiConsumer<Connection, Throwable> idleTimeoutConsumer) {
+    this(
+        bootstrap,
+        sslContext,
+        timerService,
+        flushConsolidationHandler,
+        idleTimeoutConsumer,
+        FrameCodecOptions.defaults());
+  }
+
+  /**
+   * Instantiates a new Connection.
+   *
+   * @param bootstrap the bootstrap
+   * @param sslContext the ssl context
+   * @param timerService the timer service
+   * @param flushConsolidationHandler the flush consolidation handler
+   * @param idleTimeoutConsumer the consumer for errors of idle timeout
+   * @param codecOptions the frame codec options
+   */
+  protected ConnectionImpl(
+      Bootstrap bootstrap,
+      SslContext sslContext,
+      Timer timerService,
+      FlushConsolidationHandler flushConsolidationHandler,
+      BiConsumer<Connection, Throwable> idleTimeoutConsumer,
+      FrameCodecOptions codecOptions) {
     this.bootstrap = bootstrap;
     this.state = new AtomicReference<>(State.CLOSED);
     this.closedBy = new AtomicReference<>(CloseReason.NO_REASON);
@@ -169,6 +207,7 @@ public class ConnectionImpl implements Connection {
     this.timerService = timerService;
     this.flushConsolidationHandler = flushConsolidationHandler;
     this.idleTimeoutConsumer = idleTimeoutConsumer;
+    this.codecOptions = codecOptions;
   }
 
   @Override
@@ -199,11 +238,15 @@ public class ConnectionImpl implements Connection {
 
       channel =
           bootstrap
-              .handler(getInitializer(promise, sslContext))
+              .handler(getInitializer(promise, sslContext, address))
               .remoteAddress(address)
               .connect()
               .addListener(onChannelConnect(promise, address))
               .channel();
+      writeBatcher =
+          codecOptions.isWriteBatching()
+              ? new WriteBatcher(channel, codecOptions.getMaxWriteBatchSize())
+              : null;
     } else if (state.get() == State.CLOSING) {
       throw new IllegalStateException(state.get().getMessage());
     }
@@ -213,6 +256,80 @@ public class ConnectionImpl implements Connection {
 
   @Override
   public CompletableFuture<Void> send(IProtoMessage msg) throws IllegalStateException {
+    checkReady();
+
+    Channel current = channel;
+    CompletableFuture<Void> promise = new CompletableFuture<>();
+    ChannelPromise channelPromise = current.newPromise();
+    channelPromise.addListener(
+        f -> {
+          if (f.isSuccess()) {
+            log.debug("Message \"{}\" has been sent", msg);
+            completePromise(promise, null);
+            return;
+          }
+
+          failPromise(
+              promise, new ConnectionException(String.format(ERR_SEND_FAILURE, msg), f.cause()));
+        });
+
+    WriteBatcher batcher = writeBatcher;
+    if (batcher != null) {
+      batcher.write(msg, channelPromise);
+    } else {
+      current.writeAndFlush(msg, channelPromise);
+    }
+    return promise;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The message is written with the void promise of the channel. A request that cannot be
+   * serialized is passed to the {@link #onEncodeFailure(Consumer)} listener, other write failures
+   * close the connection and fail the requests waiting on it.
+   */
+  @Override
+  public void write(IProtoMessage msg) throws IllegalStateException {
+    checkReady();
+
+    WriteBatcher batcher = writeBatcher;
+    if (batcher != null) {
+      batcher.write(msg, null);
+    } else {
+      Channel current = channel;
+      current.writeAndFlush(msg, current.voidPromise());
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The batch is queued for write batching like a single message, so it keeps its order among
+   * the messages written before and after it.
+   */
+  @Override
+  public void writeAll(List<? extends IProtoRequest> requests) throws IllegalStateException {
+    writeAll(requests, null);
+  }
+
+  @Override
+  public void writeAll(
+      List<? extends IProtoRequest> requests, BiConsumer<IProtoRequest, Exception> onEncodeFailure)
+      throws IllegalStateException {
+    checkReady();
+
+    IProtoRequestBatch batch = new IProtoRequestBatch(requests, onEncodeFailure);
+    WriteBatcher batcher = writeBatcher;
+    if (batcher != null) {
+      batcher.write(batch, null);
+    } else {
+      Channel current = channel;
+      current.writeAndFlush(batch, current.voidPromise());
+    }
+  }
+
+  private void checkReady() {
     if (state.get() != State.READY) {
       String errorMessage;
       if (closedBy.get() != CloseReason.NO_REASON) {
@@ -222,24 +339,6 @@ public class ConnectionImpl implements Connection {
       }
       throw new IllegalStateException(errorMessage);
     }
-
-    CompletableFuture<Void> promise = new CompletableFuture<>();
-    channel
-        .writeAndFlush(msg)
-        .addListener(
-            f -> {
-              if (f.isSuccess()) {
-                log.debug("Message \"{}\" has been sent", msg);
-                completePromise(promise, null);
-                return;
-              }
-
-              failPromise(
-                  promise,
-                  new ConnectionException(String.format(ERR_SEND_FAILURE, msg), f.cause()));
-            });
-
-    return promise;
   }
 
   @Override
@@ -310,14 +409,58 @@ public class ConnectionImpl implements Connection {
     return !this.channel.config().isAutoRead();
   }
 
+  @Override
+  public boolean isWritable() {
+    Channel current = channel;
+    return current == null || current.isWritable();
+  }
+
+  @Override
+  public long getPendingWriteBytes() {
+    Channel current = channel;
+    if (current == null) {
+      return 0;
+    }
+    ChannelOutboundBuffer buffer = current.unsafe().outboundBuffer();
+    return buffer == null ? 0 : buffer.totalPendingWriteBytes();
+  }
+
+  @Override
+  public Connection onWritable(Runnable listener) {
+    this.writableListener = listener;
+    return this;
+  }
+
+  @Override
+  public Connection onFrameTooLong(Consumer<FrameTooLongException> listener) {
+    this.frameTooLongListener = listener;
+    return this;
+  }
+
+  @Override
+  public Connection onEncodeFailure(Consumer<RequestEncodeException> listener) {
+    this.encodeFailureListener = listener;
+    return this;
+  }
+
+  private void onChannelWritable() {
+    Runnable listener = writableListener;
+    if (listener != null) {
+      listener.run();
+    }
+  }
+
   private ConnectionChannelInitializer getInitializer(
-      CompletableFuture<Greeting> promise, SslContext sslContext) {
+      CompletableFuture<Greeting> promise, SslContext sslContext, InetSocketAddress address) {
     ConnectionChannelInitializer.Builder initializerBuilder =
         new ConnectionChannelInitializer.Builder()
             .withConnectPromise(promise)
             .withMessageHandler(this::handleMessage)
             .withFlushConsolidationHandler(flushConsolidationHandler)
             .withCloseHandler(this::onChannelClose)
+            .withCodecOptions(codecOptions)
+            .withWritabilityHandler(this::onChannelWritable)
+            .withRemoteAddress(address)
             .withIdleTimeout(this.idleTimeout);
 
     if (sslContext == null) {
@@ -374,6 +517,7 @@ public class ConnectionImpl implements Connection {
     }
     state.set(State.CLOSED);
     channel = null;
+    writeBatcher = null;
     connectPromise = null;
   }
 
@@ -443,6 +587,20 @@ public class ConnectionImpl implements Connection {
       idleTimeoutConsumer.accept(this, exc);
       return;
     }
+    if (exc instanceof FrameTooLongException) {
+      Consumer<FrameTooLongException> listener = frameTooLongListener;
+      if (listener != null) {
+        listener.accept((FrameTooLongException) exc);
+      }
+      return;
+    }
+    if (exc instanceof RequestEncodeException) {
+      Consumer<RequestEncodeException> listener = encodeFailureListener;
+      if (listener != null) {
+        listener.accept((RequestEncodeException) exc);
+      }
+      return;
+    }
     if (message != null) {
       consumer.accept(message);
     }
@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.core.connection;
+
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLException;
+import javax.net.ssl.TrustManagerFactory;
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+
+import io.netty.handler.ssl.DelegatingSslContext;
+import io.netty.handler.ssl.OpenSsl;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslProvider;
+
+/**
+ * Client-side TLS settings from which the {@link SslContext} of connections is built.
+ *
+ * <p>Connections resume TLS sessions: the context caches sessions (and TLSv1.3 tickets) per server
+ * address, so a reconnect to the same server does an abbreviated handshake without the key
+ * exchange and certificate verification. When netty-tcnative (e.g. {@code
+ * netty-tcnative-boringssl-static}) is on the classpath, the OpenSSL provider is preferred over the
+ * JDK one, which makes both handshakes and per-record encryption considerably cheaper.
+ *
+ * <p>Only contexts built here are given the server address, which keys the session cache. A context
+ * passed with {@code withSslContext} is used without it, as before, so its endpoint identification
+ * settings are not enabled implicitly.
+ */
+public final class TlsOptions {
+
+  /**
+   * Context built from {@link TlsOptions}. Its endpoint identification is set explicitly, so its
+   * handlers may be created with the server address to resume sessions.
+   */
+  static final class ResumableSslContext extends DelegatingSslContext {
+
+    ResumableSslContext(SslContext context) {
+      super(context);
+    }
+
+    @Override
+    protected void initEngine(SSLEngine engine) {}
+  }
+
+  public static class Builder {
+
+    private File trustCertCollection;
+    private TrustManagerFactory trustManagerFactory;
+    private File keyCertChain;
+    private File key;
+    private String[] protocols;
+    private List<String> ciphers;
+    private long sessionCacheSize = DEFAULT_SESSION_CACHE_SIZE;
+    private long sessionTimeout = 0;
+    private boolean preferOpenSsl = true;
+    private boolean hostnameVerification = true;
+
+    /**
+     * Sets the certificates trusted to verify the server, in PEM format.
+     *
+     * <p><i><b>Default</b></i>: the trust store of the JVM.
+     *
+     * @param trustCertCollection file with X.509 certificates
+     * @return this builder
+     */
+    public Builder withTrustCertCollection(File trustCertCollection) {
+      this.trustCertCollection = trustCertCollection;
+      this.trustManagerFactory = null;
+      return this;
+    }
+
+    /**
+     * Sets the trust managers verifying the server.
+     *
+     * <p><i><b>Default</b></i>: the trust store of the JVM.
+     *
+     * @param trustManagerFactory factory of trust managers
+     * @return this builder
+     */
+    public Builder withTrustManagerFactory(TrustManagerFactory trustManagerFactory) {
+      this.trustManagerFactory = trustManagerFactory;
+      this.trustCertCollection = null;
+      return this;
+    }
+
+    /**
+     * Sets the client certificate and its key for mutual TLS, in PEM format.
+     *
+     * @param keyCertChain file with the X.509 certificate chain
+     * @param key file with the PKCS#8 private key
+     * @return this builder
+     */
+    public Builder withKeyManager(File keyCertChain, File key) {
+      this.keyCertChain = keyCertChain;
+      this.key = key;
+      return this;
+    }
+
+    /**
+     * Sets the enabled TLS protocol versions, e.g. {@code "TLSv1.3"}.
+     *
+     * <p><i><b>Default</b></i>: the defaults of the provider.
+     *
+     * @param protocols protocol versions
+     * @return this builder
+     */
+    public Builder withProtocols(String... protocols) {
+      this.protocols = protocols == null ? null : protocols.clone();
+      return this;
+    }
+
+    /**
+     * Sets the enabled cipher suites.
+     *
+     * <p><i><b>Default</b></i>: the defaults of the provider.
+     *
+     * @param ciphers cipher suites
+     * @return this builder
+     */
+    public Builder withCiphers(String... ciphers) {
+      this.ciphers = ciphers == null ? null : Arrays.asList(ciphers.clone());
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of cached sessions available for resumption.
+     *
+     * <p><i><b>Default</b></i>: {@code 1024}.
+     *
+     * @param sessionCacheSize maximum number of sessions, must be greater than zero
+     * @return this builder
+     */
+    public Builder withSessionCacheSize(long sessionCacheSize) {
+      if (sessionCacheSize <= 0) {
+        throw new IllegalArgumentException("sessionCacheSize must be greater than zero");
+      }
+      this.sessionCacheSize = sessionCacheSize;
+      return this;
+    }
+
+    /**
+     * Sets how long a cached session may be resumed.
+     *
+     * <p><i><b>Default</b></i>: {@code 0}, the default of the provider.
+     *
+     * @param sessionTimeout timeout in seconds, {@code 0} means the default of the provider
+     * @return this builder
+     */
+    public Builder withSessionTimeout(long sessionTimeout) {
+      if (sessionTimeout < 0) {
+        throw new IllegalArgumentException("sessionTimeout must not be negative");
+      }
+      this.sessionTimeout = sessionTimeout;
+      return this;
+    }
+
+    /**
+     * Chooses whether the OpenSSL provider of netty-tcnative is used when it is available. When it
+     * is not, or when disabled, the JDK provider is used.
+     *
+     * <p><i><b>Default</b></i>: {@code true}.
+     *
+     * @param preferOpenSsl {@code false} to always use the JDK provider
+     * @return this builder
+     */
+    public Builder withPreferOpenSsl(boolean preferOpenSsl) {
+      this.preferOpenSsl = preferOpenSsl;
+      return this;
+    }
+
+    /**
+     * Chooses whether the server certificate must match the host name or IP address the client
+     * connects to.
+     *
+     * <p><i><b>Default</b></i>: {@code true}.
+     *
+     * @param hostnameVerification {@code false} to only check the certificate chain
+     * @return this builder
+     */
+    public Builder withHostnameVerification(boolean hostnameVerification) {
+      this.hostnameVerification = hostnameVerification;
+      return this;
+    }
+
+    public TlsOptions build() {
+      return new TlsOptions(
+          trustCertCollection,
+          trustManagerFactory,
+          keyCertChain,
+          key,
+          protocols,
+          ciphers,
+          sessionCacheSize,
+          sessionTimeout,
+          preferOpenSsl,
+          hostnameVerification);
+    }
+  }
+
+  private static final long DEFAULT_SESSION_CACHE_SIZE = 1024;
+
+  private final File trustCertCollection;
+  private final TrustManagerFactory trustManagerFactory;
+  private final File keyCertChain;
+  private final File key;
+  private final String[] protocols;
+  private final List<String> ciphers;
+  private final long sessionCacheSize;
+  private final long sessionTimeout;
+  private final boolean preferOpenSsl;
+  private final boolean hostnameVerification;
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  private TlsOptions(
+      File trustCertCollection,
+      TrustManagerFactory trustManagerFactory,
+      File keyCertChain,
+      File key,
+      String[] protocols,
+      List<String> ciphers,
+      long sessionCacheSize,
+      long sessionTimeout,
+      boolean preferOpenSsl,
+      boolean hostnameVerification) {
+    this.trustCertCollection = trustCertCollection;
+    this.trustManagerFactory = trustManagerFactory;
+    this.keyCertChain = keyCertChain;
+    this.key = key;
+    this.protocols = protocols;
+    this.ciphers = ciphers;
+    this.sessionCacheSize = sessionCacheSize;
+    this.sessionTimeout = sessionTimeout;
+    this.preferOpenSsl = preferOpenSsl;
+    this.hostnameVerification = hostnameVerification;
+  }
+
+  /**
+   * Returns the provider the context is built with.
+   *
+   * @return {@link SslProvider#OPENSSL} if it is preferred and available, {@link SslProvider#JDK}
+   *     otherwise
+   */
+  public SslProvider getProvider() {
+    return preferOpenSsl && OpenSsl.isAvailable() ? SslProvider.OPENSSL : SslProvider.JDK;
+  }
+
+  public long getSessionCacheSize() {
+    return sessionCacheSize;
+  }
+
+  public long getSessionTimeout() {
+    return sessionTimeout;
+  }
+
+  public boolean isPreferOpenSsl() {
+    return preferOpenSsl;
+  }
+
+  public boolean isHostnameVerification() {
+    return hostnameVerification;
+  }
+
+  /**
+   * Builds a client context. Every call builds a new context with its own session cache, so
+   * connections should share one context to resume sessions.
+   *
+   * @return client {@link SslContext}
+   * @throws SSLException if certificates or keys cannot be loaded
+   */
+  public SslContext createSslContext() throws SSLException {
+    SslContextBuilder builder =
+        SslContextBuilder.forClient()
+            .sslProvider(getProvider())
+            .sessionCacheSize(sessionCacheSize)
+            .sessionTimeout(sessionTimeout)
+            .endpointIdentificationAlgorithm(hostnameVerification ? "HTTPS" : null);
+    if (trustManagerFactory != null) {
+      builder.trustManager(trustManagerFactory);
+    } else if (trustCertCollection != null) {
+      builder.trustManager(trustCertCollection);
+    }
+    if (keyCertChain != null) {
+      builder.keyManager(keyCertChain, key);
+    }
+    if (protocols != null) {
+      builder.protocols(protocols);
+    }
+    if (ciphers != null) {
+      builder.ciphers(ciphers);
+    }
+    return new ResumableSslContext(builder.build());
+  }
+}
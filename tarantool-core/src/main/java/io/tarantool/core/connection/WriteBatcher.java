@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.core.connection;
+
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelPromise;
+import io.netty.util.internal.PlatformDependent;
+
+/**
+ * Coalesces messages sent to a channel from any thread into batched writes.
+ *
+ * <p>Messages are put into a multi-producer single-consumer queue, and a single drain task is
+ * scheduled on the event loop of the channel when the queue becomes non-empty. The task writes all
+ * queued messages and flushes them once. The size of a batch therefore follows the load: under a
+ * light load every message is flushed on its own without any added delay, and under a heavy load
+ * all messages submitted while the previous batch was being written go out with a single syscall.
+ * A batch is limited by {@code maxBatchSize}, the rest is left to the next run of the task so
+ * reads of the channel are not starved.
+ */
+final class WriteBatcher implements Runnable {
+
+  private final Channel channel;
+  private final int maxBatchSize;
+  private final Queue<Object> queue = PlatformDependent.newMpscQueue();
+  private final AtomicBoolean scheduled = new AtomicBoolean();
+
+  /**
+   * Creates a batcher for the channel.
+   *
+   * @param channel channel to write to
+   * @param maxBatchSize maximum number of messages written between two flushes
+   */
+  WriteBatcher(Channel channel, int maxBatchSize) {
+    this.channel = channel;
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  /**
+   * Queues the message to be written by the next batch.
+   *
+   * @param message message or batch of requests to write
+   * @param promise promise completed when the message is written, or {@code null} if the caller
+   *     does not track the write; a failed write of such a message is reported to the pipeline
+   */
+  void write(Object message, ChannelPromise promise) {
+    queue.offer(promise == null ? message : new PendingWrite(message, promise));
+    if (scheduled.compareAndSet(false, true)) {
+      channel.eventLoop().execute(this);
+    }
+  }
+
+  @Override
+  public void run() {
+    int written = 0;
+    Object next;
+    while (written < maxBatchSize && (next = queue.poll()) != null) {
+      if (next instanceof PendingWrite) {
+        PendingWrite pending = (PendingWrite) next;
+        channel.write(pending.message, pending.promise);
+      } else {
+        channel.write(next, channel.voidPromise());
+      }
+      written++;
+    }
+    if (written > 0) {
+      channel.flush();
+    }
+    scheduled.set(false);
+    if (!queue.isEmpty() && scheduled.compareAndSet(false, true)) {
+      channel.eventLoop().execute(this);
+    }
+  }
+
+  private static final class PendingWrite {
+
+    private final Object message;
+    private final ChannelPromise promise;
+
+    private PendingWrite(Object message, ChannelPromise promise) {
+      this.message = message;
+      this.promise = promise;
+    }
+  }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.core.connection.codecs;
+
+/**
+ * Settings of the IProto frame codecs installed into every connection pipeline, of the way frames
+ * are written to it and of how many requests may wait for responses on it.
+ *
+ * @see IProtoFrameDecoder
+ */
+public final class FrameCodecOptions {
+
+  private static final FrameCodecOptions DEFAULT = builder().build();
+
+  public static class Builder {
+
+    private boolean zeroCopyDecoding = false;
+    private int maxFrameSize = DEFAULT_MAX_FRAME_SIZE;
+    private boolean writeBatching = false;
+    private int maxWriteBatchSize = DEFAULT_MAX_WRITE_BATCH_SIZE;
+    private int maxInFlightRequests = 0;
+    private boolean waitOnInFlightLimit = false;
+
+    /**
+     * Enables zero-copy decoding. Instead of copying every frame into a fresh {@code byte[]} the
+     * decoder keeps a retained slice of the inbound buffer inside the response and reads the
+     * header fields without building a {@link org.msgpack.value.MapValue}.
+     *
+     * <p>Responses decoded in this mode are {@link io.netty.util.ReferenceCounted reference
+     * counted}: a response that completes a request future is handed over to its consumer, which
+     * must release it once mapping is done. The Jackson mapping helpers do this automatically.
+     * Slices of heap buffers are mapped without any copy. Netty reads sockets into pooled direct
+     * buffers by default, and the Jackson mapper reads only byte arrays, so values of direct slices
+     * are still copied once, value by value, when mapped; the frame itself is not copied. Custom
+     * readers avoid this copy through {@link
+     * io.tarantool.core.protocol.ByteBodyValueWrapper#getByteBuffer()}.
+     *
+     * <p><i><b>Default</b></i>: {@code false}.
+     *
+     * @param zeroCopyDecoding {@code true} to enable zero-copy decoding
+     * @return this builder
+     */
+    public Builder withZeroCopyDecoding(boolean zeroCopyDecoding) {
+      this.zeroCopyDecoding = zeroCopyDecoding;
+      return this;
+    }
+
+    /**
+     * Sets the maximum size of an inbound frame. Larger frames are skipped without being buffered
+     * and the request waiting for such a frame fails at once with {@link
+     * io.tarantool.core.connection.exceptions.FrameTooLongException}, so a malformed or unexpectedly
+     * huge response cannot exhaust the heap. A limit well above the largest expected response, e.g.
+     * 16 MiB, is a reasonable choice.
+     *
+     * <p><i><b>Default</b></i>: {@link #DEFAULT_MAX_FRAME_SIZE}, frames are not limited.
+     *
+     * @param maxFrameSize maximum frame size in bytes, must be greater than zero
+     * @return this builder
+     */
+    public Builder withMaxFrameSize(int maxFrameSize) {
+      if (maxFrameSize <= 0) {
+        throw new IllegalArgumentException("maxFrameSize must be greater than zero");
+      }
+      this.maxFrameSize = maxFrameSize;
+      return this;
+    }
+
+    /**
+     * Enables adaptive write batching. Requests sent from any thread are queued and written by a
+     * single task of the connection event loop, which flushes everything queued since its previous
+     * run at once. Under a light load every request is flushed immediately, under a heavy load
+     * requests are coalesced into large writes without any manual tuning, unlike {@link
+     * io.netty.handler.flush.FlushConsolidationHandler}.
+     *
+     * <p><i><b>Default</b></i>: {@code false}.
+     *
+     * @param writeBatching {@code true} to enable write batching
+     * @return this builder
+     */
+    public Builder withWriteBatching(boolean writeBatching) {
+      this.writeBatching = writeBatching;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of requests written between two flushes when write batching is
+     * enabled. Requests above the limit are written by the next run of the batching task, so a
+     * burst of writes does not delay reading of responses.
+     *
+     * <p><i><b>Default</b></i>: {@code 128}.
+     *
+     * @param maxWriteBatchSize maximum batch size, must be greater than zero
+     * @return this builder
+     * @see #withWriteBatching(boolean)
+     */
+    public Builder withMaxWriteBatchSize(int maxWriteBatchSize) {
+      if (maxWriteBatchSize <= 0) {
+        throw new IllegalArgumentException("maxWriteBatchSize must be greater than zero");
+      }
+      this.maxWriteBatchSize = maxWriteBatchSize;
+      return this;
+    }
+
+    /**
+     * Limits the number of requests of a connection waiting for responses. While the limit is
+     * reached, and also while the outbound buffer of the channel is above its high water mark (see
+     * {@link io.netty.channel.ChannelOption#WRITE_BUFFER_WATER_MARK}), new requests are not
+     * written: they fail at once or wait, see {@link #withWaitOnInFlightLimit(boolean)}. A stalled
+     * server then cannot make the client accumulate requests and outbound bytes without bound.
+     *
+     * <p><i><b>Default</b></i>: {@code 0}, no limit.
+     *
+     * @param maxInFlightRequests maximum number of requests in flight, {@code 0} disables the limit
+     * @return this builder
+     */
+    public Builder withMaxInFlightRequests(int maxInFlightRequests) {
+      if (maxInFlightRequests < 0) {
+        throw new IllegalArgumentException("maxInFlightRequests must not be negative");
+      }
+      this.maxInFlightRequests = maxInFlightRequests;
+      return this;
+    }
+
+    /**
+     * Chooses what happens to a request that cannot be written because of the in-flight limit. By
+     * default its future fails at once with {@link
+     * io.tarantool.core.exceptions.InFlightLimitException}. If waiting is enabled, the request is
+     * queued and written as soon as a response or the drained outbound buffer frees room; its
+     * timeout runs while it waits, so the queue cannot outlive the request timeouts.
+     *
+     * <p><i><b>Default</b></i>: {@code false}.
+     *
+     * @param waitOnInFlightLimit {@code true} to queue requests instead of failing them
+     * @return this builder
+     * @see #withMaxInFlightRequests(int)
+     */
+    public Builder withWaitOnInFlightLimit(boolean waitOnInFlightLimit) {
+      this.waitOnInFlightLimit = waitOnInFlightLimit;
+      return this;
+    }
+
+    public FrameCodecOptions build() {
+      return new FrameCodecOptions(
+          zeroCopyDecoding,
+          maxFrameSize,
+          writeBatching,
+          maxWriteBatchSize,
+          maxInFlightRequests,
+          waitOnInFlightLimit);
+    }
+  }
+
+  /** Default maximum size of an inbound frame, the largest frame a buffer can hold. */
+  public static final int DEFAULT_MAX_FRAME_SIZE = Integer.MAX_VALUE;
+
+  private static final int DEFAULT_MAX_WRITE_BATCH_SIZE = 128;
+
+  private final boolean zeroCopyDecoding;
+  private final int maxFrameSize;
+  private final boolean writeBatching;
+  private final int maxWriteBatchSize;
+  private final int maxInFlightRequests;
+  private final boolean waitOnInFlightLimit;
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Returns options with all settings set to their defaults.
+   *
+   * @return default options
+   */
+  public static FrameCodecOptions defaults() {
+    return DEFAULT;
+  }
+
+  private FrameCodecOptions(
+      boolean zeroCopyDecoding,
+      int maxFrameSize,
+      boolean writeBatching,
+      int maxWriteBatchSize,
+      int maxInFlightRequests,
+      boolean waitOnInFlightLimit) {
+    this.zeroCopyDecoding = zeroCopyDecoding;
+    this.maxFrameSize = maxFrameSize;
+    this.writeBatching = writeBatching;
+    this.maxWriteBatchSize = maxWriteBatchSize;
+    this.maxInFlightRequests = maxInFlightRequests;
+    this.waitOnInFlightLimit = waitOnInFlightLimit;
+  }
+
+  public boolean isZeroCopyDecoding() {
+    return zeroCopyDecoding;
+  }
+
+  public int getMaxFrameSize() {
+    return maxFrameSize;
+  }
+
+  public boolean isWriteBatching() {
+    return writeBatching;
+  }
+
+  public int getMaxWriteBatchSize() {
+    return maxWriteBatchSize;
+  }
+
+  public int getMaxInFlightRequests() {
+    return maxInFlightRequests;
+  }
+
+  public boolean isWaitOnInFlightLimit() {
+    return waitOnInFlightLimit;
+  }
+}
@@ -5,79 +5,211 @@
 
 package io.tarantool.core.connection.codecs;
 
-import java.io.IOException;
 import java.util.List;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
-import io.netty.handler.codec.ReplayingDecoder;
-import org.msgpack.core.MessagePack;
-import org.msgpack.core.MessageUnpacker;
-import org.msgpack.value.MapValue;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.CorruptedFrameException;
+import io.netty.handler.codec.DecoderException;
 
+import static io.tarantool.core.protocol.requests.IProtoConstant.IPROTO_REQUEST_TYPE;
+import static io.tarantool.core.protocol.requests.IProtoConstant.IPROTO_SCHEMA_VERSION;
+import static io.tarantool.core.protocol.requests.IProtoConstant.IPROTO_SYNC_ID;
+import io.tarantool.core.connection.exceptions.FrameTooLongException;
 import io.tarantool.core.protocol.IProtoRawResponse;
+import io.tarantool.core.protocol.MessagePackCursor;
 
 /**
  * Converts Tarantool server responses from MessagePack frames to Java objects
  *
+ * <p>Every frame is prefixed with its size encoded as MP_UINT32. The decoder peeks at the prefix
+ * and does nothing until the whole frame is readable, so a large response spread over many TCP
+ * segments is decoded exactly once. Frames larger than {@link
+ * FrameCodecOptions#getMaxFrameSize()} are skipped without being buffered and reported with {@link
+ * FrameTooLongException} carrying the sync id read from their header, so the request waiting for
+ * such a frame fails at once.
+ *
+ * <p>In zero-copy mode (see {@link FrameCodecOptions#isZeroCopyDecoding()}) a frame is not
+ * copied: the response keeps a retained slice of the inbound buffer and the header fields are read
+ * in place.
+ *
+ * <p>In both modes the header is walked once in place and only the fields needed to route the
+ * response are kept, as primitives. No MessagePack values are created while decoding.
+ *
  * @author Ivan Bannikov
  * @author Artyom Dubinin
  */
-public class IProtoFrameDecoder extends ReplayingDecoder<IProtoFrameDecoder.DecoderState> {
-
-  protected enum DecoderState {
-    LENGTH,
-    BODY
-  }
+public class IProtoFrameDecoder extends ByteToMessageDecoder {
 
   private static final int MINIMAL_HEADER_SIZE = 5; // MP_UINT32
-  private int size;
+  private static final int MP_UINT32 = 0xce;
+  // an IProto header is a few dozen bytes, a longer one is not waited for
+  private static final int MAX_HEADER_PEEK = 1024;
+  private final boolean zeroCopy;
+  private final int maxFrameSize;
+  private long bytesToDiscard;
+  // fields of the last header read by readHeader, the decoder is used by one event loop thread
+  private boolean hasSyncId;
+  private long syncId;
+  private long requestType;
+  private long schemaVersion;
 
   public IProtoFrameDecoder() {
-    super(DecoderState.LENGTH);
+    this(false);
+  }
+
+  public IProtoFrameDecoder(boolean zeroCopy) {
+    this(zeroCopy, FrameCodecOptions.DEFAULT_MAX_FRAME_SIZE);
+  }
+
+  public IProtoFrameDecoder(boolean zeroCopy, int maxFrameSize) {
+    if (maxFrameSize <= 0) {
+      throw new IllegalArgumentException("maxFrameSize must be greater than zero");
+    }
+    this.zeroCopy = zeroCopy;
+    this.maxFrameSize = maxFrameSize;
   }
 
   @Override
   protected void decode(ChannelHandlerContext ctx, ByteBuf byteBuf, List<Object> list)
       throws Exception {
+    if (bytesToDiscard > 0) {
+      discard(byteBuf);
+      return;
+    }
 
-    switch (state()) {
-      case LENGTH:
-        readSize(byteBuf);
-        checkpoint(DecoderState.BODY);
-      case BODY:
-        readPacket(byteBuf, list);
-        checkpoint(DecoderState.LENGTH);
-        break;
-      default:
-        throw new Error("Shouldn't reach here.");
+    if (byteBuf.readableBytes() < MINIMAL_HEADER_SIZE) {
+      return;
     }
-  }
 
-  private void readSize(ByteBuf buf) throws IOException {
-    // we don't need to check readable bytes because we use replayingBuffer
-    // and readBytes is non-blocking method
-    byte mpSize[] = new byte[MINIMAL_HEADER_SIZE];
-    buf.readBytes(mpSize, 0, MINIMAL_HEADER_SIZE);
-    try (MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(mpSize)) {
-      size = unpacker.unpackInt();
+    int start = byteBuf.readerIndex();
+    int format = byteBuf.getUnsignedByte(start);
+    if (format != MP_UINT32) {
+      ctx.close();
+      throw new CorruptedFrameException(
+          String.format("Expected MP_UINT32 frame size, got format byte 0x%02x", format));
+    }
+
+    long size = byteBuf.getUnsignedInt(start + 1);
+    if (size > maxFrameSize) {
+      if (!peekHeader(byteBuf, start + MINIMAL_HEADER_SIZE, size)) {
+        return;
+      }
+      byteBuf.skipBytes(MINIMAL_HEADER_SIZE);
+      bytesToDiscard = size;
+      discard(byteBuf);
+      throw new FrameTooLongException(hasSyncId ? syncId : -1, size, maxFrameSize);
     }
-  }
 
-  private void readPacket(ByteBuf buf, List<Object> list) throws IOException {
-    if (size <= 0) {
+    if (byteBuf.readableBytes() - MINIMAL_HEADER_SIZE < size) {
       return;
     }
 
-    // we don't need to check readable bytes because we use replayingBuffer
-    // and readBytes is non-blocking method
-    byte packet[] = new byte[size];
+    byteBuf.skipBytes(MINIMAL_HEADER_SIZE);
+    if (size == 0) {
+      return;
+    }
+
+    if (zeroCopy) {
+      readFrame(byteBuf, (int) size, list);
+    } else {
+      readPacket(byteBuf, (int) size, list);
+    }
+  }
+
+  private void discard(ByteBuf buf) {
+    int skip = (int) Math.min(bytesToDiscard, buf.readableBytes());
+    buf.skipBytes(skip);
+    bytesToDiscard -= skip;
+  }
+
+  /**
+   * Reads the header of a frame without moving the reader index, so the sync id of a frame that is
+   * skipped is known. A header that cannot be read leaves the frame without a sync id.
+   *
+   * @param buf buffer holding the frame
+   * @param offset index of the header in the buffer
+   * @param size size of the frame
+   * @return {@code false} if more bytes are needed to read the header
+   */
+  private boolean peekHeader(ByteBuf buf, int offset, long size) {
+    int available = (int) Math.min(buf.writerIndex() - offset, size);
+    try {
+      readHeader(buf.slice(offset, available));
+    } catch (IndexOutOfBoundsException e) {
+      hasSyncId = false;
+      return available >= Math.min(size, MAX_HEADER_PEEK);
+    } catch (RuntimeException e) {
+      hasSyncId = false;
+    }
+    return true;
+  }
+
+  private void readPacket(ByteBuf buf, int size, List<Object> list) {
+    int start = buf.readerIndex();
+    int headerSize;
+    try {
+      headerSize = readHeader(buf);
+      if (headerSize > size) {
+        throw new CorruptedFrameException("Response header exceeds the frame");
+      }
+    } catch (RuntimeException e) {
+      // drop the whole frame, so the next one is decoded from its size prefix
+      buf.readerIndex(start + size);
+      throw e;
+    }
+    buf.readerIndex(start);
+    byte[] packet = new byte[size];
     buf.readBytes(packet, 0, size);
-    try (MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(packet)) {
-      MapValue header = unpacker.unpackValue().asMapValue();
-      int read = (int) unpacker.getTotalReadBytes();
-      list.add(new IProtoRawResponse(header, packet, read));
-      size = 0;
+    list.add(
+        new IProtoRawResponse(
+            packet, headerSize, hasSyncId, syncId, (int) requestType, schemaVersion));
+  }
+
+  private void readFrame(ByteBuf buf, int size, List<Object> list) {
+    ByteBuf frame = buf.readRetainedSlice(size);
+    try {
+      int headerSize = readHeader(frame);
+      frame.readerIndex(0);
+      list.add(
+          new IProtoRawResponse(
+              frame, headerSize, hasSyncId, syncId, (int) requestType, schemaVersion));
+    } catch (RuntimeException e) {
+      frame.release();
+      throw e;
+    }
+  }
+
+  /**
+   * Reads the header at the reader index of the buffer into the fields of the decoder.
+   *
+   * @param buf buffer positioned at the header
+   * @return size of the header in bytes
+   */
+  private int readHeader(ByteBuf buf) {
+    int start = buf.readerIndex();
+    hasSyncId = false;
+    syncId = -1;
+    requestType = -1;
+    schemaVersion = 0;
+    int entries = MessagePackCursor.readMapHeader(buf);
+    for (int i = 0; i < entries; i++) {
+      long key = MessagePackCursor.readLong(buf);
+      if (key == IPROTO_REQUEST_TYPE) {
+        requestType = MessagePackCursor.readLong(buf);
+      } else if (key == IPROTO_SYNC_ID) {
+        hasSyncId = true;
+        syncId = MessagePackCursor.readLong(buf);
+      } else if (key == IPROTO_SCHEMA_VERSION) {
+        schemaVersion = MessagePackCursor.readLong(buf);
+      } else {
+        MessagePackCursor.skipValue(buf);
+      }
+    }
+    if (requestType < 0) {
+      throw new DecoderException("Response header has no IPROTO_REQUEST_TYPE");
     }
+    return buf.readerIndex() - start;
   }
 }
@@ -8,31 +8,48 @@ package io.tarantool.core.connection.codecs;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.MessageToByteEncoder;
-import org.msgpack.core.MessageBufferPacker;
-import org.msgpack.core.MessagePack;
 
+import io.tarantool.core.connection.exceptions.RequestEncodeException;
+import io.tarantool.core.protocol.ByteBufPacker;
 import io.tarantool.core.protocol.IProtoRequest;
+import io.tarantool.core.protocol.IProtoRequestBatch;
 
 /**
  * Converts Tarantool requests from Java objects to MessagePack frames
  *
+ * <p>Frames are written into a pooled (direct, if available) buffer provided by the channel
+ * allocator. Requests supporting it are serialized in place with the size prefix patched at the
+ * end, others are copied from their {@code byte[]} packet. All requests of an {@link
+ * IProtoRequestBatch} are written into the same buffer. A single request that cannot be serialized
+ * fails the write with a {@link RequestEncodeException} carrying its sync id.
+ *
  * @author Ivan Bannikov
  * @author Artyom Dubinin
  */
-public class IProtoFrameEncoder extends MessageToByteEncoder<IProtoRequest> {
+public class IProtoFrameEncoder extends MessageToByteEncoder<Object> {
 
-  private final MessageBufferPacker packer;
+  private final ByteBufPacker packer;
 
   public IProtoFrameEncoder() {
-    packer = MessagePack.newDefaultBufferPacker();
+    packer = new ByteBufPacker();
+  }
+
+  @Override
+  public boolean acceptOutboundMessage(Object msg) {
+    return msg instanceof IProtoRequest || msg instanceof IProtoRequestBatch;
   }
 
   @Override
-  protected void encode(ChannelHandlerContext ctx, IProtoRequest message, ByteBuf buf)
-      throws Exception {
-    packer.clear();
-    byte[] packet = message.getPacket(packer);
-    buf.capacity(packet.length);
-    buf.writeBytes(packet);
+  protected void encode(ChannelHandlerContext ctx, Object message, ByteBuf buf) throws Exception {
+    if (message instanceof IProtoRequestBatch) {
+      ((IProtoRequestBatch) message).writeTo(packer.reset(buf));
+    } else {
+      IProtoRequest request = (IProtoRequest) message;
+      try {
+        request.writeTo(packer.reset(buf));
+      } catch (Exception e) {
+        throw new RequestEncodeException(request.getSyncId(), e);
+      }
+    }
   }
 }
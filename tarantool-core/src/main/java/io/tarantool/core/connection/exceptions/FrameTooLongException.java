@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.core.connection.exceptions;
+
+import io.netty.handler.codec.TooLongFrameException;
+
+/**
+ * Thrown by the frame decoder when an inbound frame is larger than {@link
+ * io.tarantool.core.connection.codecs.FrameCodecOptions#getMaxFrameSize()}. The frame is skipped and
+ * the request it answers, if the sync id could be read from its header, fails with this exception.
+ */
+public class FrameTooLongException extends TooLongFrameException {
+
+  private static final long serialVersionUID = 6017243962480957312L;
+
+  private final long syncId;
+  private final long frameSize;
+
+  public FrameTooLongException(long syncId, long frameSize, int maxFrameSize) {
+    super(
+        String.format(
+            "IProto frame size %d exceeds the maximum of %d bytes (sync id %d), raise"
+                + " FrameCodecOptions.withMaxFrameSize to receive such responses",
+            frameSize, maxFrameSize, syncId));
+    this.syncId = syncId;
+    this.frameSize = frameSize;
+  }
+
+  /**
+   * Returns the sync id of the skipped frame.
+   *
+   * @return sync id or {@code -1} if the frame has none or its header could not be read
+   */
+  public long getSyncId() {
+    return syncId;
+  }
+
+  public long getFrameSize() {
+    return frameSize;
+  }
+}
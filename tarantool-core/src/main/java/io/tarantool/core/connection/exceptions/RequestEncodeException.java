@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.core.connection.exceptions;
+
+import io.netty.handler.codec.EncoderException;
+
+/**
+ * Thrown by the frame encoder when a request cannot be serialized. Nothing is written for the
+ * request, and the request, found by its sync id, fails with this exception instead of waiting for
+ * its timeout.
+ */
+public class RequestEncodeException extends EncoderException {
+
+  private static final long serialVersionUID = -3416062207713587149L;
+
+  private final long syncId;
+
+  public RequestEncodeException(long syncId, Throwable cause) {
+    super(String.format("Request with sync id %d cannot be serialized", syncId), cause);
+    this.syncId = syncId;
+  }
+
+  /**
+   * Returns the sync id of the request that cannot be serialized.
+   *
+   * @return sync id
+   */
+  public long getSyncId() {
+    return syncId;
+  }
+}
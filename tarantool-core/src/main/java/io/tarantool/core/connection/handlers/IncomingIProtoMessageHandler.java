@@ -12,6 +12,8 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.handler.timeout.IdleStateEvent;
 
+import io.tarantool.core.connection.exceptions.FrameTooLongException;
+import io.tarantool.core.connection.exceptions.RequestEncodeException;
 import io.tarantool.core.connection.exceptions.IdleTimeoutException;
 import io.tarantool.core.protocol.IProtoResponse;
 
@@ -24,10 +26,23 @@ import io.tarantool.core.protocol.IProtoResponse;
 public class IncomingIProtoMessageHandler extends SimpleChannelInboundHandler<IProtoResponse> {
 
   private final BiConsumer<IProtoResponse, Throwable> messageHandler;
+  private final Runnable writabilityHandler;
 
   public IncomingIProtoMessageHandler(BiConsumer<IProtoResponse, Throwable> handler) {
+    this(handler, null);
+  }
+
+  /**
+   * Creates a handler that also reports the channel becoming writable again.
+   *
+   * @param handler handler of responses and errors
+   * @param writabilityHandler called when the channel becomes writable, may be {@code null}
+   */
+  public IncomingIProtoMessageHandler(
+      BiConsumer<IProtoResponse, Throwable> handler, Runnable writabilityHandler) {
     super();
     this.messageHandler = handler;
+    this.writabilityHandler = writabilityHandler;
   }
 
   @Override
@@ -42,4 +57,21 @@ public class IncomingIProtoMessageHandler extends SimpleChannelInboundHandler<IP
       messageHandler.accept(null, new IdleTimeoutException("timeout", (IdleStateEvent) event));
     }
   }
+
+  @Override
+  public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
+    if (cause instanceof FrameTooLongException || cause instanceof RequestEncodeException) {
+      messageHandler.accept(null, cause);
+      return;
+    }
+    super.exceptionCaught(ctx, cause);
+  }
+
+  @Override
+  public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+    if (writabilityHandler != null && ctx.channel().isWritable()) {
+      writabilityHandler.run();
+    }
+    super.channelWritabilityChanged(ctx);
+  }
 }
@@ -0,0 +1,19 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.core.exceptions;
+
+/**
+ * Thrown when a request is rejected because its connection already has the maximum number of
+ * requests in flight or its outbound buffer is above the high water mark.
+ */
+public class InFlightLimitException extends ClientException {
+
+  private static final long serialVersionUID = -2417330865920471538L;
+
+  public InFlightLimitException(String message) {
+    super(message);
+  }
+}
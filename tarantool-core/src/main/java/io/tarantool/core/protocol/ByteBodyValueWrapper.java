@@ -5,7 +5,22 @@
 
 package io.tarantool.core.protocol;
 
+import java.nio.ByteBuffer;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+
 /**
+ * MessagePack value of a response body.
+ *
+ * <p>{@link #getPacket()} exposes the value as a region of a {@code byte[]}, which is what the
+ * Jackson mapper reads. Values of zero-copy responses backed by direct buffers, which Netty uses
+ * for socket reads by default, have no array and are copied once on the first call to {@link
+ * #getPacket()}. Readers able to consume a {@link ByteBuffer} through its public API should use
+ * {@link #getByteBuffer()}, which never copies. msgpack-core is not such a reader for direct
+ * buffers: it reads their address through {@code sun.nio.ch.DirectBuffer}, which is not exported on
+ * JDK 16+.
+ *
  * @author Artyom Dubinin
  */
 public class ByteBodyValueWrapper {
@@ -13,6 +28,11 @@ public class ByteBodyValueWrapper {
   private byte[] packet;
   private int offset;
   private int valueLength;
+  private ByteBuf buffer;
+  private byte[] scratch;
+
+  /** Creates an empty wrapper to be pointed at values with {@link #reset}. */
+  ByteBodyValueWrapper() {}
 
   public ByteBodyValueWrapper(byte[] packet, int offset, int valueLength) {
     this.packet = packet;
@@ -20,11 +40,87 @@ public class ByteBodyValueWrapper {
     this.valueLength = valueLength;
   }
 
+  /**
+   * Creates a wrapper over a slice of a response frame. A heap slice is exposed through its backing
+   * array without copying, a direct slice is copied on the first call to {@link #getPacket()}.
+   *
+   * @param buffer slice containing exactly one MessagePack value
+   */
+  public ByteBodyValueWrapper(ByteBuf buffer) {
+    this.buffer = buffer;
+    this.valueLength = buffer.readableBytes();
+  }
+
+  /**
+   * Points this wrapper at a value of a frame. A heap frame is exposed through its backing array, a
+   * direct frame is copied into a scratch array kept by the wrapper, so a wrapper reused for many
+   * values allocates only when a value is larger than all the previous ones.
+   *
+   * @param source frame holding the value
+   * @param index index of the value in the frame
+   * @param length size of the value in bytes
+   */
+  void reset(ByteBuf source, int index, int length) {
+    this.buffer = null;
+    this.valueLength = length;
+    if (source.hasArray()) {
+      this.packet = source.array();
+      this.offset = source.arrayOffset() + index;
+      return;
+    }
+    if (scratch == null || scratch.length < length) {
+      scratch = new byte[Math.max(length, scratch == null ? 0 : scratch.length * 2)];
+    }
+    source.getBytes(index, scratch, 0, length);
+    this.packet = scratch;
+    this.offset = 0;
+  }
+
+  /**
+   * Points this wrapper at a value of a packet.
+   *
+   * @param packet packet holding the value
+   * @param offset offset of the value in the packet
+   * @param length size of the value in bytes
+   */
+  void reset(byte[] packet, int offset, int length) {
+    this.buffer = null;
+    this.packet = packet;
+    this.offset = offset;
+    this.valueLength = length;
+  }
+
   public byte[] getPacket() {
+    if (packet == null) {
+      if (buffer.hasArray()) {
+        packet = buffer.array();
+        offset = buffer.arrayOffset() + buffer.readerIndex();
+      } else {
+        packet = ByteBufUtil.getBytes(buffer);
+        offset = 0;
+      }
+    }
     return packet;
   }
 
+  /**
+   * Returns the value as a buffer positioned at its first byte and limited by its last one. The
+   * buffer shares the memory of the response, so it is valid only while the response is not
+   * released.
+   *
+   * @return view of the value, no bytes are copied
+   */
+  public ByteBuffer getByteBuffer() {
+    if (packet == null) {
+      return buffer.nioBuffer();
+    }
+    return ByteBuffer.wrap(packet, offset, valueLength).slice();
+  }
+
   public int getOffset() {
+    if (packet == null) {
+      getPacket();
+    }
     return offset;
   }
 
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.core.protocol;
+
+import java.io.IOException;
+
+import io.netty.buffer.ByteBuf;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessagePacker;
+import org.msgpack.core.buffer.MessageBuffer;
+import org.msgpack.core.buffer.MessageBufferOutput;
+
+import static io.tarantool.core.protocol.requests.IProtoConstant.MINIMAL_HEADER_SIZE;
+import static io.tarantool.core.protocol.requests.IProtoConstant.RAW_UINT32_RESERVED_FOR_SIZE;
+
+/**
+ * MessagePack packer writing straight into the writable region of a Netty {@link ByteBuf}.
+ *
+ * <p>The packer is bound to a buffer with {@link #reset(ByteBuf)} and is meant to be reused by a
+ * single encoder, so it is not thread-safe. A frame is written between {@link #beginFrame()} and
+ * {@link #endFrame()}: the size prefix is reserved first and patched in place once the frame is
+ * complete, so neither an intermediate {@code byte[]} nor a second copy is needed.
+ */
+public class ByteBufPacker extends MessagePacker {
+
+  private final ByteBufOutput output;
+  private MessageBufferPacker bufferPacker;
+  private int frameStart = -1;
+
+  public ByteBufPacker() {
+    this(new ByteBufOutput());
+  }
+
+  private ByteBufPacker(ByteBufOutput output) {
+    super(output, MessagePack.DEFAULT_PACKER_CONFIG);
+    this.output = output;
+  }
+
+  /**
+   * Binds the packer to another buffer. Whatever a failed encoding may have left in the packer is
+   * dropped.
+   *
+   * @param buf buffer to write to
+   * @return this packer
+   * @throws IOException never thrown in practice, declared by {@link MessagePacker#reset}
+   */
+  public ByteBufPacker reset(ByteBuf buf) throws IOException {
+    output.buffer = null;
+    super.reset(output);
+    output.buffer = buf;
+    frameStart = -1;
+    return this;
+  }
+
+  /**
+   * Returns the buffer the packer is bound to.
+   *
+   * @return current buffer
+   */
+  public ByteBuf buffer() {
+    return output.buffer;
+  }
+
+  /**
+   * Starts a frame by reserving {@code MP_UINT32} for its size.
+   *
+   * @throws IOException if pending data cannot be flushed
+   */
+  public void beginFrame() throws IOException {
+    flush();
+    frameStart = output.buffer.writerIndex();
+    output.buffer.writeBytes(RAW_UINT32_RESERVED_FOR_SIZE);
+  }
+
+  /**
+   * Completes the frame started by {@link #beginFrame()} and patches its size in place.
+   *
+   * @throws IOException if pending data cannot be flushed
+   */
+  public void endFrame() throws IOException {
+    if (frameStart < 0) {
+      throw new IllegalStateException("Frame has not been started");
+    }
+    flush();
+    ByteBuf buf = output.buffer;
+    buf.setInt(frameStart + 1, buf.writerIndex() - frameStart - MINIMAL_HEADER_SIZE);
+    frameStart = -1;
+  }
+
+  /**
+   * Writes an already built frame including its size prefix.
+   *
+   * @param packet frame bytes
+   * @throws IOException if pending data cannot be flushed
+   */
+  public void writeFrame(byte[] packet) throws IOException {
+    flush();
+    output.buffer.writeBytes(packet);
+  }
+
+  /**
+   * Returns a cleared heap packer for requests that are still serialized into a {@code byte[]}
+   * (see {@link IProtoRequest#getPacket(MessageBufferPacker)}). The packer is created on first use
+   * and reused afterwards.
+   *
+   * @return cleared buffer packer
+   */
+  public MessageBufferPacker getBufferPacker() {
+    if (bufferPacker == null) {
+      bufferPacker = MessagePack.newDefaultBufferPacker();
+    } else {
+      bufferPacker.clear();
+    }
+    return bufferPacker;
+  }
+
+  /**
+   * {@link MessageBufferOutput} exposing the writable region of the current buffer to the packer.
+   * The packer always flushes the previous chunk before asking for the next one, so growing the
+   * buffer between chunks is safe.
+   *
+   * <p>A heap buffer is written through its backing array. A direct buffer, which Netty encoders
+   * allocate by default, is never wrapped: msgpack reads the address of a direct {@code ByteBuffer}
+   * through {@code sun.nio.ch.DirectBuffer}, which is not exported on JDK 16+. Chunks for direct
+   * buffers are packed into a reusable heap array and copied into the buffer on flush instead.
+   */
+  private static final class ByteBufOutput implements MessageBufferOutput {
+
+    private static final int MIN_CHUNK_SIZE = 256;
+    private static final int SCRATCH_CHUNK_SIZE = 8 * 1024;
+
+    private ByteBuf buffer;
+    private byte[] scratch;
+    private MessageBuffer scratchChunk;
+    private boolean scratchInUse;
+
+    @Override
+    public MessageBuffer next(int minimumSize) {
+      buffer.ensureWritable(Math.max(minimumSize, MIN_CHUNK_SIZE));
+      if (buffer.hasArray()) {
+        scratchInUse = false;
+        return MessageBuffer.wrap(
+            buffer.array(), buffer.arrayOffset() + buffer.writerIndex(), buffer.writableBytes());
+      }
+      if (scratch == null || scratch.length < minimumSize) {
+        scratch = new byte[Math.max(minimumSize, SCRATCH_CHUNK_SIZE)];
+        scratchChunk = MessageBuffer.wrap(scratch);
+      }
+      scratchInUse = true;
+      return scratchChunk;
+    }
+
+    @Override
+    public void writeBuffer(int length) {
+      if (buffer == null) {
+        return;
+      }
+      if (scratchInUse) {
+        buffer.writeBytes(scratch, 0, length);
+      } else {
+        buffer.writerIndex(buffer.writerIndex() + length);
+      }
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+      buffer.writeBytes(bytes, offset, length);
+    }
+
+    @Override
+    public void add(byte[] bytes, int offset, int length) {
+      buffer.writeBytes(bytes, offset, length);
+    }
+
+    @Override
+    public void flush() {}
+
+    @Override
+    public void close() {}
+  }
+}
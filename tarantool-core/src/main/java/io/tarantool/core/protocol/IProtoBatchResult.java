@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.core.protocol;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import io.tarantool.core.exceptions.ClientException;
+
+/**
+ * Results of a batch of requests, in the order the requests were passed to the batch. Each request
+ * has either a response or an error.
+ */
+public final class IProtoBatchResult {
+
+  private final IProtoResponse[] responses;
+  private final Throwable[] errors;
+  private final int failed;
+
+  public IProtoBatchResult(IProtoResponse[] responses, Throwable[] errors) {
+    if (responses.length != errors.length) {
+      throw new IllegalArgumentException("responses and errors must have the same length");
+    }
+    this.responses = responses;
+    this.errors = errors;
+    int count = 0;
+    for (Throwable error : errors) {
+      if (error != null) {
+        count++;
+      }
+    }
+    this.failed = count;
+  }
+
+  /**
+   * Returns the number of requests in the batch.
+   *
+   * @return number of requests
+   */
+  public int size() {
+    return responses.length;
+  }
+
+  /**
+   * Returns the response to the request.
+   *
+   * @param index index of the request in the batch
+   * @return response or {@code null} if the request has failed
+   */
+  public IProtoResponse getResponse(int index) {
+    return responses[index];
+  }
+
+  /**
+   * Returns the error of the request.
+   *
+   * @param index index of the request in the batch
+   * @return error or {@code null} if the request has succeeded
+   */
+  public Throwable getError(int index) {
+    return errors[index];
+  }
+
+  /**
+   * Returns responses to all requests, with {@code null} in place of the failed ones.
+   *
+   * @return unmodifiable list of responses
+   */
+  public List<IProtoResponse> getResponses() {
+    return Collections.unmodifiableList(Arrays.asList(responses));
+  }
+
+  /**
+   * Returns the number of failed requests.
+   *
+   * @return number of requests completed with an error
+   */
+  public int getFailedCount() {
+    return failed;
+  }
+
+  /**
+   * Checks whether any request of the batch has failed.
+   *
+   * @return true if at least one request has failed
+   */
+  public boolean hasErrors() {
+    return failed > 0;
+  }
+
+  /**
+   * Returns a single exception describing all failures of the batch. The first error is its cause,
+   * the others are added as suppressed exceptions.
+   *
+   * @return aggregate exception or {@code null} if all requests have succeeded
+   */
+  public ClientException getFailure() {
+    if (failed == 0) {
+      return null;
+    }
+    ClientException failure = null;
+    for (Throwable error : errors) {
+      if (error == null) {
+        continue;
+      }
+      if (failure == null) {
+        failure =
+            new ClientException(
+                String.format("%d of %d requests of the batch failed", failed, errors.length),
+                error);
+      } else {
+        failure.addSuppressed(error);
+      }
+    }
+    return failure;
+  }
+}
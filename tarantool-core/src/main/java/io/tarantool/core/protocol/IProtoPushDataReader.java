@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.core.protocol;
+
+import java.util.function.Consumer;
+
+import static io.tarantool.core.protocol.requests.IProtoConstant.IPROTO_DATA;
+
+/**
+ * Push consumer passing {@code IPROTO_DATA} of out-of-band messages to a push data handler (see
+ * {@link IProtoRequestOpts#withPushDataHandler(Consumer)}) through one reusable {@link
+ * ByteBodyValueWrapper}. Pushes of a request come from one I/O thread, so the view is not shared
+ * between threads.
+ */
+public final class IProtoPushDataReader implements Consumer<IProtoMessage> {
+
+  private final Consumer<ByteBodyValueWrapper> handler;
+  private final ByteBodyValueWrapper view = new ByteBodyValueWrapper();
+
+  public IProtoPushDataReader(Consumer<ByteBodyValueWrapper> handler) {
+    this.handler = handler;
+  }
+
+  /**
+   * Returns the push consumer of a request: the push handler, the push data handler or both.
+   *
+   * @param opts request options
+   * @return push consumer or {@code null} if the options have no push handlers
+   */
+  public static Consumer<IProtoMessage> of(IProtoRequestOpts opts) {
+    Consumer<IProtoMessage> pushHandler = opts.getPushHandler();
+    Consumer<ByteBodyValueWrapper> dataHandler = opts.getPushDataHandler();
+    if (dataHandler == null) {
+      return pushHandler;
+    }
+    IProtoPushDataReader reader = new IProtoPushDataReader(dataHandler);
+    return pushHandler == null ? reader : pushHandler.andThen(reader);
+  }
+
+  @Override
+  public void accept(IProtoMessage message) {
+    if (message instanceof IProtoRawResponse) {
+      if (((IProtoRawResponse) message).readByteBodyValue(IPROTO_DATA, view)) {
+        handler.accept(view);
+      }
+    } else if (message instanceof IProtoResponse) {
+      ByteBodyValueWrapper data = ((IProtoResponse) message).getByteBodyValue(IPROTO_DATA);
+      if (data != null) {
+        handler.accept(data);
+      }
+    }
+  }
+}
@@ -9,6 +9,10 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.util.ReferenceCounted;
 import org.msgpack.core.MessagePack;
 import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.MapValue;
@@ -18,44 +22,178 @@ import static io.tarantool.core.protocol.requests.IProtoConstant.IPROTO_REQUEST_
 import static io.tarantool.core.protocol.requests.IProtoConstant.IPROTO_SCHEMA_VERSION;
 import static io.tarantool.core.protocol.requests.IProtoConstant.IPROTO_SYNC_ID;
 
-public class IProtoRawResponse extends IProtoResponseImpl implements IProtoResponse {
+/**
+ * Response whose body is kept in its MessagePack form and unpacked lazily.
+ *
+ * <p>The packet is either a {@code byte[]} owned by the response or a slice of the inbound network
+ * buffer (zero-copy decoding). In the latter case the response holds a reference to the slice and
+ * must be {@link #release() released} when it is no longer needed; for {@code byte[]} backed
+ * responses reference counting is a no-op.
+ *
+ * <p>The fields of the header needed to route the response are passed by the decoder as primitives,
+ * the header {@link MapValue} is unpacked only if somebody asks for it. Body keys are indexed on
+ * the first access into a flat {@code int[]} of offsets, so reading {@code IPROTO_DATA} does not
+ * build any maps or {@link Value} objects.
+ */
+public class IProtoRawResponse extends IProtoResponseImpl
+    implements IProtoResponse, ReferenceCounted {
+
+  // bodyIndex holds (key, offset, length) triples
+  private static final int INDEX_STRIDE = 3;
+  private static final int[] EMPTY_INDEX = new int[0];
 
   private final byte[] packet;
+  private final ByteBuf frame;
   private final int headerSize;
   private final int bodySize;
-  private long schemaVersion;
-  private final Map<Integer, ByteBodyValueWrapper> byteBodyValues;
+  private final boolean hasSync;
+  private final long sync;
+  private final long schemaVersion;
+  private int[] bodyIndex;
+  // wrappers created for the entries of bodyIndex, so a direct value is copied at most once
+  private ByteBodyValueWrapper[] bodyValues;
+  private Map<Integer, ByteBodyValueWrapper> byteBodyValues;
 
   public IProtoRawResponse(MapValue header, byte[] packet, int headerSize) {
     this.header = header;
     this.headerMap = convertMap(header);
-    if (headerMap.containsKey(IPROTO_SYNC_ID)) {
-      this.syncId = headerMap.get(IPROTO_SYNC_ID).asIntegerValue().asLong();
-    } else {
-      this.syncId = null;
-    }
-    if (headerMap.containsKey(IPROTO_SCHEMA_VERSION)) {
-      this.schemaVersion = headerMap.get(IPROTO_SCHEMA_VERSION).asIntegerValue().asLong();
-    }
+    Value syncValue = headerMap.get(IPROTO_SYNC_ID);
+    this.hasSync = syncValue != null;
+    this.sync = hasSync ? syncValue.asIntegerValue().asLong() : -1L;
+    Value versionValue = headerMap.get(IPROTO_SCHEMA_VERSION);
+    this.schemaVersion = versionValue != null ? versionValue.asIntegerValue().asLong() : 0;
     this.requestType = headerMap.get(IPROTO_REQUEST_TYPE).asIntegerValue().asInt();
     this.packet = packet;
+    this.frame = null;
     this.headerSize = headerSize;
     this.bodySize = packet.length - headerSize;
-    this.byteBodyValues = new HashMap<>();
+  }
+
+  /**
+   * Creates a response over a packet whose header has already been read.
+   *
+   * @param packet whole packet without the size prefix
+   * @param headerSize size of the header in bytes
+   * @param hasSyncId whether the header contains {@code IPROTO_SYNC}
+   * @param syncId value of {@code IPROTO_SYNC}, ignored if absent
+   * @param requestType value of {@code IPROTO_REQUEST_TYPE}
+   * @param schemaVersion value of {@code IPROTO_SCHEMA_VERSION}, {@code 0} if absent
+   */
+  public IProtoRawResponse(
+      byte[] packet,
+      int headerSize,
+      boolean hasSyncId,
+      long syncId,
+      int requestType,
+      long schemaVersion) {
+    this.hasSync = hasSyncId;
+    this.sync = hasSyncId ? syncId : -1L;
+    this.requestType = requestType;
+    this.schemaVersion = schemaVersion;
+    this.packet = packet;
+    this.frame = null;
+    this.headerSize = headerSize;
+    this.bodySize = packet.length - headerSize;
+  }
+
+  /**
+   * Creates a response over a frame slice whose header has already been read.
+   *
+   * @param frame whole frame without the size prefix, starting at index {@code 0}. The response
+   *     takes over the caller's reference.
+   * @param headerSize size of the header in bytes
+   * @param hasSyncId whether the header contains {@code IPROTO_SYNC}
+   * @param syncId value of {@code IPROTO_SYNC}, ignored if absent
+   * @param requestType value of {@code IPROTO_REQUEST_TYPE}
+   * @param schemaVersion value of {@code IPROTO_SCHEMA_VERSION}, {@code 0} if absent
+   */
+  public IProtoRawResponse(
+      ByteBuf frame,
+      int headerSize,
+      boolean hasSyncId,
+      long syncId,
+      int requestType,
+      long schemaVersion) {
+    this.hasSync = hasSyncId;
+    this.sync = hasSyncId ? syncId : -1L;
+    this.requestType = requestType;
+    this.schemaVersion = schemaVersion;
+    this.packet = null;
+    this.frame = frame;
+    this.headerSize = headerSize;
+    this.bodySize = frame.readableBytes() - headerSize;
+  }
+
+  @Override
+  public long getSyncId() {
+    return sync;
+  }
+
+  @Override
+  public boolean hasSyncId() {
+    return hasSync;
   }
 
   @Override
   public ByteBodyValueWrapper getByteBodyValue(int key) {
-    unpackByteBodyIfNeeded();
+    int[] index = indexBodyIfNeeded();
+    for (int i = 0; i < index.length; i += INDEX_STRIDE) {
+      if (index[i] == key) {
+        return byteBodyValueAt(index, i);
+      }
+    }
+    return null;
+  }
 
-    return byteBodyValues.get(key);
+  /**
+   * Points the passed wrapper at the value of a body key instead of creating a new wrapper. The
+   * wrapper is valid only while this response is not released.
+   *
+   * @param key body key
+   * @param target wrapper to reuse
+   * @return {@code false} if the body has no such key, the wrapper is left untouched then
+   */
+  boolean readByteBodyValue(int key, ByteBodyValueWrapper target) {
+    int[] index = indexBodyIfNeeded();
+    for (int i = 0; i < index.length; i += INDEX_STRIDE) {
+      if (index[i] == key) {
+        if (frame == null) {
+          target.reset(packet, index[i + 1], index[i + 2]);
+        } else {
+          target.reset(frame, index[i + 1], index[i + 2]);
+        }
+        return true;
+      }
+    }
+    return false;
   }
 
   @Override
   public Map<Integer, ByteBodyValueWrapper> getByteBodyValues() {
-    unpackByteBodyIfNeeded();
+    if (byteBodyValues != null) {
+      return byteBodyValues;
+    }
+    int[] index = indexBodyIfNeeded();
+    Map<Integer, ByteBodyValueWrapper> values = new HashMap<>();
+    for (int i = 0; i < index.length; i += INDEX_STRIDE) {
+      values.put(index[i], byteBodyValueAt(index, i));
+    }
+    this.byteBodyValues = values;
+    return values;
+  }
 
-    return byteBodyValues;
+  @Override
+  public MapValue getHeader() {
+    unpackHeaderIfNeeded();
+
+    return super.getHeader();
+  }
+
+  @Override
+  public Value getHeaderValue(int key) {
+    unpackHeaderIfNeeded();
+
+    return super.getHeaderValue(key);
   }
 
   @Override
@@ -68,14 +206,42 @@ public class IProtoRawResponse extends IProtoResponseImpl implements IProtoRespo
   @Override
   public boolean isBodyEmpty() {
     // all body is empty or IPROTO_DATA is empty
-    return packet[headerSize] == -128 || packet[headerSize + 2] == -128;
+    return byteAt(headerSize) == -128 || byteAt(headerSize + 2) == -128;
+  }
+
+  private byte byteAt(int index) {
+    return frame == null ? packet[index] : frame.getByte(index);
+  }
+
+  private MessageUnpacker newUnpacker(int offset, int length) {
+    if (frame == null) {
+      return MessagePack.newDefaultUnpacker(packet, offset, length);
+    }
+    if (frame.hasArray()) {
+      return MessagePack.newDefaultUnpacker(frame.array(), frame.arrayOffset() + offset, length);
+    }
+    // msgpack reads the address of a direct ByteBuffer through sun.nio.ch.DirectBuffer, which is
+    // not exported on JDK 16+, so the region is copied; unpacking it into Values copies it anyway
+    return MessagePack.newDefaultUnpacker(ByteBufUtil.getBytes(frame, offset, length, false));
+  }
+
+  private void unpackHeaderIfNeeded() {
+    if (header != null) {
+      return;
+    }
+    try (MessageUnpacker unpacker = newUnpacker(0, headerSize)) {
+      this.header = unpacker.unpackValue().asMapValue();
+      this.headerMap = convertMap(header);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
   }
 
   private void unpackIfNeeded() {
     if (body != null) {
       return;
     }
-    try (MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(packet, headerSize, bodySize)) {
+    try (MessageUnpacker unpacker = newUnpacker(headerSize, bodySize)) {
       if (unpacker.hasNext()) {
         this.body = unpacker.unpackValue().asMapValue();
         this.bodyMap = convertMap(body);
@@ -85,26 +251,51 @@ public class IProtoRawResponse extends IProtoResponseImpl implements IProtoRespo
     }
   }
 
-  private void unpackByteBodyIfNeeded() {
-    if (!byteBodyValues.isEmpty()) {
-      return;
+  private int[] indexBodyIfNeeded() {
+    int[] index = bodyIndex;
+    if (index != null) {
+      return index;
     }
-
-    try (MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(packet, headerSize, bodySize)) {
-      if (unpacker.hasNext()) {
-        int sz = unpacker.unpackMapHeader();
-        for (int i = 0; i < sz; i++) {
-          int bodyKey = unpacker.unpackInt();
-          int read = (int) unpacker.getTotalReadBytes();
-          unpacker.skipValue();
-          int end = (int) unpacker.getTotalReadBytes();
-          byteBodyValues.put(
-              bodyKey, new ByteBodyValueWrapper(packet, headerSize + read, end - read));
-        }
+    if (bodySize == 0) {
+      index = EMPTY_INDEX;
+    } else {
+      // a separate view keeps the indices of the frame intact for concurrent readers
+      ByteBuf view = frame == null ? Unpooled.wrappedBuffer(packet) : frame.duplicate();
+      view.readerIndex(headerSize);
+      int entries = MessagePackCursor.readMapHeader(view);
+      index = new int[entries * INDEX_STRIDE];
+      for (int i = 0; i < index.length; i += INDEX_STRIDE) {
+        index[i] = (int) MessagePackCursor.readLong(view);
+        int offset = view.readerIndex();
+        MessagePackCursor.skipValue(view);
+        index[i + 1] = offset;
+        index[i + 2] = view.readerIndex() - offset;
       }
-    } catch (IOException e) {
-      throw new RuntimeException(e);
     }
+    this.bodyIndex = index;
+    return index;
+  }
+
+  private ByteBodyValueWrapper byteBodyValueAt(int[] index, int position) {
+    ByteBodyValueWrapper[] values = bodyValues;
+    if (values == null) {
+      values = new ByteBodyValueWrapper[index.length / INDEX_STRIDE];
+      this.bodyValues = values;
+    }
+    int slot = position / INDEX_STRIDE;
+    ByteBodyValueWrapper value = values[slot];
+    if (value == null) {
+      value = newByteBodyValue(index[position + 1], index[position + 2]);
+      values[slot] = value;
+    }
+    return value;
+  }
+
+  private ByteBodyValueWrapper newByteBodyValue(int offset, int length) {
+    if (frame == null) {
+      return new ByteBodyValueWrapper(packet, offset, length);
+    }
+    return new ByteBodyValueWrapper(frame.slice(offset, length));
   }
 
   @Override
@@ -118,4 +309,51 @@ public class IProtoRawResponse extends IProtoResponseImpl implements IProtoRespo
   public long getSchemaVersion() {
     return this.schemaVersion;
   }
+
+  @Override
+  public int refCnt() {
+    return frame == null ? 1 : frame.refCnt();
+  }
+
+  @Override
+  public IProtoRawResponse retain() {
+    if (frame != null) {
+      frame.retain();
+    }
+    return this;
+  }
+
+  @Override
+  public IProtoRawResponse retain(int increment) {
+    if (frame != null) {
+      frame.retain(increment);
+    }
+    return this;
+  }
+
+  @Override
+  public IProtoRawResponse touch() {
+    if (frame != null) {
+      frame.touch();
+    }
+    return this;
+  }
+
+  @Override
+  public IProtoRawResponse touch(Object hint) {
+    if (frame != null) {
+      frame.touch(hint);
+    }
+    return this;
+  }
+
+  @Override
+  public boolean release() {
+    return frame != null && frame.release();
+  }
+
+  @Override
+  public boolean release(int decrement) {
+    return frame != null && frame.release(decrement);
+  }
 }
@@ -18,6 +18,18 @@ public interface IProtoRequest extends IProtoMessage {
 
   byte[] getPacket(MessageBufferPacker packer) throws Exception;
 
+  /**
+   * Writes the whole frame of the request, including the size prefix, into the buffer the packer
+   * is bound to. The default implementation copies the packet built by {@link
+   * #getPacket(MessageBufferPacker)}; requests on the hot path override it to serialize in place.
+   *
+   * @param packer packer bound to the outbound buffer
+   * @throws Exception if the request cannot be serialized
+   */
+  default void writeTo(ByteBufPacker packer) throws Exception {
+    packer.writeFrame(getPacket(packer.getBufferPacker()));
+  }
+
   @Override
   default boolean isOutOfBand() {
     return false;
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.core.protocol;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import io.netty.buffer.ByteBuf;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Outbound message carrying several requests. The frame encoder writes the frames of all requests
+ * into one buffer, so the whole batch costs one write and one flush.
+ */
+public final class IProtoRequestBatch {
+
+  private static final Logger log = LoggerFactory.getLogger(IProtoRequestBatch.class);
+
+  private final List<? extends IProtoRequest> requests;
+  private final BiConsumer<IProtoRequest, Exception> onEncodeFailure;
+
+  public IProtoRequestBatch(List<? extends IProtoRequest> requests) {
+    this(requests, null);
+  }
+
+  /**
+   * Creates a batch reporting requests that cannot be serialized.
+   *
+   * @param requests requests of the batch
+   * @param onEncodeFailure called on the I/O thread with a request left out of the batch and the
+   *     serialization error, may be {@code null}
+   */
+  public IProtoRequestBatch(
+      List<? extends IProtoRequest> requests,
+      BiConsumer<IProtoRequest, Exception> onEncodeFailure) {
+    this.requests = requests;
+    this.onEncodeFailure = onEncodeFailure;
+  }
+
+  /**
+   * Returns the requests of the batch.
+   *
+   * @return requests in the order they are written
+   */
+  public List<? extends IProtoRequest> getRequests() {
+    return requests;
+  }
+
+  /**
+   * Writes the frames of all requests one after another into the buffer the packer is bound to. A
+   * request that cannot be serialized is dropped without breaking the frames of the other requests
+   * and passed to the failure listener of the batch, so the caller waiting for it fails at once.
+   * Without a listener the request is only logged.
+   *
+   * @param packer packer bound to the outbound buffer
+   * @throws Exception if the packer cannot be rebound after a failed request
+   */
+  public void writeTo(ByteBufPacker packer) throws Exception {
+    ByteBuf buf = packer.buffer();
+    for (IProtoRequest request : requests) {
+      int start = buf.writerIndex();
+      try {
+        request.writeTo(packer);
+      } catch (Exception e) {
+        buf.writerIndex(start);
+        packer.reset(buf);
+        if (onEncodeFailure == null) {
+          log.error("Request \"{}\" of the batch cannot be serialized", request, e);
+        } else {
+          onEncodeFailure.accept(request, e);
+        }
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "IProtoRequestBatch(size = " + requests.size() + ")";
+  }
+}
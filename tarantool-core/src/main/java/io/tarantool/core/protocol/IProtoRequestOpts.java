@@ -10,9 +10,11 @@ import java.util.function.Consumer;
 public class IProtoRequestOpts {
 
   private Consumer<IProtoMessage> pushHandler;
+  private Consumer<ByteBodyValueWrapper> pushDataHandler;
   private Handlers handlers;
   private long requestTimeoutMs;
   private Long streamId;
+  private boolean rollbackOnCancel;
 
   private IProtoRequestOpts() {
     requestTimeoutMs = 3_000L;
@@ -35,6 +37,24 @@ public class IProtoRequestOpts {
     return this;
   }
 
+  /**
+   * Sets a handler receiving only {@code IPROTO_DATA} of out-of-band pushes of the request, e.g.
+   * chunks sent by {@code box.session.push}. Unlike {@link #withPushHandler(Consumer)} the pushes
+   * are not unpacked into {@link org.msgpack.value.Value} objects: the handler gets the raw
+   * MessagePack bytes of {@code IPROTO_DATA}, an array holding the pushed value, and maps only what
+   * it needs. Both handlers may be set, the push handler is called first.
+   *
+   * <p>The wrapper passed to the handler is reused for every push of the request and is valid only
+   * until the handler returns; copy the bytes or map them to an object to keep the data.
+   *
+   * @param handler push data handler, called on the I/O thread of the connection
+   * @return this options
+   */
+  public IProtoRequestOpts withPushDataHandler(Consumer<ByteBodyValueWrapper> handler) {
+    this.pushDataHandler = handler;
+    return this;
+  }
+
   public IProtoRequestOpts withStreamId(Long streamId) {
     if (streamId != null && streamId < 0) {
       throw new IllegalArgumentException("streamId should be greater or equal 0");
@@ -43,6 +63,23 @@ public class IProtoRequestOpts {
     return this;
   }
 
+  /**
+   * Makes cancelling the future of a stream request also roll back the transaction of the stream
+   * (see {@link #withStreamId(Long)}) with {@code IPROTO_ROLLBACK}. The request itself is not
+   * interrupted on the server, but its changes are discarded with the whole transaction.
+   *
+   * @param rollbackOnCancel whether to roll back the stream on cancel, {@code false} by default
+   * @return this options
+   */
+  public IProtoRequestOpts withRollbackOnCancel(boolean rollbackOnCancel) {
+    this.rollbackOnCancel = rollbackOnCancel;
+    return this;
+  }
+
+  public boolean isRollbackOnCancel() {
+    return this.rollbackOnCancel;
+  }
+
   public long getRequestTimeout() {
     return this.requestTimeoutMs;
   }
@@ -55,6 +92,10 @@ public class IProtoRequestOpts {
     return this.pushHandler;
   }
 
+  public Consumer<ByteBodyValueWrapper> getPushDataHandler() {
+    return this.pushDataHandler;
+  }
+
   public IProtoRequestOpts withHandlers(Handlers handlers) {
     this.handlers = handlers;
     return this;
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.core.protocol;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.DecoderException;
+
+/**
+ * Minimal MessagePack reader working directly on the reader index of a {@link ByteBuf}. It covers
+ * only what is needed to walk an IProto header or the keys of a body without materializing them
+ * into values.
+ *
+ * <p>Not a part of the public API: it is public only to be shared by the frame decoder and {@link
+ * IProtoRawResponse}.
+ */
+public final class MessagePackCursor {
+
+  private MessagePackCursor() {}
+
+  /**
+   * Reads a map header.
+   *
+   * @param buf buffer positioned at a map
+   * @return number of key-value pairs
+   */
+  public static int readMapHeader(ByteBuf buf) {
+    int b = buf.readUnsignedByte();
+    if ((b & 0xf0) == 0x80) {
+      return b & 0x0f;
+    }
+    switch (b) {
+      case 0xde:
+        return buf.readUnsignedShort();
+      case 0xdf:
+        return toLength(buf.readUnsignedInt());
+      default:
+        throw unexpected("map", b);
+    }
+  }
+
+  /**
+   * Reads an integer of any MessagePack integer format. Values of {@code uint64} above {@link
+   * Long#MAX_VALUE} wrap around, IProto never uses such values in headers.
+   *
+   * @param buf buffer positioned at an integer
+   * @return integer value
+   */
+  public static long readLong(ByteBuf buf) {
+    byte b = buf.readByte();
+    // positive and negative fixint
+    if (b >= -32) {
+      return b;
+    }
+    switch (b & 0xff) {
+      case 0xcc:
+        return buf.readUnsignedByte();
+      case 0xcd:
+        return buf.readUnsignedShort();
+      case 0xce:
+        return buf.readUnsignedInt();
+      case 0xcf:
+      case 0xd3:
+        return buf.readLong();
+      case 0xd0:
+        return buf.readByte();
+      case 0xd1:
+        return buf.readShort();
+      case 0xd2:
+        return buf.readInt();
+      default:
+        throw unexpected("integer", b & 0xff);
+    }
+  }
+
+  /**
+   * Skips one value including all nested values of arrays and maps.
+   *
+   * @param buf buffer positioned at a value
+   */
+  public static void skipValue(ByteBuf buf) {
+    long remaining = 1;
+    while (remaining-- > 0) {
+      int b = buf.readUnsignedByte();
+      if (b <= 0x7f || b >= 0xe0) {
+        continue;
+      }
+      if (b <= 0x8f) {
+        remaining += 2L * (b & 0x0f);
+        continue;
+      }
+      if (b <= 0x9f) {
+        remaining += b & 0x0f;
+        continue;
+      }
+      if (b <= 0xbf) {
+        buf.skipBytes(b & 0x1f);
+        continue;
+      }
+      switch (b) {
+        case 0xc0:
+        case 0xc2:
+        case 0xc3:
+          break;
+        case 0xc4:
+        case 0xd9:
+          buf.skipBytes(buf.readUnsignedByte());
+          break;
+        case 0xc5:
+        case 0xda:
+          buf.skipBytes(buf.readUnsignedShort());
+          break;
+        case 0xc6:
+        case 0xdb:
+          buf.skipBytes(toLength(buf.readUnsignedInt()));
+          break;
+        case 0xc7:
+          buf.skipBytes(buf.readUnsignedByte() + 1);
+          break;
+        case 0xc8:
+          buf.skipBytes(buf.readUnsignedShort() + 1);
+          break;
+        case 0xc9:
+          buf.skipBytes(toLength(buf.readUnsignedInt() + 1));
+          break;
+        case 0xcc:
+        case 0xd0:
+          buf.skipBytes(1);
+          break;
+        case 0xcd:
+        case 0xd1:
+          buf.skipBytes(2);
+          break;
+        case 0xca:
+        case 0xce:
+        case 0xd2:
+          buf.skipBytes(4);
+          break;
+        case 0xcb:
+        case 0xcf:
+        case 0xd3:
+          buf.skipBytes(8);
+          break;
+        case 0xd4:
+          buf.skipBytes(2);
+          break;
+        case 0xd5:
+          buf.skipBytes(3);
+          break;
+        case 0xd6:
+          buf.skipBytes(5);
+          break;
+        case 0xd7:
+          buf.skipBytes(9);
+          break;
+        case 0xd8:
+          buf.skipBytes(17);
+          break;
+        case 0xdc:
+          remaining += buf.readUnsignedShort();
+          break;
+        case 0xdd:
+          remaining += buf.readUnsignedInt();
+          break;
+        case 0xde:
+          remaining += 2L * buf.readUnsignedShort();
+          break;
+        case 0xdf:
+          remaining += 2L * buf.readUnsignedInt();
+          break;
+        default:
+          throw unexpected("value", b);
+      }
+    }
+  }
+
+  private static int toLength(long length) {
+    if (length > Integer.MAX_VALUE) {
+      throw new DecoderException("MessagePack length is too large: " + length);
+    }
+    return (int) length;
+  }
+
+  private static DecoderException unexpected(String expected, int format) {
+    return new DecoderException(
+        String.format("Expected MessagePack %s, got format byte 0x%02x", expected, format));
+  }
+}
@@ -5,8 +5,6 @@
 
 package io.tarantool.core.protocol.fsm;
 
-import java.util.Map;
-
 import io.tarantool.core.connection.Connection;
 import io.tarantool.core.exceptions.RunOnceAlreadyCalledException;
 import io.tarantool.core.protocol.IProtoRequest;
@@ -15,12 +13,14 @@ public abstract class AbstractIProtoStateMachine implements IProtoStateMachine {
 
   protected final Connection connection;
   protected final IProtoRequest request;
-  protected final Map<Long, IProtoStateMachine> fsmRegistry;
+  protected final SyncIdRegistry<IProtoStateMachine> fsmRegistry;
 
   protected boolean calledOnce;
 
   protected AbstractIProtoStateMachine(
-      Connection connection, IProtoRequest request, Map<Long, IProtoStateMachine> fsmRegistry) {
+      Connection connection,
+      IProtoRequest request,
+      SyncIdRegistry<IProtoStateMachine> fsmRegistry) {
     this.connection = connection;
     this.fsmRegistry = fsmRegistry;
     this.request = request;
@@ -28,6 +28,11 @@ public abstract class AbstractIProtoStateMachine implements IProtoStateMachine {
 
   protected abstract void start();
 
+  @Override
+  public long getSyncId() {
+    return request.getSyncId();
+  }
+
   @Override
   public void runOnce() {
     if (calledOnce) {
@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.core.protocol.fsm;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+import io.netty.util.ReferenceCountUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.tarantool.core.connection.Connection;
+import io.tarantool.core.exceptions.BoxError;
+import io.tarantool.core.exceptions.ClientException;
+import io.tarantool.core.exceptions.RunOnceAlreadyCalledException;
+import io.tarantool.core.protocol.Handlers;
+import io.tarantool.core.protocol.IProtoBatchResult;
+import io.tarantool.core.protocol.IProtoMessage;
+import io.tarantool.core.protocol.IProtoPushDataReader;
+import io.tarantool.core.protocol.IProtoRequest;
+import io.tarantool.core.protocol.IProtoRequestOpts;
+import io.tarantool.core.protocol.IProtoResponse;
+
+/**
+ * State machine of a batch of requests sharing a contiguous range of sync ids.
+ *
+ * <p>Every request is registered under its own sync id by a small member entry, but the batch has
+ * one deadline, one write of all frames (see {@link Connection#writeAll(List)}) and one future
+ * completed when the last request of the batch is completed.
+ */
+public class BatchStateMachine implements DeadlineQueue.Expirable {
+
+  private static final Logger log = LoggerFactory.getLogger(BatchStateMachine.class);
+  private final Connection connection;
+  private final List<? extends IProtoRequest> requests;
+  private final Member[] members;
+  private final AtomicReferenceArray<Object> results;
+  private final AtomicInteger remaining;
+  private final CompletableFuture<IProtoBatchResult> promise;
+  private final SyncIdRegistry<IProtoStateMachine> fsmRegistry;
+  private final Consumer<IProtoMessage> pushConsumer;
+  private final Handlers handlers;
+  private final DeadlineQueue deadlines;
+  private final long timeout;
+  private volatile DeadlineQueue.Deadline deadline;
+  private boolean calledOnce;
+
+  /**
+   * Creates a batch and assigns sync ids {@code firstSyncId, firstSyncId + 1, ...} to the requests.
+   *
+   * @param connection connection to send the requests over
+   * @param firstSyncId sync id of the first request
+   * @param requests requests of the batch
+   * @param promise future completed with the results of all requests
+   * @param opts options applied to every request of the batch
+   * @param fsmRegistry registry of in-flight requests of the connection
+   * @param deadlines deadline queue of the connection
+   * @param requestHandlers request handlers, may be {@code null}
+   */
+  public BatchStateMachine(
+      Connection connection,
+      long firstSyncId,
+      List<? extends IProtoRequest> requests,
+      CompletableFuture<IProtoBatchResult> promise,
+      IProtoRequestOpts opts,
+      SyncIdRegistry<IProtoStateMachine> fsmRegistry,
+      DeadlineQueue deadlines,
+      Handlers requestHandlers) {
+    this.connection = connection;
+    this.requests = requests;
+    this.members = new Member[requests.size()];
+    this.results = new AtomicReferenceArray<>(members.length);
+    this.remaining = new AtomicInteger(members.length);
+    this.promise = promise;
+    this.fsmRegistry = fsmRegistry;
+    this.pushConsumer = IProtoPushDataReader.of(opts);
+    this.handlers = requestHandlers;
+    this.deadlines = deadlines;
+    this.timeout = opts.getRequestTimeout();
+    for (int i = 0; i < members.length; i++) {
+      IProtoRequest request = requests.get(i);
+      request.setSyncId(firstSyncId + i);
+      members[i] = new Member(i, request);
+    }
+  }
+
+  /**
+   * Registers the requests and sends them with one write.
+   *
+   * @throws IllegalStateException if the connection is not established, all requests of the batch
+   *     are failed with the same exception
+   */
+  public void runOnce() {
+    if (calledOnce) {
+      throw new RunOnceAlreadyCalledException();
+    }
+    calledOnce = true;
+    if (members.length == 0) {
+      promise.complete(new IProtoBatchResult(new IProtoResponse[0], new Throwable[0]));
+      return;
+    }
+
+    for (Member member : members) {
+      if (handlers != null && handlers.getOnBeforeSend() != null) {
+        handlers.getOnBeforeSend().accept(member.request);
+      }
+      fsmRegistry.put(member.getSyncId(), member);
+    }
+    scheduleDeadline();
+
+    try {
+      connection.writeAll(requests, this::failUnencoded);
+    } catch (RuntimeException e) {
+      for (Member member : members) {
+        member.kill(e);
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Starts the timeout of the batch before it is sent, e.g. when the batch has to wait for room on
+   * the connection. Does nothing if the timeout has already been started.
+   */
+  public void scheduleDeadline() {
+    if (deadline == null) {
+      deadline = deadlines.schedule(this, timeout);
+    }
+  }
+
+  /**
+   * Fails all requests of the batch that are not completed yet, e.g. when the batch waits for room
+   * on a connection that has been closed.
+   *
+   * @param ex cause of the failure
+   */
+  public void kill(Throwable ex) {
+    for (Member member : members) {
+      if (results.get(member.index) == null) {
+        member.kill(ex);
+      }
+    }
+  }
+
+  @Override
+  public void expire() {
+    for (Member member : members) {
+      if (results.get(member.index) != null) {
+        continue;
+      }
+      if (handlers != null && handlers.getOnTimeout() != null) {
+        handlers.getOnTimeout().accept(member.request);
+      }
+      member.kill(
+          new TimeoutException(
+              String.format("Request timeout: %s; timeout = %sms", member.request, timeout)));
+    }
+  }
+
+  private void failUnencoded(IProtoRequest request, Exception e) {
+    members[(int) (request.getSyncId() - members[0].getSyncId())].kill(
+        new ClientException(String.format("Request %s cannot be serialized", request), e));
+  }
+
+  private boolean process(Member member, IProtoResponse message) {
+    if (message.isOutOfBand()) {
+      if (pushConsumer != null) {
+        pushConsumer.accept(message);
+      } else {
+        log.debug("Can not process message \"{}\" because pushConsumer is empty", message);
+      }
+      return false;
+    }
+
+    if (handlers != null && handlers.getOnSuccess() != null) {
+      handlers.getOnSuccess().accept(message);
+    }
+
+    if (message.isError()) {
+      complete(member.index, BoxError.fromIProtoMessage(message));
+    } else if (!complete(member.index, ReferenceCountUtil.retain(message))) {
+      // request has already been completed by timeout or kill, nobody will release the response
+      ReferenceCountUtil.release(message);
+    }
+    return true;
+  }
+
+  private boolean complete(int index, Object result) {
+    if (!results.compareAndSet(index, null, result)) {
+      return false;
+    }
+    if (remaining.decrementAndGet() == 0) {
+      DeadlineQueue.Deadline current = deadline;
+      if (current != null) {
+        current.cancel();
+      }
+      promise.complete(collect());
+    }
+    return true;
+  }
+
+  private IProtoBatchResult collect() {
+    IProtoResponse[] responses = new IProtoResponse[members.length];
+    Throwable[] errors = new Throwable[members.length];
+    for (int i = 0; i < members.length; i++) {
+      Object result = results.get(i);
+      if (result instanceof Throwable) {
+        errors[i] = (Throwable) result;
+      } else {
+        responses[i] = (IProtoResponse) result;
+      }
+    }
+    return new IProtoBatchResult(responses, errors);
+  }
+
+  /** Registry entry of one request of the batch. */
+  private final class Member implements IProtoStateMachine {
+
+    private final int index;
+    private final IProtoRequest request;
+
+    private Member(int index, IProtoRequest request) {
+      this.index = index;
+      this.request = request;
+    }
+
+    @Override
+    public void runOnce() {
+      // members are sent by the batch
+    }
+
+    @Override
+    public long getSyncId() {
+      return request.getSyncId();
+    }
+
+    @Override
+    public boolean process(IProtoResponse msg) {
+      return BatchStateMachine.this.process(this, msg);
+    }
+
+    @Override
+    public void kill(Throwable ex) {
+      fsmRegistry.remove(getSyncId());
+      complete(index, ex);
+    }
+  }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.core.protocol.fsm;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.TimerTask;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Per-connection queue of request deadlines.
+ *
+ * <p>Instead of a timer task per request, deadlines are grouped into coarse buckets of {@code
+ * resolution} length and expired in bulk by a single task scheduled on the shared {@link Timer}.
+ * The task is armed for the earliest non-empty bucket only, so an idle connection costs nothing.
+ * Cancelling a deadline just clears its reference to the request, the entry itself is dropped
+ * when its bucket is expired.
+ */
+public final class DeadlineQueue {
+
+  /** Default width of a bucket in milliseconds. */
+  public static final long DEFAULT_RESOLUTION_MS = 10;
+
+  private static final Logger log = LoggerFactory.getLogger(DeadlineQueue.class);
+
+  /** Something that has to be notified when its deadline passes. */
+  @FunctionalInterface
+  public interface Expirable {
+
+    void expire();
+  }
+
+  /** Deadline of one request. */
+  public static final class Deadline {
+
+    private volatile Expirable target;
+
+    private Deadline(Expirable target) {
+      this.target = target;
+    }
+
+    /** Cancels the deadline. The request is no longer referenced by the queue. */
+    public void cancel() {
+      target = null;
+    }
+
+    public boolean isCancelled() {
+      return target == null;
+    }
+  }
+
+  private static final class Bucket {
+
+    private final long tick;
+    private final ConcurrentLinkedQueue<Deadline> deadlines = new ConcurrentLinkedQueue<>();
+    private volatile boolean closed;
+
+    private Bucket(long tick) {
+      this.tick = tick;
+    }
+
+    /**
+     * Adds a deadline unless the bucket has been expired. The closed flag is checked after adding,
+     * so a deadline is either drained by the expiring task or taken back here.
+     */
+    private boolean add(Deadline deadline) {
+      deadlines.add(deadline);
+      return !closed || !deadlines.remove(deadline);
+    }
+  }
+
+  private final Timer timer;
+  private final long resolutionNanos;
+  private final long origin;
+  private final ConcurrentSkipListMap<Long, Bucket> buckets = new ConcurrentSkipListMap<>();
+  private final AtomicLong armedTick = new AtomicLong(Long.MAX_VALUE);
+  private final TimerTask expireTask = this::expire;
+  private volatile Bucket lastBucket;
+
+  public DeadlineQueue(Timer timer) {
+    this(timer, DEFAULT_RESOLUTION_MS, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Creates a queue.
+   *
+   * @param timer timer running the expiring task
+   * @param resolution width of a bucket, deadlines are rounded up to it
+   * @param unit unit of {@code resolution}
+   */
+  public DeadlineQueue(Timer timer, long resolution, TimeUnit unit) {
+    if (resolution <= 0) {
+      throw new IllegalArgumentException("resolution must be greater than zero");
+    }
+    this.timer = timer;
+    this.resolutionNanos = unit.toNanos(resolution);
+    this.origin = System.nanoTime();
+  }
+
+  /**
+   * Schedules expiration of the target.
+   *
+   * @param target target to expire
+   * @param timeoutMs timeout in milliseconds
+   * @return deadline handle that can be cancelled
+   */
+  public Deadline schedule(Expirable target, long timeoutMs) {
+    Deadline deadline = new Deadline(target);
+    long elapsed = System.nanoTime() - origin + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+    long tick = (elapsed + resolutionNanos - 1) / resolutionNanos;
+    while (!bucketFor(tick).add(deadline)) {
+      // the bucket has just been expired, its deadline is already due
+      lastBucket = null;
+    }
+    arm(tick);
+    return deadline;
+  }
+
+  private Bucket bucketFor(long tick) {
+    Bucket bucket = lastBucket;
+    if (bucket == null || bucket.tick != tick || bucket.closed) {
+      bucket = buckets.computeIfAbsent(tick, Bucket::new);
+      lastBucket = bucket;
+    }
+    return bucket;
+  }
+
+  private void arm(long tick) {
+    long armed = armedTick.get();
+    while (tick < armed) {
+      if (armedTick.compareAndSet(armed, tick)) {
+        long delay = origin + tick * resolutionNanos - System.nanoTime();
+        timer.newTimeout(expireTask, Math.max(delay, 0), TimeUnit.NANOSECONDS);
+        return;
+      }
+      armed = armedTick.get();
+    }
+  }
+
+  private synchronized void expire(Timeout timeout) {
+    armedTick.set(Long.MAX_VALUE);
+    long now = System.nanoTime() - origin;
+    Map.Entry<Long, Bucket> first;
+    while ((first = buckets.firstEntry()) != null && first.getKey() * resolutionNanos <= now) {
+      Bucket bucket = first.getValue();
+      buckets.remove(first.getKey(), bucket);
+      bucket.closed = true;
+      Deadline deadline;
+      while ((deadline = bucket.deadlines.poll()) != null) {
+        Expirable target = deadline.target;
+        if (target == null) {
+          continue;
+        }
+        deadline.target = null;
+        try {
+          target.expire();
+        } catch (Throwable e) {
+          log.warn("Failed to expire {}", target, e);
+        }
+      }
+    }
+    if (first != null) {
+      arm(first.getKey());
+    }
+  }
+}
@@ -15,6 +15,13 @@ public interface IProtoStateMachine {
   /** Run the request once (data request or watch subscription request). */
   void runOnce();
 
+  /**
+   * Returns the sync id of the request the state machine is waiting a response for.
+   *
+   * @return sync id
+   */
+  long getSyncId();
+
   /**
    * Process the received {@link IProtoResponse} message.
    *
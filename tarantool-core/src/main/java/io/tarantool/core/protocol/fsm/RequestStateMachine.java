@@ -5,14 +5,11 @@
 
 package io.tarantool.core.protocol.fsm;
 
-import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 
-import io.netty.util.Timeout;
-import io.netty.util.Timer;
+import io.netty.util.ReferenceCountUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -20,19 +17,21 @@ import io.tarantool.core.connection.Connection;
 import io.tarantool.core.exceptions.BoxError;
 import io.tarantool.core.protocol.Handlers;
 import io.tarantool.core.protocol.IProtoMessage;
+import io.tarantool.core.protocol.IProtoPushDataReader;
 import io.tarantool.core.protocol.IProtoRequest;
 import io.tarantool.core.protocol.IProtoRequestOpts;
 import io.tarantool.core.protocol.IProtoResponse;
 
-public class RequestStateMachine extends AbstractIProtoStateMachine {
+public class RequestStateMachine extends AbstractIProtoStateMachine
+    implements DeadlineQueue.Expirable {
 
   private static final Logger log = LoggerFactory.getLogger(RequestStateMachine.class);
   private final Consumer<IProtoMessage> pushConsumer;
   private final Handlers handlers;
-  private final Timer timerService;
+  private final DeadlineQueue deadlines;
   private final long timeout;
   private final CompletableFuture<IProtoResponse> promise;
-  private Timeout timer;
+  private volatile DeadlineQueue.Deadline deadline;
 
   public RequestStateMachine(
       Connection connection,
@@ -40,14 +39,14 @@ public class RequestStateMachine extends AbstractIProtoStateMachine {
       IProtoRequest request,
       CompletableFuture<IProtoResponse> promise,
       IProtoRequestOpts opts,
-      Map<Long, IProtoStateMachine> fsmRegistry,
-      Timer timerService,
+      SyncIdRegistry<IProtoStateMachine> fsmRegistry,
+      DeadlineQueue deadlines,
       Handlers requestHandlers) {
     super(connection, request, fsmRegistry);
     request.setSyncId(syncId);
-    this.pushConsumer = opts.getPushHandler();
+    this.pushConsumer = IProtoPushDataReader.of(opts);
     this.handlers = requestHandlers;
-    this.timerService = timerService;
+    this.deadlines = deadlines;
     this.timeout = opts.getRequestTimeout();
     this.promise = promise;
     fsmRegistry.put(syncId, this);
@@ -60,32 +59,41 @@ public class RequestStateMachine extends AbstractIProtoStateMachine {
       handlers.getOnBeforeSend().accept(request);
     }
 
-    // TODO: remove string format
-    this.timer =
-        runAfter(
-            timeout,
-            () -> {
-              if (handlers != null && handlers.getOnTimeout() != null) {
-                handlers.getOnTimeout().accept(request);
-              }
-              kill(
-                  new TimeoutException(
-                      String.format("Request timeout: %s; timeout = %sms", request, timeout)));
-            });
-
-    promise.whenComplete((iProtoResponse, throwable) -> this.timer.cancel());
-
-    connection
-        .send(request)
-        .handle(
-            (Void r, Throwable ex) -> {
-              if (ex != null) {
-                log.debug(ex.toString(), ex);
-                fsmRegistry.remove(request.getSyncId());
-                promise.completeExceptionally(ex);
-              }
-              return null;
-            });
+    scheduleDeadline();
+
+    // The write is not tracked by a future: a request that cannot be serialized is failed by the
+    // encode failure listener of the client, other lost requests by the close of the connection
+    connection.write(request);
+  }
+
+  /**
+   * Starts the timeout of the request before it is sent, e.g. when the request has to wait for
+   * room on the connection. Does nothing if the timeout has already been started.
+   */
+  public void scheduleDeadline() {
+    if (deadline == null) {
+      deadline = deadlines.schedule(this, timeout);
+    }
+  }
+
+  @Override
+  public void expire() {
+    if (promise.isDone()) {
+      return;
+    }
+    if (handlers != null && handlers.getOnTimeout() != null) {
+      handlers.getOnTimeout().accept(request);
+    }
+    kill(
+        new TimeoutException(
+            String.format("Request timeout: %s; timeout = %sms", request, timeout)));
+  }
+
+  private void complete() {
+    DeadlineQueue.Deadline current = deadline;
+    if (current != null) {
+      current.cancel();
+    }
   }
 
   @Override
@@ -104,10 +112,12 @@ public class RequestStateMachine extends AbstractIProtoStateMachine {
       handlers.getOnSuccess().accept(message);
     }
 
+    complete();
     if (message.isError()) {
       promise.completeExceptionally(BoxError.fromIProtoMessage(message));
-    } else {
-      promise.complete(message);
+    } else if (!promise.complete(ReferenceCountUtil.retain(message))) {
+      // request has already been completed by timeout or kill, nobody will release the response
+      ReferenceCountUtil.release(message);
     }
 
     return true;
@@ -116,15 +126,7 @@ public class RequestStateMachine extends AbstractIProtoStateMachine {
   @Override
   public void kill(Throwable ex) {
     fsmRegistry.remove(request.getSyncId());
+    complete();
     promise.completeExceptionally(ex);
   }
-
-  private Timeout runAfter(long after, Runnable cb) {
-    if (after == 0) {
-      cb.run();
-      return null;
-    }
-
-    return timerService.newTimeout(timeoutHandler -> cb.run(), after, TimeUnit.MILLISECONDS);
-  }
 }
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.core.protocol.fsm;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Lock-free registry of in-flight entries keyed by sync id.
+ *
+ * <p>Sync ids are allocated from a monotonic sequence, so the ids of requests that are in flight at
+ * the same time are close to each other. The registry keeps entries in a ring indexed by {@code
+ * syncId & mask}: registering, looking up and removing a request is a single array access without
+ * boxing the key or allocating a map node. Each entry knows its own sync id (see {@code keyOf}), so
+ * a slot is matched against the requested id without storing keys separately. If the slot is still
+ * occupied by an older request (more requests than slots are in flight, or a request lives much
+ * longer than others), the entry falls back to a {@link ConcurrentHashMap}.
+ *
+ * @param <T> type of entries
+ */
+public final class SyncIdRegistry<T> {
+
+  /** Default number of slots in the ring. */
+  public static final int DEFAULT_CAPACITY = 4096;
+
+  private static final int MAX_CAPACITY = 1 << 30;
+
+  private final AtomicReferenceArray<T> slots;
+  private final int mask;
+  private final ToLongFunction<? super T> keyOf;
+  private final ConcurrentHashMap<Long, T> overflow = new ConcurrentHashMap<>();
+
+  public SyncIdRegistry(ToLongFunction<? super T> keyOf) {
+    this(DEFAULT_CAPACITY, keyOf);
+  }
+
+  /**
+   * Creates a registry.
+   *
+   * @param capacity number of slots in the ring, rounded up to a power of two
+   * @param keyOf function returning the sync id of an entry
+   */
+  public SyncIdRegistry(int capacity, ToLongFunction<? super T> keyOf) {
+    if (capacity <= 0 || capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException("capacity must be in range (0, " + MAX_CAPACITY + "]");
+    }
+    int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    this.slots = new AtomicReferenceArray<>(size);
+    this.mask = size - 1;
+    this.keyOf = keyOf;
+  }
+
+  /**
+   * Registers the entry under the sync id.
+   *
+   * @param syncId sync id, must be equal to the id returned by {@code keyOf} for the entry
+   * @param value entry
+   */
+  public void put(long syncId, T value) {
+    int index = indexOf(syncId);
+    T current = slots.get(index);
+    while (current == null || keyOf.applyAsLong(current) == syncId) {
+      if (slots.compareAndSet(index, current, value)) {
+        return;
+      }
+      current = slots.get(index);
+    }
+    overflow.put(syncId, value);
+  }
+
+  /**
+   * Returns the entry registered under the sync id.
+   *
+   * @param syncId sync id
+   * @return entry or {@code null} if there is no such entry
+   */
+  public T get(long syncId) {
+    T current = slots.get(indexOf(syncId));
+    if (current != null && keyOf.applyAsLong(current) == syncId) {
+      return current;
+    }
+    return overflow.isEmpty() ? null : overflow.get(syncId);
+  }
+
+  /**
+   * Removes the entry registered under the sync id.
+   *
+   * @param syncId sync id
+   * @return removed entry or {@code null} if there is no such entry
+   */
+  public T remove(long syncId) {
+    int index = indexOf(syncId);
+    T current = slots.get(index);
+    T removed = null;
+    if (current != null
+        && keyOf.applyAsLong(current) == syncId
+        && slots.compareAndSet(index, current, null)) {
+      removed = current;
+    }
+    if (!overflow.isEmpty()) {
+      T fallback = overflow.remove(syncId);
+      if (removed == null) {
+        removed = fallback;
+      }
+    }
+    return removed;
+  }
+
+  /**
+   * Performs the action for each registered entry. Entries registered or removed concurrently may
+   * or may not be visited.
+   *
+   * @param action action to perform
+   */
+  public void forEach(Consumer<? super T> action) {
+    for (int i = 0; i < slots.length(); i++) {
+      T current = slots.get(i);
+      if (current != null) {
+        action.accept(current);
+      }
+    }
+    overflow.values().forEach(action);
+  }
+
+  /** Removes all entries. */
+  public void clear() {
+    for (int i = 0; i < slots.length(); i++) {
+      slots.set(i, null);
+    }
+    overflow.clear();
+  }
+
+  /**
+   * Returns the number of registered entries. The ring is scanned, so the method is not meant for
+   * the request path.
+   *
+   * @return number of entries
+   */
+  public int size() {
+    int size = overflow.size();
+    for (int i = 0; i < slots.length(); i++) {
+      if (slots.get(i) != null) {
+        size++;
+      }
+    }
+    return size;
+  }
+
+  private int indexOf(long syncId) {
+    return (int) syncId & mask;
+  }
+}
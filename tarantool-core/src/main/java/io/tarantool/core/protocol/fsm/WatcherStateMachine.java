@@ -57,6 +57,11 @@ public class WatcherStateMachine implements IProtoStateMachine {
     this.timerService = timerService;
   }
 
+  @Override
+  public long getSyncId() {
+    return request.getSyncId();
+  }
+
   @Override
   public void runOnce() {
     if (calledOnce) {
@@ -32,6 +32,7 @@ public class IProtoAuth extends IProtoBaseRequest {
   private final String user;
   private final String password;
   private final byte[] salt;
+  private byte[] scramble;
 
   public IProtoAuth(String user, String password, byte[] salt, AuthType authType) {
     this.user = user;
@@ -40,6 +41,30 @@ public class IProtoAuth extends IProtoBaseRequest {
     this.authType = authType;
   }
 
+  /**
+   * Creates a CHAP-SHA1 authentication request from a hash computed once for the password, so only
+   * the salt-dependent part of the scramble is computed per connection. The scramble is computed by
+   * the constructor, i.e. on the thread creating the request.
+   *
+   * @param user user name
+   * @param passwordHash hash of the user password
+   * @param salt salt from the greeting of the connection
+   */
+  public IProtoAuth(String user, PasswordHash passwordHash, byte[] salt) {
+    this.user = user;
+    this.password = null;
+    this.salt = salt;
+    this.authType = AuthType.CHAP_SHA1;
+    this.scramble = passwordHash.scramble(salt);
+  }
+
+  private byte[] scramble() {
+    if (scramble == null) {
+      scramble = PasswordHash.of(password).scramble(salt);
+    }
+    return scramble;
+  }
+
   @Override
   public byte[] getPacket(MessageBufferPacker packer) throws IOException, NoSuchAlgorithmException {
     preparePacker(packer);
@@ -54,19 +79,9 @@ public class IProtoAuth extends IProtoBaseRequest {
       packer.packValue(
           ValueFactory.newArray(authType.getRawAuthTypeName(), ValueFactory.newString(password)));
     } else {
-      byte[] scramble;
-      MessageDigest sha1 = MessageDigest.getInstance("SHA-1");
-      byte[] step1 = sha1.digest(password.getBytes());
-      byte[] step2 = sha1.digest(step1);
-      sha1.update(salt, 0, 20);
-      sha1.update(step2);
-      scramble = sha1.digest();
-      for (int i = 0; i < 20; i++) {
-        scramble[i] ^= step1[i];
-      }
-
       packer.packValue(
-          ValueFactory.newArray(authType.getRawAuthTypeName(), ValueFactory.newBinary(scramble)));
+          ValueFactory.newArray(
+              authType.getRawAuthTypeName(), ValueFactory.newBinary(scramble())));
     }
 
     return getPacketFromBase(packer);
@@ -82,21 +97,10 @@ public class IProtoAuth extends IProtoBaseRequest {
           ValueFactory.newArray(
               ValueFactory.newString(authType.toString()), ValueFactory.newString(password)));
     } else {
-      byte[] scramble;
-      MessageDigest sha1 = MessageDigest.getInstance("SHA-1");
-      byte[] step1 = sha1.digest(password.getBytes());
-      byte[] step2 = sha1.digest(step1);
-      sha1.update(salt, 0, 20);
-      sha1.update(step2);
-      scramble = sha1.digest();
-      for (int i = 0; i < 20; i++) {
-        scramble[i] ^= step1[i];
-      }
-
       map.put(
           MP_IPROTO_TUPLE,
           ValueFactory.newArray(
-              ValueFactory.newString(authType.toString()), ValueFactory.newBinary(scramble)));
+              ValueFactory.newString(authType.toString()), ValueFactory.newBinary(scramble())));
     }
 
     return ValueFactory.newMap(map);
@@ -128,6 +132,61 @@ public class IProtoAuth extends IProtoBaseRequest {
     return this.stringBuilder.toString();
   }
 
+  /**
+   * Salt-independent part of the CHAP-SHA1 scramble: {@code SHA1(password)} and {@code
+   * SHA1(SHA1(password))}. It may be computed once per password and shared by connections.
+   */
+  public static final class PasswordHash {
+
+    private static final int SCRAMBLE_SIZE = 20;
+
+    private final byte[] hash1;
+    private final byte[] hash2;
+
+    private PasswordHash(byte[] hash1, byte[] hash2) {
+      this.hash1 = hash1;
+      this.hash2 = hash2;
+    }
+
+    /**
+     * Hashes a password.
+     *
+     * @param password user password
+     * @return hash of the password
+     */
+    public static PasswordHash of(String password) {
+      MessageDigest sha1 = sha1();
+      byte[] hash1 = sha1.digest(password.getBytes());
+      return new PasswordHash(hash1, sha1.digest(hash1));
+    }
+
+    /**
+     * Computes the scramble for the salt of a connection: {@code SHA1(salt, SHA1(SHA1(password)))}
+     * xor {@code SHA1(password)}.
+     *
+     * @param salt salt from the greeting of the connection
+     * @return scramble sent in the authentication request
+     */
+    public byte[] scramble(byte[] salt) {
+      MessageDigest sha1 = sha1();
+      sha1.update(salt, 0, SCRAMBLE_SIZE);
+      sha1.update(hash2);
+      byte[] scramble = sha1.digest();
+      for (int i = 0; i < SCRAMBLE_SIZE; i++) {
+        scramble[i] ^= hash1[i];
+      }
+      return scramble;
+    }
+
+    private static MessageDigest sha1() {
+      try {
+        return MessageDigest.getInstance("SHA-1");
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+
   public enum AuthType {
     CHAP_SHA1("chap-sha1"),
     PAP_SHA256("pap-sha256");
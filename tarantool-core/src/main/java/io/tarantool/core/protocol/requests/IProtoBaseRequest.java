@@ -11,6 +11,7 @@ import java.util.Map;
 
 import org.msgpack.core.MessageBufferPacker;
 import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.MapValue;
 import org.msgpack.value.Value;
 import org.msgpack.value.ValueFactory;
@@ -70,7 +71,7 @@ public abstract class IProtoBaseRequest implements IProtoRequest {
     return packet;
   }
 
-  protected void packHeader(MessageBufferPacker packer) throws IOException {
+  protected void packHeader(MessagePacker packer) throws IOException {
     if (streamId != null) {
       packer.addPayload(RAW_MAP_HEADER_WITH_THREE_ITEMS_PLUS_IPROTO_STREAM_ID);
       packer.packLong(streamId);
@@ -85,8 +86,7 @@ public abstract class IProtoBaseRequest implements IProtoRequest {
     packer.packLong(syncId);
   }
 
-  protected void packValue(MessageBufferPacker packer, byte[] rawValue, Value value)
-      throws IOException {
+  protected void packValue(MessagePacker packer, byte[] rawValue, Value value) throws IOException {
     if (rawValue != null) {
       packer.addPayload(rawValue);
       return;
@@ -11,6 +11,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.ArrayValue;
 import org.msgpack.value.MapValue;
 import org.msgpack.value.Value;
@@ -25,6 +26,7 @@ import static io.tarantool.core.protocol.requests.IProtoConstant.RAW_IPROTO_TUPL
 import static io.tarantool.core.protocol.requests.IProtoConstant.RAW_IPROTO_TYPE_CALL;
 import static io.tarantool.core.protocol.requests.IProtoConstant.RAW_MAP_HEADER_WITH_THREE_ITEMS;
 import static io.tarantool.core.protocol.requests.IProtoConstant.RAW_MAP_HEADER_WITH_TWO_ITEMS;
+import io.tarantool.core.protocol.ByteBufPacker;
 
 public class IProtoCall extends IProtoBaseRequest {
 
@@ -49,6 +51,19 @@ public class IProtoCall extends IProtoBaseRequest {
   @Override
   public byte[] getPacket(MessageBufferPacker packer) throws IOException {
     preparePacker(packer);
+    packBody(packer);
+    return getPacketFromBase(packer);
+  }
+
+  @Override
+  public void writeTo(ByteBufPacker packer) throws IOException {
+    packer.beginFrame();
+    packHeader(packer);
+    packBody(packer);
+    packer.endFrame();
+  }
+
+  private void packBody(MessagePacker packer) throws IOException {
     if (rawFormats == null) {
       packer.addPayload(RAW_MAP_HEADER_WITH_TWO_ITEMS);
     } else {
@@ -62,8 +77,6 @@ public class IProtoCall extends IProtoBaseRequest {
 
     packer.addPayload(RAW_IPROTO_TUPLE); // key
     packValue(packer, rawArgs, args); // value
-
-    return getPacketFromBase(packer);
   }
 
   @Override
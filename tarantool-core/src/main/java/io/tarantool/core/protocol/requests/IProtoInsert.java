@@ -11,6 +11,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.ArrayValue;
 import org.msgpack.value.MapValue;
 import org.msgpack.value.Value;
@@ -25,6 +26,7 @@ import static io.tarantool.core.protocol.requests.IProtoConstant.RAW_IPROTO_SPAC
 import static io.tarantool.core.protocol.requests.IProtoConstant.RAW_IPROTO_TUPLE;
 import static io.tarantool.core.protocol.requests.IProtoConstant.RAW_IPROTO_TYPE_INSERT;
 import static io.tarantool.core.protocol.requests.IProtoConstant.RAW_MAP_HEADER_WITH_TWO_ITEMS;
+import io.tarantool.core.protocol.ByteBufPacker;
 
 public class IProtoInsert extends IProtoBaseRequest {
 
@@ -51,6 +53,19 @@ public class IProtoInsert extends IProtoBaseRequest {
   @Override
   public byte[] getPacket(MessageBufferPacker packer) throws IOException {
     preparePacker(packer);
+    packBody(packer);
+    return getPacketFromBase(packer);
+  }
+
+  @Override
+  public void writeTo(ByteBufPacker packer) throws IOException {
+    packer.beginFrame();
+    packHeader(packer);
+    packBody(packer);
+    packer.endFrame();
+  }
+
+  private void packBody(MessagePacker packer) throws IOException {
     packer.addPayload(RAW_MAP_HEADER_WITH_TWO_ITEMS);
 
     if (spaceId != null) {
@@ -63,8 +78,6 @@ public class IProtoInsert extends IProtoBaseRequest {
 
     packer.addPayload(RAW_IPROTO_TUPLE); // key
     packValue(packer, rawTuple, tuple); // value
-
-    return getPacketFromBase(packer);
   }
 
   @Override
@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.core.protocol.requests;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import static io.tarantool.core.protocol.requests.IProtoConstant.IPROTO_TYPE_CALL;
+import static io.tarantool.core.protocol.requests.IProtoConstant.IPROTO_TYPE_SELECT;
+import static io.tarantool.core.protocol.requests.IProtoConstant.MP_IPROTO_FUNCTION_NAME;
+import static io.tarantool.core.protocol.requests.IProtoConstant.MP_IPROTO_INDEX_ID;
+import static io.tarantool.core.protocol.requests.IProtoConstant.MP_IPROTO_INDEX_NAME;
+import static io.tarantool.core.protocol.requests.IProtoConstant.MP_IPROTO_ITERATOR;
+import static io.tarantool.core.protocol.requests.IProtoConstant.MP_IPROTO_KEY;
+import static io.tarantool.core.protocol.requests.IProtoConstant.MP_IPROTO_LIMIT;
+import static io.tarantool.core.protocol.requests.IProtoConstant.MP_IPROTO_OFFSET;
+import static io.tarantool.core.protocol.requests.IProtoConstant.MP_IPROTO_SPACE_ID;
+import static io.tarantool.core.protocol.requests.IProtoConstant.MP_IPROTO_SPACE_NAME;
+import static io.tarantool.core.protocol.requests.IProtoConstant.MP_IPROTO_TUPLE;
+import static io.tarantool.core.protocol.requests.IProtoConstant.RAW_IPROTO_FUNCTION_NAME;
+import static io.tarantool.core.protocol.requests.IProtoConstant.RAW_IPROTO_INDEX_ID;
+import static io.tarantool.core.protocol.requests.IProtoConstant.RAW_IPROTO_INDEX_NAME;
+import static io.tarantool.core.protocol.requests.IProtoConstant.RAW_IPROTO_ITERATOR;
+import static io.tarantool.core.protocol.requests.IProtoConstant.RAW_IPROTO_KEY;
+import static io.tarantool.core.protocol.requests.IProtoConstant.RAW_IPROTO_LIMIT;
+import static io.tarantool.core.protocol.requests.IProtoConstant.RAW_IPROTO_OFFSET;
+import static io.tarantool.core.protocol.requests.IProtoConstant.RAW_IPROTO_REQUEST_TYPE;
+import static io.tarantool.core.protocol.requests.IProtoConstant.RAW_IPROTO_SPACE_ID;
+import static io.tarantool.core.protocol.requests.IProtoConstant.RAW_IPROTO_SPACE_NAME;
+import static io.tarantool.core.protocol.requests.IProtoConstant.RAW_IPROTO_SYNC_ID;
+import static io.tarantool.core.protocol.requests.IProtoConstant.RAW_IPROTO_TUPLE;
+import static io.tarantool.core.protocol.requests.IProtoConstant.RAW_IPROTO_TYPE_CALL;
+import static io.tarantool.core.protocol.requests.IProtoConstant.RAW_IPROTO_TYPE_SELECT;
+import static io.tarantool.core.protocol.requests.IProtoConstant.RAW_MAP_HEADER_WITH_SIX_ITEMS;
+import static io.tarantool.core.protocol.requests.IProtoConstant.RAW_MAP_HEADER_WITH_TWO_ITEMS;
+import io.tarantool.core.protocol.BoxIterator;
+
+/**
+ * Pre-encoded constant part of a request that is sent many times with different keys or
+ * arguments.
+ *
+ * <p>The header entries except the sync and stream ids and the body entries except the key (for
+ * select) or the arguments (for call) are packed once when the template is created. A request made
+ * from a template only appends the ids and the payload, so no maps are built and no strings are
+ * packed per request. Templates are immutable and may be shared between clients and threads.
+ *
+ * <pre>{@code
+ * IProtoRequestTemplate byId = IProtoRequestTemplate.select(512, 0, 1, 0, BoxIterator.EQ);
+ * client.request(byId, ValueFactory.newArray(ValueFactory.newInteger(42)));
+ * }</pre>
+ *
+ * @see IProtoTemplateRequest
+ */
+public final class IProtoRequestTemplate {
+
+  private final int requestType;
+  private final byte[] requestTypeRaw;
+  private final byte[] headerTail;
+  private final byte[] body;
+  private final Map<Value, Value> bodyEntries;
+  private final Value payloadKey;
+  private final String description;
+
+  private IProtoRequestTemplate(
+      int requestType,
+      byte[] requestTypeRaw,
+      byte[] body,
+      Map<Value, Value> bodyEntries,
+      Value payloadKey,
+      String description) {
+    this.requestType = requestType;
+    this.requestTypeRaw = requestTypeRaw;
+    this.headerTail = concat(RAW_IPROTO_REQUEST_TYPE, requestTypeRaw, RAW_IPROTO_SYNC_ID);
+    this.body = body;
+    this.bodyEntries = Collections.unmodifiableMap(bodyEntries);
+    this.payloadKey = payloadKey;
+    this.description = description;
+  }
+
+  /**
+   * Creates a template of {@code IPROTO_SELECT} by space and index ids. The key is supplied per
+   * request.
+   *
+   * @param spaceId space id
+   * @param indexId index id
+   * @param limit maximum number of tuples to return
+   * @param offset number of tuples to skip
+   * @param iterator iterator type
+   * @return select template
+   */
+  public static IProtoRequestTemplate select(
+      int spaceId, int indexId, int limit, int offset, BoxIterator iterator) {
+    return select(spaceId, null, indexId, null, limit, offset, iterator);
+  }
+
+  /**
+   * Creates a template of {@code IPROTO_SELECT}. Either the id or the name of the space (and of the
+   * index) must be set, the id wins if both are. The key is supplied per request.
+   *
+   * @param spaceId space id or {@code null}
+   * @param spaceName space name or {@code null}
+   * @param indexId index id or {@code null}
+   * @param indexName index name or {@code null}
+   * @param limit maximum number of tuples to return
+   * @param offset number of tuples to skip
+   * @param iterator iterator type
+   * @return select template
+   */
+  public static IProtoRequestTemplate select(
+      Integer spaceId,
+      String spaceName,
+      Integer indexId,
+      String indexName,
+      int limit,
+      int offset,
+      BoxIterator iterator) {
+    if (spaceId == null && spaceName == null) {
+      throw new IllegalArgumentException("spaceId or spaceName must be set");
+    }
+    if (indexId == null && indexName == null) {
+      throw new IllegalArgumentException("indexId or indexName must be set");
+    }
+    if (iterator == null) {
+      throw new IllegalArgumentException("iterator must be set");
+    }
+
+    Map<Value, Value> entries = new HashMap<>();
+    try (MessageBufferPacker packer = MessagePack.newDefaultBufferPacker()) {
+      packer.addPayload(RAW_MAP_HEADER_WITH_SIX_ITEMS);
+
+      if (spaceId != null) {
+        packer.addPayload(RAW_IPROTO_SPACE_ID);
+        packer.packInt(spaceId);
+        entries.put(MP_IPROTO_SPACE_ID, ValueFactory.newInteger(spaceId));
+      } else {
+        packer.addPayload(RAW_IPROTO_SPACE_NAME);
+        packer.packString(spaceName);
+        entries.put(MP_IPROTO_SPACE_NAME, ValueFactory.newString(spaceName));
+      }
+
+      if (indexId != null) {
+        packer.addPayload(RAW_IPROTO_INDEX_ID);
+        packer.packInt(indexId);
+        entries.put(MP_IPROTO_INDEX_ID, ValueFactory.newInteger(indexId));
+      } else {
+        packer.addPayload(RAW_IPROTO_INDEX_NAME);
+        packer.packString(indexName);
+        entries.put(MP_IPROTO_INDEX_NAME, ValueFactory.newString(indexName));
+      }
+
+      packer.addPayload(RAW_IPROTO_LIMIT);
+      packer.packInt(limit);
+      entries.put(MP_IPROTO_LIMIT, ValueFactory.newInteger(limit));
+
+      packer.addPayload(RAW_IPROTO_OFFSET);
+      packer.packInt(offset);
+      entries.put(MP_IPROTO_OFFSET, ValueFactory.newInteger(offset));
+
+      packer.addPayload(RAW_IPROTO_ITERATOR);
+      packer.packInt(iterator.getCode());
+      entries.put(MP_IPROTO_ITERATOR, ValueFactory.newInteger(iterator.getCode()));
+
+      packer.addPayload(RAW_IPROTO_KEY);
+      return new IProtoRequestTemplate(
+          IPROTO_TYPE_SELECT,
+          RAW_IPROTO_TYPE_SELECT,
+          packer.toByteArray(),
+          entries,
+          MP_IPROTO_KEY,
+          String.format(
+              "select(spaceId = %s, spaceName = %s, indexId = %s, indexName = %s, limit = %d,"
+                  + " offset = %d, iterator = %s)",
+              spaceId, spaceName, indexId, indexName, limit, offset, iterator));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Creates a template of {@code IPROTO_CALL}. The arguments are supplied per request.
+   *
+   * @param functionName name of the function
+   * @return call template
+   */
+  public static IProtoRequestTemplate call(String functionName) {
+    if (functionName == null) {
+      throw new IllegalArgumentException("functionName must be set");
+    }
+
+    try (MessageBufferPacker packer = MessagePack.newDefaultBufferPacker()) {
+      packer.addPayload(RAW_MAP_HEADER_WITH_TWO_ITEMS);
+      packer.addPayload(RAW_IPROTO_FUNCTION_NAME);
+      packer.packString(functionName);
+      packer.addPayload(RAW_IPROTO_TUPLE);
+      return new IProtoRequestTemplate(
+          IPROTO_TYPE_CALL,
+          RAW_IPROTO_TYPE_CALL,
+          packer.toByteArray(),
+          Collections.singletonMap(MP_IPROTO_FUNCTION_NAME, ValueFactory.newString(functionName)),
+          MP_IPROTO_TUPLE,
+          "call(function = " + functionName + ")");
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static byte[] concat(byte[]... parts) {
+    int length = 0;
+    for (byte[] part : parts) {
+      length += part.length;
+    }
+    byte[] result = new byte[length];
+    int offset = 0;
+    for (byte[] part : parts) {
+      System.arraycopy(part, 0, result, offset, part.length);
+      offset += part.length;
+    }
+    return result;
+  }
+
+  public int getRequestType() {
+    return requestType;
+  }
+
+  byte[] getRequestTypeRaw() {
+    return requestTypeRaw;
+  }
+
+  /**
+   * Returns {@code IPROTO_REQUEST_TYPE} entry followed by the {@code IPROTO_SYNC} key.
+   *
+   * @return packed header tail, the sync id value is appended per request
+   */
+  byte[] getHeaderTail() {
+    return headerTail;
+  }
+
+  /**
+   * Returns the body map with all constant entries followed by the payload key.
+   *
+   * @return packed body, the payload value is appended per request
+   */
+  byte[] getBody() {
+    return body;
+  }
+
+  Map<Value, Value> getBodyEntries() {
+    return bodyEntries;
+  }
+
+  Value getPayloadKey() {
+    return payloadKey;
+  }
+
+  @Override
+  public String toString() {
+    return description;
+  }
+}
@@ -11,6 +11,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.ArrayValue;
 import org.msgpack.value.MapValue;
 import org.msgpack.value.Value;
@@ -40,6 +41,7 @@ import static io.tarantool.core.protocol.requests.IProtoConstant.RAW_IPROTO_TYPE
 import static io.tarantool.core.protocol.requests.IProtoConstant.RAW_MAP_HEADER_WITH_EIGHT_ITEMS;
 import static io.tarantool.core.protocol.requests.IProtoConstant.RAW_MAP_HEADER_WITH_SEVEN_ITEMS;
 import static io.tarantool.core.protocol.requests.IProtoConstant.RAW_MAP_HEADER_WITH_SIX_ITEMS;
+import io.tarantool.core.protocol.ByteBufPacker;
 
 public class IProtoSelect extends IProtoBaseRequest {
 
@@ -120,6 +122,19 @@ public class IProtoSelect extends IProtoBaseRequest {
   @Override
   public byte[] getPacket(MessageBufferPacker packer) throws IOException {
     preparePacker(packer);
+    packBody(packer);
+    return getPacketFromBase(packer);
+  }
+
+  @Override
+  public void writeTo(ByteBufPacker packer) throws IOException {
+    packer.beginFrame();
+    packHeader(packer);
+    packBody(packer);
+    packer.endFrame();
+  }
+
+  private void packBody(MessagePacker packer) throws IOException {
     int items = 6;
     if (fetchPosition) {
       items++;
@@ -181,8 +196,6 @@ public class IProtoSelect extends IProtoBaseRequest {
       }
       packer.addPayload(after); // value
     }
-
-    return getPacketFromBase(packer);
   }
 
   @Override
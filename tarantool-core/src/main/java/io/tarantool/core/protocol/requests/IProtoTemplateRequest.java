@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.core.protocol.requests;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePacker;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.MapValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import static io.tarantool.core.protocol.requests.IProtoConstant.RAW_MAP_HEADER_WITH_THREE_ITEMS_PLUS_IPROTO_STREAM_ID;
+import static io.tarantool.core.protocol.requests.IProtoConstant.RAW_MAP_HEADER_WITH_TWO_ITEMS;
+import io.tarantool.core.protocol.ByteBufPacker;
+
+/**
+ * Request made from an {@link IProtoRequestTemplate}: the pre-encoded parts of the template with
+ * the sync id, stream id and payload of this particular request.
+ */
+public class IProtoTemplateRequest extends IProtoBaseRequest {
+
+  private final IProtoRequestTemplate template;
+  private ArrayValue payload;
+  private byte[] rawPayload;
+
+  public IProtoTemplateRequest(IProtoRequestTemplate template, ArrayValue payload, Long streamId) {
+    this.template = template;
+    this.payload = payload;
+    this.setStreamId(streamId);
+  }
+
+  public IProtoTemplateRequest(IProtoRequestTemplate template, byte[] payload, Long streamId) {
+    this.template = template;
+    this.rawPayload = payload;
+    this.setStreamId(streamId);
+  }
+
+  @Override
+  public byte[] getPacket(MessageBufferPacker packer) throws IOException {
+    preparePacker(packer);
+    packBody(packer);
+    return getPacketFromBase(packer);
+  }
+
+  @Override
+  public void writeTo(ByteBufPacker packer) throws IOException {
+    packer.beginFrame();
+    packHeader(packer);
+    packBody(packer);
+    packer.endFrame();
+  }
+
+  @Override
+  protected void packHeader(MessagePacker packer) throws IOException {
+    if (streamId != null) {
+      packer.addPayload(RAW_MAP_HEADER_WITH_THREE_ITEMS_PLUS_IPROTO_STREAM_ID);
+      packer.packLong(streamId);
+    } else {
+      packer.addPayload(RAW_MAP_HEADER_WITH_TWO_ITEMS);
+    }
+
+    packer.addPayload(template.getHeaderTail());
+    packer.packLong(syncId);
+  }
+
+  private void packBody(MessagePacker packer) throws IOException {
+    packer.addPayload(template.getBody());
+    packValue(packer, rawPayload, payload);
+  }
+
+  @Override
+  public MapValue getBody() {
+    if (payload == null) {
+      return null;
+    }
+
+    Map<Value, Value> map = new HashMap<>(template.getBodyEntries());
+    map.put(template.getPayloadKey(), payload);
+    return ValueFactory.newMap(map);
+  }
+
+  @Override
+  protected byte[] getRequestTypeRaw() {
+    return template.getRequestTypeRaw();
+  }
+
+  @Override
+  public int getRequestType() {
+    return template.getRequestType();
+  }
+
+  public IProtoRequestTemplate getTemplate() {
+    return template;
+  }
+
+  @Override
+  public String toString() {
+    if (this.stringBuilder == null) {
+      this.stringBuilder = new StringBuilder();
+      this.stringBuilder
+          .append("IProtoTemplateRequest(syncId = ")
+          .append(getSyncId())
+          .append(", template = ")
+          .append(template)
+          .append(", payload = ")
+          .append(payload != null ? payload : Arrays.toString(rawPayload))
+          .append(")");
+    }
+    return this.stringBuilder.toString();
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.core;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.Test;
+
+class CompletionExecutorTest {
+
+  @Test
+  void stagesRunOnDelegate() throws Exception {
+    ExecutorService delegate = Executors.newSingleThreadExecutor(r -> new Thread(r, "completer"));
+    try {
+      CompletableFuture<String> promise = new CompletableFuture<>();
+      AtomicReference<String> thread = new AtomicReference<>();
+      CompletableFuture<String> returned =
+          promise.whenCompleteAsync(
+              (r, ex) -> thread.set(Thread.currentThread().getName()),
+              new CompletionExecutor(delegate));
+
+      promise.complete("done");
+
+      assertEquals("done", returned.get(1, TimeUnit.SECONDS));
+      assertEquals("completer", thread.get());
+    } finally {
+      delegate.shutdownNow();
+    }
+  }
+
+  @Test
+  void rejectedStagesRunInline() throws Exception {
+    CompletableFuture<String> promise = new CompletableFuture<>();
+    AtomicReference<Thread> thread = new AtomicReference<>();
+    CompletableFuture<String> returned =
+        promise.whenCompleteAsync(
+            (r, ex) -> thread.set(Thread.currentThread()),
+            new CompletionExecutor(
+                task -> {
+                  throw new RejectedExecutionException("saturated");
+                }));
+
+    promise.complete("done");
+
+    assertEquals("done", returned.getNow(null));
+    assertSame(Thread.currentThread(), thread.get());
+  }
+
+  @Test
+  void shutDownDelegateCompletesInline() {
+    ExecutorService delegate = Executors.newSingleThreadExecutor();
+    delegate.shutdown();
+    CompletableFuture<String> promise = new CompletableFuture<>();
+    CompletableFuture<String> returned =
+        promise.whenCompleteAsync((r, ex) -> {}, new CompletionExecutor(delegate));
+
+    promise.completeExceptionally(new IllegalStateException("failed"));
+
+    assertEquals(
+        IllegalStateException.class,
+        returned.handle((r, ex) -> ex.getCause().getClass()).getNow(null));
+  }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.core;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import io.tarantool.core.connection.Connection;
+import io.tarantool.core.connection.ConnectionCloseEvent;
+import io.tarantool.core.connection.Greeting;
+import io.tarantool.core.connection.codecs.FrameCodecOptions;
+import io.tarantool.core.protocol.IProtoMessage;
+import io.tarantool.core.protocol.IProtoResponse;
+
+class InFlightLimiterTest {
+
+  private final FakeConnection connection = new FakeConnection();
+  private final InFlightLimiter limiter = new InFlightLimiter(connection, 2);
+
+  @Test
+  void permitsAreLimited() {
+    assertTrue(limiter.tryAcquire(1));
+    assertTrue(limiter.tryAcquire(1));
+    assertFalse(limiter.tryAcquire(1));
+    assertEquals(2, limiter.inFlight());
+
+    limiter.release(1);
+
+    assertTrue(limiter.tryAcquire(1));
+  }
+
+  @Test
+  void batchTakesPermitsAtOnce() {
+    assertTrue(limiter.tryAcquire(1));
+    assertFalse(limiter.tryAcquire(2));
+    assertEquals(1, limiter.inFlight());
+  }
+
+  @Test
+  void waitersStartInOrderWhenPermitsAreReleased() {
+    List<Integer> started = new ArrayList<>();
+    assertTrue(limiter.tryAcquire(2));
+
+    limiter.enqueue(1, () -> started.add(1), ex -> {});
+    limiter.enqueue(1, () -> started.add(2), ex -> {});
+    assertTrue(started.isEmpty());
+    assertFalse(limiter.tryAcquire(1), "waiting requests must not be overtaken");
+
+    limiter.release(1);
+    assertEquals(Arrays.asList(1), started);
+
+    limiter.release(1);
+    assertEquals(Arrays.asList(1, 2), started);
+    assertEquals(2, limiter.inFlight());
+  }
+
+  @Test
+  void nothingIsAcquiredWhileConnectionIsNotWritable() {
+    List<Integer> started = new ArrayList<>();
+    connection.writable = false;
+
+    assertFalse(limiter.tryAcquire(1));
+    limiter.enqueue(1, () -> started.add(1), ex -> {});
+    assertTrue(started.isEmpty());
+
+    connection.writable = true;
+    limiter.drain();
+
+    assertEquals(Arrays.asList(1), started);
+    assertEquals(1, limiter.inFlight());
+  }
+
+  @Test
+  void givenBackPermitsDoNotStartWaiters() {
+    List<Integer> started = new ArrayList<>();
+    assertTrue(limiter.tryAcquire(2));
+    limiter.enqueue(1, () -> started.add(1), ex -> {});
+
+    limiter.giveBack(1);
+    assertTrue(started.isEmpty());
+
+    limiter.drain();
+    assertEquals(Arrays.asList(1), started);
+  }
+
+  @Test
+  void waitersAreFailedWithoutStarting() {
+    List<Integer> started = new ArrayList<>();
+    List<Throwable> failed = new ArrayList<>();
+    assertTrue(limiter.tryAcquire(2));
+    limiter.enqueue(1, () -> started.add(1), failed::add);
+    limiter.enqueue(2, () -> started.add(2), failed::add);
+    IllegalStateException closed = new IllegalStateException("closed");
+
+    limiter.failWaiters(closed);
+    limiter.release(2);
+
+    assertTrue(started.isEmpty());
+    assertEquals(Arrays.asList(closed, closed), failed);
+    assertEquals(0, limiter.inFlight());
+  }
+
+  @Test
+  void negativeLimitIsRejected() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> FrameCodecOptions.builder().withMaxInFlightRequests(-1));
+  }
+
+  private static final class FakeConnection implements Connection {
+    private boolean writable = true;
+
+    @Override
+    public boolean isWritable() {
+      return writable;
+    }
+
+    @Override
+    public CompletableFuture<Void> send(IProtoMessage message) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public boolean isConnected() {
+      return true;
+    }
+
+    @Override
+    public CompletableFuture<Greeting> connect(InetSocketAddress addr, long timeoutMs) {
+      return new CompletableFuture<>();
+    }
+
+    @Override
+    public Connection listen(Consumer<IProtoResponse> listener) {
+      return this;
+    }
+
+    @Override
+    public Connection onClose(
+        ConnectionCloseEvent event, BiConsumer<Connection, Throwable> handler) {
+      return this;
+    }
+
+    @Override
+    public Optional<Greeting> getGreeting() {
+      return Optional.empty();
+    }
+
+    @Override
+    public void shutdownClose() {}
+
+    @Override
+    public void pause() {}
+
+    @Override
+    public void resume() {}
+
+    @Override
+    public void setIdleTimeout(int idleTimeout) {}
+
+    @Override
+    public boolean isPaused() {
+      return false;
+    }
+
+    @Override
+    public void close() {}
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class PeakEwmaTest {
+
+  private static final long DECAY = 1_000;
+
+  private long now;
+  private final PeakEwma estimate = new PeakEwma(DECAY, () -> now);
+
+  @Test
+  void slowResponseIsTakenAtOnce() {
+    estimate.observe(100);
+    now += 10;
+    estimate.observe(5_000);
+
+    assertEquals(5_000, estimate.getNanos(), 0.0);
+  }
+
+  @Test
+  void fastResponsesPullEstimateDownWithTime() {
+    estimate.observe(1_000);
+    now += DECAY;
+    estimate.observe(0);
+
+    assertEquals(1_000 * Math.exp(-1), estimate.getNanos(), 1e-9);
+  }
+
+  @Test
+  void estimateDecaysWithoutSamples() {
+    estimate.observe(1_000);
+    now += 10 * DECAY;
+
+    assertTrue(estimate.getNanos() < 1);
+  }
+
+  @Test
+  void noSamplesMeansZero() {
+    now += DECAY;
+
+    assertEquals(0, estimate.getNanos(), 0.0);
+  }
+
+  @Test
+  void readingDoesNotChangeDecay() {
+    estimate.observe(1_000);
+    now += DECAY / 2;
+    estimate.getNanos();
+    now += DECAY / 2;
+
+    assertEquals(1_000 * Math.exp(-1), estimate.getNanos(), 1e-9);
+  }
+
+  @Test
+  void concurrentSamplesAreNotLost() throws Exception {
+    PeakEwma shared = new PeakEwma(DECAY, () -> 0);
+    Thread[] threads = new Thread[4];
+    for (int t = 0; t < threads.length; t++) {
+      long base = t * 10_000L;
+      threads[t] =
+          new Thread(
+              () -> {
+                for (int i = 1; i <= 10_000; i++) {
+                  shared.observe(base + i);
+                }
+              });
+      threads[t].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertEquals(40_000, shared.getNanos(), 0.0);
+  }
+
+  @Test
+  void decayMustBePositive() {
+    assertThrows(IllegalArgumentException.class, () -> new PeakEwma(0));
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.core.benchmark;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.tarantool.core.protocol.fsm.SyncIdRegistry;
+
+/**
+ * Compares {@link SyncIdRegistry} with the {@link ConcurrentHashMap} it replaced on the request
+ * path: every operation registers a request with the next sync id from a shared sequence and
+ * completes (looks up and removes) the request sent {@code window} operations earlier.
+ *
+ * <p>Usage: {@code SyncIdRegistryBenchmark [threads] [window] [operations per thread]}.
+ */
+public class SyncIdRegistryBenchmark {
+
+  private static final int ROUNDS = 5;
+
+  private interface Registry {
+
+    void put(long syncId, Request request);
+
+    Request get(long syncId);
+
+    Request remove(long syncId);
+  }
+
+  private static final class Request {
+
+    private final long syncId;
+
+    private Request(long syncId) {
+      this.syncId = syncId;
+    }
+  }
+
+  private static Registry ring() {
+    SyncIdRegistry<Request> registry = new SyncIdRegistry<>(r -> r.syncId);
+    return new Registry() {
+      @Override
+      public void put(long syncId, Request request) {
+        registry.put(syncId, request);
+      }
+
+      @Override
+      public Request get(long syncId) {
+        return registry.get(syncId);
+      }
+
+      @Override
+      public Request remove(long syncId) {
+        return registry.remove(syncId);
+      }
+    };
+  }
+
+  private static Registry map() {
+    ConcurrentHashMap<Long, Request> map = new ConcurrentHashMap<>();
+    return new Registry() {
+      @Override
+      public void put(long syncId, Request request) {
+        map.put(syncId, request);
+      }
+
+      @Override
+      public Request get(long syncId) {
+        return map.get(syncId);
+      }
+
+      @Override
+      public Request remove(long syncId) {
+        return map.remove(syncId);
+      }
+    };
+  }
+
+  private static double run(Registry registry, int threads, int window, int operations)
+      throws InterruptedException {
+    AtomicLong sequence = new AtomicLong();
+    CountDownLatch start = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(threads);
+    for (int t = 0; t < threads; t++) {
+      Thread thread =
+          new Thread(
+              () -> {
+                long[] inFlight = new long[window];
+                try {
+                  start.await();
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                  return;
+                }
+                for (int i = 0; i < operations; i++) {
+                  int slot = i % window;
+                  if (i >= window) {
+                    long syncId = inFlight[slot];
+                    if (registry.get(syncId) == null || registry.remove(syncId) == null) {
+                      throw new IllegalStateException("Lost request " + syncId);
+                    }
+                  }
+                  long syncId = sequence.incrementAndGet();
+                  registry.put(syncId, new Request(syncId));
+                  inFlight[slot] = syncId;
+                }
+                done.countDown();
+              });
+      thread.setDaemon(true);
+      thread.start();
+    }
+    long begin = System.nanoTime();
+    start.countDown();
+    done.await();
+    return (System.nanoTime() - begin) / (double) operations;
+  }
+
+  public static void main(String[] args) throws InterruptedException {
+    int threads = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+    int window = args.length > 1 ? Integer.parseInt(args[1]) : 256;
+    int operations = args.length > 2 ? Integer.parseInt(args[2]) : 2_000_000;
+
+    System.out.printf("threads = %d, in-flight per thread = %d%n", threads, window);
+    for (int round = 1; round <= ROUNDS; round++) {
+      double mapNs = run(map(), threads, window, operations);
+      double ringNs = run(ring(), threads, window, operations);
+      System.out.printf(
+          "round %d: ConcurrentHashMap %.1f ns/op, SyncIdRegistry %.1f ns/op%n",
+          round, mapNs, ringNs);
+    }
+  }
+}
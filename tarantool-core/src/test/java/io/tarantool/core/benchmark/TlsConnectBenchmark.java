@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.core.benchmark;
+
+import java.io.File;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.MultiThreadIoEventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioIoHandler;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.util.SelfSignedCertificate;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timer;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessageUnpacker;
+
+import static io.tarantool.core.protocol.requests.IProtoConstant.IPROTO_OK;
+import static io.tarantool.core.protocol.requests.IProtoConstant.IPROTO_REQUEST_TYPE;
+import static io.tarantool.core.protocol.requests.IProtoConstant.IPROTO_SCHEMA_VERSION;
+import static io.tarantool.core.protocol.requests.IProtoConstant.IPROTO_SYNC_ID;
+import io.tarantool.core.connection.Connection;
+import io.tarantool.core.connection.ConnectionFactory;
+import io.tarantool.core.connection.TlsOptions;
+import io.tarantool.core.protocol.requests.IProtoPing;
+
+/**
+ * Measures the cost of TLS against a local Tarantool stand-in, a server sending the IProto greeting
+ * and answering every request with an empty OK response:
+ *
+ * <ul>
+ *   <li>reconnects: connect, greeting and close of a connection without TLS, with a full TLS
+ *       handshake (a fresh context per connection, so there is no session to resume) and with a
+ *       resumed TLS session (one context shared by the connections, as clients do);
+ *   <li>records: pings pipelined over one connection without and with TLS.
+ * </ul>
+ *
+ * <p>The TLS provider is the one {@link TlsOptions} chooses: OpenSSL when netty-tcnative is on the
+ * classpath, JDK otherwise. Without a certificate the stand-in uses a self-signed one, which needs
+ * BouncyCastle on recent JDKs.
+ *
+ * <p>Usage: {@code TlsConnectBenchmark [connections] [pings] [cert.pem key.pem]}.
+ */
+public class TlsConnectBenchmark {
+
+  private static final int ROUNDS = 5;
+  private static final int PING_WINDOW = 256;
+  private static final long CONNECT_TIMEOUT = 3_000;
+
+  private static Channel startStandIn(EventLoopGroup group, SslContext sslContext)
+      throws InterruptedException {
+    return new ServerBootstrap()
+        .group(group)
+        .channel(NioServerSocketChannel.class)
+        .childOption(ChannelOption.TCP_NODELAY, true)
+        .childHandler(
+            new ChannelInitializer<SocketChannel>() {
+              @Override
+              protected void initChannel(SocketChannel channel) {
+                if (sslContext != null) {
+                  channel.pipeline().addLast(sslContext.newHandler(channel.alloc()));
+                }
+                channel
+                    .pipeline()
+                    .addLast(new LengthFieldBasedFrameDecoder(Integer.MAX_VALUE, 1, 4, 0, 5))
+                    .addLast(new StandInHandler());
+              }
+            })
+        .bind(new InetSocketAddress("127.0.0.1", 0))
+        .sync()
+        .channel();
+  }
+
+  private static final class StandInHandler extends SimpleChannelInboundHandler<ByteBuf> {
+
+    private static final byte[] GREETING = greeting();
+
+    private static byte[] greeting() {
+      byte[] salt = new byte[32];
+      Arrays.fill(salt, (byte) 7);
+      String version = String.format("%-63s\n", "Tarantool 3.2.0 (Binary) " + UUID.randomUUID());
+      String encodedSalt = String.format("%-63s\n", Base64.getEncoder().encodeToString(salt));
+      return (version + encodedSalt).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) {
+      ctx.writeAndFlush(ctx.alloc().buffer(GREETING.length).writeBytes(GREETING));
+    }
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, ByteBuf frame) throws Exception {
+      long syncId = 0;
+      try (MessageUnpacker unpacker =
+          MessagePack.newDefaultUnpacker(ByteBufUtil.getBytes(frame))) {
+        int size = unpacker.unpackMapHeader();
+        for (int i = 0; i < size; i++) {
+          if (unpacker.unpackInt() == IPROTO_SYNC_ID) {
+            syncId = unpacker.unpackLong();
+          } else {
+            unpacker.skipValue();
+          }
+        }
+      }
+      MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+      packer.packMapHeader(3);
+      packer.packInt(IPROTO_REQUEST_TYPE).packInt(IPROTO_OK);
+      packer.packInt(IPROTO_SYNC_ID).packLong(syncId);
+      packer.packInt(IPROTO_SCHEMA_VERSION).packInt(0);
+      packer.packMapHeader(0);
+      byte[] response = packer.toByteArray();
+      packer.close();
+      ctx.write(ctx.alloc().buffer(5 + response.length).writeByte(0xce).writeInt(response.length));
+      ctx.writeAndFlush(ctx.alloc().buffer(response.length).writeBytes(response));
+    }
+  }
+
+  private static double reconnects(
+      Bootstrap bootstrap, Timer timer, InetSocketAddress address, List<SslContext> contexts)
+      throws Exception {
+    long begin = System.nanoTime();
+    for (SslContext context : contexts) {
+      Connection connection = new ConnectionFactory(bootstrap, context, timer).create();
+      connection.connect(address, CONNECT_TIMEOUT).get(CONNECT_TIMEOUT, TimeUnit.MILLISECONDS);
+      connection.close();
+    }
+    return (System.nanoTime() - begin) / 1_000.0 / contexts.size();
+  }
+
+  private static double pings(
+      Bootstrap bootstrap, Timer timer, InetSocketAddress address, SslContext context, int count)
+      throws Exception {
+    Semaphore window = new Semaphore(PING_WINDOW);
+    CountDownLatch done = new CountDownLatch(count);
+    Connection connection =
+        new ConnectionFactory(bootstrap, context, timer)
+            .create()
+            .listen(
+                response -> {
+                  window.release();
+                  done.countDown();
+                });
+    connection.connect(address, CONNECT_TIMEOUT).get(CONNECT_TIMEOUT, TimeUnit.MILLISECONDS);
+    long begin = System.nanoTime();
+    for (int i = 1; i <= count; i++) {
+      window.acquire();
+      IProtoPing ping = new IProtoPing();
+      ping.setSyncId(i);
+      connection.send(ping);
+    }
+    done.await();
+    double nsPerPing = (System.nanoTime() - begin) / (double) count;
+    connection.close();
+    return nsPerPing;
+  }
+
+  private static List<SslContext> repeat(SslContext context, int count) {
+    List<SslContext> contexts = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      contexts.add(context);
+    }
+    return contexts;
+  }
+
+  public static void main(String[] args) throws Exception {
+    int connections = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+    int pings = args.length > 1 ? Integer.parseInt(args[1]) : 500_000;
+    File cert;
+    File key;
+    if (args.length > 3) {
+      cert = new File(args[2]);
+      key = new File(args[3]);
+    } else {
+      SelfSignedCertificate selfSigned = new SelfSignedCertificate("localhost");
+      cert = selfSigned.certificate();
+      key = selfSigned.privateKey();
+    }
+
+    TlsOptions tls =
+        TlsOptions.builder().withTrustCertCollection(cert).withHostnameVerification(false).build();
+    SslContext serverContext = SslContextBuilder.forServer(cert, key).build();
+    EventLoopGroup serverGroup = new MultiThreadIoEventLoopGroup(1, NioIoHandler.newFactory());
+    EventLoopGroup clientGroup = new MultiThreadIoEventLoopGroup(1, NioIoHandler.newFactory());
+    Timer timer = new HashedWheelTimer();
+    Bootstrap bootstrap =
+        new Bootstrap()
+            .group(clientGroup)
+            .channel(NioSocketChannel.class)
+            .option(ChannelOption.TCP_NODELAY, true);
+    Channel plainServer = startStandIn(serverGroup, null);
+    Channel tlsServer = startStandIn(serverGroup, serverContext);
+    InetSocketAddress plainAddress = (InetSocketAddress) plainServer.localAddress();
+    InetSocketAddress tlsAddress = (InetSocketAddress) tlsServer.localAddress();
+
+    try {
+      System.out.printf(
+          "provider = %s, connections = %d, pings = %d%n", tls.getProvider(), connections, pings);
+      SslContext shared = tls.createSslContext();
+      for (int round = 1; round <= ROUNDS; round++) {
+        List<SslContext> fresh = new ArrayList<>(connections);
+        for (int i = 0; i < connections; i++) {
+          fresh.add(tls.createSslContext());
+        }
+        double plain = reconnects(bootstrap, timer, plainAddress, repeat(null, connections));
+        double full = reconnects(bootstrap, timer, tlsAddress, fresh);
+        double resumed = reconnects(bootstrap, timer, tlsAddress, repeat(shared, connections));
+        System.out.printf(
+            "round %d: reconnect plain %.1f us, TLS full handshake %.1f us, TLS resumed %.1f us%n",
+            round, plain, full, resumed);
+      }
+      for (int round = 1; round <= ROUNDS; round++) {
+        double plain = pings(bootstrap, timer, plainAddress, null, pings);
+        double secure = pings(bootstrap, timer, tlsAddress, shared, pings);
+        System.out.printf("round %d: ping plain %.0f ns, TLS %.0f ns%n", round, plain, secure);
+      }
+    } finally {
+      plainServer.close().sync();
+      tlsServer.close().sync();
+      serverGroup.shutdownGracefully();
+      clientGroup.shutdownGracefully();
+      timer.stop();
+    }
+  }
+}
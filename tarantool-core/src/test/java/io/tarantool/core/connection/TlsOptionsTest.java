@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.core.connection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.handler.ssl.OpenSsl;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslProvider;
+import org.junit.jupiter.api.Test;
+
+public class TlsOptionsTest {
+
+  @Test
+  public void testDefaults() {
+    TlsOptions options = TlsOptions.builder().build();
+
+    assertEquals(1024, options.getSessionCacheSize());
+    assertEquals(0, options.getSessionTimeout());
+    assertTrue(options.isPreferOpenSsl());
+    assertTrue(options.isHostnameVerification());
+    assertEquals(
+        OpenSsl.isAvailable() ? SslProvider.OPENSSL : SslProvider.JDK, options.getProvider());
+  }
+
+  @Test
+  public void testJdkContextKeepsSessions() throws Exception {
+    SslContext context =
+        TlsOptions.builder()
+            .withPreferOpenSsl(false)
+            .withSessionCacheSize(16)
+            .withSessionTimeout(600)
+            .build()
+            .createSslContext();
+
+    assertTrue(context.isClient());
+    assertEquals(16, context.sessionCacheSize());
+    assertEquals(600, context.sessionTimeout());
+  }
+
+  @Test
+  public void testEndpointIdentificationFollowsOptions() throws Exception {
+    SslContext verifying =
+        TlsOptions.builder().withPreferOpenSsl(false).build().createSslContext();
+    SslContext trusting =
+        TlsOptions.builder()
+            .withPreferOpenSsl(false)
+            .withHostnameVerification(false)
+            .build()
+            .createSslContext();
+
+    assertInstanceOf(TlsOptions.ResumableSslContext.class, verifying);
+    assertEquals(
+        "HTTPS",
+        verifying
+            .newEngine(ByteBufAllocator.DEFAULT, "localhost", 3301)
+            .getSSLParameters()
+            .getEndpointIdentificationAlgorithm());
+    assertNull(
+        trusting
+            .newEngine(ByteBufAllocator.DEFAULT, "localhost", 3301)
+            .getSSLParameters()
+            .getEndpointIdentificationAlgorithm());
+  }
+
+  @Test
+  public void testInvalidSessionSettings() {
+    assertThrows(
+        IllegalArgumentException.class, () -> TlsOptions.builder().withSessionCacheSize(0));
+    assertThrows(IllegalArgumentException.class, () -> TlsOptions.builder().withSessionTimeout(-1));
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.core.connection;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.Test;
+
+import io.tarantool.core.protocol.IProtoMessage;
+import io.tarantool.core.protocol.IProtoRequestBatch;
+import io.tarantool.core.protocol.requests.IProtoPing;
+
+class WriteBatcherTest {
+
+  private static final class FlushCounter extends ChannelOutboundHandlerAdapter {
+
+    private int flushes;
+
+    @Override
+    public void flush(ChannelHandlerContext ctx) {
+      flushes++;
+      ctx.flush();
+    }
+  }
+
+  @Test
+  void queuedMessagesAreFlushedOnce() {
+    FlushCounter counter = new FlushCounter();
+    EmbeddedChannel channel = new EmbeddedChannel(counter);
+    WriteBatcher batcher = new WriteBatcher(channel, 128);
+    IProtoMessage[] messages = {new IProtoPing(), new IProtoPing(), new IProtoPing()};
+
+    for (IProtoMessage message : messages) {
+      batcher.write(message, null);
+    }
+    assertNull(channel.readOutbound());
+
+    channel.runPendingTasks();
+    for (IProtoMessage message : messages) {
+      assertSame(message, channel.readOutbound());
+    }
+    assertEquals(1, counter.flushes);
+  }
+
+  @Test
+  void batchIsLimitedByMaxBatchSize() {
+    FlushCounter counter = new FlushCounter();
+    EmbeddedChannel channel = new EmbeddedChannel(counter);
+    WriteBatcher batcher = new WriteBatcher(channel, 2);
+
+    for (int i = 0; i < 5; i++) {
+      batcher.write(new IProtoPing(), null);
+    }
+    channel.runPendingTasks();
+
+    assertEquals(5, channel.outboundMessages().size());
+    assertEquals(3, counter.flushes);
+  }
+
+  @Test
+  void promiseIsCompletedAfterWrite() {
+    EmbeddedChannel channel = new EmbeddedChannel();
+    WriteBatcher batcher = new WriteBatcher(channel, 128);
+    ChannelPromise promise = channel.newPromise();
+
+    batcher.write(new IProtoPing(), promise);
+    channel.runPendingTasks();
+
+    assertTrue(promise.isSuccess());
+  }
+
+  @Test
+  void batchKeepsItsPlaceAmongQueuedMessages() {
+    EmbeddedChannel channel = new EmbeddedChannel();
+    WriteBatcher batcher = new WriteBatcher(channel, 128);
+    IProtoPing before = new IProtoPing();
+    IProtoRequestBatch batch = new IProtoRequestBatch(Arrays.asList(new IProtoPing()));
+    IProtoPing after = new IProtoPing();
+
+    batcher.write(before, null);
+    batcher.write(batch, null);
+    batcher.write(after, null);
+    channel.runPendingTasks();
+
+    assertSame(before, channel.readOutbound());
+    assertSame(batch, channel.readOutbound());
+    assertSame(after, channel.readOutbound());
+  }
+}
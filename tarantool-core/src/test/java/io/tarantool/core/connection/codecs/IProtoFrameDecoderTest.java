@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.core.connection.codecs;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.CorruptedFrameException;
+import io.netty.handler.codec.DecoderException;
+import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+
+import static io.tarantool.core.protocol.requests.IProtoConstant.IPROTO_DATA;
+import static io.tarantool.core.protocol.requests.IProtoConstant.IPROTO_OK;
+import static io.tarantool.core.protocol.requests.IProtoConstant.IPROTO_POSITION;
+import static io.tarantool.core.protocol.requests.IProtoConstant.IPROTO_REQUEST_TYPE;
+import static io.tarantool.core.protocol.requests.IProtoConstant.IPROTO_SCHEMA_VERSION;
+import static io.tarantool.core.protocol.requests.IProtoConstant.IPROTO_STREAM_ID;
+import static io.tarantool.core.protocol.requests.IProtoConstant.IPROTO_SYNC_ID;
+import static io.tarantool.core.protocol.requests.IProtoConstant.IPROTO_TUPLE_FORMATS;
+import io.tarantool.core.connection.exceptions.FrameTooLongException;
+import io.tarantool.core.protocol.ByteBodyValueWrapper;
+import io.tarantool.core.protocol.IProtoRawResponse;
+
+class IProtoFrameDecoderTest {
+
+  private static byte[] frame(long syncId, long schemaVersion) throws IOException {
+    MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+    packer.packMapHeader(4);
+    packer.packInt(IPROTO_REQUEST_TYPE).packInt(IPROTO_OK);
+    packer.packInt(IPROTO_SYNC_ID).packLong(syncId);
+    // unknown value types must be skipped by the cursor
+    packer.packInt(IPROTO_STREAM_ID).packArrayHeader(2).packString("skip").packDouble(1.5);
+    packer.packInt(IPROTO_SCHEMA_VERSION).packLong(schemaVersion);
+    packer.packMapHeader(1);
+    packer.packInt(IPROTO_DATA).packArrayHeader(2).packInt(1).packString("one");
+    byte[] packet = packer.toByteArray();
+    packer.close();
+    return withSizePrefix(packet);
+  }
+
+  private static byte[] shortFrame(long syncId) throws IOException {
+    MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+    packer.packMapHeader(2);
+    packer.packInt(IPROTO_REQUEST_TYPE).packInt(IPROTO_OK);
+    packer.packInt(IPROTO_SYNC_ID).packLong(syncId);
+    packer.packMapHeader(0);
+    byte[] packet = packer.toByteArray();
+    packer.close();
+    return withSizePrefix(packet);
+  }
+
+  private static byte[] withSizePrefix(byte[] packet) {
+    byte[] frame = new byte[5 + packet.length];
+    frame[0] = (byte) 0xce;
+    frame[1] = (byte) (packet.length >>> 24);
+    frame[2] = (byte) (packet.length >>> 16);
+    frame[3] = (byte) (packet.length >>> 8);
+    frame[4] = (byte) packet.length;
+    System.arraycopy(packet, 0, frame, 5, packet.length);
+    return frame;
+  }
+
+  private static byte[] data(ByteBodyValueWrapper value) {
+    byte[] bytes = new byte[value.getValueLength()];
+    System.arraycopy(value.getPacket(), value.getOffset(), bytes, 0, bytes.length);
+    return bytes;
+  }
+
+  @Test
+  void zeroCopyResponseReadsHeaderInPlace() throws IOException {
+    EmbeddedChannel channel = new EmbeddedChannel(new IProtoFrameDecoder(true));
+    assertTrue(channel.writeInbound(Unpooled.wrappedBuffer(frame(42, 7))));
+
+    IProtoRawResponse response = channel.readInbound();
+    assertEquals(42, response.getSyncId());
+    assertEquals(IPROTO_OK, response.getRequestType());
+    assertEquals(7, response.getSchemaVersion());
+    assertFalse(response.isBodyEmpty());
+    assertEquals(1, response.getBodyArrayValue(IPROTO_DATA).get(0).asIntegerValue().asInt());
+    assertEquals(4, response.getHeader().map().size());
+
+    assertEquals(1, response.refCnt());
+    assertTrue(response.release());
+    assertEquals(0, response.refCnt());
+    assertFalse(channel.finish());
+  }
+
+  @Test
+  void zeroCopyDecodesFrameSplitAcrossReads() throws IOException {
+    byte[] frame = frame(1, 0);
+    EmbeddedChannel channel = new EmbeddedChannel(new IProtoFrameDecoder(true));
+
+    assertFalse(channel.writeInbound(Unpooled.wrappedBuffer(frame, 0, 7)));
+    assertNull(channel.readInbound());
+    assertTrue(channel.writeInbound(Unpooled.wrappedBuffer(frame, 7, frame.length - 7)));
+
+    IProtoRawResponse response = channel.readInbound();
+    assertEquals(1, response.getSyncId());
+    response.release();
+    assertFalse(channel.finish());
+  }
+
+  @Test
+  void zeroCopyAndCopyingModesProduceSameResponse() throws IOException {
+    byte[] frame = frame(Integer.MAX_VALUE + 1L, 3);
+    byte[] prefixed = new byte[frame.length + 3];
+    System.arraycopy(frame, 0, prefixed, 3, frame.length);
+    // a direct frame and a heap frame that does not start at the beginning of its array
+    ByteBuf[] sources = {
+      Unpooled.directBuffer(frame.length).writeBytes(frame),
+      Unpooled.wrappedBuffer(prefixed).skipBytes(3)
+    };
+    for (ByteBuf source : sources) {
+      EmbeddedChannel copying = new EmbeddedChannel(new IProtoFrameDecoder());
+      EmbeddedChannel zeroCopy = new EmbeddedChannel(new IProtoFrameDecoder(true));
+      copying.writeInbound(Unpooled.wrappedBuffer(frame));
+      zeroCopy.writeInbound(source);
+
+      IProtoRawResponse expected = copying.readInbound();
+      IProtoRawResponse actual = zeroCopy.readInbound();
+      assertEquals(expected.getSyncId(), actual.getSyncId());
+      assertEquals(expected.getSchemaVersion(), actual.getSchemaVersion());
+      assertEquals(expected.getHeader(), actual.getHeader());
+      assertEquals(expected.getBody(), actual.getBody());
+      assertArrayEquals(
+          data(expected.getByteBodyValue(IPROTO_DATA)),
+          data(actual.getByteBodyValue(IPROTO_DATA)));
+
+      actual.release();
+      assertEquals(0, source.refCnt());
+    }
+  }
+
+  @Test
+  void directValueIsExposedWithoutCopy() throws IOException {
+    byte[] frame = frame(1, 0);
+    EmbeddedChannel copying = new EmbeddedChannel(new IProtoFrameDecoder());
+    EmbeddedChannel zeroCopy = new EmbeddedChannel(new IProtoFrameDecoder(true));
+    copying.writeInbound(Unpooled.wrappedBuffer(frame));
+    zeroCopy.writeInbound(Unpooled.directBuffer(frame.length).writeBytes(frame));
+
+    IProtoRawResponse expected = copying.readInbound();
+    IProtoRawResponse actual = zeroCopy.readInbound();
+    ByteBuffer value = actual.getByteBodyValue(IPROTO_DATA).getByteBuffer();
+    assertTrue(value.isDirect());
+    byte[] bytes = new byte[value.remaining()];
+    value.get(bytes);
+    assertArrayEquals(data(expected.getByteBodyValue(IPROTO_DATA)), bytes);
+
+    ByteBuffer heapValue = expected.getByteBodyValue(IPROTO_DATA).getByteBuffer();
+    assertEquals(bytes.length, heapValue.remaining());
+    actual.release();
+  }
+
+  @Test
+  void directValueIsCopiedOncePerKey() throws IOException {
+    byte[] frame = frame(1, 0);
+    EmbeddedChannel zeroCopy = new EmbeddedChannel(new IProtoFrameDecoder(true));
+    zeroCopy.writeInbound(Unpooled.directBuffer(frame.length).writeBytes(frame));
+
+    IProtoRawResponse response = zeroCopy.readInbound();
+    ByteBodyValueWrapper value = response.getByteBodyValue(IPROTO_DATA);
+    byte[] packet = value.getPacket();
+    assertSame(value, response.getByteBodyValue(IPROTO_DATA));
+    assertSame(packet, response.getByteBodyValue(IPROTO_DATA).getPacket());
+    assertSame(value, response.getByteBodyValues().get(IPROTO_DATA));
+    response.release();
+  }
+
+  @Test
+  void largeFrameIsDecodedOnceAllSegmentsArrive() throws IOException {
+    byte[] frame = frame(5, 0);
+    EmbeddedChannel channel = new EmbeddedChannel(new IProtoFrameDecoder());
+    for (int i = 0; i < frame.length - 1; i++) {
+      assertFalse(channel.writeInbound(Unpooled.wrappedBuffer(frame, i, 1)));
+    }
+    assertTrue(channel.writeInbound(Unpooled.wrappedBuffer(frame, frame.length - 1, 1)));
+
+    IProtoRawResponse response = channel.readInbound();
+    assertEquals(5, response.getSyncId());
+    assertNull(channel.readInbound());
+  }
+
+  @Test
+  void tooLongFrameIsSkipped() throws IOException {
+    byte[] tooLong = frame(1, 0);
+    byte[] next = shortFrame(2);
+    // the limit lets the next frame through
+    EmbeddedChannel channel =
+        new EmbeddedChannel(new IProtoFrameDecoder(false, tooLong.length - 6));
+    assertTrue(next.length - 5 <= tooLong.length - 6);
+
+    // the header is incomplete, the decoder waits for the sync id
+    assertFalse(channel.writeInbound(Unpooled.wrappedBuffer(tooLong, 0, 10)));
+    FrameTooLongException exc =
+        assertThrows(
+            FrameTooLongException.class,
+            () -> channel.writeInbound(Unpooled.wrappedBuffer(tooLong, 10, tooLong.length - 10)));
+    assertEquals(1, exc.getSyncId());
+    assertEquals(tooLong.length - 5, exc.getFrameSize());
+    assertNull(channel.readInbound());
+
+    assertTrue(channel.writeInbound(Unpooled.wrappedBuffer(next)));
+    IProtoRawResponse response = channel.readInbound();
+    assertEquals(2, response.getSyncId());
+    assertTrue(channel.isOpen());
+  }
+
+  @Test
+  void tooLongFrameIsDiscardedAsItArrives() throws IOException {
+    byte[] tooLong = frame(7, 0);
+    EmbeddedChannel channel = new EmbeddedChannel(new IProtoFrameDecoder(false, 16));
+
+    FrameTooLongException exc =
+        assertThrows(
+            FrameTooLongException.class,
+            () -> channel.writeInbound(Unpooled.wrappedBuffer(tooLong, 0, 30)));
+    assertEquals(7, exc.getSyncId());
+    assertFalse(channel.writeInbound(Unpooled.wrappedBuffer(tooLong, 30, tooLong.length - 30)));
+    byte[] next = shortFrame(8);
+    assertTrue(next.length - 5 <= 16);
+    assertTrue(channel.writeInbound(Unpooled.wrappedBuffer(next)));
+    assertEquals(8, ((IProtoRawResponse) channel.readInbound()).getSyncId());
+  }
+
+  @Test
+  void framesAreNotLimitedByDefault() throws IOException {
+    byte[] frame = frame(9, 0);
+    EmbeddedChannel channel = new EmbeddedChannel(new IProtoFrameDecoder());
+
+    assertEquals(Integer.MAX_VALUE, FrameCodecOptions.defaults().getMaxFrameSize());
+    // a size above any int limit is still rejected rather than truncated
+    byte[] huge = frame.clone();
+    huge[1] = (byte) 0x80;
+    assertThrows(
+        FrameTooLongException.class, () -> channel.writeInbound(Unpooled.wrappedBuffer(huge)));
+  }
+
+  @Test
+  void corruptedSizePrefixClosesChannel() {
+    EmbeddedChannel channel = new EmbeddedChannel(new IProtoFrameDecoder());
+
+    assertThrows(
+        CorruptedFrameException.class,
+        () -> channel.writeInbound(Unpooled.wrappedBuffer(new byte[] {1, 2, 3, 4, 5})));
+    assertFalse(channel.isOpen());
+  }
+
+  @Test
+  void bodyKeysAreIndexedWithoutSyncId() throws IOException {
+    MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+    packer.packMapHeader(1);
+    packer.packInt(IPROTO_REQUEST_TYPE).packInt(IPROTO_OK);
+    packer.packMapHeader(2);
+    packer.packInt(IPROTO_TUPLE_FORMATS).packArrayHeader(1);
+    packer.packMapHeader(1).packInt(0).packString("id");
+    packer.packInt(IPROTO_DATA).packArrayHeader(1).packInt(1);
+    byte[] packet = packer.toByteArray();
+    packer.close();
+
+    for (boolean zeroCopy : new boolean[] {false, true}) {
+      EmbeddedChannel channel = new EmbeddedChannel(new IProtoFrameDecoder(zeroCopy));
+      channel.writeInbound(Unpooled.wrappedBuffer(withSizePrefix(packet)));
+
+      IProtoRawResponse response = channel.readInbound();
+      assertFalse(response.hasSyncId());
+      assertEquals(-1, response.getSyncId());
+      assertArrayEquals(new byte[] {(byte) 0x91, 1}, data(response.getByteBodyValue(IPROTO_DATA)));
+      assertEquals(6, response.getByteBodyValue(IPROTO_TUPLE_FORMATS).getValueLength());
+      assertNull(response.getByteBodyValue(IPROTO_POSITION));
+      assertEquals(2, response.getByteBodyValues().size());
+      response.release();
+    }
+  }
+
+  @Test
+  void headerWithoutRequestTypeDropsOnlyItsFrame() throws IOException {
+    MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+    packer.packMapHeader(1);
+    packer.packInt(IPROTO_SYNC_ID).packInt(1);
+    packer.packMapHeader(0);
+    byte[] broken = withSizePrefix(packer.toByteArray());
+    packer.close();
+    EmbeddedChannel channel = new EmbeddedChannel(new IProtoFrameDecoder());
+
+    assertThrows(
+        DecoderException.class, () -> channel.writeInbound(Unpooled.wrappedBuffer(broken)));
+    assertTrue(channel.writeInbound(Unpooled.wrappedBuffer(frame(2, 0))));
+
+    IProtoRawResponse response = channel.readInbound();
+    assertEquals(2, response.getSyncId());
+  }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.core.connection.codecs;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessagePack;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import io.tarantool.core.connection.exceptions.RequestEncodeException;
+import io.tarantool.core.protocol.ByteBufPacker;
+import io.tarantool.core.protocol.IProtoRequest;
+import io.tarantool.core.protocol.IProtoRequestBatch;
+import io.tarantool.core.protocol.requests.IProtoCall;
+import io.tarantool.core.protocol.requests.IProtoInsert;
+import io.tarantool.core.protocol.requests.IProtoPing;
+import io.tarantool.core.protocol.requests.IProtoSelect;
+import io.tarantool.core.protocol.requests.SelectAfterMode;
+
+class IProtoFrameEncoderTest {
+
+  private static byte[] encode(EmbeddedChannel channel, IProtoRequest request) {
+    channel.writeOutbound(request);
+    ByteBuf buf = channel.readOutbound();
+    try {
+      return ByteBufUtil.getBytes(buf);
+    } finally {
+      buf.release();
+    }
+  }
+
+  private static void assertEncodedAsPacket(IProtoRequest request) throws Exception {
+    EmbeddedChannel channel = new EmbeddedChannel(new IProtoFrameEncoder());
+    byte[] expected = request.getPacket(MessagePack.newDefaultBufferPacker());
+    assertArrayEquals(expected, encode(channel, request));
+    channel.finishAndReleaseAll();
+  }
+
+  private static int frameSize(byte[] frame) {
+    return ((frame[1] & 0xff) << 24)
+        | ((frame[2] & 0xff) << 16)
+        | ((frame[3] & 0xff) << 8)
+        | (frame[4] & 0xff);
+  }
+
+  @Test
+  void insertIsWrittenInPlace() throws Exception {
+    IProtoInsert insert =
+        new IProtoInsert(
+            512,
+            null,
+            ValueFactory.newArray(ValueFactory.newInteger(1), ValueFactory.newString("one")),
+            7L);
+    insert.setSyncId(42);
+    assertEncodedAsPacket(insert);
+  }
+
+  @Test
+  void selectIsWrittenInPlace() throws Exception {
+    IProtoSelect select =
+        new IProtoSelect(
+            null,
+            "space",
+            0,
+            null,
+            100,
+            0,
+            0,
+            ValueFactory.newArray(ValueFactory.newInteger(1)),
+            null,
+            true,
+            new byte[] {(byte) 0xc4, 1, 0},
+            SelectAfterMode.POSITION);
+    select.setSyncId(Long.MAX_VALUE);
+    assertEncodedAsPacket(select);
+  }
+
+  @Test
+  void callWithRawArgumentsIsWrittenInPlace() throws Exception {
+    IProtoCall call = new IProtoCall("echo", new byte[] {(byte) 0x91, 1}, null, null);
+    call.setSyncId(1);
+    assertEncodedAsPacket(call);
+  }
+
+  @Test
+  void largeTupleGrowsBuffer() throws Exception {
+    byte[] payload = new byte[64 * 1024];
+    Arrays.fill(payload, (byte) 'x');
+    IProtoInsert insert =
+        new IProtoInsert(
+            512, null, ValueFactory.newArray(ValueFactory.newBinary(payload, true)), null);
+    insert.setSyncId(2);
+    assertEncodedAsPacket(insert);
+  }
+
+  @Test
+  void requestWithoutInPlaceEncodingIsCopied() throws Exception {
+    IProtoPing ping = new IProtoPing();
+    ping.setSyncId(3);
+    assertEncodedAsPacket(ping);
+  }
+
+  @Test
+  void sizeIsPatchedForEveryFrame() {
+    EmbeddedChannel channel = new EmbeddedChannel(new IProtoFrameEncoder());
+    for (int i = 0; i < 3; i++) {
+      IProtoCall call = new IProtoCall("f" + i, ValueFactory.newArray(), null);
+      call.setSyncId(i);
+      byte[] frame = encode(channel, call);
+      assertEquals((byte) 0xce, frame[0]);
+      assertEquals(frame.length - 5, frameSize(frame));
+    }
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  void directAndHeapBuffersGetSameBytes() throws Exception {
+    // many small values span several packer chunks, a direct buffer must not be handed to msgpack
+    Value[] fields = new Value[10_000];
+    for (int i = 0; i < fields.length; i++) {
+      fields[i] = ValueFactory.newInteger(i);
+    }
+    IProtoInsert insert = new IProtoInsert(512, null, ValueFactory.newArray(fields), null);
+    insert.setSyncId(4);
+    byte[] expected = insert.getPacket(MessagePack.newDefaultBufferPacker());
+
+    ByteBufPacker packer = new ByteBufPacker();
+    for (ByteBuf buf : new ByteBuf[] {Unpooled.directBuffer(16), Unpooled.buffer(16)}) {
+      try {
+        insert.writeTo(packer.reset(buf));
+        assertArrayEquals(expected, ByteBufUtil.getBytes(buf));
+      } finally {
+        buf.release();
+      }
+    }
+  }
+
+  @Test
+  void batchIsWrittenIntoOneBuffer() throws Exception {
+    IProtoInsert insert = new IProtoInsert(512, null, ValueFactory.newArray(), null);
+    insert.setSyncId(1);
+    IProtoPing ping = new IProtoPing();
+    ping.setSyncId(2);
+    byte[] first = insert.getPacket(MessagePack.newDefaultBufferPacker());
+    byte[] second = ping.getPacket(MessagePack.newDefaultBufferPacker());
+    byte[] expected = Arrays.copyOf(first, first.length + second.length);
+    System.arraycopy(second, 0, expected, first.length, second.length);
+
+    EmbeddedChannel channel = new EmbeddedChannel(new IProtoFrameEncoder());
+    channel.writeOutbound(new IProtoRequestBatch(Arrays.asList(insert, ping)));
+    ByteBuf buf = channel.readOutbound();
+    try {
+      assertArrayEquals(expected, ByteBufUtil.getBytes(buf));
+    } finally {
+      buf.release();
+    }
+    assertNull(channel.readOutbound());
+    channel.finishAndReleaseAll();
+  }
+
+  private static IProtoPing broken(long syncId) {
+    IProtoPing broken =
+        new IProtoPing() {
+          @Override
+          public void writeTo(ByteBufPacker packer) throws Exception {
+            packer.packInt(1).flush();
+            throw new IOException("broken");
+          }
+        };
+    broken.setSyncId(syncId);
+    return broken;
+  }
+
+  @Test
+  void unencodedRequestIsReportedWithItsSyncId() {
+    EmbeddedChannel channel = new EmbeddedChannel(new IProtoFrameEncoder());
+    RequestEncodeException e =
+        assertThrows(RequestEncodeException.class, () -> channel.writeOutbound(broken(5)));
+    assertEquals(5, e.getSyncId());
+    assertNull(channel.readOutbound());
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  void unencodedRequestOfBatchIsReported() throws Exception {
+    IProtoPing broken = broken(1);
+    IProtoPing ping = new IProtoPing();
+    ping.setSyncId(2);
+    List<IProtoRequest> failed = new ArrayList<>();
+
+    EmbeddedChannel channel = new EmbeddedChannel(new IProtoFrameEncoder());
+    channel.writeOutbound(
+        new IProtoRequestBatch(Arrays.asList(broken, ping), (request, e) -> failed.add(request)));
+    ByteBuf buf = channel.readOutbound();
+    try {
+      assertArrayEquals(
+          ping.getPacket(MessagePack.newDefaultBufferPacker()), ByteBufUtil.getBytes(buf));
+    } finally {
+      buf.release();
+    }
+    assertEquals(Arrays.asList(broken), failed);
+    channel.finishAndReleaseAll();
+  }
+}
@@ -17,6 +17,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -27,6 +29,10 @@ import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.netty.util.HashedWheelTimer;
 import io.netty.util.Timer;
 import org.junit.jupiter.api.AfterAll;
@@ -1515,6 +1521,75 @@ public class IProtoClientTest extends BaseTest {
     assertEquals(0, message.getBody().map().size());
   }
 
+  @Test
+  public void testInFlightRequestsAreCounted() throws Exception {
+    IProtoClient client = createClientAndConnect(address, true);
+    client.authorize(API_USER, CREDS.get(API_USER)).join();
+    assertEquals(0, client.getInFlightRequests());
+
+    client.pause();
+    CompletableFuture<IProtoResponse> first = client.ping();
+    CompletableFuture<IProtoResponse> second = client.ping();
+    assertEquals(2, client.getInFlightRequests());
+
+    client.resume();
+    CompletableFuture.allOf(first, second).join();
+    assertEquals(0, client.getInFlightRequests());
+  }
+
+  @Test
+  public void testCompletionExecutorRunsStagesAndCallbackTimer() throws Exception {
+    MeterRegistry registry = new SimpleMeterRegistry();
+    LongTaskTimer.builder("request.timer").register(registry);
+    Counter.builder("request.counter").register(registry);
+    Counter.builder("response.success").register(registry);
+    Counter.builder("response.errors").register(registry);
+    Counter.builder("response.ignored").register(registry);
+    io.micrometer.core.instrument.Timer callbackTimer =
+        io.micrometer.core.instrument.Timer.builder("response.callback").register(registry);
+    ExecutorService completer = Executors.newSingleThreadExecutor(r -> new Thread(r, "completer"));
+    IProtoClient client =
+        new IProtoClientImpl(
+            factory,
+            factory.getTimerService(),
+            DEFAULT_WATCHER_OPTS,
+            registry,
+            null,
+            true,
+            completer);
+    try {
+      client.connect(address, 3_000).get();
+      client.authorize(API_USER, CREDS.get(API_USER)).join();
+
+      String thread = client.ping().thenApply(r -> Thread.currentThread().getName()).get();
+
+      assertEquals("completer", thread);
+      assertTrue(callbackTimer.count() > 0);
+    } finally {
+      client.close();
+      completer.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testRejectingCompletionExecutorCompletesInline() throws Exception {
+    ExecutorService completer = Executors.newSingleThreadExecutor();
+    completer.shutdown();
+    IProtoClient client =
+        new IProtoClientImpl(
+            factory, factory.getTimerService(), DEFAULT_WATCHER_OPTS, null, null, true, completer);
+    try {
+      client.connect(address, 3_000).get();
+      client.authorize(API_USER, CREDS.get(API_USER)).join();
+
+      IProtoMessage message = client.ping().get();
+
+      checkMessageHeader(message, IPROTO_OK, 4);
+    } finally {
+      client.close();
+    }
+  }
+
   @Test
   public void testLocalTimerHasNoPending() throws Exception {
     Timer localTimer = new HashedWheelTimer();
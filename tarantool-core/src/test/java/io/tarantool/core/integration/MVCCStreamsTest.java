@@ -191,6 +191,35 @@ public class MVCCStreamsTest extends BaseTest {
     checkNoTuple("return box.space.space_b:get('key_d')");
   }
 
+  @Test
+  public void testCancelledStreamRequestRollsBackTransaction() throws Exception {
+    IProtoClient client = getClientAndConnect();
+    Long streamId = client.allocateStreamId();
+    client.begin(streamId, 3_000L, TransactionIsolationLevel.DEFAULT).get();
+    IProtoRequestOpts opts = IProtoRequestOpts.empty().withStreamId(streamId);
+    client.insert(spaceAId, null, tupleA, opts).get();
+
+    CompletableFuture<IProtoResponse> insertB =
+        client.insert(
+            spaceBId,
+            null,
+            tupleB,
+            IProtoRequestOpts.empty().withStreamId(streamId).withRollbackOnCancel(true));
+    assertTrue(insertB.cancel(false));
+    assertTrue(insertB.isCancelled());
+
+    // requests of a stream are executed in order, so the select runs after the rollback
+    IProtoMessage messageSelectA =
+        client
+            .select(spaceAId, null, 0, null, keyA, 1, 0, BoxIterator.EQ, false, null, null, opts)
+            .get();
+    assertEquals(
+        ValueFactory.emptyArray(),
+        decodeTuple(client, messageSelectA.getBodyArrayValue(IPROTO_DATA)));
+    checkNoTuple("return box.space.space_a:get('key_c')");
+    checkNoTuple("return box.space.space_b:get('key_d')");
+  }
+
   @Test
   public void testStreamBeginAndCommitWithYieldingCall() throws Exception {
     IProtoClient client = getClientAndConnect();
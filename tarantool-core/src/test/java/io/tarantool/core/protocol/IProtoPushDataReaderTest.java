@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.core.protocol;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+
+import static io.tarantool.core.protocol.requests.IProtoConstant.IPROTO_CHUNK;
+import static io.tarantool.core.protocol.requests.IProtoConstant.IPROTO_DATA;
+import static io.tarantool.core.protocol.requests.IProtoConstant.IPROTO_REQUEST_TYPE;
+
+class IProtoPushDataReaderTest {
+
+  // {IPROTO_REQUEST_TYPE: IPROTO_CHUNK}: map header, key, uint8 marker and value
+  private static final int HEADER_SIZE = 4;
+
+  private static byte[] push(String chunk) throws IOException {
+    MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+    packer.packMapHeader(1);
+    packer.packInt(IPROTO_REQUEST_TYPE).packInt(IPROTO_CHUNK);
+    packer.packMapHeader(1);
+    packer.packInt(IPROTO_DATA).packArrayHeader(1).packString(chunk);
+    byte[] packet = packer.toByteArray();
+    packer.close();
+    return packet;
+  }
+
+  private static byte[] data(String chunk) throws IOException {
+    MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+    packer.packArrayHeader(1).packString(chunk);
+    byte[] bytes = packer.toByteArray();
+    packer.close();
+    return bytes;
+  }
+
+  private static byte[] copy(ByteBodyValueWrapper value) {
+    byte[] bytes = new byte[value.getValueLength()];
+    System.arraycopy(value.getPacket(), value.getOffset(), bytes, 0, bytes.length);
+    return bytes;
+  }
+
+  private static IProtoRawResponse response(ByteBuf frame) {
+    return new IProtoRawResponse(frame, HEADER_SIZE, true, 1, IPROTO_CHUNK, 0);
+  }
+
+  @Test
+  void viewIsReusedForPushesOfDirectFrames() throws IOException {
+    List<byte[]> chunks = new ArrayList<>();
+    List<ByteBodyValueWrapper> views = new ArrayList<>();
+    IProtoPushDataReader reader =
+        new IProtoPushDataReader(
+            view -> {
+              views.add(view);
+              chunks.add(copy(view));
+            });
+
+    for (String chunk : new String[] {"first chunk", "2nd"}) {
+      byte[] packet = push(chunk);
+      ByteBuf frame = Unpooled.directBuffer(packet.length).writeBytes(packet);
+      IProtoRawResponse response = response(frame);
+      reader.accept(response);
+      response.release();
+    }
+
+    assertArrayEquals(data("first chunk"), chunks.get(0));
+    assertArrayEquals(data("2nd"), chunks.get(1));
+    assertSame(views.get(0), views.get(1));
+  }
+
+  @Test
+  void viewPointsIntoHeapFrames() throws IOException {
+    byte[] packet = push("chunk");
+    List<byte[]> chunks = new ArrayList<>();
+    IProtoPushDataReader reader =
+        new IProtoPushDataReader(
+            view -> {
+              assertSame(packet, view.getPacket());
+              chunks.add(copy(view));
+            });
+
+    reader.accept(new IProtoRawResponse(packet, HEADER_SIZE, true, 1, IPROTO_CHUNK, 0));
+    reader.accept(response(Unpooled.wrappedBuffer(packet)));
+
+    assertEquals(2, chunks.size());
+    assertArrayEquals(data("chunk"), chunks.get(0));
+    assertArrayEquals(data("chunk"), chunks.get(1));
+  }
+
+  @Test
+  void pushHandlersAreCombined() throws IOException {
+    List<String> calls = new ArrayList<>();
+    Consumer<ByteBodyValueWrapper> dataHandler = view -> calls.add("data");
+    IProtoRequestOpts opts = IProtoRequestOpts.empty().withPushDataHandler(dataHandler);
+    assertNull(IProtoPushDataReader.of(IProtoRequestOpts.empty()));
+
+    opts.withPushHandler(message -> calls.add("message"));
+    IProtoPushDataReader.of(opts).accept(response(Unpooled.wrappedBuffer(push("chunk"))));
+
+    assertEquals(2, calls.size());
+    assertEquals("message", calls.get(0));
+    assertEquals("data", calls.get(1));
+  }
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.core.protocol.fsm;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import static io.tarantool.core.protocol.requests.IProtoConstant.IPROTO_OK;
+import static io.tarantool.core.protocol.requests.IProtoConstant.MP_IPROTO_REQUEST_TYPE;
+import static io.tarantool.core.protocol.requests.IProtoConstant.MP_IPROTO_SYNC_ID;
+import io.tarantool.core.connection.Connection;
+import io.tarantool.core.connection.ConnectionCloseEvent;
+import io.tarantool.core.connection.Greeting;
+import io.tarantool.core.exceptions.ClientException;
+import io.tarantool.core.protocol.IProtoBatchResult;
+import io.tarantool.core.protocol.IProtoMessage;
+import io.tarantool.core.protocol.IProtoRawResponse;
+import io.tarantool.core.protocol.IProtoRequest;
+import io.tarantool.core.protocol.IProtoRequestOpts;
+import io.tarantool.core.protocol.IProtoResponse;
+import io.tarantool.core.protocol.requests.IProtoPing;
+
+@Timeout(5)
+class BatchStateMachineTest {
+
+  private final Timer timer = new HashedWheelTimer();
+  private final DeadlineQueue deadlines = new DeadlineQueue(timer);
+  private final SyncIdRegistry<IProtoStateMachine> registry =
+      new SyncIdRegistry<>(IProtoStateMachine::getSyncId);
+  private final CompletableFuture<IProtoBatchResult> promise = new CompletableFuture<>();
+
+  @AfterEach
+  void tearDown() {
+    timer.stop();
+  }
+
+  private BatchStateMachine newBatch(
+      Connection connection, List<IProtoRequest> requests, long timeout) {
+    return new BatchStateMachine(
+        connection,
+        10,
+        requests,
+        promise,
+        IProtoRequestOpts.empty().withRequestTimeout(timeout),
+        registry,
+        deadlines,
+        null);
+  }
+
+  private static List<IProtoRequest> pings(int count) {
+    List<IProtoRequest> requests = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      requests.add(new IProtoPing());
+    }
+    return requests;
+  }
+
+  private static IProtoResponse response(long syncId) {
+    Map<Value, Value> header = new HashMap<>();
+    header.put(MP_IPROTO_REQUEST_TYPE, ValueFactory.newInteger(IPROTO_OK));
+    header.put(MP_IPROTO_SYNC_ID, ValueFactory.newInteger(syncId));
+    return new IProtoRawResponse(ValueFactory.newMap(header), new byte[0], 0);
+  }
+
+  private void answer(long syncId) {
+    IProtoStateMachine member = registry.get(syncId);
+    if (member.process(response(syncId))) {
+      registry.remove(syncId);
+    }
+  }
+
+  @Test
+  void requestsAreWrittenOnceWithContiguousSyncIds() {
+    FakeConnection connection = new FakeConnection();
+    List<IProtoRequest> requests = pings(3);
+    newBatch(connection, requests, 5000).runOnce();
+
+    assertEquals(1, connection.writes);
+    assertSame(requests, connection.written);
+    for (int i = 0; i < requests.size(); i++) {
+      assertEquals(10 + i, requests.get(i).getSyncId());
+    }
+    assertEquals(3, registry.size());
+  }
+
+  @Test
+  void batchCompletesWhenAllResponsesArrive() throws Exception {
+    newBatch(new FakeConnection(), pings(3), 5000).runOnce();
+
+    answer(12);
+    answer(10);
+    assertFalse(promise.isDone());
+    answer(11);
+
+    IProtoBatchResult result = promise.get();
+    assertFalse(result.hasErrors());
+    assertNull(result.getFailure());
+    for (int i = 0; i < result.size(); i++) {
+      assertEquals(10 + i, result.getResponse(i).getSyncId());
+    }
+    assertEquals(0, registry.size());
+  }
+
+  @Test
+  void pendingRequestsFailByTimeout() throws Exception {
+    newBatch(new FakeConnection(), pings(3), 50).runOnce();
+    answer(11);
+
+    IProtoBatchResult result = promise.get(2, TimeUnit.SECONDS);
+    assertEquals(2, result.getFailedCount());
+    assertInstanceOf(TimeoutException.class, result.getError(0));
+    assertEquals(11, result.getResponse(1).getSyncId());
+    assertInstanceOf(TimeoutException.class, result.getFailure().getCause());
+    assertEquals(1, result.getFailure().getSuppressed().length);
+    assertEquals(0, registry.size());
+  }
+
+  @Test
+  void killedRequestFailsOnlyItself() throws Exception {
+    newBatch(new FakeConnection(), pings(2), 5000).runOnce();
+
+    registry.get(10).kill(new RuntimeException("connection closed"));
+    answer(11);
+
+    IProtoBatchResult result = promise.get();
+    assertEquals(1, result.getFailedCount());
+    assertEquals("connection closed", result.getError(0).getMessage());
+    assertEquals(11, result.getResponse(1).getSyncId());
+  }
+
+  @Test
+  void failedWriteFailsAllRequests() {
+    FakeConnection connection = new FakeConnection();
+    connection.writeError = new IllegalStateException("not connected");
+    BatchStateMachine batch = newBatch(connection, pings(2), 5000);
+
+    assertThrows(IllegalStateException.class, batch::runOnce);
+
+    assertTrue(promise.isDone());
+    assertEquals(2, promise.join().getFailedCount());
+    assertEquals(0, registry.size());
+  }
+
+  @Test
+  void unencodedRequestFailsAtOnce() throws Exception {
+    FakeConnection connection = new FakeConnection();
+    List<IProtoRequest> requests = pings(2);
+    newBatch(connection, requests, 5000).runOnce();
+
+    connection.onEncodeFailure.accept(requests.get(0), new IOException("broken"));
+    assertFalse(promise.isDone());
+    answer(11);
+
+    IProtoBatchResult result = promise.get();
+    assertInstanceOf(ClientException.class, result.getError(0));
+    assertInstanceOf(IOException.class, result.getError(0).getCause());
+    assertEquals(11, result.getResponse(1).getSyncId());
+    assertEquals(0, registry.size());
+  }
+
+  @Test
+  void killFailsOnlyPendingRequests() throws Exception {
+    BatchStateMachine batch = newBatch(new FakeConnection(), pings(2), 5000);
+    batch.runOnce();
+    answer(10);
+
+    batch.kill(new IllegalStateException("closed"));
+
+    IProtoBatchResult result = promise.get();
+    assertEquals(10, result.getResponse(0).getSyncId());
+    assertEquals("closed", result.getError(1).getMessage());
+    assertEquals(0, registry.size());
+  }
+
+  @Test
+  void emptyBatchCompletesImmediately() {
+    newBatch(new FakeConnection(), pings(0), 5000).runOnce();
+
+    assertEquals(0, promise.join().size());
+  }
+
+  private static final class FakeConnection implements Connection {
+    private int writes;
+    private List<? extends IProtoRequest> written;
+    private RuntimeException writeError;
+    private BiConsumer<IProtoRequest, Exception> onEncodeFailure;
+
+    @Override
+    public CompletableFuture<Void> send(IProtoMessage message) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public void writeAll(List<? extends IProtoRequest> requests) {
+      if (writeError != null) {
+        throw writeError;
+      }
+      writes++;
+      written = requests;
+    }
+
+    @Override
+    public void writeAll(
+        List<? extends IProtoRequest> requests,
+        BiConsumer<IProtoRequest, Exception> onEncodeFailure) {
+      this.onEncodeFailure = onEncodeFailure;
+      writeAll(requests);
+    }
+
+    @Override
+    public boolean isConnected() {
+      return true;
+    }
+
+    @Override
+    public CompletableFuture<Greeting> connect(InetSocketAddress addr, long timeoutMs) {
+      return new CompletableFuture<>();
+    }
+
+    @Override
+    public Connection listen(Consumer<IProtoResponse> listener) {
+      return this;
+    }
+
+    @Override
+    public Connection onClose(
+        ConnectionCloseEvent event, BiConsumer<Connection, Throwable> handler) {
+      return this;
+    }
+
+    @Override
+    public Optional<Greeting> getGreeting() {
+      return Optional.empty();
+    }
+
+    @Override
+    public void shutdownClose() {}
+
+    @Override
+    public void pause() {}
+
+    @Override
+    public void resume() {}
+
+    @Override
+    public void setIdleTimeout(int idleTimeout) {}
+
+    @Override
+    public boolean isPaused() {
+      return false;
+    }
+
+    @Override
+    public void close() {}
+  }
+}
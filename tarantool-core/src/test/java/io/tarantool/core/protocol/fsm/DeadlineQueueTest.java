@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.core.protocol.fsm;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import io.netty.util.HashedWheelTimer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DeadlineQueueTest {
+
+  private HashedWheelTimer timer;
+
+  @BeforeEach
+  void setUp() {
+    timer = new HashedWheelTimer(5, TimeUnit.MILLISECONDS);
+  }
+
+  @AfterEach
+  void tearDown() {
+    timer.stop();
+  }
+
+  @Test
+  void deadlinesOfOneBucketExpireTogether() throws InterruptedException {
+    DeadlineQueue queue = new DeadlineQueue(timer);
+    int count = 1000;
+    CountDownLatch expired = new CountDownLatch(count);
+    for (int i = 0; i < count; i++) {
+      queue.schedule(expired::countDown, 50);
+    }
+    assertTrue(expired.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void cancelledDeadlineIsNotExpired() throws InterruptedException {
+    DeadlineQueue queue = new DeadlineQueue(timer);
+    AtomicInteger cancelledExpired = new AtomicInteger();
+    CountDownLatch expired = new CountDownLatch(1);
+
+    DeadlineQueue.Deadline deadline = queue.schedule(cancelledExpired::incrementAndGet, 20);
+    deadline.cancel();
+    queue.schedule(expired::countDown, 40);
+
+    assertTrue(deadline.isCancelled());
+    assertTrue(expired.await(5, TimeUnit.SECONDS));
+    assertEquals(0, cancelledExpired.get());
+  }
+
+  @Test
+  void shorterDeadlineIsNotDelayedByLongerOne() throws InterruptedException {
+    DeadlineQueue queue = new DeadlineQueue(timer);
+    CountDownLatch longExpired = new CountDownLatch(1);
+    CountDownLatch shortExpired = new CountDownLatch(1);
+
+    queue.schedule(longExpired::countDown, 10_000);
+    queue.schedule(shortExpired::countDown, 20);
+
+    assertTrue(shortExpired.await(5, TimeUnit.SECONDS));
+    assertFalse(longExpired.await(100, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  void queueIsReusedAfterDrain() throws InterruptedException {
+    DeadlineQueue queue = new DeadlineQueue(timer, 1, TimeUnit.MILLISECONDS);
+    for (int round = 0; round < 3; round++) {
+      CountDownLatch expired = new CountDownLatch(1);
+      queue.schedule(expired::countDown, 10);
+      assertTrue(expired.await(5, TimeUnit.SECONDS));
+    }
+  }
+}
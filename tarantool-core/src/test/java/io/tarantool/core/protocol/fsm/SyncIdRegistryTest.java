@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.core.protocol.fsm;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+class SyncIdRegistryTest {
+
+  private static final class Entry {
+
+    private final long syncId;
+
+    private Entry(long syncId) {
+      this.syncId = syncId;
+    }
+  }
+
+  private static SyncIdRegistry<Entry> registry(int capacity) {
+    return new SyncIdRegistry<>(capacity, e -> e.syncId);
+  }
+
+  @Test
+  void putGetRemove() {
+    SyncIdRegistry<Entry> registry = registry(8);
+    Entry entry = new Entry(3);
+    registry.put(3, entry);
+
+    assertSame(entry, registry.get(3));
+    assertNull(registry.get(11));
+    assertSame(entry, registry.remove(3));
+    assertNull(registry.get(3));
+    assertNull(registry.remove(3));
+  }
+
+  @Test
+  void collidingIdsFallBackToMap() {
+    SyncIdRegistry<Entry> registry = registry(8);
+    Entry first = new Entry(1);
+    Entry second = new Entry(9);
+    Entry third = new Entry(17);
+    registry.put(1, first);
+    registry.put(9, second);
+    registry.put(17, third);
+
+    assertEquals(3, registry.size());
+    assertSame(first, registry.get(1));
+    assertSame(second, registry.get(9));
+    assertSame(third, registry.get(17));
+
+    assertSame(second, registry.remove(9));
+    assertSame(first, registry.remove(1));
+    assertSame(third, registry.get(17));
+    assertEquals(1, registry.size());
+  }
+
+  @Test
+  void forEachAndClearCoverRingAndFallback() {
+    SyncIdRegistry<Entry> registry = registry(4);
+    for (long id = 1; id <= 10; id++) {
+      registry.put(id, new Entry(id));
+    }
+    List<Long> ids = new ArrayList<>();
+    registry.forEach(e -> ids.add(e.syncId));
+    assertEquals(10, ids.size());
+
+    registry.clear();
+    assertEquals(0, registry.size());
+    assertNull(registry.get(5));
+  }
+
+  @Test
+  void capacityIsRoundedToPowerOfTwo() {
+    SyncIdRegistry<Entry> registry = registry(5);
+    // with 8 slots ids 1 and 6 do not collide, with 5 slots they would
+    registry.put(1, new Entry(1));
+    registry.put(6, new Entry(6));
+    registry.remove(1);
+    registry.remove(6);
+    assertEquals(0, registry.size());
+
+    assertThrows(IllegalArgumentException.class, () -> registry(0));
+  }
+
+  @Test
+  void concurrentRequestsAreNotLost() throws Exception {
+    SyncIdRegistry<Entry> registry = registry(64);
+    int threads = 4;
+    int perThread = 100_000;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<Integer>> results = new ArrayList<>();
+    for (int t = 0; t < threads; t++) {
+      long base = (long) t * perThread;
+      results.add(
+          executor.submit(
+              () -> {
+                start.await();
+                int lost = 0;
+                for (long id = base; id < base + perThread; id++) {
+                  Entry entry = new Entry(id);
+                  registry.put(id, entry);
+                  if (registry.get(id) != entry || registry.remove(id) != entry) {
+                    lost++;
+                  }
+                }
+                return lost;
+              }));
+    }
+    start.countDown();
+    for (Future<Integer> result : results) {
+      assertEquals(0, result.get(30, TimeUnit.SECONDS));
+    }
+    executor.shutdown();
+    assertEquals(0, registry.size());
+  }
+}
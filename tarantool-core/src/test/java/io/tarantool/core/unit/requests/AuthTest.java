@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.core.unit.requests;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+import io.tarantool.core.protocol.requests.IProtoAuth;
+import io.tarantool.core.protocol.requests.IProtoAuth.AuthType;
+import io.tarantool.core.protocol.requests.IProtoAuth.PasswordHash;
+
+public class AuthTest {
+
+  private static final byte[] SALT =
+      "0123456789abcdefghijklmnopqrstuv".getBytes(StandardCharsets.UTF_8);
+
+  @Test
+  public void testScrambleMatchesChapSha1() throws Exception {
+    MessageDigest sha1 = MessageDigest.getInstance("SHA-1");
+    byte[] step1 = sha1.digest("secret".getBytes());
+    byte[] step2 = sha1.digest(step1);
+    sha1.update(SALT, 0, 20);
+    sha1.update(step2);
+    byte[] expected = sha1.digest();
+    for (int i = 0; i < 20; i++) {
+      expected[i] ^= step1[i];
+    }
+
+    assertArrayEquals(expected, PasswordHash.of("secret").scramble(SALT));
+  }
+
+  @Test
+  public void testHashIsReusedAcrossSalts() throws Exception {
+    PasswordHash hash = PasswordHash.of("secret");
+    byte[] otherSalt = Arrays.copyOf(SALT, SALT.length);
+    otherSalt[0] ^= 1;
+
+    assertEquals(
+        new IProtoAuth("user", "secret", SALT, AuthType.CHAP_SHA1).getBody(),
+        new IProtoAuth("user", hash, SALT).getBody());
+    assertEquals(
+        new IProtoAuth("user", "secret", otherSalt, AuthType.CHAP_SHA1).getBody(),
+        new IProtoAuth("user", hash, otherSalt).getBody());
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.core.unit.requests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessagePack;
+import org.msgpack.value.ArrayValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import io.tarantool.core.protocol.BoxIterator;
+import io.tarantool.core.protocol.ByteBufPacker;
+import io.tarantool.core.protocol.IProtoRequest;
+import io.tarantool.core.protocol.requests.IProtoCall;
+import io.tarantool.core.protocol.requests.IProtoRequestTemplate;
+import io.tarantool.core.protocol.requests.IProtoSelect;
+import io.tarantool.core.protocol.requests.IProtoTemplateRequest;
+
+public class RequestTemplateTest {
+
+  private static final ArrayValue KEY = ValueFactory.newArray(ValueFactory.newInteger(42));
+
+  private static byte[] packet(IProtoRequest request, long syncId) throws Exception {
+    request.setSyncId(syncId);
+    return request.getPacket(MessagePack.newDefaultBufferPacker());
+  }
+
+  private static byte[] written(IProtoRequest request, long syncId) throws Exception {
+    request.setSyncId(syncId);
+    // the encoder writes into direct buffers by default, heap ones must give the same bytes
+    byte[] direct = written(request, Unpooled.directBuffer(16));
+    assertArrayEquals(direct, written(request, Unpooled.buffer(16)));
+    return direct;
+  }
+
+  private static byte[] written(IProtoRequest request, ByteBuf buf) throws Exception {
+    try {
+      request.writeTo(new ByteBufPacker().reset(buf));
+      return ByteBufUtil.getBytes(buf);
+    } finally {
+      buf.release();
+    }
+  }
+
+  @Test
+  public void testSelectTemplateMatchesSelect() throws Exception {
+    IProtoRequestTemplate template = IProtoRequestTemplate.select(512, 0, 10, 5, BoxIterator.GE);
+    for (Long streamId : new Long[] {null, 3L}) {
+      IProtoSelect select =
+          new IProtoSelect(
+              512,
+              null,
+              0,
+              null,
+              10,
+              5,
+              BoxIterator.GE.getCode(),
+              KEY,
+              streamId,
+              false,
+              null,
+              null);
+      byte[] expected = packet(select, 7);
+
+      assertArrayEquals(expected, packet(new IProtoTemplateRequest(template, KEY, streamId), 7));
+      assertArrayEquals(expected, written(new IProtoTemplateRequest(template, KEY, streamId), 7));
+    }
+  }
+
+  @Test
+  public void testSelectByNameTemplateMatchesSelect() throws Exception {
+    IProtoRequestTemplate template =
+        IProtoRequestTemplate.select(null, "space", null, "pk", 100, 0, BoxIterator.EQ);
+    byte[] rawKey = new byte[] {(byte) 0x91, 1};
+    IProtoSelect select =
+        new IProtoSelect(
+            null,
+            "space",
+            null,
+            "pk",
+            100,
+            0,
+            BoxIterator.EQ.getCode(),
+            rawKey,
+            null,
+            false,
+            null,
+            null);
+
+    assertArrayEquals(
+        packet(select, Long.MAX_VALUE),
+        written(new IProtoTemplateRequest(template, rawKey, null), Long.MAX_VALUE));
+  }
+
+  @Test
+  public void testCallTemplateMatchesCall() throws Exception {
+    IProtoRequestTemplate template = IProtoRequestTemplate.call("echo");
+    IProtoCall call = new IProtoCall("echo", KEY, 1L);
+    byte[] expected = packet(call, 100500);
+
+    IProtoTemplateRequest request = new IProtoTemplateRequest(template, KEY, 1L);
+    assertArrayEquals(expected, written(request, 100500));
+    assertEquals(call.getBody(), request.getBody());
+    assertEquals(call.getRequestType(), request.getRequestType());
+  }
+
+  @Test
+  public void testLargeArgumentsSpanSeveralChunks() throws Exception {
+    Value[] args = new Value[10_000];
+    for (int i = 0; i < args.length; i++) {
+      args[i] = ValueFactory.newString("arg" + i);
+    }
+    ArrayValue arguments = ValueFactory.newArray(args);
+    IProtoRequestTemplate template = IProtoRequestTemplate.call("echo");
+
+    assertArrayEquals(
+        packet(new IProtoCall("echo", arguments, null), 9),
+        written(new IProtoTemplateRequest(template, arguments, null), 9));
+  }
+
+  @Test
+  public void testTemplateRequiresTarget() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> IProtoRequestTemplate.select(null, null, 0, null, 1, 0, BoxIterator.EQ));
+    assertThrows(IllegalArgumentException.class, () -> IProtoRequestTemplate.call(null));
+  }
+}
@@ -7,13 +7,19 @@ package io.tarantool.mapping;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.type.CollectionType;
 import com.fasterxml.jackson.databind.type.TypeFactory;
+import io.netty.util.ReferenceCountUtil;
 import org.msgpack.jackson.dataformat.MessagePackFactory;
 
 import static io.tarantool.core.protocol.requests.IProtoConstant.IPROTO_DATA;
@@ -60,6 +66,25 @@ public class BaseTarantoolJacksonMapping {
           .registerModule(TupleExtensionModule.INSTANCE)
           .registerModule(UniversalExtensionModule.INSTANCE);
 
+  /**
+   * Wraps the passed reader so that the response is released right after it has been mapped.
+   * Responses produced by zero-copy decoding hold a slice of the network buffer until released, for
+   * other responses releasing does nothing.
+   *
+   * @param reader function mapping the response
+   * @param <T> type of the mapping result
+   * @return function that maps and then releases the response
+   */
+  public static <T> Function<IProtoResponse, T> releaseAfter(Function<IProtoResponse, T> reader) {
+    return response -> {
+      try {
+        return reader.apply(response);
+      } finally {
+        ReferenceCountUtil.release(response);
+      }
+    };
+  }
+
   public static Object readData(IProtoResponse response) {
     return readValue(response.getByteBodyValue(IPROTO_DATA));
   }
@@ -149,6 +174,66 @@ public class BaseTarantoolJacksonMapping {
     }
   }
 
+  /**
+   * Creates a push data handler (see {@link
+   * io.tarantool.core.protocol.IProtoRequestOpts#withPushDataHandler(Consumer)}) mapping every
+   * pushed value to the given type. The reader is bound to the type once, and the pushed value is
+   * read straight from the {@code IPROTO_DATA} bytes without building intermediate objects.
+   *
+   * @param type type of pushed values
+   * @param consumer consumer of mapped values, called on the I/O thread of the connection
+   * @param <T> type of pushed values
+   * @return push data handler
+   */
+  public static <T> Consumer<ByteBodyValueWrapper> pushReader(
+      Class<T> type, Consumer<? super T> consumer) {
+    return pushReader(objectMapper.readerFor(type), consumer);
+  }
+
+  /**
+   * Same as {@link #pushReader(Class, Consumer)}.
+   *
+   * @param type type of pushed values
+   * @param consumer consumer of mapped values, called on the I/O thread of the connection
+   * @param <T> type of pushed values
+   * @return push data handler
+   */
+  public static <T> Consumer<ByteBodyValueWrapper> pushReader(
+      TypeReference<T> type, Consumer<? super T> consumer) {
+    return pushReader(objectMapper.readerFor(type), consumer);
+  }
+
+  /**
+   * Same as {@link #pushReader(Class, Consumer)}.
+   *
+   * @param type type of pushed values
+   * @param consumer consumer of mapped values, called on the I/O thread of the connection
+   * @param <T> type of pushed values
+   * @return push data handler
+   */
+  public static <T> Consumer<ByteBodyValueWrapper> pushReader(
+      JavaType type, Consumer<? super T> consumer) {
+    return pushReader(objectMapper.readerFor(type), consumer);
+  }
+
+  private static <T> Consumer<ByteBodyValueWrapper> pushReader(
+      ObjectReader reader, Consumer<? super T> consumer) {
+    return data -> {
+      // IPROTO_DATA of a push is an array holding the pushed value
+      try (JsonParser parser =
+          mpFactory.createParser(data.getPacket(), data.getOffset(), data.getValueLength())) {
+        if (parser.nextToken() != JsonToken.START_ARRAY
+            || parser.nextToken() == JsonToken.END_ARRAY) {
+          throw new JacksonMappingException("Push data is not an array holding a value");
+        }
+        T value = reader.readValue(parser);
+        consumer.accept(value);
+      } catch (IOException e) {
+        throw new JacksonMappingException(e);
+      }
+    };
+  }
+
   public static byte[] toValue(Object object) {
     try {
       return objectMapper.writeValueAsBytes(object);
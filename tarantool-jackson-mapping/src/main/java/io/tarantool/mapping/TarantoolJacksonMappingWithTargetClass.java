@@ -18,7 +18,7 @@ public class TarantoolJacksonMappingWithTargetClass
 
   public static <T> CompletableFuture<TarantoolResponse<List<T>>> convertFutureResult(
       CompletableFuture<IProtoResponse> future, Class<T> entity) {
-    return future.thenApply(response -> readResponse(response, entity));
+    return future.thenApply(releaseAfter(response -> readResponse(response, entity)));
   }
 
   public static <T> TarantoolResponse<List<T>> readResponse(
@@ -29,7 +29,7 @@ public class TarantoolJacksonMappingWithTargetClass
   public static <T> CompletableFuture<Tuple<T>> convertSpaceSingleResultFuture(
       CompletableFuture<IProtoResponse> future, Class<T> entity) {
     return future
-        .thenApply(resp -> readSpaceData(resp, entity))
+        .thenApply(releaseAfter(resp -> readSpaceData(resp, entity)))
         .thenApply(resp -> getTupleWithInjectedFormat(resp));
   }
 
@@ -62,7 +62,7 @@ public class TarantoolJacksonMappingWithTargetClass
   public static <T> CompletableFuture<Tuple<T>> convertCrudSingleResultFuture(
       CompletableFuture<IProtoResponse> future, Class<T> entity) {
     return future
-        .thenApply(response -> readCrudSingleResultData(response, entity))
+        .thenApply(releaseAfter(response -> readCrudSingleResultData(response, entity)))
         .thenApply(response -> getTupleWithInjectedFormat(response));
   }
 
@@ -77,7 +77,7 @@ public class TarantoolJacksonMappingWithTargetClass
   public static <T> CompletableFuture<SelectResponse<List<Tuple<T>>>> convertSelectResultFuture(
       CompletableFuture<IProtoResponse> future, Class<T> entity) {
     return future
-        .thenApply(resp -> readSelectResult(resp, entity))
+        .thenApply(releaseAfter(resp -> readSelectResult(resp, entity)))
         .thenApply(resp -> injectFormatIntoTuples(resp));
   }
 
@@ -108,7 +108,7 @@ public class TarantoolJacksonMappingWithTargetClass
   public static <T> CompletableFuture<List<Tuple<T>>> convertCrudSelectResultFuture(
       CompletableFuture<IProtoResponse> future, Class<T> entity) {
     return future
-        .thenApply(resp -> readCrudSelectResult(resp, entity))
+        .thenApply(releaseAfter(resp -> readCrudSelectResult(resp, entity)))
         .thenApply(resp -> getTuplesWithInjectedFormat(resp));
   }
 
@@ -120,11 +120,24 @@ public class TarantoolJacksonMappingWithTargetClass
         getRows(crudResponse), getFormats(response, crudResponse.getMetadata()));
   }
 
+  /**
+   * Reads a {@code crud.select} result mapping its rows into the entity class, with formats
+   * injected as {@link #convertCrudSelectResultFuture(CompletableFuture, Class)} does.
+   *
+   * @param response response of {@code crud.select}
+   * @param entity class of the rows
+   * @param <T> type of the rows
+   * @return mapped rows
+   */
+  public static <T> List<Tuple<T>> readCrudSelectTuples(IProtoResponse response, Class<T> entity) {
+    return getTuplesWithInjectedFormat(readCrudSelectResult(response, entity));
+  }
+
   public static <T>
       CompletableFuture<CrudBatchResponse<List<Tuple<T>>>> convertCrudBatchResultFuture(
           CompletableFuture<IProtoResponse> future, Class<T> entity) {
     return future
-        .thenApply(resp -> readCrudBatchResult(resp, entity))
+        .thenApply(releaseAfter(resp -> readCrudBatchResult(resp, entity)))
         .thenApply(resp -> getBatchTuplesWithInjectedFormat(resp));
   }
 
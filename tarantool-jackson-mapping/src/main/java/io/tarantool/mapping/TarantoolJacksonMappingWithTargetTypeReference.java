@@ -19,7 +19,7 @@ public class TarantoolJacksonMappingWithTargetTypeReference
 
   public static <T> CompletableFuture<TarantoolResponse<T>> convertFutureResult(
       CompletableFuture<IProtoResponse> future, TypeReference<T> entity) {
-    return future.thenApply(response -> readResponse(response, entity));
+    return future.thenApply(releaseAfter(response -> readResponse(response, entity)));
   }
 
   public static <T> TarantoolResponse<T> readResponse(
@@ -29,7 +29,8 @@ public class TarantoolJacksonMappingWithTargetTypeReference
 
   public static <T> CompletableFuture<TarantoolResponse<T>> convertFutureResult(
       CompletableFuture<IProtoResponse> future, JavaType entity) {
-    return future.thenApply(response -> TarantoolJacksonMapping.readResponse(response, entity));
+    return future.thenApply(
+        releaseAfter(response -> TarantoolJacksonMapping.readResponse(response, entity)));
   }
 
   public static <T> TarantoolResponse<T> readResponse(IProtoResponse response, JavaType entity) {
@@ -39,7 +40,9 @@ public class TarantoolJacksonMappingWithTargetTypeReference
   public static <T> CompletableFuture<TarantoolResponse<Tuple<T>>> convertSpaceSingleResultFuture(
       CompletableFuture<IProtoResponse> future, TypeReference<T> entity) {
     return future.thenApply(
-        response -> readSpaceSingleResultData(response, wrapIntoList(wrapIntoTuple(entity))));
+        releaseAfter(
+            response ->
+                readSpaceSingleResultData(response, wrapIntoList(wrapIntoTuple(entity)))));
   }
 
   public static <T> TarantoolResponse<T> readSpaceSingleResultData(
@@ -51,7 +54,7 @@ public class TarantoolJacksonMappingWithTargetTypeReference
   public static <T> CompletableFuture<Tuple<T>> convertCrudSingleResultFuture(
       CompletableFuture<IProtoResponse> future, TypeReference<T> entity) {
     return future
-        .thenApply(response -> readCrudSingleResultData(response, entity))
+        .thenApply(releaseAfter(response -> readCrudSingleResultData(response, entity)))
         .thenApply(response -> getTupleWithInjectedFormat(response));
   }
 
@@ -65,7 +68,7 @@ public class TarantoolJacksonMappingWithTargetTypeReference
 
   public static <T> CompletableFuture<SelectResponse<T>> convertSelectResultFuture(
       CompletableFuture<IProtoResponse> future, TypeReference<T> entity) {
-    return future.thenApply(resp -> readSelectResult(resp, entity));
+    return future.thenApply(releaseAfter(resp -> readSelectResult(resp, entity)));
   }
 
   public static <T> SelectResponse<T> readSelectResult(
@@ -76,7 +79,7 @@ public class TarantoolJacksonMappingWithTargetTypeReference
 
   public static <T> CompletableFuture<TarantoolResponse<T>> convertCrudSelectResultFuture(
       CompletableFuture<IProtoResponse> future, TypeReference<T> entity) {
-    return future.thenApply(resp -> readCrudSelectResult(resp, entity));
+    return future.thenApply(releaseAfter(resp -> readCrudSelectResult(resp, entity)));
   }
 
   public static <T> TarantoolResponse<T> readCrudSelectResult(
@@ -5,6 +5,7 @@
 
 package io.tarantool.mapping;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -12,7 +13,11 @@ import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessageUnpacker;
+import org.msgpack.value.ValueType;
 
+import static io.tarantool.core.protocol.requests.IProtoConstant.IPROTO_DATA;
 import static io.tarantool.core.protocol.requests.IProtoConstant.IPROTO_POSITION;
 import static io.tarantool.core.protocol.requests.IProtoConstant.IPROTO_TUPLE_FORMATS;
 import io.tarantool.core.protocol.ByteBodyValueWrapper;
@@ -27,7 +32,7 @@ public class TarantoolJacksonMappingWithoutTargetType extends BaseTarantoolJacks
 
   public static CompletableFuture<TarantoolResponse<List<?>>> convertFutureResult(
       CompletableFuture<IProtoResponse> future) {
-    return future.thenApply(TarantoolJacksonMapping::readResponse);
+    return future.thenApply(releaseAfter(TarantoolJacksonMapping::readResponse));
   }
 
   public static TarantoolResponse<List<?>> readResponse(IProtoResponse response) {
@@ -37,7 +42,7 @@ public class TarantoolJacksonMappingWithoutTargetType extends BaseTarantoolJacks
   public static CompletableFuture<Tuple<List<?>>> convertSpaceSingleResultFuture(
       CompletableFuture<IProtoResponse> future) {
     return future
-        .thenApply(TarantoolJacksonMappingWithoutTargetType::readSpaceData)
+        .thenApply(releaseAfter(TarantoolJacksonMappingWithoutTargetType::readSpaceData))
         .thenApply(TarantoolJacksonMappingWithoutTargetType::getTupleWithInjectedFormat);
   }
 
@@ -69,7 +74,8 @@ public class TarantoolJacksonMappingWithoutTargetType extends BaseTarantoolJacks
   public static CompletableFuture<Tuple<List<?>>> convertCrudSingleResultFuture(
       CompletableFuture<IProtoResponse> future) {
     return future
-        .thenApply(TarantoolJacksonMappingWithoutTargetType::readCrudSingleResultData)
+        .thenApply(
+            releaseAfter(TarantoolJacksonMappingWithoutTargetType::readCrudSingleResultData))
         .thenApply(TarantoolJacksonMappingWithoutTargetType::getTupleWithInjectedFormat);
   }
 
@@ -88,7 +94,7 @@ public class TarantoolJacksonMappingWithoutTargetType extends BaseTarantoolJacks
   public static CompletableFuture<SelectResponse<List<Tuple<List<?>>>>> convertSelectResultFuture(
       CompletableFuture<IProtoResponse> future) {
     return future
-        .thenApply(TarantoolJacksonMappingWithoutTargetType::readSelectResult)
+        .thenApply(releaseAfter(TarantoolJacksonMappingWithoutTargetType::readSelectResult))
         .thenApply(TarantoolJacksonMappingWithoutTargetType::injectFormatIntoTuples);
   }
 
@@ -170,7 +176,7 @@ public class TarantoolJacksonMappingWithoutTargetType extends BaseTarantoolJacks
   public static CompletableFuture<List<Tuple<List<?>>>> convertCrudSelectResultFuture(
       CompletableFuture<IProtoResponse> future) {
     return future
-        .thenApply(resp -> readCrudSelectResult(resp))
+        .thenApply(releaseAfter(resp -> readCrudSelectResult(resp)))
         .thenApply(resp -> getTuplesWithInjectedFormat(resp));
   }
 
@@ -182,6 +188,59 @@ public class TarantoolJacksonMappingWithoutTargetType extends BaseTarantoolJacks
         getRows(crudResponse), getFormats(response, crudResponse.getMetadata()));
   }
 
+  /**
+   * Reads only the last row of a {@code crud.select} result as a raw tuple, skipping the other rows
+   * without mapping them. The raw tuple is what crud expects as the {@code after} cursor, whatever
+   * the rows are mapped into.
+   *
+   * @param response response of {@code crud.select}
+   * @return fields of the last row, {@code null} if there are no rows or the call failed
+   */
+  public static List<?> readCrudSelectLastRow(IProtoResponse response) {
+    ByteBodyValueWrapper data = response.getByteBodyValue(IPROTO_DATA);
+    if (data == null) {
+      return null;
+    }
+    byte[] packet = data.getPacket();
+    int offset = data.getOffset();
+    try (MessageUnpacker unpacker =
+        MessagePack.newDefaultUnpacker(packet, offset, data.getValueLength())) {
+      // [{metadata = ..., rows = [...]}, err]
+      if (unpacker.unpackArrayHeader() == 0
+          || unpacker.getNextFormat().getValueType() != ValueType.MAP) {
+        return null;
+      }
+      int keys = unpacker.unpackMapHeader();
+      for (int i = 0; i < keys; i++) {
+        boolean isRows =
+            unpacker.getNextFormat().getValueType() == ValueType.STRING
+                && "rows".equals(unpacker.unpackString());
+        if (!isRows) {
+          unpacker.skipValue();
+          continue;
+        }
+        int rows = unpacker.unpackArrayHeader();
+        if (rows == 0) {
+          return null;
+        }
+        for (int row = 0; row < rows - 1; row++) {
+          unpacker.skipValue();
+        }
+        int start = (int) unpacker.getTotalReadBytes();
+        unpacker.skipValue();
+        int length = (int) unpacker.getTotalReadBytes() - start;
+        Tuple<List<?>> last =
+            readValue(
+                new ByteBodyValueWrapper(packet, offset + start, length),
+                wrapIntoTuple(List.class));
+        return last.get();
+      }
+      return null;
+    } catch (IOException e) {
+      throw new JacksonMappingException(e);
+    }
+  }
+
   private static List<Tuple<List<?>>> getTuplesWithInjectedFormat(
       TarantoolResponse<List<Tuple<List<?>>>> resp) {
     Map<Integer, List<Field>> formats = resp.getFormats();
@@ -202,7 +261,7 @@ public class TarantoolJacksonMappingWithoutTargetType extends BaseTarantoolJacks
   public static CompletableFuture<CrudBatchResponse<List<Tuple<List<?>>>>>
       convertCrudBatchResultFuture(CompletableFuture<IProtoResponse> future) {
     return future
-        .thenApply(resp -> readCrudBatchResult(resp))
+        .thenApply(releaseAfter(resp -> readCrudBatchResult(resp)))
         .thenApply(resp -> getBatchTuplesWithInjectedFormat(resp));
   }
 
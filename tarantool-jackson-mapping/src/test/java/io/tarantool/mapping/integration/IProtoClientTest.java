@@ -52,6 +52,7 @@ import org.testcontainers.containers.utils.TarantoolContainerClientHelper;
 import io.tarantool.core.IProtoClient;
 import io.tarantool.core.IProtoClientImpl;
 import io.tarantool.core.protocol.BoxIterator;
+import io.tarantool.core.protocol.IProtoRequestOpts;
 import io.tarantool.core.protocol.IProtoResponse;
 import io.tarantool.mapping.Adjust;
 import io.tarantool.mapping.Interval;
@@ -1170,4 +1171,25 @@ public class IProtoClientTest extends BaseTest {
         TarantoolJacksonMapping.readResponse(evalResponse, String.class).get().get(0);
     assertEquals(object, parsedResponse);
   }
+
+  @Test
+  public void testPushReader() throws Exception {
+    IProtoClient client = getClientAndConnect();
+    List<List<Object>> pushes = new ArrayList<>();
+    IProtoRequestOpts opts =
+        IProtoRequestOpts.empty()
+            .withPushDataHandler(
+                TarantoolJacksonMapping.pushReader(
+                    new TypeReference<List<Object>>() {}, pushes::add));
+
+    client
+        .eval(
+            "box.session.push({'push1', 1}) box.session.push({'push2', 2}) return ...",
+            TarantoolJacksonMapping.toValue(Collections.emptyList()),
+            null,
+            opts)
+        .get();
+
+    assertEquals(Arrays.asList(Arrays.asList("push1", 1), Arrays.asList("push2", 2)), pushes);
+  }
 }
@@ -69,6 +69,28 @@ public interface IProtoClientPool {
    */
   int getGroupSize(String tag) throws NoSuchElementException;
 
+  /**
+   * Returns a weight of correspondent connection group, see {@link
+   * InstanceConnectionGroup.Builder#withWeight(int)}.
+   *
+   * @param tag name of group
+   * @return weight of corresponded connection group
+   * @throws NoSuchElementException in case when group with passed tag does not exist
+   */
+  int getGroupWeight(String tag) throws NoSuchElementException;
+
+  /**
+   * Returns the version of the pool topology.
+   *
+   * <p>The version changes every time {@link #setGroups} changes the tags, sizes or weights of
+   * groups, so outer clients e.g. balancers may cache what they have read through {@link #getTags},
+   * {@link #getGroupSize} and {@link #getGroupWeight} and read it again only when the version
+   * differs. The version is read without locks.
+   *
+   * @return version of the topology
+   */
+  long getTopologyVersion();
+
   /**
    * Returns a future with iproto client.
    *
@@ -90,6 +112,39 @@ public interface IProtoClientPool {
   CompletableFuture<IProtoClient> get(String tag, int index)
       throws NoSuchElementException, IndexOutOfBoundsException, PoolClosedException;
 
+  /**
+   * Returns the number of outstanding requests of a connection, see {@link
+   * IProtoClient#getInFlightRequests()}.
+   *
+   * <p>The counter is read without locks, so balancers may call it for every request.
+   *
+   * @param tag a string tag for connection group
+   * @param index an index of connection within connection group
+   * @return number of outstanding requests or {@link Integer#MAX_VALUE} if the connection is locked
+   * @throws IndexOutOfBoundsException in case when passed index is out of bounds of group
+   *     connections
+   * @throws NoSuchElementException in case when group with passed tag does not exist
+   * @throws PoolClosedException in case when pool is closed
+   */
+  int getInFlightRequests(String tag, int index)
+      throws NoSuchElementException, IndexOutOfBoundsException, PoolClosedException;
+
+  /**
+   * Returns the response time estimate of a connection, a peak EWMA of its responses and
+   * heartbeats, see {@link io.tarantool.core.PeakEwma}.
+   *
+   * @param tag a string tag for connection group
+   * @param index an index of connection within connection group
+   * @return estimated response time in nanoseconds, {@code 0} before the first response, or {@link
+   *     Double#POSITIVE_INFINITY} if the connection is locked
+   * @throws IndexOutOfBoundsException in case when passed index is out of bounds of group
+   *     connections
+   * @throws NoSuchElementException in case when group with passed tag does not exist
+   * @throws PoolClosedException in case when pool is closed
+   */
+  double getLatencyNanos(String tag, int index)
+      throws NoSuchElementException, IndexOutOfBoundsException, PoolClosedException;
+
   /**
    * Returns flag whether clients are available in pool or not.
    *
@@ -6,12 +6,14 @@
 package io.tarantool.pool;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
@@ -25,6 +27,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.tarantool.core.IProtoClient;
+import io.tarantool.core.IProtoClientImpl;
 import io.tarantool.core.ManagedResource;
 import io.tarantool.core.WatcherOptions;
 import io.tarantool.core.connection.ConnectionFactory;
@@ -84,12 +87,24 @@ public class IProtoClientPoolImpl implements IProtoClientPool {
   /** Bootstrap for connections. */
   private final ConnectionFactory factory;
 
-  /** Map of pool entries, tag of group is key. */
+  /** Map of pool entries, tag of group is key. Changed under {@link #connectionPoolLock}. */
   private final Map<String, List<PoolEntry>> entries;
 
+  /**
+   * Immutable copy of {@link #entries} published after every change of the topology, so {@link
+   * #get(String, int)} finds entries without locking.
+   */
+  private volatile Map<String, PoolEntry[]> topology = Collections.emptyMap();
+
+  /** Version of {@link #topology}, incremented after every publication. */
+  private volatile long topologyVersion;
+
   /** Map with {@link io.tarantool.pool.InstanceConnectionGroup} entries. */
   private final Map<String, InstanceConnectionGroup> groups;
 
+  /** Map of spare connections, tag of group is key. */
+  private final Map<String, SpareConnections> spares;
+
   /** Service for handling timeouts. */
   private final ManagedResource<Timer> timerResource;
 
@@ -117,6 +132,9 @@ public class IProtoClientPoolImpl implements IProtoClientPool {
   /** Optional pool event listener. */
   private final PoolEventListener poolEventListener;
 
+  /** Executor completing request futures, {@code null} means the event loop. */
+  private final Executor completionExecutor;
+
   /** Boolean flag denoting if pool closed or not. */
   private final AtomicBoolean isClosed;
 
@@ -342,9 +360,58 @@ public class IProtoClientPoolImpl implements IProtoClientPool {
       Handlers handlers,
       boolean useTupleExtension,
       PoolEventListener poolEventListener) {
+    this(
+        factory,
+        timerResource,
+        gracefulShutdown,
+        heartbeatOpts,
+        watcherOpts,
+        metricsRegistry,
+        ignoredPacketsHandler,
+        handlers,
+        useTupleExtension,
+        poolEventListener,
+        null);
+  }
+
+  /**
+   * Constructor for pool instance.
+   *
+   * @param factory the bootstrap
+   * @param timerResource managed timer resource (ownership is defined by the caller)
+   * @param gracefulShutdown a boolean flag switching gracefulShutdown facility
+   * @param heartbeatOpts an object with options for heartbeats. If presented heartbeats will be
+   *     used.
+   * @param watcherOpts an object with options for watchers
+   * @param metricsRegistry an instance of MeterRegistry containing all necessary counters and
+   *     gauges.
+   * @param ignoredPacketsHandler a lambda for accepting ignored packets and handling them somehow.
+   *     It is an instance of {@link io.tarantool.pool.TripleConsumer} which accepts three
+   *     arguments: a first one is a tag of connection, the second one is an index of connection in
+   *     group and the third argument is a packet.
+   * @param handlers handlers for request/response lifecycle events
+   * @param useTupleExtension Use TUPLE_EXT feature if true.
+   * @param poolEventListener optional pool event listener
+   * @param completionExecutor executor completing the futures of requests sent through pooled
+   *     clients, so that dependent stages do not run on the event loop. {@code null} completes
+   *     them on the event loop. The pool does not shut the executor down.
+   */
+  public IProtoClientPoolImpl(
+      ConnectionFactory factory,
+      ManagedResource<Timer> timerResource,
+      boolean gracefulShutdown,
+      HeartbeatOpts heartbeatOpts,
+      WatcherOptions watcherOpts,
+      MeterRegistry metricsRegistry,
+      TripleConsumer<String, Integer, IProtoResponse> ignoredPacketsHandler,
+      Handlers handlers,
+      boolean useTupleExtension,
+      PoolEventListener poolEventListener,
+      Executor completionExecutor) {
     this.factory = factory;
     this.entries = new ConcurrentHashMap<>();
     this.groups = new ConcurrentHashMap<>();
+    this.spares = new ConcurrentHashMap<>();
     this.timerResource = timerResource;
     this.connectTimeout = 3_000L;
     this.reconnectAfter = 1_000L;
@@ -360,6 +427,7 @@ public class IProtoClientPoolImpl implements IProtoClientPool {
     this.handlers = handlers;
     this.useTupleExtension = useTupleExtension;
     this.poolEventListener = poolEventListener;
+    this.completionExecutor = completionExecutor;
 
     initMetrics();
   }
@@ -367,6 +435,7 @@ public class IProtoClientPoolImpl implements IProtoClientPool {
   @Override
   public void setGroups(List<InstanceConnectionGroup> clientGroups) {
     Map<String, Boolean> actualTags = new HashMap<>();
+    List<PoolEntry> retired = new ArrayList<>();
     int newTotal = 0;
     synchronized (connectionPoolLock) {
       for (InstanceConnectionGroup group : clientGroups) {
@@ -378,23 +447,45 @@ public class IProtoClientPoolImpl implements IProtoClientPool {
         InstanceConnectionGroup oldGroup = groups.put(tag, group);
         List<PoolEntry> connects = entries.computeIfAbsent(tag, k -> new ArrayList<>());
         if (oldGroup != null && !oldGroup.getAddress().equals(group.getAddress())) {
-          shrinkGroup(connects, 0);
+          shrinkGroup(connects, 0, retired);
+          closeSpares(tag);
         }
 
-        expandGroup(connects, group);
-        shrinkGroup(connects, size);
+        SpareConnections groupSpares = spares.get(tag);
+        if (groupSpares == null) {
+          groupSpares = newSpares(group);
+          spares.put(tag, groupSpares);
+        }
+        expandGroup(connects, group, groupSpares);
+        shrinkGroup(connects, size, retired);
+        groupSpares.update(group);
       }
       for (String tag : groups.keySet()) {
         if (!actualTags.containsKey(tag)) {
           log.debug("Cleanup connections for old tag={}", tag);
           groups.remove(tag);
-          shrinkGroup(entries.remove(tag), 0);
+          shrinkGroup(entries.remove(tag), 0, retired);
+          closeSpares(tag);
         }
       }
       totalSize = newTotal;
+      publishTopology();
+    }
+    // closed after the new topology is published, so requests do not get closing entries
+    for (PoolEntry entry : retired) {
+      entry.unlock();
+      entry.close();
     }
   }
 
+  /** Publishes a copy of {@link #entries}, must be called under {@link #connectionPoolLock}. */
+  private void publishTopology() {
+    Map<String, PoolEntry[]> snapshot = new HashMap<>();
+    entries.forEach((tag, connects) -> snapshot.put(tag, connects.toArray(new PoolEntry[0])));
+    topology = Collections.unmodifiableMap(snapshot);
+    topologyVersion++;
+  }
+
   @Override
   public List<String> getTags() {
     return new ArrayList<>(groups.keySet());
@@ -402,6 +493,15 @@ public class IProtoClientPoolImpl implements IProtoClientPool {
 
   @Override
   public int getGroupSize(String tag) {
+    return groupOf(tag).getSize();
+  }
+
+  @Override
+  public int getGroupWeight(String tag) {
+    return groupOf(tag).getWeight();
+  }
+
+  private InstanceConnectionGroup groupOf(String tag) {
     InstanceConnectionGroup group = groups.get(tag);
     if (group == null) {
       synchronized (connectionPoolLock) {
@@ -414,19 +514,49 @@ public class IProtoClientPoolImpl implements IProtoClientPool {
                 .toString());
       }
     }
-    return group.getSize();
+    return group;
+  }
+
+  @Override
+  public long getTopologyVersion() {
+    return topologyVersion;
   }
 
   @Override
   public CompletableFuture<IProtoClient> get(String tag, int index) {
+    PoolEntry entry = entryOf(tag, index);
+    if (entry.isLocked()) {
+      incPoolLockedConnectionRequests();
+      return null;
+    }
+    CompletableFuture<IProtoClient> future = entry.connect();
+    future.whenComplete(this::incPoolRequestCounters);
+    return future;
+  }
+
+  @Override
+  public int getInFlightRequests(String tag, int index) {
+    PoolEntry entry = entryOf(tag, index);
+    return entry.isLocked() ? Integer.MAX_VALUE : entry.getInFlightRequests();
+  }
+
+  @Override
+  public double getLatencyNanos(String tag, int index) {
+    PoolEntry entry = entryOf(tag, index);
+    return entry.isLocked() ? Double.POSITIVE_INFINITY : entry.getLatencyNanos();
+  }
+
+  /** Looks the entry up in the published topology, see {@link #get} for thrown exceptions. */
+  private PoolEntry entryOf(String tag, int index) {
     if (isClosed.get()) {
       incPoolInvalidRequests();
       throw new PoolClosedException("pool is closed");
     }
 
-    synchronized (connectionPoolLock) {
-      if (!groups.containsKey(tag)) {
-        incPoolInvalidRequests();
+    PoolEntry[] connects = topology.get(tag);
+    if (connects == null) {
+      incPoolInvalidRequests();
+      synchronized (connectionPoolLock) {
         initStringBuilder();
         throw new NoSuchElementException(
             stringBuilder
@@ -435,29 +565,11 @@ public class IProtoClientPoolImpl implements IProtoClientPool {
                 .append(tag)
                 .toString());
       }
+    }
 
-      if (!entries.containsKey(tag)) {
-        incPoolInvalidRequests();
-        initStringBuilder();
-        throw new NoSuchElementException(
-            stringBuilder
-                .delete(0, stringBuilder.length())
-                .append("can't find connection entries with tag ")
-                .append(tag)
-                .toString());
-      }
-
-      try {
-        PoolEntry entry = entries.get(tag).get(index);
-        if (entry.isLocked()) {
-          incPoolLockedConnectionRequests();
-          return null;
-        }
-        CompletableFuture<IProtoClient> future = entry.connect();
-        future.whenComplete(this::incPoolRequestCounters);
-        return future;
-      } catch (IndexOutOfBoundsException e) {
-        incPoolInvalidRequests();
+    if (index < 0 || index >= connects.length) {
+      incPoolInvalidRequests();
+      synchronized (connectionPoolLock) {
         initStringBuilder();
         throw new IndexOutOfBoundsException(
             stringBuilder
@@ -469,6 +581,8 @@ public class IProtoClientPoolImpl implements IProtoClientPool {
                 .toString());
       }
     }
+
+    return connects[index];
   }
 
   @Override
@@ -476,8 +590,11 @@ public class IProtoClientPoolImpl implements IProtoClientPool {
     if (isClosed.compareAndSet(false, true)) {
       log.debug("Thread closes connection");
       synchronized (connectionPoolLock) {
+        topology = Collections.emptyMap();
         entries.forEach((tag, entryGroup) -> entryGroup.forEach(PoolEntry::close));
         entries.clear();
+        spares.values().forEach(SpareConnections::close);
+        spares.clear();
         groups.clear();
       }
       timerResource.close();
@@ -495,7 +612,11 @@ public class IProtoClientPoolImpl implements IProtoClientPool {
     if (timeout <= 0) {
       throw new IllegalArgumentException("timeout should be positive number");
     }
-    entries.forEach((tag, entryGroup) -> entryGroup.forEach(pe -> pe.setConnectTimeout(timeout)));
+    for (PoolEntry[] group : topology.values()) {
+      for (PoolEntry entry : group) {
+        entry.setConnectTimeout(timeout);
+      }
+    }
     connectTimeout = timeout;
   }
 
@@ -524,7 +645,7 @@ public class IProtoClientPoolImpl implements IProtoClientPool {
 
   @Override
   public void forEach(Consumer<IProtoClient> action) {
-    for (List<PoolEntry> group : entries.values()) {
+    for (PoolEntry[] group : topology.values()) {
       for (PoolEntry entry : group) {
         action.accept(entry.getClient());
       }
@@ -541,8 +662,10 @@ public class IProtoClientPoolImpl implements IProtoClientPool {
    *
    * @param connects list of {@link io.tarantool.pool.PoolEntry} entries
    * @param group an instance of {@link io.tarantool.pool.InstanceConnectionGroup}
+   * @param groupSpares spare connections of the group
    */
-  private void expandGroup(List<PoolEntry> connects, InstanceConnectionGroup group) {
+  private void expandGroup(
+      List<PoolEntry> connects, InstanceConnectionGroup group, SpareConnections groupSpares) {
     log.info("create new connections: group {}", group.getTag());
     while (connects.size() < group.getSize()) {
       connects.add(
@@ -562,7 +685,47 @@ public class IProtoClientPoolImpl implements IProtoClientPool {
               ignoredPacketsHandler,
               handlers,
               useTupleExtension,
-              poolEventListener));
+              poolEventListener,
+              completionExecutor,
+              groupSpares));
+    }
+  }
+
+  /**
+   * Creates spare connections of a group. Spare clients are configured the same way as the clients
+   * of pool entries.
+   *
+   * @param group an instance of {@link io.tarantool.pool.InstanceConnectionGroup}
+   * @return spare connections, not connected yet
+   */
+  private SpareConnections newSpares(InstanceConnectionGroup group) {
+    return new SpareConnections(
+        group,
+        () ->
+            new IProtoClientImpl(
+                    factory,
+                    timerResource.get(),
+                    watcherOpts,
+                    metricsRegistry,
+                    group.getFlushConsolidationHandler(),
+                    useTupleExtension,
+                    completionExecutor)
+                .withHandlers(handlers),
+        timerResource.get(),
+        this::getConnectTimeout,
+        this::getReconnectAfter,
+        gracefulShutdown);
+  }
+
+  /**
+   * Closes spare connections of a group.
+   *
+   * @param tag tag of the group
+   */
+  private void closeSpares(String tag) {
+    SpareConnections groupSpares = spares.remove(tag);
+    if (groupSpares != null) {
+      groupSpares.close();
     }
   }
 
@@ -575,8 +738,9 @@ public class IProtoClientPoolImpl implements IProtoClientPool {
    *
    * @param connects list of {@link io.tarantool.pool.PoolEntry} entries
    * @param count a new count of pool entries to reduce
+   * @param retired list collecting removed entries, they are closed by the caller
    */
-  private void shrinkGroup(List<PoolEntry> connects, int count) {
+  private void shrinkGroup(List<PoolEntry> connects, int count, List<PoolEntry> retired) {
     if (connects == null || count >= connects.size()) {
       log.warn(
           "No connections to close. Opened connections:{}, keep open:{}",
@@ -589,8 +753,7 @@ public class IProtoClientPoolImpl implements IProtoClientPool {
     for (int i = connects.size() - 1; i >= count; i--) {
       PoolEntry entry = connects.remove(i);
       if (entry != null) {
-        entry.unlock();
-        entry.close();
+        retired.add(entry);
       }
     }
   }
@@ -11,6 +11,7 @@ import io.netty.handler.flush.FlushConsolidationHandler;
 
 import static io.tarantool.core.protocol.requests.IProtoAuth.DEFAULT_AUTH_TYPE;
 import io.tarantool.core.protocol.requests.IProtoAuth.AuthType;
+import io.tarantool.core.protocol.requests.IProtoAuth.PasswordHash;
 
 /**
  * Class that implements a group of connections to a host.
@@ -30,6 +31,15 @@ public final class InstanceConnectionGroup {
   /** Default connection number in connection group. */
   public static final int DEFAULT_CONNECTION_NUMBER = 1;
 
+  /** Default weight of connection group. */
+  public static final int DEFAULT_WEIGHT = 1;
+
+  /**
+   * Maximum weight of connection group. Weighted balancers keep one period of their order, as long
+   * as the sum of the weights, so the weight is bounded to keep it small.
+   */
+  public static final int MAX_WEIGHT = 1000;
+
   /**
    * Host name.
    *
@@ -84,6 +94,29 @@ public final class InstanceConnectionGroup {
   /** Default netty flush handler. */
   private final FlushConsolidationHandler flushConsolidationHandler;
 
+  /**
+   * Number of pre-authenticated spare connections kept for the group.
+   *
+   * <p><i><b>Default</b></i>: {@code 0}.
+   */
+  private final int spareSize;
+
+  /**
+   * Relative share of requests the group gets from weighted balancers, independent of {@link
+   * #size}: a group with weight {@code 4} gets four times the requests of a group with weight
+   * {@code 1}. Must be from {@code 1} to {@link #MAX_WEIGHT}.
+   *
+   * <p><i><b>Default</b></i>: {@code 1}.
+   */
+  private final int weight;
+
+  /**
+   * Hash of {@link #password} for {@link AuthType#CHAP_SHA1}, computed once for all connections of
+   * the group, so only the salt-dependent part of the scramble is computed per connection. {@code
+   * null} for guest and {@link AuthType#PAP_SHA256} groups.
+   */
+  private final PasswordHash passwordHash;
+
   /**
    * Tag of group.
    *
@@ -102,6 +135,8 @@ public final class InstanceConnectionGroup {
    * @param password {@link #password}
    * @param authType {@link #authType}
    * @param flushConsolidationHandler {@link #flushConsolidationHandler}
+   * @param spareSize {@link #spareSize}
+   * @param weight {@link #weight}
    * @throws IllegalArgumentException when {@code "guest"} password is not empty or password of
    *     other users is empty
    */
@@ -113,7 +148,9 @@ public final class InstanceConnectionGroup {
       String user,
       String password,
       AuthType authType,
-      FlushConsolidationHandler flushConsolidationHandler)
+      FlushConsolidationHandler flushConsolidationHandler,
+      int spareSize,
+      int weight)
       throws IllegalArgumentException {
     if (user != null && user.equals("guest")) {
       user = null;
@@ -130,6 +167,12 @@ public final class InstanceConnectionGroup {
     this.tag = tag;
     this.address = new InetSocketAddress(host, port);
     this.flushConsolidationHandler = flushConsolidationHandler;
+    this.spareSize = spareSize;
+    this.weight = weight;
+    this.passwordHash =
+        user != null && password != null && authType == AuthType.CHAP_SHA1
+            ? PasswordHash.of(password)
+            : null;
   }
 
   /**
@@ -235,6 +278,33 @@ public final class InstanceConnectionGroup {
     return flushConsolidationHandler;
   }
 
+  /**
+   * Returns value of spare size field.
+   *
+   * @return {@link #spareSize} value.
+   */
+  public int getSpareSize() {
+    return spareSize;
+  }
+
+  /**
+   * Returns value of weight field.
+   *
+   * @return {@link #weight} value.
+   */
+  public int getWeight() {
+    return weight;
+  }
+
+  /**
+   * Returns value of password hash field.
+   *
+   * @return {@link #passwordHash} value.
+   */
+  public PasswordHash getPasswordHash() {
+    return passwordHash;
+  }
+
   /** Builder of {@link InstanceConnectionGroup} class. */
   public static class Builder {
 
@@ -276,6 +346,16 @@ public final class InstanceConnectionGroup {
     /** Default netty flush handler. */
     private FlushConsolidationHandler flushConsolidationHandler;
 
+    /**
+     * @see InstanceConnectionGroup#spareSize
+     */
+    private int spareSize;
+
+    /**
+     * @see InstanceConnectionGroup#weight
+     */
+    private int weight = DEFAULT_WEIGHT;
+
     /** Constructor of {@link Builder}. */
     private Builder() {}
 
@@ -440,6 +520,54 @@ public final class InstanceConnectionGroup {
       return this;
     }
 
+    /**
+     * Sets value of {@link InstanceConnectionGroup#spareSize}. The pool keeps this many connections
+     * of the group connected and authenticated in the background. When a connection of the group
+     * is killed by heartbeats or closed by the server, it is replaced by a spare at once instead of
+     * waiting for reconnect, greeting and authentication; the spare is refilled in the background.
+     *
+     * <p><i><b>Note</b></i>: Don't use this method if a default value is required: <i>0</i>.
+     *
+     * @param spareSize {@link InstanceConnectionGroup#spareSize}.
+     * @return {@link Builder} object.
+     * @throws IllegalArgumentException when {@code spareSize < 0}.
+     * @see InstanceConnectionGroup#spareSize
+     * @see InstanceConnectionGroup
+     */
+    public Builder withSpareSize(int spareSize) throws IllegalArgumentException {
+      if (spareSize < 0) {
+        throw new IllegalArgumentException("spareSize should be greater or equal 0");
+      }
+      this.spareSize = spareSize;
+      return this;
+    }
+
+    /**
+     * Sets value of {@link InstanceConnectionGroup#weight}. Weight value should greater 0 and not
+     * greater {@link InstanceConnectionGroup#MAX_WEIGHT}. Weighted balancers, e.g. {@code
+     * TarantoolWeightedRoundRobinBalancer}, send requests to the groups in proportion to their
+     * weights, so a group of more powerful nodes may take more traffic without opening more
+     * connections.
+     *
+     * <p><i><b>Note</b></i>: Don't use this method if a default value is required: <i>1</i>.
+     *
+     * @param weight {@link InstanceConnectionGroup#weight}.
+     * @return {@link Builder} object.
+     * @throws IllegalArgumentException when {@code weight <= 0} or {@code weight > MAX_WEIGHT}.
+     * @see InstanceConnectionGroup#weight
+     * @see InstanceConnectionGroup
+     */
+    public Builder withWeight(int weight) throws IllegalArgumentException {
+      if (weight <= 0) {
+        throw new IllegalArgumentException("weight should be greater 0");
+      }
+      if (weight > MAX_WEIGHT) {
+        throw new IllegalArgumentException("weight should not be greater " + MAX_WEIGHT);
+      }
+      this.weight = weight;
+      return this;
+    }
+
     /**
      * Builds {@link InstanceConnectionGroup} object.
      *
@@ -455,7 +583,9 @@ public final class InstanceConnectionGroup {
           this.user,
           this.password,
           this.authType,
-          this.flushConsolidationHandler);
+          this.flushConsolidationHandler,
+          this.spareSize,
+          this.weight);
     }
   }
 }
@@ -7,14 +7,17 @@ package io.tarantool.pool;
 
 import java.util.ArrayDeque;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.LongTaskTimer;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.util.ReferenceCountUtil;
 import io.netty.util.Timeout;
 import io.netty.util.Timer;
 import org.msgpack.value.impl.ImmutableBooleanValueImpl;
@@ -24,6 +27,7 @@ import org.slf4j.LoggerFactory;
 import static io.tarantool.core.protocol.requests.IProtoConstant.IPROTO_DATA;
 import io.tarantool.core.IProtoClient;
 import io.tarantool.core.IProtoClientImpl;
+import io.tarantool.core.PeakEwma;
 import io.tarantool.core.WatcherOptions;
 import io.tarantool.core.connection.ConnectionCloseEvent;
 import io.tarantool.core.connection.ConnectionFactory;
@@ -77,8 +81,18 @@ final class PoolEntry {
    */
   private final HeartbeatOpts heartbeatOpts;
 
-  /** Instance of {@link io.tarantool.core.IProtoClient}. */
-  private final IProtoClient client;
+  /**
+   * Instance of {@link io.tarantool.core.IProtoClient}.
+   *
+   * <p>Replaced by a spare connection of the group when the current one is killed or closed.
+   */
+  private volatile IProtoClient client;
+
+  /** Pre-authenticated spare connections of the group. */
+  private final SpareConnections spares;
+
+  /** Handler for accepting ignored packets, may be {@code null}. */
+  private final TripleConsumer<String, Integer, IProtoResponse> ignoredPacketsHandler;
 
   /**
    * IProto options for ping requests,
@@ -141,9 +155,16 @@ final class PoolEntry {
    * Connection future.
    *
    * <p>It will be returned to all out clients wanting to obtain this client. It is recreated only
-   * if client is reconnected.
+   * if client is reconnected. Written by the I/O and timer threads, read by callers of {@link
+   * #connect()}.
    */
-  private CompletableFuture<IProtoClient> connectFuture;
+  private volatile CompletableFuture<IProtoClient> connectFuture;
+
+  /**
+   * Response time estimate of the entry, fed by requests of the current client and by heartbeats.
+   * It is kept when the client is replaced, as it describes the node rather than the connection.
+   */
+  private final PeakEwma latency = new PeakEwma();
 
   /** Last heartbeat state/event. */
   private HeartbeatEvent lastHeartbeatEvent;
@@ -219,6 +240,10 @@ final class PoolEntry {
    * @param ignoredPacketsHandler callback for accepting packets which were ignored by IProtoClient
    *     connections.
    * @param useTupleExtension use TUPLE_EXT feature if true.
+   * @param poolEventListener optional pool event listener
+   * @param completionExecutor executor completing request futures, {@code null} means the event
+   *     loop
+   * @param spares spare connections of the group, {@code null} if the group has none
    */
   public PoolEntry(
       ConnectionFactory factory,
@@ -236,7 +261,9 @@ final class PoolEntry {
       TripleConsumer<String, Integer, IProtoResponse> ignoredPacketsHandler,
       Handlers handlers,
       boolean useTupleExtension,
-      PoolEventListener poolEventListener) {
+      PoolEventListener poolEventListener,
+      Executor completionExecutor,
+      SpareConnections spares) {
     this.metricsRegistry = registry;
     this.handlers = handlers;
     this.client =
@@ -246,7 +273,8 @@ final class PoolEntry {
             watcherOpts,
             registry,
             group.getFlushConsolidationHandler(),
-            useTupleExtension);
+            useTupleExtension,
+            completionExecutor);
     this.client.withHandlers(handlers);
     // heartbeat related
     this.isHeartbeatStarted = false;
@@ -279,16 +307,60 @@ final class PoolEntry {
     this.timerService = timerService;
     this.unavailable = unavailable;
     this.reconnecting = reconnecting;
-    this.client.onClose(ConnectionCloseEvent.CLOSE_BY_REMOTE, this::handleConnectError);
-    this.client.onClose(ConnectionCloseEvent.CLOSE_BY_SHUTDOWN, this::handleConnectError);
     this.useTupleExtension = useTupleExtension;
     this.poolEventListener = poolEventListener;
+    this.ignoredPacketsHandler = ignoredPacketsHandler;
+    this.spares = spares;
+    attach(client);
+
+    initMetrics();
+  }
+
+  /**
+   * Subscribes this entry to the events of a client. Events of a client that has been replaced by a
+   * spare are ignored.
+   *
+   * @param target client of this entry
+   */
+  private void attach(IProtoClient target) {
+    BiConsumer<IProtoClient, Throwable> onClose =
+        (c, exc) -> {
+          if (target == client) {
+            handleConnectError(c, exc);
+          }
+        };
+    target.withLatencyEstimate(latency);
+    target.onClose(ConnectionCloseEvent.CLOSE_BY_REMOTE, onClose);
+    target.onClose(ConnectionCloseEvent.CLOSE_BY_SHUTDOWN, onClose);
 
     if (ignoredPacketsHandler != null) {
-      client.onIgnoredPacket(packet -> ignoredPacketsHandler.accept(this.tag, this.index, packet));
+      target.onIgnoredPacket(packet -> ignoredPacketsHandler.accept(this.tag, this.index, packet));
     }
+  }
 
-    initMetrics();
+  /**
+   * Authorizes a freshly connected client of the group, or checks it with a ping for guest
+   * connections, and waits until the connection is ready for requests.
+   *
+   * @param client connected client
+   * @param group group of the client
+   * @return future completed when the client is ready
+   */
+  static CompletableFuture<Void> authorize(IProtoClient client, InstanceConnectionGroup group) {
+    String user = group.getUser();
+    CompletableFuture<IProtoResponse> check;
+    if (user == null) {
+      check = client.ping(firstPingOpts);
+    } else if (group.getPasswordHash() != null) {
+      check = client.authorize(user, group.getPasswordHash());
+    } else {
+      check = client.authorize(user, group.getPassword(), group.getAuthType());
+    }
+    return check.thenCompose(
+        r -> {
+          ReferenceCountUtil.release(r);
+          return client.awaitConnectionReady();
+        });
   }
 
   /**
@@ -300,6 +372,25 @@ final class PoolEntry {
     return client;
   }
 
+  /**
+   * Returns the number of outstanding requests of the current client, see {@link
+   * IProtoClient#getInFlightRequests()}.
+   *
+   * @return number of outstanding requests
+   */
+  public int getInFlightRequests() {
+    return client.getInFlightRequests();
+  }
+
+  /**
+   * Returns the response time estimate of the entry, see {@link PeakEwma#getNanos()}.
+   *
+   * @return estimated response time in nanoseconds, {@code 0} before the first response
+   */
+  public double getLatencyNanos() {
+    return latency.getNanos();
+  }
+
   /**
    * Method for locking pool entry.
    *
@@ -415,21 +506,17 @@ final class PoolEntry {
   private CompletableFuture<IProtoClient> internalConnect() {
     log.info("connect {}/{}", tag, index);
     LongTaskTimer.Sample timer = startTimer(connectTime);
+    IProtoClient current = client;
     CompletableFuture<?> future =
-        client.connect(group.getAddress(), connectTimeout, gracefulShutdown);
-    String user = group.getUser();
+        current.connect(group.getAddress(), connectTimeout, gracefulShutdown);
     connectFuture =
         future
             .thenCompose(
                 greeting -> {
                   stopTimer(timer);
-                  if (user != null) {
-                    return client.authorize(user, group.getPassword(), group.getAuthType());
-                  }
-                  return client.ping(firstPingOpts);
+                  return authorize(current, group);
                 })
-            .thenCompose(r -> client.awaitConnectionReady())
-            .thenApply(r -> client)
+            .thenApply(r -> current)
             .whenComplete(this::onConnectComplete);
     return connectFuture;
   }
@@ -476,7 +563,90 @@ final class PoolEntry {
     emit(listener -> listener.onConnectionFailed(tag, index, failure));
     lock();
     shutdown();
-    connectAfter();
+    if (!takeSpare()) {
+      connectAfter();
+    }
+  }
+
+  /**
+   * Replaces the closed client by a ready spare connection of the group, so the entry is available
+   * again without going through connect, greeting and authentication. A spare is idle until it is
+   * taken and nothing has checked it since it was authorized, so it is checked with a heartbeat
+   * ping (a plain ping without heartbeats) first. The entry stays locked until the spare answers;
+   * a spare failing the check is closed and the next one is tried, then the entry reconnects.
+   *
+   * @return {@code false} if the group has no ready spare
+   */
+  private boolean takeSpare() {
+    if (spares == null) {
+      return false;
+    }
+    IProtoClient spare = spares.poll();
+    if (spare == null) {
+      return false;
+    }
+    log.info("connection {}/{} is being replaced by a spare connection", tag, index);
+    CompletableFuture<IProtoClient> future =
+        checkSpare(spare)
+            .thenApply(
+                r -> {
+                  attach(spare);
+                  client = spare;
+                  log.info("connection {}/{} is replaced by a spare connection", tag, index);
+                  startHeartbeat();
+                  unlock();
+                  emit(listener -> listener.onConnectionOpened(tag, index));
+                  return spare;
+                });
+    // published before the failure handler is added, which may take the next spare at once
+    connectFuture = future;
+    future.whenComplete((r, exc) -> onSpareCheckComplete(spare, exc));
+    return true;
+  }
+
+  /**
+   * Sends a ping to the spare the same way heartbeats do.
+   *
+   * @param spare spare connection
+   * @return future completed when the spare answers as a healthy node
+   */
+  private CompletableFuture<Void> checkSpare(IProtoClient spare) {
+    CompletableFuture<IProtoResponse> ping =
+        pingFunction == null
+            ? spare.ping(firstPingOpts)
+            : pingFunction.apply(spare, heartbeatPingOpts);
+    return ping.thenAccept(
+        result -> {
+          try {
+            if (!isHealthy(result)) {
+              throw new IllegalStateException("spare connection is not healthy");
+            }
+          } finally {
+            ReferenceCountUtil.release(result);
+          }
+        });
+  }
+
+  /**
+   * Closes a spare that has failed its check and tries the next one.
+   *
+   * @param spare checked spare
+   * @param exc failure of the check, {@code null} if the spare has been taken
+   */
+  private void onSpareCheckComplete(IProtoClient spare, Throwable exc) {
+    if (exc == null) {
+      return;
+    }
+    log.warn("spare connection for {}/{} failed its check: {}", tag, index, exc.toString());
+    try {
+      spare.close();
+    } catch (Exception e) {
+      log.warn("Cannot close spare connection", e);
+    }
+    connectFuture = null;
+    if (!takeSpare()) {
+      connectAfter();
+    }
   }
 
   /** Reconnect task scheduler. */
@@ -538,9 +708,16 @@ final class PoolEntry {
           return;
         }
       }
-    } else if (!result.isBodyEmpty()
-        && !result.getBodyArrayValue(IPROTO_DATA).get(0).equals(ImmutableBooleanValueImpl.TRUE)) {
-      failure = 1;
+    } else {
+      try {
+        if (!isHealthy(result)) {
+          failure = 1;
+          // a node answering quickly that it is not healthy must not look like the fastest one
+          latency.observe(TimeUnit.MILLISECONDS.toNanos(heartbeatOpts.getPingInterval()));
+        }
+      } finally {
+        ReferenceCountUtil.release(result);
+      }
     }
     incHeartbeatCounters(failure);
 
@@ -565,6 +742,18 @@ final class PoolEntry {
     currentDeathPings = 0;
   }
 
+  /**
+   * Checks the response of a heartbeat ping: a ping function may answer {@code false} for a node
+   * that is alive but not healthy.
+   *
+   * @param result response of the ping
+   * @return {@code true} if the node is healthy
+   */
+  private static boolean isHealthy(IProtoResponse result) {
+    return result.isBodyEmpty()
+        || result.getBodyArrayValue(IPROTO_DATA).get(0).equals(ImmutableBooleanValueImpl.TRUE);
+  }
+
   /**
    * Switcher for connection states.
    *
@@ -589,7 +778,9 @@ final class PoolEntry {
       case KILL:
         shutdown();
         log.warn("heartbeat: close connection {}/{}", tag, index);
-        connectAfter();
+        if (!takeSpare()) {
+          connectAfter();
+        }
         break;
     }
   }
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026 VK DIGITAL TECHNOLOGIES LIMITED LIABILITY COMPANY
+ * All Rights Reserved.
+ */
+
+package io.tarantool.pool;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import io.netty.util.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.tarantool.core.IProtoClient;
+import io.tarantool.core.connection.ConnectionCloseEvent;
+
+/**
+ * Pre-authenticated spare connections of an {@link InstanceConnectionGroup}.
+ *
+ * <p>Spares go through connect, greeting and authentication in the background, so a pool entry
+ * whose connection is killed takes a ready one instead of reconnecting (see {@link
+ * PoolEntry#connect()}). Taken, failed or closed spares are replaced in the background; a failed
+ * connect is retried after the reconnect period of the pool.
+ *
+ * @see InstanceConnectionGroup.Builder#withSpareSize(int)
+ */
+final class SpareConnections {
+
+  /** Logger instance. */
+  private static final Logger log = LoggerFactory.getLogger(SpareConnections.class);
+
+  /** Creates clients configured the same way as the clients of pool entries. */
+  private final Supplier<IProtoClient> clientFactory;
+
+  /** Timer for delayed refills. */
+  private final Timer timerService;
+
+  /** Connect timeout of the pool in milliseconds. */
+  private final LongSupplier connectTimeout;
+
+  /** Reconnect period of the pool in milliseconds. */
+  private final LongSupplier reconnectAfter;
+
+  /** Flag for graceful shutdown handling. */
+  private final boolean gracefulShutdown;
+
+  /** Connected and authenticated spares. */
+  private final Queue<IProtoClient> ready = new ConcurrentLinkedQueue<>();
+
+  /** Number of spares being connected or waiting for a retry. */
+  private final AtomicInteger pending = new AtomicInteger();
+
+  /** Group the spares connect to. */
+  private volatile InstanceConnectionGroup group;
+
+  /** Flag set when the spares are not needed anymore. */
+  private volatile boolean closed;
+
+  /**
+   * Creates spares of a group. Nothing is connected until {@link #refill()} is called.
+   *
+   * @param group group to connect to
+   * @param clientFactory factory of clients
+   * @param timerService timer for delayed refills
+   * @param connectTimeout connect timeout of the pool
+   * @param reconnectAfter reconnect period of the pool
+   * @param gracefulShutdown a boolean flag for graceful shutdown
+   */
+  SpareConnections(
+      InstanceConnectionGroup group,
+      Supplier<IProtoClient> clientFactory,
+      Timer timerService,
+      LongSupplier connectTimeout,
+      LongSupplier reconnectAfter,
+      boolean gracefulShutdown) {
+    this.group = group;
+    this.clientFactory = clientFactory;
+    this.timerService = timerService;
+    this.connectTimeout = connectTimeout;
+    this.reconnectAfter = reconnectAfter;
+    this.gracefulShutdown = gracefulShutdown;
+  }
+
+  /**
+   * Applies a new configuration of the same address: spares above the new size are closed, missing
+   * ones are connected.
+   *
+   * @param group new group configuration
+   */
+  void update(InstanceConnectionGroup group) {
+    this.group = group;
+    while (ready.size() > group.getSpareSize()) {
+      IProtoClient spare = ready.poll();
+      if (spare == null) {
+        break;
+      }
+      closeQuietly(spare);
+    }
+    refill();
+  }
+
+  /**
+   * Takes a connected spare and starts connecting a replacement.
+   *
+   * @return connected and authenticated client or {@code null} if no spare is ready
+   */
+  IProtoClient poll() {
+    IProtoClient spare;
+    while ((spare = ready.poll()) != null && !spare.isConnected()) {
+      closeQuietly(spare);
+    }
+    refill();
+    return spare;
+  }
+
+  /**
+   * Returns the number of ready spares.
+   *
+   * @return count of connected and authenticated spares
+   */
+  int size() {
+    return ready.size();
+  }
+
+  /** Starts connecting spares until the group has as many as configured. */
+  void refill() {
+    while (!closed) {
+      int current = pending.get();
+      if (ready.size() + current >= group.getSpareSize()) {
+        return;
+      }
+      if (pending.compareAndSet(current, current + 1)) {
+        connectSpare();
+      }
+    }
+  }
+
+  /** Closes all spares, spares being connected are closed when they are ready. */
+  void close() {
+    closed = true;
+    IProtoClient spare;
+    while ((spare = ready.poll()) != null) {
+      closeQuietly(spare);
+    }
+  }
+
+  /** Connects one spare, the caller has already counted it in {@link #pending}. */
+  private void connectSpare() {
+    InstanceConnectionGroup target = group;
+    IProtoClient spare;
+    try {
+      spare = clientFactory.get();
+    } catch (RuntimeException e) {
+      log.error("spare: cannot create client for {}", target.getTag(), e);
+      pending.decrementAndGet();
+      return;
+    }
+    for (ConnectionCloseEvent event : ConnectionCloseEvent.values()) {
+      spare.onClose(event, (client, exc) -> onSpareClose(spare));
+    }
+    spare
+        .connect(target.getAddress(), connectTimeout.getAsLong(), gracefulShutdown)
+        .thenCompose(greeting -> PoolEntry.authorize(spare, target))
+        .whenComplete(
+            (r, exc) -> {
+              if (exc != null) {
+                log.warn("spare: connect to {} failed: {}", target.getTag(), exc.toString());
+                closeQuietly(spare);
+                retryLater();
+                return;
+              }
+              ready.add(spare);
+              pending.decrementAndGet();
+              if (closed) {
+                close();
+              }
+              log.debug("spare: connection to {} is ready", target.getTag());
+            });
+  }
+
+  /** Keeps the failed spare counted as pending until the retry, so the refill does not spin. */
+  private void retryLater() {
+    if (closed) {
+      pending.decrementAndGet();
+      return;
+    }
+    timerService.newTimeout(
+        timeout -> {
+          pending.decrementAndGet();
+          refill();
+        },
+        reconnectAfter.getAsLong(),
+        TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Drops a spare closed while waiting in the queue. Spares already taken by pool entries are not
+   * in the queue anymore, so their close is handled by the entries.
+   */
+  private void onSpareClose(IProtoClient spare) {
+    if (ready.remove(spare)) {
+      log.info("spare: connection to {} closed, replacing it", group.getTag());
+      refill();
+    }
+  }
+
+  private static void closeQuietly(IProtoClient client) {
+    try {
+      client.close();
+    } catch (Exception e) {
+      log.warn("spare: cannot close client", e);
+    }
+  }
+}
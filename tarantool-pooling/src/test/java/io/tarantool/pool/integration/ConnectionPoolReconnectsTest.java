@@ -121,4 +121,32 @@ public class ConnectionPoolReconnectsTest extends BasePoolTest {
 
     pool.close();
   }
+
+  @Test
+  public void testSpareConnectionsAreKeptReady() throws Exception {
+    ManagedResource<Timer> timerResource =
+        ManagedResource.owned(new HashedWheelTimer(), Timer::stop);
+    ConnectionFactory factory = new ConnectionFactory(bootstrap, timerResource.get());
+    IProtoClientPool pool = new IProtoClientPoolImpl(factory, timerResource);
+    InstanceConnectionGroup.Builder group =
+        InstanceConnectionGroup.builder().withHost(tt.getHost()).withSize(count1).withTag("node-a");
+    pool.setGroups(Collections.singletonList(group.withSpareSize(2).build()));
+
+    List<IProtoClient> clients = getConnects(pool, "node-a", count1);
+    assertTrue(pingClients(clients));
+    waitFor(
+        "Spare connections are not established",
+        Duration.ofMinutes(1),
+        () -> waitForActiveConnections(tt, count1 + 2));
+
+    pool.setGroups(Collections.singletonList(group.withSpareSize(0).build()));
+    waitFor(
+        "Spare connections are not closed",
+        Duration.ofMinutes(1),
+        () -> waitForActiveConnections(tt, count1));
+
+    pool.close();
+    waitFor(
+        "Connections are not closed", Duration.ofMinutes(1), () -> waitForActiveConnections(tt, 0));
+  }
 }
@@ -255,6 +255,32 @@ public class IProtoClientPoolTest {
     assertThrows(NoSuchElementException.class, () -> pool.getGroupSize("node-2"));
   }
 
+  @Test
+  public void testTopologyVersionChangesOnSetGroups() {
+    long initial = pool.getTopologyVersion();
+    InstanceConnectionGroup group =
+        InstanceConnectionGroup.builder()
+            .withHost("localhost")
+            .withPort(3301)
+            .withSize(1)
+            .withTag("node-1")
+            .build();
+
+    pool.setGroups(Collections.singletonList(group));
+    long grown = pool.getTopologyVersion();
+    assertTrue(grown != initial);
+
+    pool.setGroups(
+        Collections.singletonList(
+            InstanceConnectionGroup.builder()
+                .withHost("localhost")
+                .withPort(3301)
+                .withSize(2)
+                .withTag("node-1")
+                .build()));
+    assertTrue(pool.getTopologyVersion() != grown);
+  }
+
   @Test
   public void testSetGroupsWithInvalidIndexAfterResize() {
     List<InstanceConnectionGroup> initialGroups =
@@ -328,6 +354,22 @@ public class IProtoClientPoolTest {
     assertThrows(NoSuchElementException.class, () -> pool.getGroupSize("node-1"));
   }
 
+  @Test
+  public void testPoolGetSeesLatestTopology() {
+    InstanceConnectionGroup.Builder group =
+        InstanceConnectionGroup.builder().withHost("localhost").withPort(3301).withTag("node-1");
+
+    pool.setGroups(Collections.singletonList(group.withSize(1).build()));
+    assertThrows(IndexOutOfBoundsException.class, () -> pool.get("node-1", 1));
+    assertThrows(IndexOutOfBoundsException.class, () -> pool.get("node-1", -1));
+
+    pool.setGroups(Collections.singletonList(group.withSize(2).build()));
+    assertNotNull(pool.get("node-1", 1));
+
+    pool.setGroups(Collections.emptyList());
+    assertThrows(NoSuchElementException.class, () -> pool.get("node-1", 0));
+  }
+
   @Test
   public void testAvailableConnectionsAfterSettingGroups() {
     List<InstanceConnectionGroup> groups =
@@ -9,6 +9,7 @@ import java.net.InetSocketAddress;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import org.junit.jupiter.api.Test;
 
 import io.tarantool.core.protocol.requests.IProtoAuth;
@@ -103,4 +104,29 @@ class InstanceConnectionGroupTest {
     assertNull(group.getPassword());
     assertNull(group.getUser());
   }
+
+  @Test
+  void spareSizeTest() {
+    assertEquals(0, InstanceConnectionGroup.builder().build().getSpareSize());
+    assertEquals(2, InstanceConnectionGroup.builder().withSpareSize(2).build().getSpareSize());
+    assertThrows(
+        IllegalArgumentException.class, () -> InstanceConnectionGroup.builder().withSpareSize(-1));
+  }
+
+  @Test
+  void weightTest() {
+    assertEquals(1, InstanceConnectionGroup.builder().build().getWeight());
+    assertEquals(4, InstanceConnectionGroup.builder().withWeight(4).build().getWeight());
+    assertThrows(
+        IllegalArgumentException.class, () -> InstanceConnectionGroup.builder().withWeight(0));
+    assertEquals(
+        InstanceConnectionGroup.MAX_WEIGHT,
+        InstanceConnectionGroup.builder()
+            .withWeight(InstanceConnectionGroup.MAX_WEIGHT)
+            .build()
+            .getWeight());
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> InstanceConnectionGroup.builder().withWeight(InstanceConnectionGroup.MAX_WEIGHT + 1));
+  }
 }
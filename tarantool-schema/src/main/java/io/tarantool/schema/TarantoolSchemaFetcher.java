@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import io.netty.util.ReferenceCountUtil;
 import org.msgpack.value.ValueFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -77,11 +78,16 @@ public class TarantoolSchemaFetcher {
               .thenCombine(
                   vindexSelect(),
                   (schemaResponse, indexesResponse) -> {
-                    updateSchema(
-                        TarantoolJacksonMapping.readResponse(schemaResponse, LIST_TUPLE_SPACE)
-                            .get(),
-                        TarantoolJacksonMapping.readResponse(indexesResponse, LIST_TUPLE_INDEX)
-                            .get());
+                    try {
+                      updateSchema(
+                          TarantoolJacksonMapping.readResponse(schemaResponse, LIST_TUPLE_SPACE)
+                              .get(),
+                          TarantoolJacksonMapping.readResponse(indexesResponse, LIST_TUPLE_INDEX)
+                              .get());
+                    } finally {
+                      ReferenceCountUtil.release(schemaResponse);
+                      ReferenceCountUtil.release(indexesResponse);
+                    }
                     long newSchemaVersion = schemaResponse.getSchemaVersion();
                     if (newSchemaVersion > schemaVersion) {
                       schemaVersion = newSchemaVersion;
@@ -116,10 +122,15 @@ public class TarantoolSchemaFetcher {
     CompletableFuture.allOf(vspaceRequest, vindexRequest).join();
     IProtoResponse vspaceRequestResponse = vspaceRequest.join();
     IProtoResponse vindexRequestResponse = vindexRequest.join();
-    List<Tuple<Space>> spaces =
-        TarantoolJacksonMapping.readResponse(vspaceRequestResponse, LIST_TUPLE_SPACE).get();
-    List<Tuple<Index>> indexes =
-        TarantoolJacksonMapping.readResponse(vindexRequestResponse, LIST_TUPLE_INDEX).get();
+    List<Tuple<Space>> spaces;
+    List<Tuple<Index>> indexes;
+    try {
+      spaces = TarantoolJacksonMapping.readResponse(vspaceRequestResponse, LIST_TUPLE_SPACE).get();
+      indexes = TarantoolJacksonMapping.readResponse(vindexRequestResponse, LIST_TUPLE_INDEX).get();
+    } finally {
+      ReferenceCountUtil.release(vspaceRequestResponse);
+      ReferenceCountUtil.release(vindexRequestResponse);
+    }
     updateSchema(spaces, indexes);
     schemaVersion = vspaceRequestResponse.getSchemaVersion();
   }
@@ -184,6 +184,7 @@ public class TarantoolTestSupport {
                 choiceOrNull("tag"),
                 "user",
                 choiceOrNull(Arrays.asList(IProtoAuth.AuthType.values())),
+                3,
                 propertyFlushConsolidationHandler));
     List<PropertyInstanceConnectionGroup> propertyInstanceConnectionGroups = null;
     if (propertyInstanceConnectionGroup != null) {
@@ -278,6 +279,7 @@ public class TarantoolTestSupport {
       @Nullable String tag,
       @Nullable String user,
       @Nullable IProtoAuth.AuthType type,
+      @Nullable Integer weight,
       @Nullable PropertyFlushConsolidationHandler propertyFlushConsolidationHandler) {
 
     PropertyInstanceConnectionGroup propertyInstanceConnectionGroup =
@@ -293,6 +295,9 @@ public class TarantoolTestSupport {
     }
     propertyInstanceConnectionGroup.setTag(tag);
     propertyInstanceConnectionGroup.setUserName(user);
+    if (weight != null) {
+      propertyInstanceConnectionGroup.setWeight(weight);
+    }
 
     propertyInstanceConnectionGroup.setFlushConsolidationHandler(propertyFlushConsolidationHandler);
     return propertyInstanceConnectionGroup;
@@ -63,6 +63,7 @@ public class TarantoolCrudConfigurationTest extends GenericTarantoolConfiguratio
         assertEquals(groupFromProperty.getAuthType(), groupFromBuilder.getAuthType());
         assertEquals(groupFromProperty.getTag(), groupFromBuilder.getTag());
         assertEquals(groupFromProperty.getConnectionGroupSize(), groupFromBuilder.getSize());
+        assertEquals(groupFromProperty.getWeight(), groupFromBuilder.getWeight());
         assertEquals(groupFromProperty.getUserName(), groupFromBuilder.getUser());
         assertEquals(groupFromProperty.getPassword(), groupFromBuilder.getPassword());
         assertEquals(groupFromProperty.getPort(), groupFromBuilder.getPort());
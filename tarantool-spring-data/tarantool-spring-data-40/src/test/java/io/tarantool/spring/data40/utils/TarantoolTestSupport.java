@@ -185,6 +185,7 @@ public class TarantoolTestSupport {
                 choiceOrNull("tag"),
                 "user",
                 choiceOrNull(Arrays.asList(IProtoAuth.AuthType.values())),
+                3,
                 propertyFlushConsolidationHandler));
     List<PropertyInstanceConnectionGroup> propertyInstanceConnectionGroups = null;
     if (propertyInstanceConnectionGroup != null) {
@@ -279,6 +280,7 @@ public class TarantoolTestSupport {
       @Nullable String tag,
       @Nullable String user,
       IProtoAuth.@Nullable AuthType type,
+      @Nullable Integer weight,
       @Nullable PropertyFlushConsolidationHandler propertyFlushConsolidationHandler) {
 
     PropertyInstanceConnectionGroup propertyInstanceConnectionGroup =
@@ -294,6 +296,9 @@ public class TarantoolTestSupport {
     }
     propertyInstanceConnectionGroup.setTag(tag);
     propertyInstanceConnectionGroup.setUserName(user);
+    if (weight != null) {
+      propertyInstanceConnectionGroup.setWeight(weight);
+    }
 
     propertyInstanceConnectionGroup.setFlushConsolidationHandler(propertyFlushConsolidationHandler);
     return propertyInstanceConnectionGroup;
@@ -28,6 +28,7 @@ import static io.tarantool.pool.HeartbeatOpts.DEFAULT_WINDOW_SIZE;
 import static io.tarantool.pool.InstanceConnectionGroup.DEFAULT_CONNECTION_NUMBER;
 import static io.tarantool.pool.InstanceConnectionGroup.DEFAULT_HOST;
 import static io.tarantool.pool.InstanceConnectionGroup.DEFAULT_PORT;
+import static io.tarantool.pool.InstanceConnectionGroup.DEFAULT_WEIGHT;
 import io.tarantool.balancer.BalancerMode;
 import io.tarantool.balancer.TarantoolBalancer;
 import io.tarantool.core.protocol.requests.IProtoAuth;
@@ -433,6 +434,9 @@ public class BaseTarantoolProperties {
     /** Connection group size. */
     private int connectionGroupSize = DEFAULT_CONNECTION_NUMBER;
 
+    /** Relative share of requests the group gets from weighted balancers, from 1 to 1000. */
+    private int weight = DEFAULT_WEIGHT;
+
     /** Tag of group. */
     private String tag = DEFAULT_TAG;
 
@@ -456,6 +460,7 @@ public class BaseTarantoolProperties {
       PropertyInstanceConnectionGroup that = (PropertyInstanceConnectionGroup) o;
       return port == that.port
           && connectionGroupSize == that.connectionGroupSize
+          && weight == that.weight
           && Objects.equals(host, that.host)
           && Objects.equals(password, that.password)
           && Objects.equals(tag, that.tag)
@@ -471,6 +476,7 @@ public class BaseTarantoolProperties {
           password,
           port,
           connectionGroupSize,
+          weight,
           tag,
           userName,
           authType,
@@ -509,6 +515,14 @@ public class BaseTarantoolProperties {
       this.connectionGroupSize = connectionGroupSize;
     }
 
+    public int getWeight() {
+      return weight;
+    }
+
+    public void setWeight(int weight) {
+      this.weight = weight;
+    }
+
     public String getTag() {
       return tag;
     }
@@ -548,6 +562,7 @@ public class BaseTarantoolProperties {
               .withUser(userName)
               .withPassword(password)
               .withSize(connectionGroupSize)
+              .withWeight(weight)
               .withPort(port)
               .withHost(host)
               .withAuthType(authType)